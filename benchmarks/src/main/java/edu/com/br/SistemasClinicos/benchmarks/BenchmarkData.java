@@ -0,0 +1,90 @@
+package edu.com.br.SistemasClinicos.benchmarks;
+
+import edu.com.br.SistemasClinicos.dto.Doctor.DoctorRequest;
+import edu.com.br.SistemasClinicos.dto.Patient.PatientRequest;
+import edu.com.br.SistemasClinicos.model.Doctor;
+import edu.com.br.SistemasClinicos.model.Patient;
+import edu.com.br.SistemasClinicos.model.Specialty;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Massa de dados sintética compartilhada pelos benchmarks.
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    static List<Doctor> doctors(int size) {
+        List<Specialty> specialties = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            Specialty specialty = new Specialty();
+            specialty.setId((long) i);
+            specialty.setName("Specialty " + i);
+            specialties.add(specialty);
+        }
+
+        List<Doctor> doctors = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Doctor doctor = new Doctor();
+            doctor.setId((long) i + 1);
+            doctor.setName("Doctor " + i);
+            doctor.setCpf(cpf(i));
+            doctor.setEmail("doctor" + i + "@clinic.com");
+            doctor.setPhone("11999999999");
+            doctor.setCrm("CRM-" + i);
+            doctor.setSpecialty(specialties.get(i % specialties.size()));
+            doctors.add(doctor);
+        }
+        return doctors;
+    }
+
+    static List<Patient> patients(int size) {
+        List<Patient> patients = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Patient patient = new Patient();
+            patient.setId((long) i + 1);
+            patient.setName("Patient " + i);
+            patient.setCpf(cpf(i));
+            patient.setDateBirth(Date.valueOf("1990-01-01"));
+            patient.setPhone("11999999999");
+            patient.setEmail("patient" + i + "@clinic.com");
+            patient.setAddress("Rua " + i + ", 100");
+            patient.setCity("Sao Paulo");
+            patient.setState("SP");
+            patients.add(patient);
+        }
+        return patients;
+    }
+
+    static PatientRequest patientRequest(long sequence) {
+        PatientRequest request = new PatientRequest();
+        request.setName("Patient " + sequence);
+        request.setCpf(cpf(sequence));
+        request.setDateBirth(Date.valueOf("1990-01-01"));
+        request.setPhone("11999999999");
+        request.setEmail("patient" + sequence + "@clinic.com");
+        request.setAddress("Rua " + sequence + ", 100");
+        request.setCity("Sao Paulo");
+        request.setState("SP");
+        return request;
+    }
+
+    static DoctorRequest doctorRequest(long sequence, Long specialtyId) {
+        DoctorRequest request = new DoctorRequest();
+        request.setName("Doctor " + sequence);
+        request.setCpf(cpf(sequence));
+        request.setEmail("doctor" + sequence + "@clinic.com");
+        request.setPhone("11999999999");
+        request.setCrm("CRM-" + sequence);
+        request.setSpecialtyId(specialtyId);
+        return request;
+    }
+
+    static String cpf(long sequence) {
+        return String.format("%011d", sequence);
+    }
+}
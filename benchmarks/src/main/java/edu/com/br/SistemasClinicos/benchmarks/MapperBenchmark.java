@@ -0,0 +1,52 @@
+package edu.com.br.SistemasClinicos.benchmarks;
+
+import edu.com.br.SistemasClinicos.dto.Doctor.DoctorResponse;
+import edu.com.br.SistemasClinicos.dto.Patient.PatientResponse;
+import edu.com.br.SistemasClinicos.mapper.DoctorMapper;
+import edu.com.br.SistemasClinicos.mapper.DoctorMapperImpl;
+import edu.com.br.SistemasClinicos.mapper.PatientMapper;
+import edu.com.br.SistemasClinicos.mapper.PatientMapperImpl;
+import edu.com.br.SistemasClinicos.model.Doctor;
+import edu.com.br.SistemasClinicos.model.Patient;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo do mapeamento MapStruct de entidades para DTOs de resposta
+ * ({@code toResponseList}), por tamanho de lista.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private final DoctorMapper doctorMapper = new DoctorMapperImpl();
+    private final PatientMapper patientMapper = new PatientMapperImpl();
+
+    private List<Doctor> doctors;
+    private List<Patient> patients;
+
+    @Setup
+    public void setup() {
+        doctors = BenchmarkData.doctors(size);
+        patients = BenchmarkData.patients(size);
+    }
+
+    @Benchmark
+    public List<DoctorResponse> doctorToResponseList() {
+        return doctorMapper.toResponseList(doctors);
+    }
+
+    @Benchmark
+    public List<PatientResponse> patientToResponseList() {
+        return patientMapper.toResponseList(patients);
+    }
+}
@@ -0,0 +1,65 @@
+package edu.com.br.SistemasClinicos.benchmarks;
+
+import edu.com.br.SistemasClinicos.dto.Prescription.PrescriptionIndexEntry;
+import edu.com.br.SistemasClinicos.service.Prescription.MedicationIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Custo das buscas no índice de medicamentos ({@link MedicationIndex}), por quantidade de Receitas.
+ * <p>
+ * As Receitas são distribuídas ao longo de cinco anos e sorteiam dois de 200 medicamentos,
+ * com distribuição enviesada: os primeiros são bem mais comuns, como na prática. As buscas
+ * pedem os últimos seis meses, com um termo comum, um termo raro e a interseção de dois termos.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MedicationIndexBenchmark {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 30);
+    private static final int MEDICATIONS = 200;
+    private static final int DAYS = 5 * 365;
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private MedicationIndex index;
+
+    @Setup
+    public void setup() {
+        index = new MedicationIndex();
+        index.load(LongStream.range(1, size + 1).mapToObj(id -> new PrescriptionIndexEntry(id,
+                "Medicamento" + skewed(id, 1) + " 500mg, Medicamento" + skewed(id, 2),
+                TODAY.minusDays(DAYS - (id * DAYS / size)))));
+    }
+
+    @Benchmark
+    public long[] commonTermLastSixMonths() {
+        return index.search("medicamento0", TODAY.minusMonths(6), TODAY, 1000);
+    }
+
+    @Benchmark
+    public long[] rareTermLastSixMonths() {
+        return index.search("medicamento150", TODAY.minusMonths(6), TODAY, 1000);
+    }
+
+    @Benchmark
+    public long[] twoTermsLastSixMonths() {
+        return index.search("medicamento0 medicamento1", TODAY.minusMonths(6), TODAY, 1000);
+    }
+
+    /**
+     * Sorteio determinístico com viés para os primeiros medicamentos (aproximadamente Zipf).
+     */
+    private static int skewed(long id, int salt) {
+        double uniform = ((id * 0x9E3779B97F4A7C15L + salt * 0xBF58476D1CE4E5B9L) >>> 11) / (double) (1L << 53);
+        return (int) (Math.pow(uniform, 3) * MEDICATIONS);
+    }
+}
@@ -0,0 +1,105 @@
+package edu.com.br.SistemasClinicos.benchmarks;
+
+import edu.com.br.SistemasClinicos.config.RateLimitProperties;
+import edu.com.br.SistemasClinicos.controller.RateLimitFilter;
+import edu.com.br.SistemasClinicos.util.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo da limitação de taxa para uma requisição dentro do limite: o {@link RateLimiter}
+ * isolado e o {@link RateLimitFilter} completo (seleção da rota, identificação do cliente e
+ * consumo da ficha), comparados com a mesma requisição sem o filtro.
+ * <p>
+ * O limite é alto o bastante para nunca recusar; {@code clients} controla quantos clientes
+ * distintos disputam o mapa de baldes. Rode com {@code -t 4} para medir a disputa entre threads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateLimitBenchmark {
+
+    private static final FilterChain CHAIN = (request, response) -> {
+    };
+
+    @Param({"1", "10000"})
+    private int clients;
+
+    private RateLimiter limiter;
+    private RateLimitFilter filter;
+    private String[] keys;
+
+    @Setup
+    public void setup() {
+        limiter = new RateLimiter(1e9, 1_000_000, 100_000);
+
+        RateLimitProperties.Route search = new RateLimitProperties.Route();
+        search.setPattern("/api/patients/search/**");
+        search.setRequestsPerSecond(1e9);
+        search.setBurst(1_000_000);
+        RateLimitProperties.Route export = new RateLimitProperties.Route();
+        export.setPattern("/api/patients/export");
+        export.setRequestsPerSecond(1e9);
+        export.setBurst(1_000_000);
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getRoutes().add(export);
+        properties.getRoutes().add(search);
+        filter = new RateLimitFilter(properties, new SimpleMeterRegistry());
+
+        keys = new String[clients];
+        for (int i = 0; i < clients; i++) {
+            keys[i] = "client-" + i;
+        }
+    }
+
+    /**
+     * Requisição reaproveitada por thread, alternando entre os clientes.
+     */
+    @State(Scope.Thread)
+    public static class Request {
+
+        private final MockHttpServletRequest search = new MockHttpServletRequest("GET", "/api/patients/search/maria");
+        private final MockHttpServletRequest other = new MockHttpServletRequest("GET", "/api/patients/42");
+        private final MockHttpServletResponse response = new MockHttpServletResponse();
+        private int next;
+
+        String key(String[] keys) {
+            next = next + 1 == keys.length ? 0 : next + 1;
+            return keys[next];
+        }
+    }
+
+    @Benchmark
+    public long limiterTryAcquire(Request request) {
+        return limiter.tryAcquire(request.key(keys));
+    }
+
+    @Benchmark
+    public void chainWithoutFilter(Request request) throws IOException, ServletException {
+        request.search.removeHeader("X-API-Key");
+        request.search.addHeader("X-API-Key", request.key(keys));
+        CHAIN.doFilter(request.search, request.response);
+    }
+
+    @Benchmark
+    public void filterLimitedRoute(Request request) throws IOException, ServletException {
+        request.search.removeHeader("X-API-Key");
+        request.search.addHeader("X-API-Key", request.key(keys));
+        filter.doFilter(request.search, request.response, CHAIN);
+    }
+
+    @Benchmark
+    public void filterUnlimitedRoute(Request request) throws IOException, ServletException {
+        filter.doFilter(request.other, request.response, CHAIN);
+    }
+}
@@ -0,0 +1,61 @@
+package edu.com.br.SistemasClinicos.benchmarks;
+
+import edu.com.br.SistemasClinicos.service.Reminder.TimingWheel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo da roda de lembretes ({@link TimingWheel}) com 1 milhão de consultas pendentes,
+ * espalhadas por um horizonte de 48 horas (ticks de um minuto).
+ * <p>
+ * {@code tick} avança um minuto e recoloca as consultas vencidas 48 horas à frente, mantendo a
+ * roda cheia (cerca de 350 vencimentos por tick, mais as cascatas). {@code reschedule} move
+ * uma consulta para outro horário, como um reagendamento.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReminderWheelBenchmark {
+
+    private static final int PENDING = 1_000_000;
+    private static final int HORIZON = 48 * 60;
+
+    private TimingWheel wheel;
+    private long tick;
+    private long nextId;
+
+    @Setup
+    public void setup() {
+        wheel = new TimingWheel(0, PENDING);
+        for (long id = 1; id <= PENDING; id++) {
+            wheel.schedule(id, 0, 1 + (id * 0x9E3779B97F4A7C15L >>> 1) % HORIZON);
+        }
+    }
+
+    @Benchmark
+    public int tick() {
+        tick++;
+        long[] expired = new long[1024];
+        int[] count = {0};
+        wheel.advance(tick, (id, data) -> {
+            if (count[0] == expired.length) {
+                return;
+            }
+            expired[count[0]++] = id;
+        });
+        for (int i = 0; i < count[0]; i++) {
+            wheel.schedule(expired[i], 0, tick + HORIZON);
+        }
+        return count[0];
+    }
+
+    @Benchmark
+    public boolean reschedule() {
+        nextId = nextId % PENDING + 1;
+        return wheel.schedule(nextId, 0, wheel.getCurrentTick() + 1 + nextId % HORIZON);
+    }
+}
@@ -0,0 +1,51 @@
+package edu.com.br.SistemasClinicos.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import edu.com.br.SistemasClinicos.dto.Doctor.DoctorResponse;
+import edu.com.br.SistemasClinicos.dto.Patient.PatientResponse;
+import edu.com.br.SistemasClinicos.mapper.DoctorMapperImpl;
+import edu.com.br.SistemasClinicos.mapper.PatientMapperImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo da serialização JSON (Jackson) das listas de DTOs de resposta devolvidas pelos
+ * endpoints de listagem, com o {@link ObjectMapper} configurado como no Spring Boot.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private ObjectWriter writer;
+    private List<DoctorResponse> doctors;
+    private List<PatientResponse> patients;
+
+    @Setup
+    public void setup() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+        doctors = new DoctorMapperImpl().toResponseList(BenchmarkData.doctors(size));
+        patients = new PatientMapperImpl().toResponseList(BenchmarkData.patients(size));
+    }
+
+    @Benchmark
+    public byte[] serializeDoctors() throws JsonProcessingException {
+        return writer.writeValueAsBytes(doctors);
+    }
+
+    @Benchmark
+    public byte[] serializePatients() throws JsonProcessingException {
+        return writer.writeValueAsBytes(patients);
+    }
+}
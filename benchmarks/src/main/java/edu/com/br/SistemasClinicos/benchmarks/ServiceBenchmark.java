@@ -0,0 +1,100 @@
+package edu.com.br.SistemasClinicos.benchmarks;
+
+import edu.com.br.SistemasClinicos.SistemasClinicosApplication;
+import edu.com.br.SistemasClinicos.dto.Doctor.DoctorResponse;
+import edu.com.br.SistemasClinicos.dto.Page.CursorPageResponse;
+import edu.com.br.SistemasClinicos.dto.Patient.PatientResponse;
+import edu.com.br.SistemasClinicos.dto.Specialty.SpecialtyRequest;
+import edu.com.br.SistemasClinicos.service.Doctor.DoctorService;
+import edu.com.br.SistemasClinicos.service.Patient.PatientService;
+import edu.com.br.SistemasClinicos.service.Specialty.SpecialtyService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caminhos de leitura e escrita de {@code PatientServiceImp} e {@code DoctorServiceImp},
+ * executados no contexto Spring completo da aplicação sobre um banco H2 em memória
+ * (ver {@code application.properties} deste módulo).
+ * <p>
+ * Mede o custo de CPU da aplicação (JPA, mapeamento e validação) por operação, sem rede
+ * e sem o custo do PostgreSQL; não substitui o teste de carga.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmark {
+
+    private static final int SEEDED_ROWS = 1000;
+
+    private ConfigurableApplicationContext context;
+    private PatientService patientService;
+    private DoctorService doctorService;
+
+    private Long specialtyId;
+    private Long patientId;
+    private Long doctorId;
+
+    /**
+     * Sequência usada para gerar CPFs únicos nas escritas, a partir dos registros iniciais.
+     */
+    private final AtomicLong sequence = new AtomicLong(SEEDED_ROWS);
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(SistemasClinicosApplication.class).run();
+        patientService = context.getBean(PatientService.class);
+        doctorService = context.getBean(DoctorService.class);
+
+        SpecialtyRequest specialty = new SpecialtyRequest();
+        specialty.setName("Cardiology");
+        specialtyId = context.getBean(SpecialtyService.class).createSpecialty(specialty).getId();
+
+        for (int i = 0; i < SEEDED_ROWS; i++) {
+            patientId = patientService.createPatient(BenchmarkData.patientRequest(i)).getId();
+            doctorId = doctorService.createDoctor(BenchmarkData.doctorRequest(i, specialtyId)).getId();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PatientResponse findPatientById() {
+        return patientService.findPatientById(patientId);
+    }
+
+    @Benchmark
+    public CursorPageResponse<PatientResponse> findPatientsPage() {
+        return patientService.findPatientsPage(null, 50);
+    }
+
+    @Benchmark
+    public PatientResponse createPatient() {
+        return patientService.createPatient(BenchmarkData.patientRequest(sequence.incrementAndGet()));
+    }
+
+    @Benchmark
+    public DoctorResponse findDoctorById() {
+        return doctorService.findDoctorById(doctorId);
+    }
+
+    @Benchmark
+    public List<DoctorResponse> findAllDoctors() {
+        return doctorService.findall();
+    }
+
+    @Benchmark
+    public DoctorResponse createDoctor() {
+        return doctorService.createDoctor(BenchmarkData.doctorRequest(sequence.incrementAndGet(), specialtyId));
+    }
+}
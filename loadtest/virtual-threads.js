@@ -0,0 +1,46 @@
+// Teste de carga: 2.000 clientes simultaneos contra os endpoints de leitura.
+//
+// Rode uma vez com VIRTUAL_THREADS_ENABLED=false e outra com true, mantendo o mesmo
+// DB_POOL_SIZE, e compare "http_reqs" (vazao) e "p(99)" de "http_req_duration".
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e SPECIALTY=Cardiologia loadtest/virtual-threads.js
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const SPECIALTY = __ENV.SPECIALTY || 'Cardiologia';
+const VUS = Number(__ENV.VUS || 2000);
+
+export const options = {
+    scenarios: {
+        burst: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: VUS },
+                { duration: '2m', target: VUS },
+                { duration: '15s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        http_req_duration: ['p(99)<1000'],
+    },
+};
+
+const requests = [
+    { name: 'patients_page', url: `${BASE_URL}/api/patients/page?limit=50` },
+    { name: 'doctors_page', url: `${BASE_URL}/api/doctors/page?limit=50` },
+    { name: 'specialties', url: `${BASE_URL}/api/specialties` },
+    { name: 'availability', url: `${BASE_URL}/api/appointments/availability?specialty=${encodeURIComponent(SPECIALTY)}&limit=10` },
+];
+
+export default function () {
+    const request = requests[Math.floor(Math.random() * requests.length)];
+    const response = http.get(request.url, { tags: { endpoint: request.name } });
+    check(response, { 'status 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,28 @@
+#!/usr/bin/env bash
+# Mede o tempo entre o "docker run" de uma imagem e a primeira resposta 200 da API.
+#
+# Uso: scripts/time-to-first-request.sh <imagem> [execucoes]
+#
+# Requer o PostgreSQL do compose.yaml em execucao (docker compose up -d postgres).
+set -euo pipefail
+
+IMAGE=${1:?"informe a imagem, ex.: clinicflow:cds"}
+RUNS=${2:-5}
+URL=${URL:-http://localhost:8080/api/specialties}
+DB_URL=${SPRING_DATASOURCE_URL:-jdbc:postgresql://host.docker.internal:5433/ClinicFlow}
+
+for i in $(seq 1 "$RUNS"); do
+  start=$(date +%s%N)
+  container=$(docker run -d --rm -p 8080:8080 \
+    --add-host=host.docker.internal:host-gateway \
+    -e SPRING_DATASOURCE_URL="$DB_URL" \
+    -e SPRING_DATASOURCE_USERNAME="${SPRING_DATASOURCE_USERNAME:-postgres}" \
+    -e SPRING_DATASOURCE_PASSWORD="${SPRING_DATASOURCE_PASSWORD:-postgres}" \
+    "$IMAGE")
+  until curl -sf -o /dev/null "$URL"; do
+    sleep 0.05
+  done
+  end=$(date +%s%N)
+  echo "$IMAGE execucao $i: $(( (end - start) / 1000000 )) ms"
+  docker stop "$container" > /dev/null
+done
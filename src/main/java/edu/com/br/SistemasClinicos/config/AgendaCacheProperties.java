@@ -0,0 +1,27 @@
+package edu.com.br.SistemasClinicos.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propriedades de configuração do cache de agendas diárias dos Doutores (prefixo {@code clinic.cache.agenda}).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "clinic.cache.agenda")
+public class AgendaCacheProperties {
+
+    /**
+     * Quantidade máxima de agendas (Doutor e dia) mantidas no cache.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * Tempo máximo de permanência de uma agenda no cache. Curto, pois cobre também as alterações
+     * que não passam pelas operações de agendamento (ex.: nome do Paciente, Receitas).
+     */
+    private Duration expireAfterWrite = Duration.ofSeconds(60);
+}
@@ -0,0 +1,70 @@
+package edu.com.br.SistemasClinicos.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Configuração dos caches em memória da aplicação.
+ * <p>
+ * Os caches são limitados em tamanho (Caffeine) e registram estatísticas de acerto/falha,
+ * publicadas pelo Actuator na métrica {@code cache.gets}. O gerenciador é transacional:
+ * escritas e invalidações feitas dentro de uma transação só são aplicadas após o commit,
+ * evitando que outra requisição repopule o cache com um valor ainda não confirmado.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * Cache de especialidades por ID.
+     */
+    public static final String SPECIALTY_BY_ID = "specialtyById";
+
+    /**
+     * Cache da listagem completa de especialidades.
+     */
+    public static final String SPECIALTIES = "specialties";
+
+    /**
+     * Cache da agenda diária de cada Doutor, com chave (ID do Doutor, dia).
+     */
+    public static final String DOCTOR_AGENDA = "doctorAgenda";
+
+    @Bean
+    public CacheManager cacheManager(SpecialtyCacheProperties properties, AgendaCacheProperties agendaProperties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats());
+        // Caches declarados na inicialização, para que suas métricas sejam registradas
+        cacheManager.setCacheNames(List.of(SPECIALTY_BY_ID, SPECIALTIES));
+        // Agendas mudam com frequência: cache próprio, maior e de vida curta
+        cacheManager.registerCustomCache(DOCTOR_AGENDA, Caffeine.newBuilder()
+                .maximumSize(agendaProperties.getMaximumSize())
+                .expireAfterWrite(agendaProperties.getExpireAfterWrite())
+                .recordStats()
+                .build());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    /**
+     * Chave de uma agenda diária em {@link #DOCTOR_AGENDA}: a mesma gerada pelo {@code @Cacheable}
+     * de {@code AppointmentService.findDoctorAgenda(doctorId, date)}, para as invalidações manuais.
+     * * @param doctorId O ID do Doutor.
+     * @param date O dia da agenda.
+     * @return A chave do cache.
+     */
+    public static Object doctorAgendaKey(Long doctorId, LocalDate date) {
+        return new SimpleKey(doctorId, date);
+    }
+}
@@ -0,0 +1,35 @@
+package edu.com.br.SistemasClinicos.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propriedades do limitador de conexões simultâneas ao banco (prefixo {@code clinic.datasource.guard}).
+ * <p>
+ * Ver {@link edu.com.br.SistemasClinicos.util.BoundedDataSource}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "clinic.datasource.guard")
+public class ConnectionGuardProperties {
+
+    /**
+     * Liga o limitador. Quando não informado, acompanha {@code spring.threads.virtual.enabled}:
+     * só é necessário quando as requisições rodam em threads virtuais.
+     */
+    private Boolean enabled;
+
+    /**
+     * Quantidade máxima de conexões em uso simultâneo. Quando não informado, usa o
+     * {@code maximumPoolSize} do Hikari.
+     */
+    private Integer maxConcurrent;
+
+    /**
+     * Tempo máximo que uma requisição espera na fila por uma conexão antes de falhar.
+     */
+    private Duration acquireTimeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,30 @@
+package edu.com.br.SistemasClinicos.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Configuração da execução das migrações do Flyway.
+ * <p>
+ * Na execução de treino da imagem Docker ({@code spring.context.exit=onRefresh}, usada para gerar
+ * o arquivo de CDS), o contexto sobe sem banco de dados disponível. Como na imagem AOT a condição
+ * {@code spring.flyway.enabled} fica fixada no build, as migrações são puladas em tempo de execução.
+ */
+@Slf4j
+@Configuration
+public class FlywayConfig {
+
+    @Bean
+    FlywayMigrationStrategy flywayMigrationStrategy(Environment environment) {
+        return flyway -> {
+            if (environment.containsProperty("spring.context.exit")) {
+                log.info("Training run detected (spring.context.exit), skipping Flyway migrations");
+                return;
+            }
+            flyway.migrate();
+        };
+    }
+}
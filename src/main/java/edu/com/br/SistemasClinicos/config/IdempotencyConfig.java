@@ -0,0 +1,34 @@
+package edu.com.br.SistemasClinicos.config;
+
+import edu.com.br.SistemasClinicos.controller.IdempotencyFilter;
+import edu.com.br.SistemasClinicos.service.Idempotency.IdempotencyStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Configuração das chaves de idempotência.
+ * <p>
+ * Como o filtro de limitação de taxa, este filtro é sempre registrado e apenas repassa as
+ * requisições com {@code clinic.idempotency.enabled=false}. Ele roda depois da limitação, para
+ * que as repetições também sejam limitadas, e antes do controller. O cliente de cada chave é
+ * identificado pelo mesmo cabeçalho da limitação ({@code clinic.rate-limit.api-key-header}).
+ */
+@Configuration
+public class IdempotencyConfig {
+
+    @Bean
+    IdempotencyFilter idempotencyFilter(IdempotencyProperties properties, RateLimitProperties rateLimitProperties,
+                                        IdempotencyStore store, MeterRegistry registry) {
+        return new IdempotencyFilter(properties, rateLimitProperties.getApiKeyHeader(), store, registry);
+    }
+
+    @Bean
+    FilterRegistrationBean<IdempotencyFilter> idempotencyFilterRegistration(IdempotencyFilter filter) {
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+}
@@ -0,0 +1,63 @@
+package edu.com.br.SistemasClinicos.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Propriedades das chaves de idempotência (prefixo {@code clinic.idempotency}).
+ * <p>
+ * Ver {@link edu.com.br.SistemasClinicos.controller.IdempotencyFilter}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "clinic.idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * Liga as chaves de idempotência. Desligado, o filtro apenas repassa as requisições.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Cabeçalho com a chave gerada pelo cliente (ex.: um UUID por operação).
+     */
+    private String header = "Idempotency-Key";
+
+    /**
+     * Caminhos cujas requisições {@code POST} aceitam a chave (ex.: {@code /api/patients}).
+     */
+    private List<String> paths = new ArrayList<>(List.of("/api/patients", "/api/doctors"));
+
+    /**
+     * Tempo durante o qual uma resposta é devolvida às repetições com a mesma chave.
+     */
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * Quantidade máxima de chaves mantidas em memória; as demais são buscadas no banco.
+     */
+    private int maxKeys = 100_000;
+
+    /**
+     * Tempo máximo de espera de uma repetição pela requisição original em andamento. Uma
+     * requisição original sem resposta após esse tempo é considerada abandonada (ex.: a
+     * instância caiu) e a chave pode ser assumida por uma repetição.
+     */
+    private Duration lockTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Tamanho máximo do corpo de uma requisição com chave.
+     */
+    private DataSize maxBodySize = DataSize.ofKilobytes(64);
+
+    /**
+     * Intervalo entre as remoções das chaves expiradas do banco.
+     */
+    private Duration purgeInterval = Duration.ofHours(1);
+}
@@ -0,0 +1,32 @@
+package edu.com.br.SistemasClinicos.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propriedades de configuração da importação em massa de pacientes (prefixo {@code clinic.import}).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "clinic.import")
+public class ImportProperties {
+
+    /**
+     * Quantidade de linhas processadas por lote: uma consulta {@code IN (...)} de CPFs
+     * e um INSERT em batch JDBC, em uma única transação, por lote.
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * Vazão mínima esperada da importação, em linhas por segundo. Importações abaixo
+     * desse valor são registradas no log como alerta.
+     */
+    private int targetRowsPerSecond = 5000;
+
+    /**
+     * Quantidade máxima de erros por linha detalhados na resposta. Os demais são
+     * apenas contabilizados.
+     */
+    private int maxReportedErrors = 10000;
+}
@@ -0,0 +1,28 @@
+package edu.com.br.SistemasClinicos.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.com.br.SistemasClinicos.service.Outbox.FileOutboxSink;
+import edu.com.br.SistemasClinicos.service.Outbox.InMemoryOutboxSink;
+import edu.com.br.SistemasClinicos.service.Outbox.LogOutboxSink;
+import edu.com.br.SistemasClinicos.service.Outbox.OutboxSink;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração do destino dos eventos do outbox.
+ * <p>
+ * O destino é escolhido em tempo de execução por {@code clinic.outbox.sink} (e não com
+ * {@code @Conditional}), para que a mesma imagem AOT sirva a todos os destinos.
+ */
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    OutboxSink outboxSink(OutboxProperties properties, ObjectMapper objectMapper) {
+        return switch (properties.getSink()) {
+            case LOG -> new LogOutboxSink();
+            case FILE -> new FileOutboxSink(properties.getFile(), objectMapper);
+            case MEMORY -> new InMemoryOutboxSink();
+        };
+    }
+}
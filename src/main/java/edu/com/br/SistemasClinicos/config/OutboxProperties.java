@@ -0,0 +1,58 @@
+package edu.com.br.SistemasClinicos.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Propriedades de configuração do outbox transacional (prefixo {@code clinic.outbox}).
+ * <p>
+ * Os eventos são sempre gravados na tabela {@code outbox_event}; estas propriedades controlam
+ * apenas o publicador em segundo plano e o destino ({@code sink}) dos eventos.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "clinic.outbox")
+public class OutboxProperties {
+
+    /**
+     * Destinos de publicação disponíveis.
+     */
+    public enum Sink {
+        /** Registra cada evento no log da aplicação. */
+        LOG,
+        /** Acrescenta os eventos, um JSON por linha, ao arquivo {@code file}. */
+        FILE,
+        /** Mantém os eventos em memória (testes e desenvolvimento). */
+        MEMORY
+    }
+
+    /**
+     * Liga o publicador. Desligado, os eventos se acumulam na tabela até que alguma
+     * instância com o publicador ligado os consuma.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Destino dos eventos publicados.
+     */
+    private Sink sink = Sink.LOG;
+
+    /**
+     * Arquivo de destino quando {@code sink=file}.
+     */
+    private Path file = Path.of("outbox-events.ndjson");
+
+    /**
+     * Quantidade máxima de eventos publicados (e removidos) por transação.
+     */
+    private int batchSize = 100;
+
+    /**
+     * Intervalo entre o fim de uma rodada de publicação e o início da próxima.
+     */
+    private Duration pollInterval = Duration.ofSeconds(1);
+}
@@ -0,0 +1,32 @@
+package edu.com.br.SistemasClinicos.config;
+
+import edu.com.br.SistemasClinicos.controller.RateLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Configuração da limitação de taxa por cliente.
+ * <p>
+ * O filtro é sempre registrado e, com {@code clinic.rate-limit.enabled=false} ou sem rotas
+ * configuradas, apenas repassa as requisições; assim a mesma imagem AOT serve aos dois modos.
+ * Ele roda logo após a observação das requisições HTTP, para que as respostas 429 continuem
+ * aparecendo em {@code http.server.requests}.
+ */
+@Configuration
+public class RateLimitConfig {
+
+    @Bean
+    RateLimitFilter rateLimitFilter(RateLimitProperties properties, MeterRegistry registry) {
+        return new RateLimitFilter(properties, registry);
+    }
+
+    @Bean
+    FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter filter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,75 @@
+package edu.com.br.SistemasClinicos.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Propriedades da limitação de taxa por cliente (prefixo {@code clinic.rate-limit}).
+ * <p>
+ * Ver {@link edu.com.br.SistemasClinicos.util.RateLimiter}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "clinic.rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * Liga a limitação. Desligada, o filtro apenas repassa as requisições.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Cabeçalho que identifica o cliente. Sem ele, o cliente é identificado pelo endereço IP.
+     */
+    private String apiKeyHeader = "X-API-Key";
+
+    /**
+     * Quantidade máxima de clientes acompanhados por rota; acima dela, os clientes novos
+     * dividem um mesmo limite.
+     */
+    private int maxClients = 100_000;
+
+    /**
+     * Intervalo entre os descartes dos clientes ociosos.
+     */
+    private Duration evictionInterval = Duration.ofMinutes(1);
+
+    /**
+     * Limites por rota, avaliados em ordem: vale a primeira regra que atender à requisição.
+     * Requisições que não atendem a nenhuma regra não são limitadas.
+     */
+    private List<Route> routes = new ArrayList<>();
+
+    /**
+     * Limite de uma rota.
+     */
+    @Getter
+    @Setter
+    public static class Route {
+
+        /**
+         * Padrão do caminho (ex.: {@code /api/patients/search/**}).
+         */
+        private String pattern;
+
+        /**
+         * Método HTTP limitado. Quando não informado, vale para todos.
+         */
+        private String method;
+
+        /**
+         * Taxa sustentada permitida por cliente.
+         */
+        private double requestsPerSecond;
+
+        /**
+         * Quantidade de requisições que um cliente ocioso pode fazer de uma só vez.
+         */
+        private int burst = 1;
+    }
+}
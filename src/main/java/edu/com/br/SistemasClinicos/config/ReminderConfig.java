@@ -0,0 +1,25 @@
+package edu.com.br.SistemasClinicos.config;
+
+import edu.com.br.SistemasClinicos.service.Reminder.InMemoryReminderNotifier;
+import edu.com.br.SistemasClinicos.service.Reminder.LogReminderNotifier;
+import edu.com.br.SistemasClinicos.service.Reminder.ReminderNotifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração do destino dos lembretes de consulta.
+ * <p>
+ * Como no outbox, o destino é escolhido em tempo de execução por {@code clinic.reminders.notifier},
+ * para que a mesma imagem AOT sirva a todos os destinos.
+ */
+@Configuration
+public class ReminderConfig {
+
+    @Bean
+    ReminderNotifier reminderNotifier(ReminderProperties properties) {
+        return switch (properties.getNotifier()) {
+            case LOG -> new LogReminderNotifier();
+            case MEMORY -> new InMemoryReminderNotifier();
+        };
+    }
+}
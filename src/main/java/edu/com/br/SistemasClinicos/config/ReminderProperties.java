@@ -0,0 +1,71 @@
+package edu.com.br.SistemasClinicos.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Propriedades dos lembretes de consulta (prefixo {@code clinic.reminders}).
+ * <p>
+ * Apenas as consultas que começam dentro do horizonte ({@code horizon}) ficam em memória; o
+ * horizonte avança a cada {@code refillInterval}. Para que nenhum lembrete seja carregado
+ * atrasado, o horizonte deve ser maior que a maior antecedência somada ao {@code refillInterval}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "clinic.reminders")
+public class ReminderProperties {
+
+    /**
+     * Destinos dos lembretes disponíveis.
+     */
+    public enum Notifier {
+        /** Registra cada lembrete no log da aplicação. */
+        LOG,
+        /** Mantém os lembretes em memória (testes e desenvolvimento). */
+        MEMORY
+    }
+
+    /**
+     * Liga os lembretes. Desligado, nenhuma consulta é carregada e nenhum lembrete é enviado.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Antecedências dos lembretes em relação ao início da consulta.
+     */
+    private List<Duration> offsets = List.of(Duration.ofHours(24), Duration.ofHours(2));
+
+    /**
+     * Janela de consultas mantida em memória, a partir do instante atual.
+     */
+    private Duration horizon = Duration.ofHours(48);
+
+    /**
+     * Intervalo entre os avanços da roda (a resolução dos lembretes é de um minuto).
+     */
+    private Duration tickInterval = Duration.ofSeconds(30);
+
+    /**
+     * Intervalo entre as cargas das consultas que entram no horizonte.
+     */
+    private Duration refillInterval = Duration.ofHours(1);
+
+    /**
+     * Quantidade máxima de consultas com lembrete pendente em memória (cerca de 64 bytes cada).
+     */
+    private int maxPending = 1_000_000;
+
+    /**
+     * Tempo de guarda do registro de envios, após o horário da consulta.
+     */
+    private Duration retention = Duration.ofDays(30);
+
+    /**
+     * Destino dos lembretes.
+     */
+    private Notifier notifier = Notifier.LOG;
+}
@@ -0,0 +1,57 @@
+package edu.com.br.SistemasClinicos.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propriedades da réplica de leitura (prefixo {@code clinic.datasource.replica}).
+ * <p>
+ * Ver {@link edu.com.br.SistemasClinicos.util.ReplicaDataSource}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "clinic.datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    /**
+     * URL JDBC da réplica. Em branco, o roteamento fica desligado e tudo vai para o primário.
+     */
+    private String url;
+
+    /**
+     * Usuário da réplica. Quando não informado (ou em branco), usa o do primário.
+     */
+    private String username;
+
+    /**
+     * Senha da réplica. Quando não informada (ou em branco), usa a do primário.
+     */
+    private String password;
+
+    /**
+     * Tamanho do pool da réplica. Quando não informado, usa o {@code maximumPoolSize} do primário.
+     */
+    private Integer maximumPoolSize;
+
+    /**
+     * Atraso de replicação máximo tolerado; acima dele as leituras voltam ao primário.
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /**
+     * Intervalo entre as medições do atraso de replicação.
+     */
+    private Duration checkInterval = Duration.ofSeconds(2);
+
+    /**
+     * Consulta que devolve o atraso da réplica em segundos. O padrão (PostgreSQL) considera
+     * atraso zero quando todo o WAL recebido já foi aplicado, já que o horário da última
+     * transação aplicada não avança em um primário ocioso.
+     */
+    private String lagQuery = "SELECT CASE WHEN NOT pg_is_in_recovery()"
+            + " OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+            + " ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+}
@@ -0,0 +1,98 @@
+package edu.com.br.SistemasClinicos.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import edu.com.br.SistemasClinicos.util.ReadWriteRoutingDataSource;
+import edu.com.br.SistemasClinicos.util.ReplicaDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Configuração do roteamento de leituras para a réplica.
+ * <p>
+ * Ligado quando {@code clinic.datasource.replica.url} (variável {@code REPLICA_DATASOURCE_URL})
+ * é informada: o {@code DataSource} principal é envolvido por um {@link ReadWriteRoutingDataSource},
+ * que envia os métodos {@code @Transactional(readOnly = true)} para um segundo pool do Hikari,
+ * criado com as mesmas configurações do primário. Assim como o limitador de conexões, a decisão
+ * é tomada em tempo de execução para que a mesma imagem AOT sirva aos dois modos.
+ */
+@Slf4j
+@Configuration
+public class ReplicaRoutingConfig {
+
+    @Bean
+    static BeanPostProcessor replicaRoutingPostProcessor(Environment environment) {
+        return new ReplicaRoutingPostProcessor(environment);
+    }
+
+    /**
+     * Envolve o {@code DataSource} principal, já protegido pelo limitador de conexões
+     * (ver {@link VirtualThreadConfig}), no roteamento para a réplica.
+     */
+    private static final class ReplicaRoutingPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final Environment environment;
+
+        ReplicaRoutingPostProcessor(Environment environment) {
+            this.environment = environment;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource primary) || bean instanceof ReadWriteRoutingDataSource) {
+                return bean;
+            }
+            ReplicaDataSourceProperties properties = Binder.get(environment).bindOrCreate(
+                    "clinic.datasource.replica", ReplicaDataSourceProperties.class);
+            if (properties.getUrl() == null || properties.getUrl().isBlank()) {
+                return bean;
+            }
+
+            HikariDataSource primaryPool = unwrapHikari(primary, beanName);
+            HikariConfig config = new HikariConfig();
+            primaryPool.copyStateTo(config);
+            config.setJdbcUrl(properties.getUrl());
+            if (properties.getUsername() != null && !properties.getUsername().isBlank()) {
+                config.setUsername(properties.getUsername());
+            }
+            if (properties.getPassword() != null && !properties.getPassword().isBlank()) {
+                config.setPassword(properties.getPassword());
+            }
+            if (properties.getMaximumPoolSize() != null) {
+                config.setMaximumPoolSize(properties.getMaximumPoolSize());
+            }
+            config.setPoolName("replica");
+            config.setReadOnly(true);
+
+            DataSource replicaPool = VirtualThreadConfig.guard(new HikariDataSource(config), environment);
+            ReplicaDataSource replica = new ReplicaDataSource(
+                    replicaPool, primary, properties.getLagQuery(), properties.getMaxLag());
+            replica.start(properties.getCheckInterval());
+            log.info("Routing read-only transactions to replica {} (max lag {})",
+                    properties.getUrl(), properties.getMaxLag());
+            return new ReadWriteRoutingDataSource(primary, replica);
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+
+        private static HikariDataSource unwrapHikari(DataSource dataSource, String beanName) {
+            try {
+                return dataSource.unwrap(HikariDataSource.class);
+            } catch (SQLException e) {
+                throw new BeanCreationException(beanName, "Read replica routing requires a Hikari DataSource", e);
+            }
+        }
+    }
+}
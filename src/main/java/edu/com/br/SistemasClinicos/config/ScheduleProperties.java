@@ -0,0 +1,54 @@
+package edu.com.br.SistemasClinicos.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Propriedades de configuração da agenda da clínica (prefixo {@code clinic.schedule}).
+ * <p>
+ * Todas as consultas têm a mesma duração, que também é o tamanho do slot usado
+ * na detecção de conflitos de horário e na busca de horários livres. O expediente
+ * ({@code dayStart} a {@code dayEnd}, nos {@code workDays}) define a grade de slots
+ * oferecida na busca de disponibilidade.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "clinic.schedule")
+public class ScheduleProperties {
+
+    /**
+     * Duração de cada consulta. Duas consultas do mesmo doutor ou do mesmo paciente
+     * conflitam quando seus inícios estão a menos dessa duração um do outro.
+     */
+    private Duration slotDuration = Duration.ofMinutes(30);
+
+    /**
+     * Horário de início do expediente dos doutores.
+     */
+    private LocalTime dayStart = LocalTime.of(8, 0);
+
+    /**
+     * Horário de término do expediente dos doutores (exclusivo).
+     */
+    private LocalTime dayEnd = LocalTime.of(18, 0);
+
+    /**
+     * Dias da semana em que há atendimento.
+     */
+    private Set<DayOfWeek> workDays = EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+
+    /**
+     * Calcula quantos slots completos cabem em um dia de expediente.
+     * * @return A quantidade de slots por dia.
+     */
+    public int slotsPerDay() {
+        return (int) (Duration.between(dayStart, dayEnd).toMinutes() / slotDuration.toMinutes());
+    }
+}
@@ -0,0 +1,15 @@
+package edu.com.br.SistemasClinicos.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuração das tarefas agendadas da aplicação.
+ * <p>
+ * Habilita o uso de {@code @Scheduled}, usado, por exemplo, para descartar do índice
+ * de agenda em memória as consultas que já passaram.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,27 @@
+package edu.com.br.SistemasClinicos.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propriedades de configuração do cache de especialidades (prefixo {@code clinic.cache.specialty}).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "clinic.cache.specialty")
+public class SpecialtyCacheProperties {
+
+    /**
+     * Quantidade máxima de entradas mantidas em cada cache de especialidades.
+     */
+    private long maximumSize = 1000;
+
+    /**
+     * Tempo máximo de permanência de uma entrada no cache. Funciona como rede de segurança
+     * para alterações feitas diretamente no banco, fora da aplicação.
+     */
+    private Duration expireAfterWrite = Duration.ofHours(1);
+}
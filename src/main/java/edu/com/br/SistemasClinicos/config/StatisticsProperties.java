@@ -0,0 +1,22 @@
+package edu.com.br.SistemasClinicos.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propriedades dos contadores de consultas dos painéis (prefixo {@code clinic.statistics}).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "clinic.statistics")
+public class StatisticsProperties {
+
+    /**
+     * Intervalo entre as gravações das variações acumuladas em memória. É também o atraso
+     * máximo dos painéis em relação às consultas.
+     */
+    private Duration flushInterval = Duration.ofSeconds(10);
+}
@@ -0,0 +1,124 @@
+package edu.com.br.SistemasClinicos.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import edu.com.br.SistemasClinicos.util.BoundedDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Configuração do modo de execução com threads virtuais.
+ * <p>
+ * O modo é ligado por {@code spring.threads.virtual.enabled=true} (variável
+ * {@code VIRTUAL_THREADS_ENABLED}): o Spring Boot passa a atender as requisições do Tomcat,
+ * os métodos {@code @Async} e as tarefas {@code @Scheduled} em threads virtuais. Como cada
+ * requisição deixa de ser limitada pelo pool de threads do Tomcat, o acesso ao pool de conexões
+ * do Hikari é protegido por um {@link BoundedDataSource}.
+ * <p>
+ * A decisão de envolver o {@code DataSource} é tomada em tempo de execução (e não com
+ * {@code @Conditional}), para que a mesma imagem AOT sirva aos dois modos.
+ */
+@Slf4j
+@Configuration
+@EnableAsync
+public class VirtualThreadConfig {
+
+    @Bean
+    static BeanPostProcessor connectionGuardPostProcessor(Environment environment) {
+        return new ConnectionGuardPostProcessor(environment);
+    }
+
+    /**
+     * Envolve um pool do Hikari no {@link BoundedDataSource}, se o limitador estiver ativo.
+     * <p>
+     * Usado tanto no pool principal quanto no pool da réplica de leitura.
+     * * @param hikari O pool a ser protegido.
+     * @param environment O ambiente de onde as propriedades são lidas.
+     * @return O pool protegido, ou o próprio pool se o limitador estiver desligado.
+     */
+    static DataSource guard(HikariDataSource hikari, Environment environment) {
+        Binder binder = Binder.get(environment);
+        ConnectionGuardProperties properties = binder.bindOrCreate(
+                "clinic.datasource.guard", ConnectionGuardProperties.class);
+        boolean enabled = properties.getEnabled() != null
+                ? properties.getEnabled()
+                : binder.bind("spring.threads.virtual.enabled", Boolean.class).orElse(false);
+        if (!enabled) {
+            return hikari;
+        }
+
+        int maxConcurrent = properties.getMaxConcurrent() != null
+                ? properties.getMaxConcurrent()
+                : hikari.getMaximumPoolSize();
+        log.info("Limiting concurrent database connections of {} to {} (acquire timeout {})",
+                hikari.getPoolName(), maxConcurrent, properties.getAcquireTimeout());
+        return new BoundedDataSource(hikari, maxConcurrent, properties.getAcquireTimeout());
+    }
+
+    /**
+     * Aplica o limitador ao pool principal. Executa antes dos demais decoradores do
+     * {@code DataSource} (ver {@code ReplicaRoutingConfig}), que passam a envolver o pool já limitado.
+     */
+    private static final class ConnectionGuardPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final Environment environment;
+
+        ConnectionGuardPostProcessor(Environment environment) {
+            this.environment = environment;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            return bean instanceof HikariDataSource hikari ? guard(hikari, environment) : bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+
+    /**
+     * Publica a ocupação do limitador de conexões, quando ativo: permissões livres e threads
+     * na fila. A espera dentro do próprio Hikari continua em {@code hikaricp.connections.*}.
+     */
+    @Bean
+    MeterBinder connectionGuardMetrics(ObjectProvider<DataSource> dataSource) {
+        return registry -> {
+            BoundedDataSource guard = unwrapGuard(dataSource.getIfUnique());
+            if (guard != null) {
+                Gauge.builder("clinic.datasource.guard.available", guard, BoundedDataSource::availablePermits)
+                        .description("Database connection permits currently available")
+                        .register(registry);
+                Gauge.builder("clinic.datasource.guard.waiting", guard, BoundedDataSource::queueLength)
+                        .description("Threads waiting for a database connection permit")
+                        .register(registry);
+            }
+        };
+    }
+
+    /**
+     * Localiza o limitador do pool principal, mesmo quando envolvido por outros decoradores
+     * (ex.: o roteamento para a réplica de leitura).
+     */
+    private static BoundedDataSource unwrapGuard(DataSource dataSource) {
+        try {
+            return dataSource != null && dataSource.isWrapperFor(BoundedDataSource.class)
+                    ? dataSource.unwrap(BoundedDataSource.class)
+                    : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package edu.com.br.SistemasClinicos.controller;
+
+import edu.com.br.SistemasClinicos.dto.Appointment.AppointmentRequest;
+import edu.com.br.SistemasClinicos.dto.Appointment.AppointmentRescheduleRequest;
+import edu.com.br.SistemasClinicos.dto.Appointment.AppointmentResponse;
+import edu.com.br.SistemasClinicos.dto.Appointment.AppointmentSeriesRequest;
+import edu.com.br.SistemasClinicos.dto.Appointment.AvailableSlotResponse;
+import edu.com.br.SistemasClinicos.service.Appointment.AppointmentService;
+import edu.com.br.SistemasClinicos.service.Appointment.AvailabilityService;
+import edu.com.br.SistemasClinicos.util.ETags;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Controller REST responsável por gerenciar as requisições HTTP para a
+ * entidade Consulta (Appointment).
+ * <p>
+ * Define os endpoints (URI: /api/appointments) para agendamento, reagendamento,
+ * cancelamento, conclusão, consulta e busca de horários livres, delegando a lógica de negócio para
+ * {@code AppointmentService} e {@code AvailabilityService}.
+ * Utiliza {@code @RequiredArgsConstructor} para injeção de dependência via construtor.
+ */
+@RestController
+@RequestMapping("api/appointments")
+@RequiredArgsConstructor
+public class AppointmentController {
+
+    private final AppointmentService appointmentService;
+    private final AvailabilityService availabilityService;
+
+    /**
+     * Endpoint para agendar uma nova Consulta.
+     * <p>
+     * Mapeado para {@code POST /api/appointments}.
+     * O corpo da requisição é validado ({@code @Valid}) usando as regras definidas em {@code AppointmentRequest}.
+     * * @param request O DTO com os dados da Consulta a ser agendada.
+     * @return Uma resposta HTTP 201 (Created) contendo o DTO da Consulta criada.
+     */
+    @PostMapping
+    public ResponseEntity<AppointmentResponse> createAppointment(@Valid @RequestBody AppointmentRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(appointmentService.createAppointment(request));
+    }
+
+    /**
+     * Endpoint para agendar uma série de Consultas recorrentes.
+     * <p>
+     * Mapeado para {@code POST /api/appointments/series}.
+     * A série é agendada de forma atômica: se qualquer sessão conflitar, nenhuma é criada.
+     * * @param request O DTO com a primeira sessão, a quantidade e o intervalo entre sessões.
+     * @return Uma resposta HTTP 201 (Created) contendo os DTOs das Consultas criadas.
+     */
+    @PostMapping("/series")
+    public ResponseEntity<List<AppointmentResponse>> createAppointmentSeries(
+            @Valid @RequestBody AppointmentSeriesRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(appointmentService.createAppointmentSeries(request));
+    }
+
+    /**
+     * Endpoint para buscar uma Consulta pelo seu ID.
+     * <p>
+     * Mapeado para {@code GET /api/appointments/{id}}.
+     * <p>
+     * Responde com a ETag forte da versão do recurso. Se o cliente enviar {@code If-None-Match},
+     * apenas a versão é consultada e, se ela não mudou, a resposta é HTTP 304 (Not Modified) sem corpo.
+     * * @param id O ID da Consulta a ser buscada.
+     * @param ifNoneMatch A ETag em cache no cliente (opcional).
+     * @param webRequest A requisição atual, usada na verificação condicional.
+     * @return Uma resposta HTTP 200 (OK) contendo o DTO da Consulta, ou HTTP 304 (Not Modified).
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<AppointmentResponse> findById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            WebRequest webRequest) {
+        if (ifNoneMatch != null) {
+            String etag = ETags.of(appointmentService.findAppointmentVersion(id));
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+            }
+        }
+        AppointmentResponse response = appointmentService.findAppointmentById(id);
+        return ResponseEntity.ok().eTag(ETags.of(response.getVersion())).body(response);
+    }
+
+    /**
+     * Endpoint para reagendar uma Consulta.
+     * <p>
+     * Mapeado para {@code PUT /api/appointments/{id}/reschedule}.
+     * <p>
+     * Se o cliente enviar {@code If-Match}, a atualização só é aplicada se a versão ainda for a mesma;
+     * caso contrário a resposta é HTTP 412 (Precondition Failed).
+     * * @param id O ID da Consulta a ser reagendada.
+     * @param request O DTO com o novo horário.
+     * @param ifMatch A ETag lida pelo cliente (opcional).
+     * @return Uma resposta HTTP 200 (OK) contendo o DTO da Consulta reagendada e a nova ETag.
+     */
+    @PutMapping("/{id}/reschedule")
+    public ResponseEntity<AppointmentResponse> reschedule(
+            @PathVariable Long id,
+            @Valid @RequestBody AppointmentRescheduleRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        AppointmentResponse response = appointmentService.rescheduleAppointment(
+                id, request.getDateTime(), ETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(response.getVersion())).body(response);
+    }
+
+    /**
+     * Endpoint para cancelar uma Consulta.
+     * <p>
+     * Mapeado para {@code PUT /api/appointments/{id}/cancel}.
+     * <p>
+     * Se o cliente enviar {@code If-Match}, a atualização só é aplicada se a versão ainda for a mesma;
+     * caso contrário a resposta é HTTP 412 (Precondition Failed).
+     * * @param id O ID da Consulta a ser cancelada.
+     * @param ifMatch A ETag lida pelo cliente (opcional).
+     * @return Uma resposta HTTP 200 (OK) contendo o DTO da Consulta cancelada e a nova ETag.
+     */
+    @PutMapping("/{id}/cancel")
+    public ResponseEntity<AppointmentResponse> cancel(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        AppointmentResponse response = appointmentService.cancelAppointment(id, ETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(response.getVersion())).body(response);
+    }
+
+    /**
+     * Endpoint para marcar uma Consulta como realizada.
+     * <p>
+     * Mapeado para {@code PUT /api/appointments/{id}/complete}.
+     * <p>
+     * Se o cliente enviar {@code If-Match}, a atualização só é aplicada se a versão ainda for a mesma;
+     * caso contrário a resposta é HTTP 412 (Precondition Failed).
+     * * @param id O ID da Consulta realizada.
+     * @param ifMatch A ETag lida pelo cliente (opcional).
+     * @return Uma resposta HTTP 200 (OK) contendo o DTO da Consulta realizada e a nova ETag.
+     */
+    @PutMapping("/{id}/complete")
+    public ResponseEntity<AppointmentResponse> complete(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        AppointmentResponse response = appointmentService.completeAppointment(id, ETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(response.getVersion())).body(response);
+    }
+
+    /**
+     * Endpoint para buscar os próximos horários livres de uma Especialidade.
+     * <p>
+     * Mapeado para {@code GET /api/appointments/availability?specialty={nome}&from={data}&days={n}&limit={n}}.
+     * Ex.: os 10 primeiros horários livres de Cardiologia nesta semana.
+     * * @param specialty O nome da Especialidade.
+     * @param from O primeiro dia da busca (opcional, padrão: hoje).
+     * @param days A quantidade de dias da janela (opcional, padrão 7, máximo 31).
+     * @param limit A quantidade máxima de horários (opcional, padrão 10, máximo 100).
+     * @return Uma resposta HTTP 200 (OK) contendo os horários livres em ordem cronológica.
+     */
+    @GetMapping("/availability")
+    public ResponseEntity<List<AvailableSlotResponse>> findAvailability(
+            @RequestParam String specialty,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) Integer days,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(availabilityService.findNextFreeSlots(specialty, from, days, limit));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package edu.com.br.SistemasClinicos.controller;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Tratamento dos conflitos de concorrência otimista ({@code @Version}) nos controllers.
+ * <p>
+ * Quando o cliente enviou {@code If-Match}, a versão divergente é uma pré-condição falha
+ * (HTTP 412); sem o cabeçalho, a atualização concorrente é reportada como conflito (HTTP 409).
+ */
+@RestControllerAdvice
+public class ConcurrencyExceptionHandler {
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ProblemDetail handleOptimisticLockingFailure(OptimisticLockingFailureException ex, WebRequest request) {
+        HttpStatus status = request.getHeader(HttpHeaders.IF_MATCH) != null
+                ? HttpStatus.PRECONDITION_FAILED
+                : HttpStatus.CONFLICT;
+        return ProblemDetail.forStatusAndDetail(status, "The resource was modified by another request");
+    }
+}
@@ -1,14 +1,26 @@
 package edu.com.br.SistemasClinicos.controller;
 
+import edu.com.br.SistemasClinicos.dto.Appointment.AgendaEntry;
+import edu.com.br.SistemasClinicos.dto.Doctor.DoctorPatchRequest;
 import edu.com.br.SistemasClinicos.dto.Doctor.DoctorRequest;
 import edu.com.br.SistemasClinicos.dto.Doctor.DoctorResponse;
+import edu.com.br.SistemasClinicos.dto.Doctor.DoctorVersion;
+import edu.com.br.SistemasClinicos.dto.Page.CursorPageResponse;
+import edu.com.br.SistemasClinicos.service.Appointment.AppointmentService;
 import edu.com.br.SistemasClinicos.service.Doctor.DoctorService;
+import edu.com.br.SistemasClinicos.service.Export.ExportService;
+import edu.com.br.SistemasClinicos.util.ETags;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -25,6 +37,8 @@ import java.util.List;
 public class DoctorController {
 
     private final DoctorService doctorService;
+    private final ExportService exportService;
+    private final AppointmentService appointmentService;
 
     /**
      * Endpoint para criar um novo Doutor.
@@ -44,27 +58,86 @@ public class DoctorController {
      * <p>
      * Mapeado para {@code PUT /api/doctors/{id}}.
      * O DTO de requisição é validado ({@code @Valid}).
+     * <p>
+     * Se o cliente enviar {@code If-Match}, a atualização só é aplicada se a versão ainda for a mesma;
+     * caso contrário a resposta é HTTP 412 (Precondition Failed).
      * * @param id O ID do Doutor a ser atualizado, extraído da URI.
      * @param request O DTO com os novos dados do Doutor.
-     * @return Uma resposta HTTP 200 (OK) contendo o DTO do Doutor atualizado.
+     * @param ifMatch A ETag lida pelo cliente (opcional).
+     * @return Uma resposta HTTP 200 (OK) contendo o DTO do Doutor atualizado e a nova ETag.
      */
     @PutMapping("/{id}")
     public ResponseEntity<DoctorResponse> update(
             @PathVariable Long id,
-            @Valid @RequestBody DoctorRequest request) {
-        return ResponseEntity.ok(doctorService.updateDoctor(id, request));
+            @Valid @RequestBody DoctorRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        DoctorResponse response = doctorService.updateDoctor(id, request, ETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(response.getVersion(), response.getSpecialtyVersion())).body(response);
+    }
+
+    /**
+     * Endpoint para atualizar parcialmente um Doutor existente.
+     * <p>
+     * Mapeado para {@code PATCH /api/doctors/{id}}. Apenas os campos presentes no corpo são
+     * alterados, com um único SELECT e um UPDATE restrito às colunas modificadas.
+     * Aceita {@code If-Match} da mesma forma que o {@code PUT}.
+     * * @param id O ID do Doutor a ser atualizado, extraído da URI.
+     * @param request O DTO com os campos a serem alterados.
+     * @param ifMatch A ETag lida pelo cliente (opcional).
+     * @return Uma resposta HTTP 200 (OK) contendo o DTO do Doutor atualizado e a nova ETag.
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<DoctorResponse> patch(
+            @PathVariable Long id,
+            @Valid @RequestBody DoctorPatchRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        DoctorResponse response = doctorService.patchDoctor(id, request, ETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(response.getVersion(), response.getSpecialtyVersion())).body(response);
     }
 
     /**
      * Endpoint para buscar um Doutor pelo seu ID.
      * <p>
      * Mapeado para {@code GET /api/doctors/{id}}.
+     * <p>
+     * Responde com a ETag forte das versões do Doutor e da sua Especialidade, cujo nome faz parte da
+     * resposta. Se o cliente enviar {@code If-None-Match}, apenas as versões são consultadas e, se
+     * nenhuma mudou, a resposta é HTTP 304 (Not Modified) sem corpo.
      * * @param id O ID do Doutor a ser buscado.
-     * @return Uma resposta HTTP 200 (OK) contendo o DTO do Doutor.
+     * @param ifNoneMatch A ETag em cache no cliente (opcional).
+     * @param webRequest A requisição atual, usada na verificação condicional.
+     * @return Uma resposta HTTP 200 (OK) contendo o DTO do Doutor, ou HTTP 304 (Not Modified).
      */
     @GetMapping("/{id}")
-    public ResponseEntity<DoctorResponse> findById(@PathVariable Long id) {
-        return ResponseEntity.ok(doctorService.findDoctorById(id));
+    public ResponseEntity<DoctorResponse> findById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            WebRequest webRequest) {
+        if (ifNoneMatch != null) {
+            DoctorVersion version = doctorService.findDoctorVersion(id);
+            String etag = ETags.of(version.getVersion(), version.getSpecialtyVersion());
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+            }
+        }
+        DoctorResponse response = doctorService.findDoctorById(id);
+        return ResponseEntity.ok().eTag(ETags.of(response.getVersion(), response.getSpecialtyVersion())).body(response);
+    }
+
+    /**
+     * Endpoint para buscar a agenda diária de um Doutor.
+     * <p>
+     * Mapeado para {@code GET /api/doctors/{id}/agenda?date={data}}. Retorna as consultas do dia
+     * em ordem de horário, com o nome do Paciente e a indicação de Receita emitida.
+     * * @param id O ID do Doutor.
+     * @param date O dia da agenda (opcional, padrão: hoje).
+     * @return Uma resposta HTTP 200 (OK) contendo as consultas do dia.
+     */
+    @GetMapping("/{id}/agenda")
+    public ResponseEntity<List<AgendaEntry>> findAgenda(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.ok(appointmentService.findDoctorAgenda(id, date != null ? date : LocalDate.now()));
     }
 
     /**
@@ -78,6 +151,38 @@ public class DoctorController {
         return ResponseEntity.ok(doctorService.findall());
     }
 
+    /**
+     * Endpoint para listar Doutores com paginação por cursor.
+     * <p>
+     * Mapeado para {@code GET /api/doctors/page?after={cursor}&limit={n}}.
+     * Para percorrer a tabela inteira, reenvie o {@code nextCursor} da resposta no parâmetro
+     * {@code after} até que ele seja {@code null}.
+     * * @param after O cursor opaco da página anterior (opcional).
+     * @param limit O tamanho de página desejado (opcional, máximo de 500).
+     * @return Uma resposta HTTP 200 (OK) contendo a página de DTOs {@code DoctorResponse}.
+     */
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageResponse<DoctorResponse>> findDoctorsPage(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(doctorService.findDoctorsPage(after, limit));
+    }
+
+    /**
+     * Endpoint para exportar todos os Doutores.
+     * <p>
+     * Mapeado para {@code GET /api/doctors/export?format={csv|ndjson}}. O arquivo
+     * ({@code doctors.ndjson.gz} ou {@code doctors.csv.gz}) é gerado a partir de um cursor
+     * no banco e comprimido enquanto é enviado, com consumo de memória constante.
+     * * @param format O formato das linhas (opcional, padrão {@code ndjson}).
+     * @return Uma resposta HTTP 200 (OK) com o arquivo comprimido com gzip.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportDoctors(
+            @RequestParam(defaultValue = "ndjson") String format){
+        return ExportResponses.gzip("doctors", ExportResponses.parseFormat(format), exportService::exportDoctors);
+    }
+
     /**
      * Endpoint para excluir um Doutor pelo seu ID.
      * <p>
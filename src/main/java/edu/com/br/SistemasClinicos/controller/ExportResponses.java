@@ -0,0 +1,65 @@
+package edu.com.br.SistemasClinicos.controller;
+
+import edu.com.br.SistemasClinicos.service.Export.ExportFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.function.BiConsumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Utilitário para as respostas dos endpoints de exportação.
+ * <p>
+ * O conteúdo é escrito por um {@link StreamingResponseBody}, fora da thread da requisição,
+ * e comprimido com gzip à medida que é gerado: o arquivo {@code .gz} nunca existe inteiro em
+ * memória, nem no servidor nem antes do primeiro byte enviado.
+ */
+final class ExportResponses {
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private ExportResponses() {
+    }
+
+    /**
+     * Converte o parâmetro {@code format} (sem diferenciar maiúsculas de minúsculas).
+     * * @param format O valor recebido.
+     * @return O formato correspondente.
+     * @throws ResponseStatusException 400 (Bad Request) se o formato não for suportado.
+     */
+    static ExportFormat parseFormat(String format) {
+        try {
+            return ExportFormat.valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported export format: " + format);
+        }
+    }
+
+    /**
+     * Monta a resposta de download do arquivo exportado, comprimido com gzip.
+     * * @param name O nome base do arquivo (ex.: {@code patients}).
+     * @param format O formato das linhas.
+     * @param export A exportação, que escreve as linhas no destino informado.
+     * @return Uma resposta HTTP 200 (OK) com o arquivo {@code <name>.<formato>.gz}.
+     */
+    static ResponseEntity<StreamingResponseBody> gzip(String name, ExportFormat format,
+                                                      BiConsumer<OutputStream, ExportFormat> export) {
+        StreamingResponseBody body = output -> {
+            GZIPOutputStream gzip = new GZIPOutputStream(output, GZIP_BUFFER_SIZE);
+            export.accept(gzip, format);
+            gzip.finish();
+        };
+        String filename = name + "." + format.getExtension() + ".gz";
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.parseMediaType("application/gzip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
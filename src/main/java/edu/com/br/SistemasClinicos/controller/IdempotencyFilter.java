@@ -0,0 +1,338 @@
+package edu.com.br.SistemasClinicos.controller;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import edu.com.br.SistemasClinicos.config.IdempotencyProperties;
+import edu.com.br.SistemasClinicos.dto.Idempotency.IdempotentResponse;
+import edu.com.br.SistemasClinicos.service.Idempotency.IdempotencyStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Filtro que torna idempotentes as requisições {@code POST} com o cabeçalho {@code Idempotency-Key}
+ * nos caminhos configurados ({@code /api/patients} e {@code /api/doctors}, por padrão).
+ * <p>
+ * A primeira requisição com uma chave é executada normalmente, e a sua resposta é guardada em
+ * memória (Caffeine, limitada a {@code maxKeys} chaves e expirada após {@code ttl}) e no banco
+ * ({@link IdempotencyStore}), que atende às demais instâncias e sobrevive às reinicializações.
+ * As repetições recebem a resposta guardada, com o cabeçalho {@code Idempotent-Replayed}, sem
+ * passar pelo controller, pelo serviço ou pelo pool de conexões. Repetições que chegam enquanto a
+ * original está em andamento aguardam o seu resultado, em vez de executar a escrita de novo.
+ * <p>
+ * A chave vale por caminho e por cliente, identificado como na limitação de taxa: pelo cabeçalho
+ * de chave de API ou, na falta dele, pelo endereço IP. Assim, dois clientes que geram a mesma chave
+ * não recebem a resposta um do outro. O cliente entra na chave como um hash, para que a chave de
+ * API não seja gravada no banco.
+ * <p>
+ * As respostas 5xx, 409 e 429 não são guardadas: a chave é liberada e a próxima repetição é
+ * executada. A mesma chave com outro corpo é recusada com HTTP 422. Se a resposta não puder ser
+ * gravada no banco depois da escrita, ela ainda é enviada ao cliente e a chave continua reservada.
+ */
+@Slf4j
+public class IdempotencyFilter implements Filter {
+
+    /**
+     * Cabeçalho presente nas respostas devolvidas a uma repetição.
+     */
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private static final String PROBLEM = """
+            {"type":"about:blank","title":"%s","status":%d,"detail":"%s"}""";
+
+    private final IdempotencyStore store;
+    private final boolean enabled;
+    private final String header;
+    private final String apiKeyHeader;
+    private final Set<String> paths;
+    private final long lockTimeoutNanos;
+    private final int maxBodySize;
+    private final Cache<String, CompletableFuture<IdempotentResponse>> responses;
+    private final Counter replayedFromMemory;
+    private final Counter replayedFromDatabase;
+
+    /**
+     * * @param properties A configuração das chaves.
+     * @param apiKeyHeader O cabeçalho que identifica o cliente ({@code clinic.rate-limit.api-key-header}).
+     * @param store O registro das chaves no banco.
+     * @param registry O registro de métricas, onde são contadas as respostas repetidas.
+     */
+    public IdempotencyFilter(IdempotencyProperties properties, String apiKeyHeader, IdempotencyStore store,
+                             MeterRegistry registry) {
+        this.store = store;
+        this.enabled = properties.isEnabled();
+        this.header = properties.getHeader();
+        this.apiKeyHeader = apiKeyHeader;
+        this.paths = Set.copyOf(properties.getPaths());
+        this.lockTimeoutNanos = properties.getLockTimeout().toNanos();
+        this.maxBodySize = (int) properties.getMaxBodySize().toBytes();
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxKeys())
+                .expireAfterWrite(properties.getTtl())
+                .build();
+        this.replayedFromMemory = replayed(registry, "memory");
+        this.replayedFromDatabase = replayed(registry, "database");
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!enabled || !(request instanceof HttpServletRequest http)
+                || !"POST".equals(http.getMethod())
+                || !paths.contains(http.getRequestURI().substring(http.getContextPath().length()))) {
+            chain.doFilter(request, response);
+            return;
+        }
+        String key = http.getHeader(header);
+        if (key == null || key.isBlank()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+        if (key.length() > MAX_KEY_LENGTH) {
+            problem(httpResponse, HttpStatus.BAD_REQUEST, header + " must have at most " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+        byte[] body = http.getInputStream().readNBytes(maxBodySize + 1);
+        if (body.length > maxBodySize) {
+            problem(httpResponse, HttpStatus.PAYLOAD_TOO_LARGE, "Request body is too large for " + header);
+            return;
+        }
+        String scopedKey = http.getRequestURI().substring(http.getContextPath().length()) + " " + client(http) + " " + key;
+        handle(scopedKey, hash(body), new BufferedRequest(http, body), httpResponse, chain);
+    }
+
+    private void handle(String key, String requestHash, HttpServletRequest request, HttpServletResponse response,
+                        FilterChain chain) throws ServletException, IOException {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            CompletableFuture<IdempotentResponse> own = new CompletableFuture<>();
+            CompletableFuture<IdempotentResponse> inFlight = responses.asMap().putIfAbsent(key, own);
+            if (inFlight == null) {
+                execute(key, requestHash, request, response, chain, own);
+                return;
+            }
+            try {
+                replay(inFlight.get(lockTimeoutNanos, TimeUnit.NANOSECONDS), requestHash, response, replayedFromMemory);
+                return;
+            } catch (ExecutionException e) {
+                // A requisição original falhou e liberou a chave: esta tenta de novo
+            } catch (TimeoutException e) {
+                break;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        inProgress(response);
+    }
+
+    private void execute(String key, String requestHash, HttpServletRequest request, HttpServletResponse response,
+                         FilterChain chain, CompletableFuture<IdempotentResponse> own)
+            throws ServletException, IOException {
+        boolean acquired = false;
+        try {
+            IdempotencyStore.Claim claim = store.claim(key, requestHash);
+            acquired = claim.acquired();
+            if (claim.response() != null) {
+                own.complete(claim.response());
+                replay(claim.response(), requestHash, response, replayedFromDatabase);
+                return;
+            }
+            if (!acquired) {
+                inProgress(response);
+                return;
+            }
+            ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+            chain.doFilter(request, wrapper);
+            if (storable(wrapper.getStatus())) {
+                IdempotentResponse result = new IdempotentResponse(requestHash, wrapper.getStatus(), wrapper.getContentType(),
+                        new String(wrapper.getContentAsByteArray(), StandardCharsets.UTF_8));
+                try {
+                    store.complete(key, result);
+                } catch (RuntimeException e) {
+                    // A escrita já foi feita: a chave não é liberada, para que uma repetição não a
+                    // execute de novo. Esta instância ainda responde pela memória; as demais
+                    // aguardam a reserva ser considerada abandonada.
+                    log.error("Could not store response for idempotency key {}: {}", key, e.toString());
+                }
+                own.complete(result);
+            }
+            wrapper.copyBodyToResponse();
+        } finally {
+            if (!own.isDone()) {
+                // Falha, resposta não guardada ou espera esgotada: a próxima repetição é executada
+                responses.asMap().remove(key, own);
+                own.completeExceptionally(new RuntimeException("Original request was not completed"));
+                if (acquired) {
+                    release(key);
+                }
+            }
+        }
+    }
+
+    private void release(String key) {
+        try {
+            store.release(key);
+        } catch (RuntimeException e) {
+            log.warn("Could not release idempotency key {}: {}", key, e.toString());
+        }
+    }
+
+    private void replay(IdempotentResponse stored, String requestHash, HttpServletResponse response, Counter counter)
+            throws IOException {
+        if (!stored.getRequestHash().equals(requestHash)) {
+            problem(response, HttpStatus.UNPROCESSABLE_ENTITY, header + " was already used with a different request body");
+            return;
+        }
+        counter.increment();
+        byte[] body = stored.getBody() != null ? stored.getBody().getBytes(StandardCharsets.UTF_8) : new byte[0];
+        response.setStatus(stored.getStatus());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.getContentType() != null) {
+            response.setContentType(stored.getContentType());
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private void inProgress(HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        problem(response, HttpStatus.CONFLICT, "A request with this " + header + " is still in progress");
+    }
+
+    private static void problem(HttpServletResponse response, HttpStatus status, String detail) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.getWriter().write(PROBLEM.formatted(status.getReasonPhrase(), status.value(), detail));
+    }
+
+    private static boolean storable(int status) {
+        return status < 500 && status != HttpStatus.CONFLICT.value() && status != HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    /**
+     * Identifica o cliente pelo hash da chave de API ou do endereço IP, em 22 caracteres, para que
+     * a chave qualificada continue cabendo em {@code idempotency_record.idempotency_key}.
+     */
+    private String client(HttpServletRequest request) {
+        String apiKey = request.getHeader(apiKeyHeader);
+        String client = apiKey != null && !apiKey.isBlank() ? "key:" + apiKey : "ip:" + request.getRemoteAddr();
+        byte[] digest = sha256(client.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16));
+    }
+
+    private static String hash(byte[] body) {
+        return HexFormat.of().formatHex(sha256(body));
+    }
+
+    private static byte[] sha256(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Counter replayed(MeterRegistry registry, String source) {
+        return Counter.builder("clinic.idempotency.replayed")
+                .description("Responses replayed for retried requests with an idempotency key")
+                .tag("source", source)
+                .register(registry);
+    }
+
+    /**
+     * Requisição cujo corpo já foi lido pelo filtro e é servido de novo ao controller.
+     */
+    private static final class BufferedRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        BufferedRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException("Asynchronous reads are not supported");
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            Charset charset = getCharacterEncoding() != null
+                    ? Charset.forName(getCharacterEncoding())
+                    : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
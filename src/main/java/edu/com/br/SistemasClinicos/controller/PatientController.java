@@ -1,15 +1,27 @@
 package edu.com.br.SistemasClinicos.controller;
 
 
+import edu.com.br.SistemasClinicos.dto.Page.CursorPageResponse;
+import edu.com.br.SistemasClinicos.dto.Patient.PatientImportResponse;
+import edu.com.br.SistemasClinicos.dto.Patient.PatientPatchRequest;
 import edu.com.br.SistemasClinicos.dto.Patient.PatientRequest;
 import edu.com.br.SistemasClinicos.dto.Patient.PatientResponse;
+import edu.com.br.SistemasClinicos.service.Patient.PatientImportFormat;
+import edu.com.br.SistemasClinicos.service.Patient.PatientImportService;
+import edu.com.br.SistemasClinicos.service.Export.ExportService;
 import edu.com.br.SistemasClinicos.service.Patient.PatientService;
+import edu.com.br.SistemasClinicos.util.ETags;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -26,6 +38,8 @@ import java.util.List;
 public class PatientController {
 
     private final PatientService patientService;
+    private final PatientImportService patientImportService;
+    private final ExportService exportService;
 
     /**
      * Endpoint para criar um novo Paciente.
@@ -40,32 +54,107 @@ public class PatientController {
         return  ResponseEntity.status(HttpStatus.CREATED).body(patientService.createPatient(patientRequest));
     }
 
+    /**
+     * Endpoint para importar Pacientes em massa.
+     * <p>
+     * Mapeado para {@code POST /api/patients/import}. Aceita {@code text/csv} (com cabeçalho)
+     * ou {@code application/x-ndjson} (um objeto por linha). O corpo é lido de forma incremental,
+     * sem ser carregado inteiro em memória.
+     * * @param contentType O tipo do conteúdo enviado.
+     * @param body O corpo da requisição.
+     * @return Uma resposta HTTP 200 (OK) contendo o relatório da importação, com os erros por linha.
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<PatientImportResponse> importPatients(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body){
+        PatientImportFormat format = contentType.isCompatibleWith(MediaType.valueOf("text/csv"))
+                ? PatientImportFormat.CSV
+                : PatientImportFormat.NDJSON;
+        return ResponseEntity.status(HttpStatus.OK).body(patientImportService.importPatients(body, format));
+    }
+
     /**
      * Endpoint para atualizar um Paciente existente.
      * <p>
      * Mapeado para {@code PUT /api/patients/{id}}.
      * O DTO de requisição é validado ({@code @Valid}).
+     * <p>
+     * Se o cliente enviar {@code If-Match}, a atualização só é aplicada se a versão ainda for a mesma;
+     * caso contrário a resposta é HTTP 412 (Precondition Failed).
      * * @param id O ID do Paciente a ser atualizado, extraído da URI.
      * @param request O DTO com os novos dados do Paciente.
-     * @return Uma resposta HTTP 200 (OK) contendo o DTO do Paciente atualizado.
+     * @param ifMatch A ETag lida pelo cliente (opcional).
+     * @return Uma resposta HTTP 200 (OK) contendo o DTO do Paciente atualizado e a nova ETag.
      */
     @PutMapping("/{id}")
     public ResponseEntity<PatientResponse> updatePatient(
             @PathVariable Long id,
-            @Valid @RequestBody PatientRequest request){
-        return  ResponseEntity.status(HttpStatus.OK).body(patientService.updatePatient(id,request));
+            @Valid @RequestBody PatientRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch){
+        PatientResponse response = patientService.updatePatient(id, request, ETags.parseIfMatch(ifMatch));
+        return  ResponseEntity.status(HttpStatus.OK).eTag(ETags.of(response.getVersion())).body(response);
+    }
+
+    /**
+     * Endpoint para atualizar parcialmente um Paciente existente.
+     * <p>
+     * Mapeado para {@code PATCH /api/patients/{id}}. Apenas os campos presentes no corpo são
+     * alterados, com um único SELECT e um UPDATE restrito às colunas modificadas.
+     * Aceita {@code If-Match} da mesma forma que o {@code PUT}.
+     * * @param id O ID do Paciente a ser atualizado, extraído da URI.
+     * @param request O DTO com os campos a serem alterados.
+     * @param ifMatch A ETag lida pelo cliente (opcional).
+     * @return Uma resposta HTTP 200 (OK) contendo o DTO do Paciente atualizado e a nova ETag.
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<PatientResponse> patchPatient(
+            @PathVariable Long id,
+            @Valid @RequestBody PatientPatchRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch){
+        PatientResponse response = patientService.patchPatient(id, request, ETags.parseIfMatch(ifMatch));
+        return  ResponseEntity.status(HttpStatus.OK).eTag(ETags.of(response.getVersion())).body(response);
     }
 
     /**
      * Endpoint para buscar um Paciente pelo seu ID.
      * <p>
      * Mapeado para {@code GET /api/patients/{id}}.
+     * <p>
+     * Responde com a ETag forte da versão do recurso. Se o cliente enviar {@code If-None-Match},
+     * apenas a versão é consultada e, se ela não mudou, a resposta é HTTP 304 (Not Modified) sem corpo.
      * * @param id O ID do Paciente a ser buscado.
-     * @return Uma resposta HTTP 200 (OK) contendo o DTO do Paciente.
+     * @param ifNoneMatch A ETag em cache no cliente (opcional).
+     * @param webRequest A requisição atual, usada na verificação condicional.
+     * @return Uma resposta HTTP 200 (OK) contendo o DTO do Paciente, ou HTTP 304 (Not Modified).
      */
     @GetMapping("/{id}")
-    public ResponseEntity<PatientResponse> findPatientById(@PathVariable Long id){
-        return  ResponseEntity.status(HttpStatus.OK).body(patientService.findPatientById(id));
+    public ResponseEntity<PatientResponse> findPatientById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            WebRequest webRequest){
+        if (ifNoneMatch != null) {
+            String etag = ETags.of(patientService.findPatientVersion(id));
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+            }
+        }
+        PatientResponse response = patientService.findPatientById(id);
+        return  ResponseEntity.status(HttpStatus.OK).eTag(ETags.of(response.getVersion())).body(response);
+    }
+
+    /**
+     * Endpoint para buscar um Paciente pelo CPF.
+     * <p>
+     * Mapeado para {@code GET /api/patients/cpf/{cpf}}. O ID é obtido do índice de CPFs em
+     * memória, sem consulta pela coluna {@code cpf}.
+     * * @param cpf O CPF do Paciente (11 dígitos).
+     * @return Uma resposta HTTP 200 (OK) contendo o DTO do Paciente e a sua ETag.
+     */
+    @GetMapping("/cpf/{cpf}")
+    public ResponseEntity<PatientResponse> findPatientByCpf(@PathVariable String cpf){
+        PatientResponse response = patientService.findPatientByCpf(cpf);
+        return  ResponseEntity.status(HttpStatus.OK).eTag(ETags.of(response.getVersion())).body(response);
     }
 
     /**
@@ -79,6 +168,38 @@ public class PatientController {
         return  ResponseEntity.status(HttpStatus.OK).body(patientService.findAllPatients());
     }
 
+    /**
+     * Endpoint para listar Pacientes com paginação por cursor.
+     * <p>
+     * Mapeado para {@code GET /api/patients/page?after={cursor}&limit={n}}.
+     * Para percorrer a tabela inteira, reenvie o {@code nextCursor} da resposta no parâmetro
+     * {@code after} até que ele seja {@code null}.
+     * * @param after O cursor opaco da página anterior (opcional).
+     * @param limit O tamanho de página desejado (opcional, máximo de 500).
+     * @return Uma resposta HTTP 200 (OK) contendo a página de DTOs {@code PatientResponse}.
+     */
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageResponse<PatientResponse>> findPatientsPage(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit){
+        return ResponseEntity.status(HttpStatus.OK).body(patientService.findPatientsPage(after, limit));
+    }
+
+    /**
+     * Endpoint para exportar todos os Pacientes.
+     * <p>
+     * Mapeado para {@code GET /api/patients/export?format={csv|ndjson}}. O arquivo
+     * ({@code patients.ndjson.gz} ou {@code patients.csv.gz}) é gerado a partir de um cursor
+     * no banco e comprimido enquanto é enviado, com consumo de memória constante.
+     * * @param format O formato das linhas (opcional, padrão {@code ndjson}).
+     * @return Uma resposta HTTP 200 (OK) com o arquivo comprimido com gzip.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportPatients(
+            @RequestParam(defaultValue = "ndjson") String format){
+        return ExportResponses.gzip("patients", ExportResponses.parseFormat(format), exportService::exportPatients);
+    }
+
     /**
      * Endpoint para excluir um Paciente pelo seu ID.
      * <p>
@@ -95,12 +216,15 @@ public class PatientController {
     /**
      * Endpoint para buscar Pacientes pelo nome.
      * <p>
-     * Mapeado para {@code GET /api/patients/search/{name}}.
+     * Mapeado para {@code GET /api/patients/search/{name}?limit={n}}.
+     * A busca é aproximada (ignora acentos e maiúsculas/minúsculas) e ordenada por similaridade.
      * * @param name O nome (ou parte do nome) do Paciente a ser buscado.
+     * @param limit A quantidade máxima de resultados (opcional, máximo de 100).
      * @return Uma resposta HTTP 200 (OK) contendo uma lista de DTOs {@code PatientResponse} correspondentes.
      */
     @GetMapping("/search/{name}")
-    public ResponseEntity<List<PatientResponse>> findPatientByName(@PathVariable String name){
-        return ResponseEntity.status(HttpStatus.OK).body(patientService.findPatientByName(name));
+    public ResponseEntity<List<PatientResponse>> findPatientByName(@PathVariable String name,
+            @RequestParam(required = false) Integer limit){
+        return ResponseEntity.status(HttpStatus.OK).body(patientService.findPatientByName(name, limit));
     }
 }
\ No newline at end of file
@@ -0,0 +1,103 @@
+package edu.com.br.SistemasClinicos.controller;
+
+import edu.com.br.SistemasClinicos.dto.Prescription.PrescriptionMatch;
+import edu.com.br.SistemasClinicos.dto.Prescription.PrescriptionRequest;
+import edu.com.br.SistemasClinicos.dto.Prescription.PrescriptionResponse;
+import edu.com.br.SistemasClinicos.service.Prescription.PrescriptionService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Controller REST responsável por gerenciar as requisições HTTP para a
+ * entidade Receita (Prescription).
+ * <p>
+ * Define os endpoints (URI: /api/prescriptions) para emissão, alteração, consulta e busca
+ * por medicamento, delegando a lógica de negócio para {@code PrescriptionService}.
+ * Utiliza {@code @RequiredArgsConstructor} para injeção de dependência via construtor.
+ */
+@RestController
+@RequestMapping("api/prescriptions")
+@RequiredArgsConstructor
+public class PrescriptionController {
+
+    private final PrescriptionService prescriptionService;
+
+    /**
+     * Endpoint para emitir uma Receita.
+     * <p>
+     * Mapeado para {@code POST /api/prescriptions}.
+     * O corpo da requisição é validado ({@code @Valid}) usando as regras definidas em {@code PrescriptionRequest}.
+     * * @param request O DTO com os dados da Receita a ser emitida.
+     * @return Uma resposta HTTP 201 (Created) contendo o DTO da Receita criada.
+     */
+    @PostMapping
+    public ResponseEntity<PrescriptionResponse> createPrescription(@Valid @RequestBody PrescriptionRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(prescriptionService.createPrescription(request));
+    }
+
+    /**
+     * Endpoint para alterar uma Receita existente.
+     * <p>
+     * Mapeado para {@code PUT /api/prescriptions/{id}}.
+     * * @param id O ID da Receita a ser alterada, extraído da URI.
+     * @param request O DTO com os novos dados da Receita.
+     * @return Uma resposta HTTP 200 (OK) contendo o DTO da Receita alterada.
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<PrescriptionResponse> update(@PathVariable Long id,
+                                                       @Valid @RequestBody PrescriptionRequest request) {
+        return ResponseEntity.ok(prescriptionService.updatePrescription(id, request));
+    }
+
+    /**
+     * Endpoint para buscar uma Receita pelo seu ID.
+     * <p>
+     * Mapeado para {@code GET /api/prescriptions/{id}}.
+     * * @param id O ID da Receita a ser buscada.
+     * @return Uma resposta HTTP 200 (OK) contendo o DTO da Receita.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<PrescriptionResponse> findById(@PathVariable Long id) {
+        return ResponseEntity.ok(prescriptionService.findPrescriptionById(id));
+    }
+
+    /**
+     * Endpoint para buscar as Receitas que contêm um medicamento.
+     * <p>
+     * Mapeado para {@code GET /api/prescriptions/search?medication={nome}&from={data}&to={data}&limit={n}}.
+     * Todos os termos do medicamento devem constar na Receita, sem diferenciar maiúsculas e acentos.
+     * * @param medication O nome do medicamento.
+     * @param from A data de emissão mínima (opcional, inclusiva).
+     * @param to A data de emissão máxima (opcional, inclusiva).
+     * @param limit A quantidade máxima de resultados (opcional, padrão 100, máximo 1000).
+     * @return Uma resposta HTTP 200 (OK) contendo as Receitas, da emissão mais recente para a mais antiga.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<PrescriptionMatch>> findByMedication(
+            @RequestParam String medication,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(prescriptionService.findByMedication(medication, from, to, limit));
+    }
+
+    /**
+     * Endpoint para reconstruir o índice de medicamentos a partir do banco.
+     * <p>
+     * Mapeado para {@code POST /api/prescriptions/medication-index/rebuild}. Necessário apenas
+     * quando Receitas forem alteradas diretamente no banco, fora da aplicação.
+     * * @return Uma resposta HTTP 200 (OK) com a quantidade de Receitas indexadas.
+     */
+    @PostMapping("/medication-index/rebuild")
+    public ResponseEntity<Map<String, Integer>> rebuildMedicationIndex() {
+        return ResponseEntity.ok(Map.of("indexed", prescriptionService.rebuildMedicationIndex()));
+    }
+}
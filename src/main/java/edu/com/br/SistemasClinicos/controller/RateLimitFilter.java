@@ -0,0 +1,172 @@
+package edu.com.br.SistemasClinicos.controller;
+
+import edu.com.br.SistemasClinicos.config.RateLimitProperties;
+import edu.com.br.SistemasClinicos.util.RateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filtro que limita a taxa de requisições de cada cliente nas rotas configuradas.
+ * <p>
+ * O cliente é identificado pela chave de API ({@code X-API-Key}, por padrão) ou, na falta
+ * dela, pelo endereço IP. Cada regra de {@code clinic.rate-limit.routes} tem o seu próprio
+ * {@link RateLimiter}; uma requisição acima do limite é recusada com HTTP 429 (Too Many Requests)
+ * e o cabeçalho {@code Retry-After}, antes de chegar ao controller e ao pool de conexões.
+ * <p>
+ * O trecho literal inicial de cada padrão (ex.: {@code /api/patients/search/}) é comparado antes
+ * do {@link PathPattern}, de modo que as requisições fora das rotas limitadas custam apenas
+ * algumas comparações de prefixo. Padrões sem curingas ou terminados em {@code /**} dispensam o {@link PathPattern}.
+ */
+@Slf4j
+public class RateLimitFilter implements Filter {
+
+    private static final String PROBLEM = """
+            {"type":"about:blank","title":"Too Many Requests","status":429,"detail":"Rate limit exceeded, retry after %d seconds"}""";
+
+    private final String apiKeyHeader;
+    private final List<Rule> rules;
+
+    /**
+     * * @param properties As regras de limitação.
+     * @param registry O registro de métricas, onde são contadas as requisições recusadas.
+     */
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry registry) {
+        this.apiKeyHeader = properties.getApiKeyHeader();
+        this.rules = !properties.isEnabled() ? List.of() : properties.getRoutes().stream()
+                .map(route -> rule(route, properties.getMaxClients(), registry))
+                .toList();
+        rules.forEach(rule -> log.info("Rate limiting {} {}", rule.method() == null ? "*" : rule.method(), rule.pattern()));
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!rules.isEmpty() && request instanceof HttpServletRequest http) {
+            Rule rule = match(http);
+            if (rule != null) {
+                long waitNanos = rule.limiter().tryAcquire(client(http));
+                if (waitNanos > 0) {
+                    rule.rejected().increment();
+                    reject((HttpServletResponse) response, waitNanos);
+                    return;
+                }
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    /**
+     * Descarta periodicamente os clientes ociosos de todas as regras.
+     */
+    @Scheduled(fixedDelayString = "${clinic.rate-limit.eviction-interval:1m}")
+    public void evictIdleClients() {
+        for (Rule rule : rules) {
+            int evicted = rule.limiter().evictIdle();
+            if (evicted > 0) {
+                log.debug("Evicted {} idle rate limit clients of {}", evicted, rule.pattern());
+            }
+        }
+    }
+
+    private Rule match(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        int offset = request.getContextPath().length();
+        PathContainer path = null;
+        for (Rule rule : rules) {
+            if (!uri.startsWith(rule.prefix(), offset)
+                    || (rule.method() != null && !rule.method().equalsIgnoreCase(request.getMethod()))) {
+                continue;
+            }
+            boolean matches = switch (rule.kind()) {
+                case LITERAL -> uri.length() - offset == rule.prefix().length();
+                case PREFIX -> true;
+                case PATTERN -> {
+                    if (path == null) {
+                        path = PathContainer.parsePath(uri.substring(offset));
+                    }
+                    yield rule.pattern().matches(path);
+                }
+            };
+            if (matches) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private static Rule rule(RateLimitProperties.Route route, int maxClients, MeterRegistry registry) {
+        String pattern = route.getPattern();
+        if (pattern == null || pattern.isBlank()) {
+            throw new IllegalArgumentException("Rate limit route requires a pattern");
+        }
+        int end = pattern.length();
+        for (char wildcard : new char[]{'*', '?', '{'}) {
+            int index = pattern.indexOf(wildcard);
+            if (index >= 0 && index < end) {
+                end = index;
+            }
+        }
+        String prefix = pattern.substring(0, end);
+        Kind kind = end == pattern.length() ? Kind.LITERAL
+                : pattern.endsWith("/**") && end == pattern.length() - 2 ? Kind.PREFIX
+                : Kind.PATTERN;
+        return new Rule(prefix, kind, PathPatternParser.defaultInstance.parse(pattern), route.getMethod(),
+                new RateLimiter(route.getRequestsPerSecond(), route.getBurst(), maxClients),
+                Counter.builder("clinic.ratelimit.rejected")
+                        .description("Requests rejected by the rate limiter")
+                        .tag("route", pattern)
+                        .register(registry));
+    }
+
+    private String client(HttpServletRequest request) {
+        String apiKey = request.getHeader(apiKeyHeader);
+        return apiKey != null && !apiKey.isBlank() ? "key:" + apiKey : "ip:" + request.getRemoteAddr();
+    }
+
+    private static void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfter = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.getWriter().write(PROBLEM.formatted(retryAfter));
+    }
+
+    /**
+     * Como o caminho é comparado com a regra, após a verificação do prefixo literal.
+     */
+    private enum Kind {
+        /** Padrão sem curingas: o caminho deve ser igual ao prefixo. */
+        LITERAL,
+        /** Padrão {@code <prefixo>/**}: basta o prefixo. */
+        PREFIX,
+        /** Demais padrões: avaliados pelo {@link PathPattern}. */
+        PATTERN
+    }
+
+    /**
+     * Uma regra de limitação: o trecho literal inicial do padrão, a forma de comparação, o padrão
+     * completo, o método HTTP, o limitador e o contador de recusas.
+     */
+    private record Rule(String prefix, Kind kind, PathPattern pattern, String method,
+                        RateLimiter limiter, Counter rejected) {
+    }
+}
@@ -4,11 +4,14 @@ package edu.com.br.SistemasClinicos.controller;
 import edu.com.br.SistemasClinicos.dto.Specialty.SpecialtyRequest;
 import edu.com.br.SistemasClinicos.dto.Specialty.SpecialtyResponse;
 import edu.com.br.SistemasClinicos.service.Specialty.SpecialtyService;
+import edu.com.br.SistemasClinicos.util.ETags;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -45,38 +48,67 @@ public class SpecialtyController {
      * <p>
      * Mapeado para {@code PUT /api/specialties/{id}}.
      * O DTO de requisição é validado ({@code @Valid}).
+     * <p>
+     * Se o cliente enviar {@code If-Match}, a atualização só é aplicada se a versão ainda for a mesma;
+     * caso contrário a resposta é HTTP 412 (Precondition Failed).
      * * @param id O ID da Especialidade a ser atualizada, extraído da URI.
      * @param specialtyRequest O DTO com os novos dados da Especialidade.
-     * @return Uma resposta HTTP 200 (OK) contendo o DTO da Especialidade atualizada.
+     * @param ifMatch A ETag lida pelo cliente (opcional).
+     * @return Uma resposta HTTP 200 (OK) contendo o DTO da Especialidade atualizada e a nova ETag.
      */
     @PutMapping("/{id}")
     public ResponseEntity<SpecialtyResponse> updateSpecialty(
             @PathVariable Long id,
-            @Valid @RequestBody SpecialtyRequest specialtyRequest){
-        return ResponseEntity.status(HttpStatus.OK).body(specialtyService.updateSpecialty(id, specialtyRequest));
+            @Valid @RequestBody SpecialtyRequest specialtyRequest,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch){
+        SpecialtyResponse response = specialtyService.updateSpecialty(id, specialtyRequest, ETags.parseIfMatch(ifMatch));
+        return ResponseEntity.status(HttpStatus.OK).eTag(ETags.of(response.getVersion())).body(response);
     }
 
     /**
      * Endpoint para buscar uma Especialidade pelo seu ID.
      * <p>
      * Mapeado para {@code GET /api/specialties/{id}}.
+     * <p>
+     * Responde com a ETag forte da versão do recurso. Se o cliente enviar {@code If-None-Match},
+     * apenas a versão é consultada e, se ela não mudou, a resposta é HTTP 304 (Not Modified) sem corpo.
      * * @param id O ID da Especialidade a ser buscada.
-     * @return Uma resposta HTTP 200 (OK) contendo o DTO da Especialidade.
+     * @param ifNoneMatch A ETag em cache no cliente (opcional).
+     * @param webRequest A requisição atual, usada na verificação condicional.
+     * @return Uma resposta HTTP 200 (OK) contendo o DTO da Especialidade, ou HTTP 304 (Not Modified).
      */
     @GetMapping("/{id}")
-    public ResponseEntity<SpecialtyResponse> findSpecialtyById(@PathVariable Long id){
-        return ResponseEntity.status(HttpStatus.OK).body(specialtyService.findById(id));
+    public ResponseEntity<SpecialtyResponse> findSpecialtyById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            WebRequest webRequest){
+        if (ifNoneMatch != null) {
+            String etag = ETags.of(specialtyService.findSpecialtyVersion(id));
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+            }
+        }
+        SpecialtyResponse response = specialtyService.findById(id);
+        return ResponseEntity.status(HttpStatus.OK).eTag(ETags.of(response.getVersion())).body(response);
     }
 
     /**
      * Endpoint para buscar todas as Especialidades.
      * <p>
      * Mapeado para {@code GET /api/specialties}.
-     * * @return Uma resposta HTTP 200 (OK) contendo uma lista de DTOs {@code SpecialtyResponse}.
+     * <p>
+     * A ETag da lista é derivada dos IDs e versões de todas as Especialidades (lidos do cache),
+     * de modo que um {@code If-None-Match} atual é respondido com HTTP 304 (Not Modified).
+     * * @param webRequest A requisição atual, usada na verificação condicional.
+     * @return Uma resposta HTTP 200 (OK) contendo uma lista de DTOs {@code SpecialtyResponse}, ou HTTP 304.
      */
     @GetMapping
-    public ResponseEntity<List<SpecialtyResponse>> getAllSpecialty(){
-        return ResponseEntity.status(HttpStatus.OK).body(specialtyService.findAll());
+    public ResponseEntity<List<SpecialtyResponse>> getAllSpecialty(WebRequest webRequest){
+        String etag = ETags.of(specialtyService.findAllVersionTag());
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.status(HttpStatus.OK).eTag(etag).body(specialtyService.findAll());
     }
 
     /**
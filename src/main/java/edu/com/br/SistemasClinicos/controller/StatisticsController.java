@@ -0,0 +1,103 @@
+package edu.com.br.SistemasClinicos.controller;
+
+import edu.com.br.SistemasClinicos.dto.Statistics.DailyCompletedStatistics;
+import edu.com.br.SistemasClinicos.dto.Statistics.DoctorCancellationStatistics;
+import edu.com.br.SistemasClinicos.dto.Statistics.SpecialtyMonthlyStatistics;
+import edu.com.br.SistemasClinicos.service.Statistics.StatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Controller REST responsável pelos painéis gerenciais de consultas.
+ * <p>
+ * Define os endpoints (URI: /api/statistics), que respondem a partir dos contadores mantidos
+ * por {@code StatisticsService}. Sem período informado, os painéis cobrem os últimos 12 meses
+ * (ou os últimos 30 dias, no caso das consultas realizadas por dia).
+ */
+@RestController
+@RequestMapping("api/statistics")
+@RequiredArgsConstructor
+public class StatisticsController {
+
+    private final StatisticsService statisticsService;
+
+    /**
+     * Endpoint para buscar as consultas por Especialidade e mês.
+     * <p>
+     * Mapeado para {@code GET /api/statistics/specialties/monthly}.
+     * * @param from O primeiro dia do período (opcional, padrão: 12 meses atrás).
+     * @param to O último dia do período (opcional, padrão: hoje).
+     * @return Uma resposta HTTP 200 (OK) com as consultas agendadas, realizadas e canceladas por mês.
+     */
+    @GetMapping("/specialties/monthly")
+    public ResponseEntity<List<SpecialtyMonthlyStatistics>> findMonthlyBySpecialty(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusMonths(12).withDayOfMonth(1);
+        return ResponseEntity.ok(statisticsService.findMonthlyBySpecialty(start, end));
+    }
+
+    /**
+     * Endpoint para buscar a taxa de cancelamento de cada Doutor.
+     * <p>
+     * Mapeado para {@code GET /api/statistics/doctors/cancellations}.
+     * * @param from O primeiro dia do período (opcional, padrão: 12 meses atrás).
+     * @param to O último dia do período (opcional, padrão: hoje).
+     * @return Uma resposta HTTP 200 (OK) com as taxas de cancelamento, da maior para a menor.
+     */
+    @GetMapping("/doctors/cancellations")
+    public ResponseEntity<List<DoctorCancellationStatistics>> findCancellationRateByDoctor(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusMonths(12);
+        return ResponseEntity.ok(statisticsService.findCancellationRateByDoctor(start, end));
+    }
+
+    /**
+     * Endpoint para buscar as consultas realizadas por dia.
+     * <p>
+     * Mapeado para {@code GET /api/statistics/completed/daily}.
+     * * @param from O primeiro dia do período (opcional, padrão: 30 dias atrás).
+     * @param to O último dia do período (opcional, padrão: hoje).
+     * @return Uma resposta HTTP 200 (OK) com as consultas realizadas por dia, em ordem cronológica.
+     */
+    @GetMapping("/completed/daily")
+    public ResponseEntity<List<DailyCompletedStatistics>> findCompletedByDay(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(30);
+        return ResponseEntity.ok(statisticsService.findCompletedByDay(start, end));
+    }
+
+    /**
+     * Endpoint para gravar imediatamente os contadores acumulados em memória.
+     * <p>
+     * Mapeado para {@code POST /api/statistics/flush}.
+     * * @return Uma resposta HTTP 200 (OK) com a quantidade de contadores gravados.
+     */
+    @PostMapping("/flush")
+    public ResponseEntity<Map<String, Integer>> flush() {
+        return ResponseEntity.ok(Map.of("flushed", statisticsService.flush()));
+    }
+
+    /**
+     * Endpoint para recalcular todos os contadores a partir da tabela de consultas.
+     * <p>
+     * Mapeado para {@code POST /api/statistics/rebuild}. Necessário apenas quando consultas
+     * forem alteradas diretamente no banco, fora da aplicação.
+     * * @return Uma resposta HTTP 200 (OK) com a quantidade de contadores gerados.
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Integer>> rebuild() {
+        return ResponseEntity.ok(Map.of("statistics", statisticsService.rebuild()));
+    }
+}
@@ -0,0 +1,38 @@
+package edu.com.br.SistemasClinicos.dto.Appointment;
+
+import edu.com.br.SistemasClinicos.model.AppointmentStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projeção de uma Consulta na agenda diária de um Doutor.
+ * <p>
+ * Reúne, em uma única consulta ao banco, os dados da Consulta, o nome do Paciente e a situação
+ * da Receita, sem hidratar as entidades {@code Appointment}, {@code Patient} e {@code Prescription}.
+ * Imutável, pois é mantida no cache de agendas.
+ */
+@Getter
+public class AgendaEntry {
+
+    private final Long appointmentId;
+    private final LocalDateTime dateTime;
+    private final AppointmentStatus status;
+    private final String notes;
+    private final Long patientId;
+    private final String patientName;
+    private final Long prescriptionId;
+    private final boolean prescribed;
+
+    public AgendaEntry(Long appointmentId, LocalDateTime dateTime, AppointmentStatus status, String notes,
+                       Long patientId, String patientName, Long prescriptionId) {
+        this.appointmentId = appointmentId;
+        this.dateTime = dateTime;
+        this.status = status;
+        this.notes = notes;
+        this.patientId = patientId;
+        this.patientName = patientName;
+        this.prescriptionId = prescriptionId;
+        this.prescribed = prescriptionId != null;
+    }
+}
@@ -0,0 +1,50 @@
+package edu.com.br.SistemasClinicos.dto.Appointment;
+
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object (DTO) usado para receber dados de uma requisição
+ * HTTP (POST) para o agendamento de uma Consulta.
+ * <p>
+ * Contém as regras de Bean Validation para garantir que os dados de entrada
+ * estejam corretos e completos antes do processamento na camada de serviço.
+ */
+@Getter
+@Setter
+public class AppointmentRequest {
+
+    /**
+     * ID do Doutor que realizará a consulta.
+     * Restrições: Não pode ser nulo ({@code @NotNull}).
+     */
+    @NotNull(message = "Doctor ID is required")
+    private Long doctorId;
+
+    /**
+     * ID do Paciente que será atendido.
+     * Restrições: Não pode ser nulo ({@code @NotNull}).
+     */
+    @NotNull(message = "Patient ID is required")
+    private Long patientId;
+
+    /**
+     * Data e horário de início da consulta.
+     * Restrições: Não pode ser nulo ({@code @NotNull}) e deve estar no futuro ({@code @Future}).
+     */
+    @NotNull(message = "Appointment date and time are required")
+    @Future(message = "Appointment must be scheduled in the future")
+    private LocalDateTime dateTime;
+
+    /**
+     * Observações sobre a consulta.
+     * Restrições: Deve ter no máximo 255 caracteres ({@code @Size}).
+     */
+    @Size(max = 255, message = "Notes must have up to 255 characters")
+    private String notes;
+}
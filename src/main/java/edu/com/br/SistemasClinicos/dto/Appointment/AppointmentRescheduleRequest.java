@@ -0,0 +1,25 @@
+package edu.com.br.SistemasClinicos.dto.Appointment;
+
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object (DTO) usado para receber o novo horário de uma Consulta
+ * em uma requisição HTTP (PUT) de reagendamento.
+ */
+@Getter
+@Setter
+public class AppointmentRescheduleRequest {
+
+    /**
+     * Nova data e horário de início da consulta.
+     * Restrições: Não pode ser nulo ({@code @NotNull}) e deve estar no futuro ({@code @Future}).
+     */
+    @NotNull(message = "Appointment date and time are required")
+    @Future(message = "Appointment must be scheduled in the future")
+    private LocalDateTime dateTime;
+}
@@ -0,0 +1,29 @@
+package edu.com.br.SistemasClinicos.dto.Appointment;
+
+import edu.com.br.SistemasClinicos.model.AppointmentStatus;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object (DTO) usado para **enviar** dados de uma Consulta
+ * em resposta a uma requisição HTTP (GET, POST, PUT).
+ * <p>
+ * Expõe os identificadores e nomes do Doutor e do Paciente de forma achatada,
+ * facilitando a exibição da agenda pelo cliente.
+ */
+@Getter
+@Setter
+public class AppointmentResponse {
+
+    private Long id;
+    private LocalDateTime dateTime;
+    private Long doctorId;
+    private String doctorName;
+    private Long patientId;
+    private String patientName;
+    private AppointmentStatus status;
+    private String notes;
+    private Long version;
+}
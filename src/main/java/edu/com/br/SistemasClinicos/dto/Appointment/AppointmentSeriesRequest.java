@@ -0,0 +1,67 @@
+package edu.com.br.SistemasClinicos.dto.Appointment;
+
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object (DTO) usado para receber dados de uma requisição
+ * HTTP (POST) para o agendamento de uma série de Consultas recorrentes
+ * (ex.: sessões semanais de fisioterapia ou psicologia).
+ */
+@Getter
+@Setter
+public class AppointmentSeriesRequest {
+
+    /**
+     * ID do Doutor que realizará as consultas.
+     * Restrições: Não pode ser nulo ({@code @NotNull}).
+     */
+    @NotNull(message = "Doctor ID is required")
+    private Long doctorId;
+
+    /**
+     * ID do Paciente que será atendido.
+     * Restrições: Não pode ser nulo ({@code @NotNull}).
+     */
+    @NotNull(message = "Patient ID is required")
+    private Long patientId;
+
+    /**
+     * Data e horário da primeira sessão da série.
+     * Restrições: Não pode ser nulo ({@code @NotNull}) e deve estar no futuro ({@code @Future}).
+     */
+    @NotNull(message = "First appointment date and time are required")
+    @Future(message = "Appointment must be scheduled in the future")
+    private LocalDateTime firstDateTime;
+
+    /**
+     * Quantidade de sessões da série.
+     * Restrições: Entre 2 e 52 sessões ({@code @Min}, {@code @Max}).
+     */
+    @NotNull(message = "Number of occurrences is required")
+    @Min(value = 2, message = "A series must have at least 2 occurrences")
+    @Max(value = 52, message = "A series must have up to 52 occurrences")
+    private Integer occurrences;
+
+    /**
+     * Intervalo, em dias, entre duas sessões consecutivas (padrão: 7, semanal).
+     * Restrições: Entre 1 e 31 dias ({@code @Min}, {@code @Max}).
+     */
+    @Min(value = 1, message = "Interval must be at least 1 day")
+    @Max(value = 31, message = "Interval must be up to 31 days")
+    private Integer intervalDays = 7;
+
+    /**
+     * Observações aplicadas a todas as sessões da série.
+     * Restrições: Deve ter no máximo 255 caracteres ({@code @Size}).
+     */
+    @Size(max = 255, message = "Notes must have up to 255 characters")
+    private String notes;
+}
@@ -0,0 +1,22 @@
+package edu.com.br.SistemasClinicos.dto.Appointment;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projeção enxuta de uma Consulta usada para carregar o índice de agenda em memória.
+ * <p>
+ * Contém apenas os identificadores e o horário, evitando hidratar as entidades
+ * {@code Appointment}, {@code Doctor} e {@code Patient} na inicialização.
+ */
+@Getter
+@AllArgsConstructor
+public class AppointmentSlot {
+
+    private Long id;
+    private Long doctorId;
+    private Long patientId;
+    private LocalDateTime dateTime;
+}
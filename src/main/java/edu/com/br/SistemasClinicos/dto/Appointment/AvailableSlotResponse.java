@@ -0,0 +1,21 @@
+package edu.com.br.SistemasClinicos.dto.Appointment;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object (DTO) usado para **enviar** um horário livre encontrado
+ * na busca de disponibilidade por Especialidade.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+public class AvailableSlotResponse {
+
+    private Long doctorId;
+    private String doctorName;
+    private LocalDateTime dateTime;
+}
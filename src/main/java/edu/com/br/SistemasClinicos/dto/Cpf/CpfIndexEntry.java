@@ -0,0 +1,15 @@
+package edu.com.br.SistemasClinicos.dto.Cpf;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Projeção do ID e do CPF de um Paciente ou Doutor, usada para carregar o índice de CPFs.
+ */
+@Getter
+@AllArgsConstructor
+public class CpfIndexEntry {
+
+    private Long id;
+    private String cpf;
+}
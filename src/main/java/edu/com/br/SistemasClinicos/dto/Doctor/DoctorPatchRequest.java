@@ -0,0 +1,60 @@
+package edu.com.br.SistemasClinicos.dto.Doctor;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object (DTO) usado para receber dados de uma requisição
+ * HTTP PATCH para a atualização parcial de um Doutor.
+ * <p>
+ * Todos os campos são opcionais: apenas os campos presentes (não nulos) são aplicados
+ * à entidade. Os campos informados seguem as mesmas regras de formato do {@code DoctorRequest}.
+ */
+@Getter
+@Setter
+public class DoctorPatchRequest {
+
+    /**
+     * Nome do doutor.
+     * Restrições: Se informado, não pode ser vazio.
+     */
+    @Pattern(regexp = ".*\\S.*", message = "Doctor name must not be blank")
+    private String name;
+
+    /**
+     * Cadastro de Pessoa Física (CPF) do doutor.
+     * Restrições: Se informado, deve ter exatamente 11 caracteres ({@code @Size}).
+     */
+    @Size(min = 11, max = 11, message = "CPF must contain 11 characters")
+    private String cpf;
+
+    /**
+     * Endereço de e-mail do doutor.
+     * Restrições: Se informado, deve ser um formato de e-mail válido ({@code @Email}).
+     */
+    @Email(message = "Invalid email format")
+    @Pattern(regexp = ".*\\S.*", message = "Email must not be blank")
+    private String email;
+
+    /**
+     * Número de telefone para contato.
+     * Restrições: Se informado, não pode ser vazio.
+     */
+    @Pattern(regexp = ".*\\S.*", message = "Phone number must not be blank")
+    private String phone;
+
+    /**
+     * Número de Registro no Conselho Regional de Medicina (CRM).
+     * Restrições: Se informado, não pode ser vazio.
+     */
+    @Pattern(regexp = ".*\\S.*", message = "CRM must not be blank")
+    private String crm;
+
+    /**
+     * ID da nova Especialidade do doutor, se ela for alterada.
+     */
+    private Long specialtyId;
+}
@@ -1,5 +1,6 @@
 package edu.com.br.SistemasClinicos.dto.Doctor;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -10,6 +11,9 @@ import lombok.Setter;
  * Este objeto é responsável por expor as informações do Doutor de forma
  * estruturada, incluindo o ID da Especialidade e seu nome, facilitando
  * a comunicação com o cliente.
+ * <p>
+ * A versão da Especialidade não é serializada: ela só compõe a ETag, já que o nome da
+ * Especialidade faz parte da resposta.
  */
 @Getter
 @Setter
@@ -22,4 +26,7 @@ public class DoctorResponse {
     private String crm;
     private Long specialtyId;
     private String specialtyName;
-}
\ No newline at end of file
+    private Long version;
+    @JsonIgnore
+    private Long specialtyVersion;
+}
@@ -0,0 +1,18 @@
+package edu.com.br.SistemasClinicos.dto.Doctor;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Projeção enxuta de um Doutor, contendo apenas o ID e o nome.
+ * <p>
+ * Usada em consultas que precisam apenas identificar os doutores, evitando
+ * hidratar a entidade {@code Doctor} e sua Especialidade.
+ */
+@Getter
+@AllArgsConstructor
+public class DoctorSummary {
+
+    private Long id;
+    private String name;
+}
@@ -0,0 +1,18 @@
+package edu.com.br.SistemasClinicos.dto.Doctor;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Projeção com as versões que compõem a ETag de um Doutor.
+ * <p>
+ * A resposta de um Doutor inclui o nome da sua Especialidade, então a ETag muda tanto com a
+ * versão do Doutor quanto com a da Especialidade. As duas são lidas em uma única consulta.
+ */
+@Getter
+@AllArgsConstructor
+public class DoctorVersion {
+
+    private Long version;
+    private Long specialtyVersion;
+}
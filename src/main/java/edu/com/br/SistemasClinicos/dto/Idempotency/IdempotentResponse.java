@@ -0,0 +1,19 @@
+package edu.com.br.SistemasClinicos.dto.Idempotency;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Resposta de uma requisição com {@code Idempotency-Key}, devolvida às repetições.
+ * <p>
+ * Guarda o hash do corpo da requisição original, para recusar a mesma chave com outro corpo.
+ */
+@Getter
+@AllArgsConstructor
+public class IdempotentResponse {
+
+    private String requestHash;
+    private int status;
+    private String contentType;
+    private String body;
+}
@@ -0,0 +1,24 @@
+package edu.com.br.SistemasClinicos.dto.Page;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) usado para **enviar** uma página de resultados
+ * paginada por cursor (keyset pagination).
+ * <p>
+ * O campo {@code nextCursor} é opaco para o cliente: basta reenviá-lo no parâmetro
+ * {@code after} da próxima requisição. Quando for {@code null}, não há mais registros.
+ *
+ * @param <T> O tipo dos itens da página.
+ */
+@Getter
+@Setter
+public class CursorPageResponse<T> {
+
+    private List<T> items;
+    private String nextCursor;
+    private int size;
+}
@@ -0,0 +1,18 @@
+package edu.com.br.SistemasClinicos.dto.Patient;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object (DTO) que descreve uma linha rejeitada na importação em massa de pacientes.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+public class PatientImportError {
+
+    private long line;
+    private String cpf;
+    private String message;
+}
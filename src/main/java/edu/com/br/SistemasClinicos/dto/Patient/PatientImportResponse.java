@@ -0,0 +1,27 @@
+package edu.com.br.SistemasClinicos.dto.Patient;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) usado para **enviar** o relatório de uma importação
+ * em massa de pacientes.
+ * <p>
+ * Além dos totais e dos erros por linha, informa a vazão obtida ({@code rowsPerSecond})
+ * e a vazão esperada ({@code targetRowsPerSecond}).
+ */
+@Getter
+@Setter
+public class PatientImportResponse {
+
+    private long received;
+    private long imported;
+    private long rejected;
+    private long elapsedMillis;
+    private long rowsPerSecond;
+    private long targetRowsPerSecond;
+    private List<PatientImportError> errors = new ArrayList<>();
+}
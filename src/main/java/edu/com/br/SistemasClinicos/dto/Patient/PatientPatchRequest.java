@@ -0,0 +1,76 @@
+package edu.com.br.SistemasClinicos.dto.Patient;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.sql.Date;
+
+/**
+ * Data Transfer Object (DTO) usado para receber dados de uma requisição
+ * HTTP PATCH para a atualização parcial de um Paciente.
+ * <p>
+ * Todos os campos são opcionais: apenas os campos presentes (não nulos) são aplicados
+ * à entidade. Os campos informados seguem as mesmas regras de formato do {@code PatientRequest}.
+ */
+@Getter
+@Setter
+public class PatientPatchRequest {
+
+    /**
+     * Nome completo do Paciente.
+     * Restrições: Se informado, não pode ser vazio.
+     */
+    @Pattern(regexp = ".*\\S.*", message = "Patient name must not be blank")
+    private String name;
+
+    /**
+     * Cadastro de Pessoa Física (CPF) do paciente.
+     * Restrições: Se informado, deve ter exatamente 11 caracteres ({@code @Size}).
+     */
+    @Size(min = 11, max = 11, message = "CPF must contain 11 characters")
+    private String cpf;
+
+    /**
+     * Data de Nascimento do Paciente.
+     */
+    private Date dateBirth;
+
+    /**
+     * Número de telefone para contato.
+     * Restrições: Se informado, não pode ser vazio.
+     */
+    @Pattern(regexp = ".*\\S.*", message = "Phone number must not be blank")
+    private String phone;
+
+    /**
+     * Endereço de e-mail do Paciente.
+     * Restrições: Se informado, deve ser um formato de e-mail válido ({@code @Email}).
+     */
+    @Email(message = "Invalid email format")
+    @Pattern(regexp = ".*\\S.*", message = "Email must not be blank")
+    private String email;
+
+    /**
+     * Endereço residencial do Paciente.
+     * Restrições: Se informado, não pode ser vazio.
+     */
+    @Pattern(regexp = ".*\\S.*", message = "Address must not be blank")
+    private String address;
+
+    /**
+     * Cidade de residência do Paciente.
+     * Restrições: Se informado, não pode ser vazio.
+     */
+    @Pattern(regexp = ".*\\S.*", message = "City must not be blank")
+    private String city;
+
+    /**
+     * Estado (UF) de residência do Paciente.
+     * Restrições: Se informado, não pode ser vazio.
+     */
+    @Pattern(regexp = ".*\\S.*", message = "State must not be blank")
+    private String state;
+}
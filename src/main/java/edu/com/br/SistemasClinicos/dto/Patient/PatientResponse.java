@@ -25,4 +25,5 @@ public class PatientResponse {
     private String address;
     private String city;
     private String state;
-}
\ No newline at end of file
+    private Long version;
+}
@@ -0,0 +1,21 @@
+package edu.com.br.SistemasClinicos.dto.Prescription;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * Projeção enxuta de uma Receita usada para manter o índice de medicamentos em memória.
+ * <p>
+ * Contém apenas o ID, o texto dos medicamentos e a data de emissão, evitando hidratar a
+ * entidade {@code Prescription} e a Consulta associada na carga do índice.
+ */
+@Getter
+@AllArgsConstructor
+public class PrescriptionIndexEntry {
+
+    private Long id;
+    private String medications;
+    private LocalDate issueDate;
+}
@@ -0,0 +1,26 @@
+package edu.com.br.SistemasClinicos.dto.Prescription;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * Projeção de uma Receita encontrada na busca por medicamento.
+ * <p>
+ * Reúne a Receita, o Paciente e o Doutor em uma única consulta ao banco, sem hidratar as
+ * entidades, para responder perguntas como "quais pacientes receberam o medicamento X".
+ */
+@Getter
+@AllArgsConstructor
+public class PrescriptionMatch {
+
+    private Long prescriptionId;
+    private LocalDate issueDate;
+    private String medications;
+    private Long appointmentId;
+    private Long patientId;
+    private String patientName;
+    private Long doctorId;
+    private String doctorName;
+}
@@ -0,0 +1,52 @@
+package edu.com.br.SistemasClinicos.dto.Prescription;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PastOrPresent;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object (DTO) usado para receber dados de uma requisição
+ * HTTP (POST/PUT) para a emissão ou alteração de uma Receita.
+ * <p>
+ * Contém as regras de Bean Validation para garantir que os dados de entrada
+ * estejam corretos e completos antes do processamento na camada de serviço.
+ */
+@Getter
+@Setter
+public class PrescriptionRequest {
+
+    /**
+     * ID da Consulta em que a Receita foi emitida.
+     * Restrições: Não pode ser nulo ({@code @NotNull}).
+     */
+    @NotNull(message = "Appointment ID is required")
+    private Long appointmentId;
+
+    /**
+     * Orientações da Receita.
+     * Restrições: Não pode ser vazia ({@code @NotBlank}) e deve ter no máximo 255 caracteres ({@code @Size}).
+     */
+    @NotBlank(message = "Description is required")
+    @Size(max = 255, message = "Description must have up to 255 characters")
+    private String description;
+
+    /**
+     * Medicamentos prescritos, em texto livre (ex.: "Amoxicilina 500mg, Dipirona 1g").
+     * Restrições: Deve ter no máximo 255 caracteres ({@code @Size}).
+     */
+    @Size(max = 255, message = "Medications must have up to 255 characters")
+    private String medications;
+
+    /**
+     * Data de emissão da Receita.
+     * Restrições: Não pode ser nula ({@code @NotNull}) nem futura ({@code @PastOrPresent}).
+     */
+    @NotNull(message = "Issue date is required")
+    @PastOrPresent(message = "Issue date cannot be in the future")
+    private LocalDate issueDate;
+}
@@ -0,0 +1,27 @@
+package edu.com.br.SistemasClinicos.dto.Prescription;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object (DTO) usado para **enviar** dados de uma Receita
+ * em resposta a uma requisição HTTP (GET, POST, PUT).
+ * <p>
+ * Expõe os identificadores e nomes do Doutor e do Paciente da Consulta de forma achatada.
+ */
+@Getter
+@Setter
+public class PrescriptionResponse {
+
+    private Long id;
+    private Long appointmentId;
+    private Long doctorId;
+    private String doctorName;
+    private Long patientId;
+    private String patientName;
+    private String description;
+    private String medications;
+    private LocalDate issueDate;
+}
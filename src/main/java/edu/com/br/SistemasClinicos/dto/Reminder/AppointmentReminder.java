@@ -0,0 +1,24 @@
+package edu.com.br.SistemasClinicos.dto.Reminder;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Lembrete de consulta entregue ao {@code ReminderNotifier}.
+ */
+@Getter
+@AllArgsConstructor
+public class AppointmentReminder {
+
+    private Long appointmentId;
+    private LocalDateTime dateTime;
+    private Duration leadTime;
+    private Long patientId;
+    private String patientName;
+    private String patientEmail;
+    private String patientPhone;
+    private String doctorName;
+}
@@ -0,0 +1,21 @@
+package edu.com.br.SistemasClinicos.dto.Reminder;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projeção enxuta de uma Consulta agendada usada para carregar a roda de lembretes.
+ * <p>
+ * Traz, do registro de envios ({@code reminder_dispatch}), a menor antecedência de lembrete
+ * já enviada para o horário atual da consulta, ou {@code null} se nenhum foi enviado.
+ */
+@Getter
+@AllArgsConstructor
+public class ReminderCandidate {
+
+    private Long appointmentId;
+    private LocalDateTime dateTime;
+    private Integer sentOffsetMinutes;
+}
@@ -0,0 +1,27 @@
+package edu.com.br.SistemasClinicos.dto.Reminder;
+
+import edu.com.br.SistemasClinicos.model.AppointmentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projeção de uma Consulta com os contatos do Paciente, lida no momento do envio de um lembrete.
+ * <p>
+ * O status e o horário são conferidos antes do envio: a consulta pode ter sido cancelada ou
+ * reagendada depois que o lembrete entrou na roda.
+ */
+@Getter
+@AllArgsConstructor
+public class ReminderTarget {
+
+    private Long appointmentId;
+    private LocalDateTime dateTime;
+    private AppointmentStatus status;
+    private Long patientId;
+    private String patientName;
+    private String patientEmail;
+    private String patientPhone;
+    private String doctorName;
+}
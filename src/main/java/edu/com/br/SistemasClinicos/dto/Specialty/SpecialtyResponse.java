@@ -18,4 +18,5 @@ public class SpecialtyResponse {
     private Long id;
     private String name;
     private String description;
-}
\ No newline at end of file
+    private Long version;
+}
@@ -0,0 +1,17 @@
+package edu.com.br.SistemasClinicos.dto.Statistics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object (DTO) com a quantidade de consultas realizadas em um dia.
+ */
+@Getter
+@AllArgsConstructor
+public class DailyCompletedStatistics {
+
+    private LocalDate date;
+    private Long completed;
+}
@@ -0,0 +1,22 @@
+package edu.com.br.SistemasClinicos.dto.Statistics;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object (DTO) com a taxa de cancelamento das consultas de um Doutor em um período.
+ */
+@Getter
+@Setter
+public class DoctorCancellationStatistics {
+
+    private Long doctorId;
+    private String doctorName;
+    private long total;
+    private long cancelled;
+
+    /**
+     * Fração das consultas do período que foram canceladas, entre 0 e 1.
+     */
+    private double cancellationRate;
+}
@@ -0,0 +1,18 @@
+package edu.com.br.SistemasClinicos.dto.Statistics;
+
+import edu.com.br.SistemasClinicos.model.AppointmentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Projeção da soma dos contadores de consultas de um Doutor em um período, para um status.
+ */
+@Getter
+@AllArgsConstructor
+public class DoctorStatusCount {
+
+    private Long doctorId;
+    private String doctorName;
+    private AppointmentStatus status;
+    private Long appointments;
+}
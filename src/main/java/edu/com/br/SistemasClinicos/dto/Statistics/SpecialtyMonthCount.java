@@ -0,0 +1,20 @@
+package edu.com.br.SistemasClinicos.dto.Statistics;
+
+import edu.com.br.SistemasClinicos.model.AppointmentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Projeção da soma dos contadores de consultas de uma Especialidade em um mês, para um status.
+ */
+@Getter
+@AllArgsConstructor
+public class SpecialtyMonthCount {
+
+    private Long specialtyId;
+    private String specialtyName;
+    private Integer year;
+    private Integer month;
+    private AppointmentStatus status;
+    private Long appointments;
+}
@@ -0,0 +1,22 @@
+package edu.com.br.SistemasClinicos.dto.Statistics;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.YearMonth;
+
+/**
+ * Data Transfer Object (DTO) com as consultas de uma Especialidade em um mês, por status.
+ */
+@Getter
+@Setter
+public class SpecialtyMonthlyStatistics {
+
+    private Long specialtyId;
+    private String specialtyName;
+    private YearMonth month;
+    private long scheduled;
+    private long completed;
+    private long cancelled;
+    private long total;
+}
@@ -0,0 +1,47 @@
+package edu.com.br.SistemasClinicos.mapper;
+
+import edu.com.br.SistemasClinicos.dto.Appointment.AppointmentRequest;
+import edu.com.br.SistemasClinicos.dto.Appointment.AppointmentResponse;
+import edu.com.br.SistemasClinicos.model.Appointment;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * Interface Mapper responsável pela conversão (mapeamento) entre a Entidade Appointment
+ * e seus Data Transfer Objects (DTOs) de requisição e resposta.
+ * <p>
+ * Utiliza a biblioteca MapStruct, configurada para ser injetada como um componente Spring.
+ */
+@Mapper(componentModel = "spring")
+public interface AppointmentMapper {
+
+    /**
+     * Converte um DTO de Requisição (AppointmentRequest) para a Entidade Consulta (Appointment).
+     * <p>
+     * Os campos 'doctor', 'patient' e 'status' são ignorados, pois a busca das entidades
+     * associadas e a definição do status inicial ocorrem na camada de Serviço. A versão é
+     * controlada pelo Hibernate.
+     * * @param request O DTO de requisição contendo os dados da Consulta.
+     * @return A Entidade Appointment preenchida com os dados da requisição.
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "doctor", ignore = true)
+    @Mapping(target = "patient", ignore = true)
+    @Mapping(target = "status", ignore = true)
+    @Mapping(target = "prescription", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    Appointment toEntity(AppointmentRequest request);
+
+    /**
+     * Converte a Entidade Consulta (Appointment) para um DTO de Resposta (AppointmentResponse).
+     * <p>
+     * Achata os dados do Doutor e do Paciente associados nos campos do DTO.
+     * * @param appointment A Entidade Appointment a ser mapeada.
+     * @return O DTO AppointmentResponse contendo os dados da Consulta.
+     */
+    @Mapping(target = "doctorId", source = "doctor.id")
+    @Mapping(target = "doctorName", source = "doctor.name")
+    @Mapping(target = "patientId", source = "patient.id")
+    @Mapping(target = "patientName", source = "patient.name")
+    AppointmentResponse toResponse(Appointment appointment);
+}
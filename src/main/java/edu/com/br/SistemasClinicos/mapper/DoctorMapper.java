@@ -1,10 +1,14 @@
 package edu.com.br.SistemasClinicos.mapper;
 
+import edu.com.br.SistemasClinicos.dto.Doctor.DoctorPatchRequest;
 import edu.com.br.SistemasClinicos.dto.Doctor.DoctorRequest;
 import edu.com.br.SistemasClinicos.dto.Doctor.DoctorResponse;
 import edu.com.br.SistemasClinicos.model.Doctor;
+import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValuePropertyMappingStrategy;
 
 import java.util.List;
 
@@ -23,13 +27,29 @@ public interface DoctorMapper {
      * O campo 'id' é ignorado, pois é gerado pelo banco de dados.
      * O campo 'specialty' é ignorado neste mapeamento, pois a lógica de associação
      * (buscar a Entidade Specialty pelo ID) geralmente ocorre na camada de Serviço.
+     * A versão é controlada pelo Hibernate.
      * * @param doctorRequest O DTO de requisição contendo os dados do Doutor.
      * @return A Entidade Doctor preenchida com os dados da requisição.
      */
     @Mapping(target = "id",ignore = true)
     @Mapping(target = "specialty",ignore = true)
+    @Mapping(target = "version", ignore = true)
     Doctor toEntity(DoctorRequest doctorRequest);
 
+    /**
+     * Aplica uma atualização parcial (DoctorPatchRequest) sobre uma Entidade Doutor existente.
+     * <p>
+     * Campos nulos na requisição são ignorados, mantendo o valor atual da entidade.
+     * O ID e a versão nunca são alterados; a troca de Especialidade é feita na camada de Serviço.
+     * * @param request O DTO com os campos a serem alterados.
+     * @param doctor A Entidade Doctor (gerenciada) que recebe as alterações.
+     */
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "specialty", ignore = true)
+    void patch(DoctorPatchRequest request, @MappingTarget Doctor doctor);
+
     /**
      * Converte a Entidade Doutor (Doctor) para um DTO de Resposta (DoctorResponse).
      * <p>
@@ -41,6 +61,7 @@ public interface DoctorMapper {
      */
     @Mapping(target = "specialtyId", source = "specialty.id")
     @Mapping(target = "specialtyName", source = "specialty.name")
+    @Mapping(target = "specialtyVersion", source = "specialty.version")
     DoctorResponse toResponse(Doctor doctor);
 
     /**
@@ -1,9 +1,14 @@
 package edu.com.br.SistemasClinicos.mapper;
 
+import edu.com.br.SistemasClinicos.dto.Patient.PatientPatchRequest;
 import edu.com.br.SistemasClinicos.dto.Patient.PatientRequest;
 import edu.com.br.SistemasClinicos.dto.Patient.PatientResponse;
 import edu.com.br.SistemasClinicos.model.Patient;
+import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValuePropertyMappingStrategy;
 
 import java.util.List;
 
@@ -20,11 +25,26 @@ public interface PatientMapper {
      * Converte um DTO de Requisição (PatientRequest) para a Entidade Paciente (Patient).
      * <p>
      * O mapeamento é direto, assumindo que os nomes dos campos entre o DTO e a Entidade são idênticos.
+     * A versão é controlada pelo Hibernate.
      * * @param request O DTO de requisição contendo os dados do Paciente.
      * @return A Entidade Patient preenchida com os dados da requisição.
      */
+    @Mapping(target = "version", ignore = true)
     Patient toEntity(PatientRequest request);
 
+    /**
+     * Aplica uma atualização parcial (PatientPatchRequest) sobre uma Entidade Paciente existente.
+     * <p>
+     * Campos nulos na requisição são ignorados, mantendo o valor atual da entidade.
+     * O ID e a versão nunca são alterados por este mapeamento.
+     * * @param request O DTO com os campos a serem alterados.
+     * @param patient A Entidade Patient (gerenciada) que recebe as alterações.
+     */
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    void patch(PatientPatchRequest request, @MappingTarget Patient patient);
+
     /**
      * Converte a Entidade Paciente (Patient) para um DTO de Resposta (PatientResponse).
      * <p>
@@ -0,0 +1,60 @@
+package edu.com.br.SistemasClinicos.mapper;
+
+import edu.com.br.SistemasClinicos.dto.Prescription.PrescriptionIndexEntry;
+import edu.com.br.SistemasClinicos.dto.Prescription.PrescriptionRequest;
+import edu.com.br.SistemasClinicos.dto.Prescription.PrescriptionResponse;
+import edu.com.br.SistemasClinicos.model.Prescription;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+/**
+ * Interface Mapper responsável pela conversão (mapeamento) entre a Entidade Prescription
+ * e seus Data Transfer Objects (DTOs) de requisição e resposta.
+ * <p>
+ * Utiliza a biblioteca MapStruct, configurada para ser injetada como um componente Spring.
+ */
+@Mapper(componentModel = "spring")
+public interface PrescriptionMapper {
+
+    /**
+     * Converte um DTO de Requisição (PrescriptionRequest) para a Entidade Receita (Prescription).
+     * <p>
+     * O campo 'appointment' é ignorado, pois a busca da Consulta ocorre na camada de Serviço.
+     * * @param request O DTO de requisição contendo os dados da Receita.
+     * @return A Entidade Prescription preenchida com os dados da requisição.
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "appointment", ignore = true)
+    Prescription toEntity(PrescriptionRequest request);
+
+    /**
+     * Atualiza uma Receita existente com os dados da requisição, mantendo o ID e a Consulta.
+     * * @param request O DTO de requisição com os novos dados.
+     * @param prescription A Entidade Prescription a ser atualizada.
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "appointment", ignore = true)
+    void updateEntity(PrescriptionRequest request, @MappingTarget Prescription prescription);
+
+    /**
+     * Converte a Entidade Receita (Prescription) para um DTO de Resposta (PrescriptionResponse).
+     * <p>
+     * Achata os dados da Consulta, do Doutor e do Paciente associados nos campos do DTO.
+     * * @param prescription A Entidade Prescription a ser mapeada.
+     * @return O DTO PrescriptionResponse contendo os dados da Receita.
+     */
+    @Mapping(target = "appointmentId", source = "appointment.id")
+    @Mapping(target = "doctorId", source = "appointment.doctor.id")
+    @Mapping(target = "doctorName", source = "appointment.doctor.name")
+    @Mapping(target = "patientId", source = "appointment.patient.id")
+    @Mapping(target = "patientName", source = "appointment.patient.name")
+    PrescriptionResponse toResponse(Prescription prescription);
+
+    /**
+     * Extrai da Receita os campos mantidos no índice de medicamentos.
+     * * @param prescription A Entidade Prescription persistida.
+     * @return A projeção usada pelo índice.
+     */
+    PrescriptionIndexEntry toIndexEntry(Prescription prescription);
+}
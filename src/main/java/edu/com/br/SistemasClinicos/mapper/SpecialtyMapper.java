@@ -6,6 +6,7 @@ import edu.com.br.SistemasClinicos.dto.Specialty.SpecialtyRequest;
 import edu.com.br.SistemasClinicos.dto.Specialty.SpecialtyResponse;
 import edu.com.br.SistemasClinicos.model.Specialty;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 import java.util.List;
 
@@ -21,10 +22,12 @@ public interface SpecialtyMapper {
     /**
      * Converte um DTO de Requisição (SpecialtyRequest) para a Entidade Especialidade (Specialty).
      * <p>
-     * O mapeamento é direto, ideal para operações de criação ou atualização.
+     * O mapeamento é direto, ideal para operações de criação ou atualização. A versão é
+     * controlada pelo Hibernate.
      * * @param request O DTO de requisição contendo os dados da Especialidade.
      * @return A Entidade Specialty preenchida com os dados da requisição.
      */
+    @Mapping(target = "version", ignore = true)
     Specialty toEntity(SpecialtyRequest request);
 
     /**
@@ -14,11 +14,12 @@ import java.time.LocalDateTime;
 @Setter
 public class Appointment {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "appointment_seq")
+    @SequenceGenerator(name = "appointment_seq", sequenceName = "appointment_seq", allocationSize = 50)
     private Long id;
 
     @NotNull(message = "Appointment date and time are required")
-    @Future(message = "Appointment must be scheduled in the future")
+    @Future(message = "Appointment must be scheduled in the future", groups = Appointment.OnSchedule.class)
     private LocalDateTime dateTime;
 
     @NotNull(message = "Patient is required")
@@ -41,4 +42,16 @@ public class Appointment {
     @OneToOne(mappedBy = "appointment", cascade = CascadeType.ALL)
     private Prescription prescription;
 
+    @Version
+    private Long version;
+
+    /**
+     * Grupo de validação das regras que valem apenas na criação da consulta (ex.: {@code @Future}).
+     * <p>
+     * O Hibernate valida o grupo {@code Default} também antes de cada UPDATE; sem este grupo,
+     * uma consulta cujo horário já passou não poderia ser realizada nem cancelada. O grupo é
+     * incluído na validação do INSERT por {@code jakarta.persistence.validation.group.pre-persist}.
+     */
+    public interface OnSchedule {
+    }
 }
@@ -0,0 +1,53 @@
+package edu.com.br.SistemasClinicos.model;
+
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Contador de consultas de um Doutor em um dia, por status.
+ * <p>
+ * Mantido incrementalmente a cada mudança de status das consultas (ver
+ * {@code StatisticsCounters}); os painéis somam estes contadores em vez de agregar a tabela
+ * {@code appointment}.
+ */
+@Entity
+@Table(name = "appointment_statistic")
+@IdClass(AppointmentStatistic.Key.class)
+@Getter
+@Setter
+public class AppointmentStatistic {
+    @Id
+    private Long doctorId;
+
+    @Id
+    private LocalDate statDate;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private AppointmentStatus status;
+
+    private Long specialtyId;
+
+    @Column(nullable = false)
+    private Long appointments;
+
+    /**
+     * Chave composta do contador: Doutor, dia e status.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long doctorId;
+        private LocalDate statDate;
+        private AppointmentStatus status;
+    }
+}
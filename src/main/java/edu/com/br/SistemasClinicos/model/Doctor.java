@@ -3,9 +3,11 @@ package edu.com.br.SistemasClinicos.model;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 
 @Entity
+@DynamicUpdate
 @Table(name = "doctor")
 @Getter
 @Setter
@@ -32,4 +34,7 @@ public class Doctor {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "specialty_id")
     private Specialty specialty;
+
+    @Version
+    private Long version;
 }
@@ -0,0 +1,41 @@
+package edu.com.br.SistemasClinicos.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Resposta guardada de uma requisição com {@code Idempotency-Key}.
+ * <p>
+ * A linha é criada sem {@code status} quando a requisição original começa (reservando a chave
+ * entre as instâncias) e recebe a resposta ao final. Repetições com a mesma chave recebem a
+ * resposta guardada até {@code expiresAt}.
+ */
+@Entity
+@Table(name = "idempotency_record")
+@Getter
+@Setter
+public class IdempotencyRecord {
+    @Id
+    @Column(length = 300)
+    private String idempotencyKey;
+
+    @Column(length = 64, nullable = false)
+    private String requestHash;
+
+    private Integer status;
+
+    @Column(length = 255)
+    private String contentType;
+
+    @Column(columnDefinition = "text")
+    private String body;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+}
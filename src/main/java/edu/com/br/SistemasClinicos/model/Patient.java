@@ -3,10 +3,12 @@ package edu.com.br.SistemasClinicos.model;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.sql.Date;
 
 @Entity
+@DynamicUpdate
 @Table(name = "patient")
 @Getter
 @Setter
@@ -37,4 +39,7 @@ public class Patient {
 
     @Column(length = 50, nullable = false)
     private String state;
+
+    @Version
+    private Long version;
 }
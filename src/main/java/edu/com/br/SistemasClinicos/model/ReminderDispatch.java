@@ -0,0 +1,51 @@
+package edu.com.br.SistemasClinicos.model;
+
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * Registro de um lembrete de consulta enviado.
+ * <p>
+ * A chave (consulta, horário da consulta, antecedência) garante um único envio de cada
+ * lembrete, mesmo com várias instâncias da aplicação, e permite retomar os lembretes
+ * pendentes após uma reinicialização sem repetir os já enviados. Um reagendamento muda o
+ * horário e, portanto, gera lembretes novos.
+ */
+@Entity
+@Table(name = "reminder_dispatch")
+@IdClass(ReminderDispatch.Key.class)
+@Getter
+@Setter
+public class ReminderDispatch {
+    @Id
+    private Long appointmentId;
+
+    @Id
+    private LocalDateTime appointmentTime;
+
+    @Id
+    private Integer offsetMinutes;
+
+    @Column(nullable = false)
+    private Instant sentAt;
+
+    /**
+     * Chave composta do envio: consulta, horário da consulta e antecedência do lembrete.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long appointmentId;
+        private LocalDateTime appointmentTime;
+        private Integer offsetMinutes;
+    }
+}
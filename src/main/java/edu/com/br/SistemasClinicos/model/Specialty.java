@@ -22,4 +22,7 @@ public class Specialty {
     @Size(max = 255, message = "Description must have up to 255 characters")
     @Column(length = 255)
     private String description;
+
+    @Version
+    private Long version;
 }
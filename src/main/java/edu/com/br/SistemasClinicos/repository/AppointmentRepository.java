@@ -0,0 +1,133 @@
+package edu.com.br.SistemasClinicos.repository;
+
+import edu.com.br.SistemasClinicos.dto.Appointment.AgendaEntry;
+import edu.com.br.SistemasClinicos.dto.Appointment.AppointmentSlot;
+import edu.com.br.SistemasClinicos.dto.Reminder.ReminderCandidate;
+import edu.com.br.SistemasClinicos.dto.Reminder.ReminderTarget;
+import edu.com.br.SistemasClinicos.model.Appointment;
+import edu.com.br.SistemasClinicos.model.AppointmentStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Interface de Repositório para a entidade {@link Appointment}.
+ * <p>
+ * Estende {@link JpaRepository} para fornecer operações CRUD básicas, além de
+ * consultas específicas para a agenda de consultas.
+ */
+@Repository
+public interface AppointmentRepository extends JpaRepository<Appointment, Long> {
+
+    /**
+     * Busca uma consulta pelo ID já com o Doutor e o Paciente carregados em um único SELECT.
+     * * @param id O ID da consulta.
+     * @return Um {@link Optional} com a consulta encontrada.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"doctor", "patient"})
+    Optional<Appointment> findById(Long id);
+
+    /**
+     * Percorre as consultas com o status informado a partir de uma data, como projeções enxutas.
+     * <p>
+     * Usado na inicialização para carregar o índice de agenda em memória. Deve ser
+     * consumido dentro de uma transação e fechado após o uso.
+     * * @param status O status das consultas a serem carregadas.
+     * @param from A data/hora mínima das consultas.
+     * @return Um {@link Stream} de {@link AppointmentSlot}.
+     */
+    @Query("""
+            SELECT new edu.com.br.SistemasClinicos.dto.Appointment.AppointmentSlot(
+                a.id, a.doctor.id, a.patient.id, a.dateTime)
+            FROM Appointment a
+            WHERE a.status = :status AND a.dateTime >= :from
+            """)
+    Stream<AppointmentSlot> streamSlots(AppointmentStatus status, LocalDateTime from);
+
+    /**
+     * Busca apenas a versão ({@code @Version}) de uma consulta pelo ID.
+     * <p>
+     * Usado nas requisições condicionais ({@code If-None-Match}): a ETag é comparada sem
+     * carregar a entidade nem serializar a resposta.
+     * * @param id O ID da consulta.
+     * @return Um {@link Optional} com a versão, vazio se não existir.
+     */
+    @Query("SELECT a.version FROM Appointment a WHERE a.id = :id")
+    Optional<Long> findVersionById(Long id);
+
+    /**
+     * Busca a agenda de um Doutor em um intervalo, em ordem de horário.
+     * <p>
+     * Uma única consulta com junção ao Paciente e junção externa à Receita, projetada direto em
+     * {@link AgendaEntry}: sem ela, carregar as consultas e acessar {@code patient} (LAZY) e
+     * {@code prescription} (lado inverso do um-para-um, sempre carregado) custaria 1 + 2N SELECTs.
+     * O filtro usa o índice {@code idx_appointment_doctor_date_time}.
+     * * @param doctorId O ID do Doutor.
+     * @param start O início do intervalo (inclusivo).
+     * @param end O fim do intervalo (exclusivo).
+     * @return As consultas do intervalo, de todos os status.
+     */
+    @Query("""
+            SELECT new edu.com.br.SistemasClinicos.dto.Appointment.AgendaEntry(
+                a.id, a.dateTime, a.status, a.notes, p.id, p.name, pr.id)
+            FROM Appointment a
+            JOIN a.patient p
+            LEFT JOIN a.prescription pr
+            WHERE a.doctor.id = :doctorId AND a.dateTime >= :start AND a.dateTime < :end
+            ORDER BY a.dateTime
+            """)
+    List<AgendaEntry> findAgenda(Long doctorId, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Percorre as consultas com o status informado em um intervalo, com a menor antecedência de
+     * lembrete já enviada para o horário de cada uma.
+     * <p>
+     * Usado para carregar a roda de lembretes. O filtro usa o índice parcial
+     * {@code idx_appointment_scheduled_date_time}. Deve ser consumido dentro de uma transação e
+     * fechado após o uso.
+     * * @param status O status das consultas a serem carregadas.
+     * @param from O início do intervalo (exclusivo).
+     * @param to O fim do intervalo (inclusivo).
+     * @return Um {@link Stream} de {@link ReminderCandidate}.
+     */
+    @Query("""
+            SELECT new edu.com.br.SistemasClinicos.dto.Reminder.ReminderCandidate(
+                a.id, a.dateTime, MIN(r.offsetMinutes))
+            FROM Appointment a
+            LEFT JOIN ReminderDispatch r ON r.appointmentId = a.id AND r.appointmentTime = a.dateTime
+            WHERE a.status = :status AND a.dateTime > :from AND a.dateTime <= :to
+            GROUP BY a.id, a.dateTime
+            """)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<ReminderCandidate> streamReminderCandidates(AppointmentStatus status, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Busca as consultas informadas com os contatos do Paciente e o nome do Doutor, para o envio
+     * de lembretes.
+     * * @param ids Os IDs das consultas.
+     * @return As consultas encontradas, de todos os status.
+     */
+    @Query("""
+            SELECT new edu.com.br.SistemasClinicos.dto.Reminder.ReminderTarget(
+                a.id, a.dateTime, a.status, p.id, p.name, p.email, p.phone, d.name)
+            FROM Appointment a
+            JOIN a.patient p
+            JOIN a.doctor d
+            WHERE a.id IN :ids
+            """)
+    List<ReminderTarget> findReminderTargets(Collection<Long> ids);
+}
@@ -0,0 +1,73 @@
+package edu.com.br.SistemasClinicos.repository;
+
+import edu.com.br.SistemasClinicos.dto.Statistics.DailyCompletedStatistics;
+import edu.com.br.SistemasClinicos.dto.Statistics.DoctorStatusCount;
+import edu.com.br.SistemasClinicos.dto.Statistics.SpecialtyMonthCount;
+import edu.com.br.SistemasClinicos.model.AppointmentStatistic;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Interface de Repositório para a entidade {@link AppointmentStatistic}.
+ * <p>
+ * As consultas dos painéis somam os contadores por (Doutor, dia, status) do período, e o custo
+ * é proporcional à quantidade de contadores, não à de consultas. As gravações dos contadores
+ * são feitas em lote por {@code StatisticsServiceImp}.
+ */
+@Repository
+public interface AppointmentStatisticRepository extends JpaRepository<AppointmentStatistic, AppointmentStatistic.Key> {
+
+    /**
+     * Soma os contadores por Especialidade, mês e status.
+     * * @param from O primeiro dia do período (inclusivo).
+     * @param to O último dia do período (inclusivo).
+     * @return As somas por Especialidade, mês e status, sem ordem definida.
+     */
+    @Query("""
+            SELECT new edu.com.br.SistemasClinicos.dto.Statistics.SpecialtyMonthCount(
+                s.specialtyId, sp.name, YEAR(s.statDate), MONTH(s.statDate), s.status, SUM(s.appointments))
+            FROM AppointmentStatistic s
+            LEFT JOIN Specialty sp ON sp.id = s.specialtyId
+            WHERE s.statDate BETWEEN :from AND :to
+            GROUP BY s.specialtyId, sp.name, YEAR(s.statDate), MONTH(s.statDate), s.status
+            """)
+    List<SpecialtyMonthCount> sumBySpecialtyAndMonth(LocalDate from, LocalDate to);
+
+    /**
+     * Soma os contadores por Doutor e status.
+     * * @param from O primeiro dia do período (inclusivo).
+     * @param to O último dia do período (inclusivo).
+     * @return As somas por Doutor e status, sem ordem definida.
+     */
+    @Query("""
+            SELECT new edu.com.br.SistemasClinicos.dto.Statistics.DoctorStatusCount(
+                s.doctorId, d.name, s.status, SUM(s.appointments))
+            FROM AppointmentStatistic s
+            JOIN Doctor d ON d.id = s.doctorId
+            WHERE s.statDate BETWEEN :from AND :to
+            GROUP BY s.doctorId, d.name, s.status
+            """)
+    List<DoctorStatusCount> sumByDoctor(LocalDate from, LocalDate to);
+
+    /**
+     * Soma os contadores de consultas realizadas por dia.
+     * * @param from O primeiro dia do período (inclusivo).
+     * @param to O último dia do período (inclusivo).
+     * @return As consultas realizadas por dia, em ordem cronológica; dias sem consultas são omitidos.
+     */
+    @Query("""
+            SELECT new edu.com.br.SistemasClinicos.dto.Statistics.DailyCompletedStatistics(
+                s.statDate, SUM(s.appointments))
+            FROM AppointmentStatistic s
+            WHERE s.status = edu.com.br.SistemasClinicos.model.AppointmentStatus.COMPLETED
+              AND s.statDate BETWEEN :from AND :to
+            GROUP BY s.statDate
+            HAVING SUM(s.appointments) > 0
+            ORDER BY s.statDate
+            """)
+    List<DailyCompletedStatistics> sumCompletedByDay(LocalDate from, LocalDate to);
+}
@@ -1,10 +1,21 @@
 package edu.com.br.SistemasClinicos.repository;
 
+import edu.com.br.SistemasClinicos.dto.Cpf.CpfIndexEntry;
+import edu.com.br.SistemasClinicos.dto.Doctor.DoctorSummary;
+import edu.com.br.SistemasClinicos.dto.Doctor.DoctorVersion;
 import edu.com.br.SistemasClinicos.model.Doctor;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Interface de Repositório para a entidade {@link Doctor}.
@@ -12,10 +23,31 @@ import java.util.List;
  * Estende {@link JpaRepository} para fornecer operações CRUD básicas (Create, Read, Update, Delete)
  * e funcionalidades de paginação e ordenação, além de definir métodos de consulta
  * específicos baseados em convenções de nomes do Spring Data JPA.
+ * <p>
+ * As consultas que alimentam o {@code DoctorMapper} usam {@link EntityGraph} para carregar a
+ * associação {@code specialty} no mesmo SELECT (JOIN), evitando uma consulta extra por doutor
+ * (problema N+1) ao ler {@code specialty.id} e {@code specialty.name}.
  */
 @Repository
 public interface DoctorRepository extends JpaRepository<Doctor, Long> {
 
+    /**
+     * Busca todos os doutores já com a Especialidade carregada em um único SELECT.
+     * * @return Uma lista com todos os {@link Doctor} e suas especialidades.
+     */
+    @Override
+    @EntityGraph(attributePaths = "specialty")
+    List<Doctor> findAll();
+
+    /**
+     * Busca um doutor pelo ID já com a Especialidade carregada em um único SELECT.
+     * * @param id O ID do doutor.
+     * @return Um {@link Optional} com o doutor encontrado.
+     */
+    @Override
+    @EntityGraph(attributePaths = "specialty")
+    Optional<Doctor> findById(Long id);
+
     /**
      * Busca e retorna uma lista de doutores cujo nome corresponde ao critério fornecido.
      * <p>
@@ -24,6 +56,7 @@ public interface DoctorRepository extends JpaRepository<Doctor, Long> {
      * * @param name O nome ou parte do nome do doutor a ser buscado.
      * @return Uma lista de objetos {@link Doctor} que correspondem ao nome.
      */
+    @EntityGraph(attributePaths = "specialty")
     List<Doctor> findByName(String name);
 
     /**
@@ -34,8 +67,23 @@ public interface DoctorRepository extends JpaRepository<Doctor, Long> {
      * * @param specialtyName O nome da Especialidade (Specialty) a ser usado como filtro.
      * @return Uma lista de objetos {@link Doctor} que possuem a Especialidade correspondente.
      */
+    @EntityGraph(attributePaths = "specialty")
     List<Doctor> findBySpecialty_Name(String specialtyName);
 
+    /**
+     * Busca apenas o ID e o nome dos doutores de uma Especialidade.
+     * <p>
+     * Projeção usada pela busca de horários livres, que não precisa das demais colunas.
+     * * @param specialtyName O nome da Especialidade.
+     * @return Uma lista de {@link DoctorSummary} dos doutores da Especialidade.
+     */
+    @Query("""
+            SELECT new edu.com.br.SistemasClinicos.dto.Doctor.DoctorSummary(d.id, d.name)
+            FROM Doctor d
+            WHERE d.specialty.name = :specialtyName
+            """)
+    List<DoctorSummary> findSummariesBySpecialtyName(String specialtyName);
+
     /**
      * Verifica se existe algum doutor cadastrado no banco de dados com o CPF fornecido.
      * <p>
@@ -45,4 +93,61 @@ public interface DoctorRepository extends JpaRepository<Doctor, Long> {
      * @return {@code true} se um doutor com o CPF existir, {@code false} caso contrário.
      */
     boolean existsByCpf(String cpf);
-}
\ No newline at end of file
+
+    /**
+     * Percorre o ID e o CPF de todos os doutores, para carregar o índice de CPFs.
+     * <p>
+     * Lido de um cursor JDBC com {@code fetchSize} limitado; o {@link Stream} deve ser fechado e
+     * consumido dentro de uma transação.
+     * * @return Um {@link Stream} com o ID e o CPF de cada doutor.
+     */
+    @Query("SELECT new edu.com.br.SistemasClinicos.dto.Cpf.CpfIndexEntry(d.id, d.cpf) FROM Doctor d")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<CpfIndexEntry> streamCpfEntries();
+
+    /**
+     * Busca a próxima página de doutores usando paginação por cursor (keyset).
+     * <p>
+     * Traduzido para {@code WHERE id > ? ORDER BY id LIMIT ?}, mantendo o custo de cada
+     * página constante independentemente do tamanho da tabela.
+     * * @param id O último ID já entregue ao cliente ({@code 0} para a primeira página).
+     * @param limit A quantidade máxima de registros a retornar.
+     * @return Uma lista de {@link Doctor} com ID maior que o cursor, em ordem crescente.
+     */
+    @EntityGraph(attributePaths = "specialty")
+    List<Doctor> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Busca apenas a versão ({@code @Version}) de um doutor pelo ID, junto com a da sua especialidade.
+     * <p>
+     * Usado nas requisições condicionais ({@code If-None-Match}): a ETag é comparada sem
+     * carregar a entidade nem serializar a resposta.
+     * * @param id O ID do doutor.
+     * @return Um {@link Optional} com as versões, vazio se não existir.
+     */
+    @Query("""
+            SELECT new edu.com.br.SistemasClinicos.dto.Doctor.DoctorVersion(d.version, s.version)
+            FROM Doctor d LEFT JOIN d.specialty s
+            WHERE d.id = :id
+            """)
+    Optional<DoctorVersion> findVersionById(Long id);
+
+    /**
+     * Percorre todos os doutores em ordem de ID, com a Especialidade carregada no mesmo SELECT.
+     * <p>
+     * Lido de um cursor JDBC com {@code fetchSize} limitado, como em
+     * {@link PatientRepository#streamAll()}. O {@link Stream} deve ser fechado e consumido
+     * dentro de uma transação.
+     * * @return Um {@link Stream} com todos os {@link Doctor}.
+     */
+    @Query("SELECT d FROM Doctor d ORDER BY d.id")
+    @EntityGraph(attributePaths = "specialty")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Doctor> streamAll();
+}
@@ -0,0 +1,35 @@
+package edu.com.br.SistemasClinicos.repository;
+
+import edu.com.br.SistemasClinicos.model.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Interface de Repositório para a entidade {@link OutboxEvent}.
+ * <p>
+ * Usado pelos serviços para gravar os eventos na mesma transação da alteração e pelo
+ * {@code OutboxPublisher} para consumi-los em lotes.
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Busca e bloqueia o próximo lote de eventos pendentes, em ordem de gravação.
+     * <p>
+     * Linhas já bloqueadas por outra instância são puladas ({@code SKIP LOCKED}), de modo que
+     * vários publicadores consomem lotes diferentes sem esperar uns pelos outros. O bloqueio
+     * dura até o fim da transação que publica e remove o lote.
+     * * @param limit A quantidade máxima de eventos do lote.
+     * @return Os eventos bloqueados, em ordem crescente de ID.
+     */
+    @Query(value = """
+            SELECT * FROM outbox_event
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxEvent> lockNextBatch(int limit);
+}
@@ -1,10 +1,19 @@
 package edu.com.br.SistemasClinicos.repository;
 
+import edu.com.br.SistemasClinicos.dto.Cpf.CpfIndexEntry;
 import edu.com.br.SistemasClinicos.model.Patient;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Interface de Repositório para a entidade {@link Patient}.
@@ -26,6 +35,26 @@ public interface PatientRepository extends JpaRepository<Patient,Long> {
      */
     List<Patient> findByName(String name);
 
+    /**
+     * Busca aproximada de pacientes por nome, ordenada por similaridade.
+     * <p>
+     * Nome e termo de busca são normalizados (sem acentos e em minúsculas) e comparados por
+     * trigramas com o operador {@code <%} (similaridade por palavras) do {@code pg_trgm}, de modo
+     * que "maria silva" encontra "Maria da Silva". A expressão é a mesma do índice GIN
+     * {@code idx_patient_name_trgm} (migração {@code V1}), que atende ao filtro sem varrer a tabela.
+     * Exclusivo do PostgreSQL.
+     * * @param name O nome ou parte do nome a ser buscado.
+     * @param limit A quantidade máxima de pacientes a retornar.
+     * @return Os pacientes mais parecidos com o termo, do mais para o menos similar.
+     */
+    @Query(value = """
+            SELECT p.* FROM patient p
+            WHERE lower(f_unaccent(:name)) <% lower(f_unaccent(p.name))
+            ORDER BY word_similarity(lower(f_unaccent(:name)), lower(f_unaccent(p.name))) DESC, p.name
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Patient> searchByName(String name, int limit);
+
     /**
      * Verifica se existe algum paciente cadastrado no banco de dados com o CPF fornecido.
      * <p>
@@ -36,4 +65,85 @@ public interface PatientRepository extends JpaRepository<Patient,Long> {
      */
     boolean existsByCpf(String cpf);
 
-}
\ No newline at end of file
+    /**
+     * Retorna, dentre os CPFs informados, aqueles que já estão cadastrados.
+     * <p>
+     * Usado na importação em massa para verificar um lote inteiro de CPFs com uma única
+     * consulta {@code IN (...)}, em vez de um {@link #existsByCpf(String)} por linha.
+     * * @param cpfs Os CPFs a serem verificados.
+     * @return Os CPFs já existentes no banco de dados.
+     */
+    @Query("SELECT p.cpf FROM Patient p WHERE p.cpf IN :cpfs")
+    List<String> findExistingCpfs(Collection<String> cpfs);
+
+    /**
+     * Busca um paciente pelo CPF, apoiado pelo índice único da coluna.
+     * * @param cpf O CPF do paciente.
+     * @return Um {@link Optional} com o paciente, vazio se não existir.
+     */
+    Optional<Patient> findByCpf(String cpf);
+
+    /**
+     * Retorna o ID e o CPF dos pacientes com os CPFs informados.
+     * <p>
+     * Usado na importação em massa para indexar os CPFs de um lote recém-inserido, já que o
+     * INSERT em batch não devolve os IDs gerados.
+     * * @param cpfs Os CPFs a serem buscados.
+     * @return O ID e o CPF de cada paciente encontrado.
+     */
+    @Query("SELECT new edu.com.br.SistemasClinicos.dto.Cpf.CpfIndexEntry(p.id, p.cpf) FROM Patient p WHERE p.cpf IN :cpfs")
+    List<CpfIndexEntry> findCpfEntries(Collection<String> cpfs);
+
+    /**
+     * Percorre o ID e o CPF de todos os pacientes, para carregar o índice de CPFs.
+     * <p>
+     * Lido de um cursor JDBC com {@code fetchSize} limitado; o {@link Stream} deve ser fechado e
+     * consumido dentro de uma transação.
+     * * @return Um {@link Stream} com o ID e o CPF de cada paciente.
+     */
+    @Query("SELECT new edu.com.br.SistemasClinicos.dto.Cpf.CpfIndexEntry(p.id, p.cpf) FROM Patient p")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<CpfIndexEntry> streamCpfEntries();
+
+    /**
+     * Busca a próxima página de pacientes usando paginação por cursor (keyset).
+     * <p>
+     * Traduzido para {@code WHERE id > ? ORDER BY id LIMIT ?}, que percorre apenas o índice
+     * da chave primária a partir do cursor, mantendo o custo constante independentemente
+     * do tamanho da tabela ou da posição da página.
+     * * @param id O último ID já entregue ao cliente ({@code 0} para a primeira página).
+     * @param limit A quantidade máxima de registros a retornar.
+     * @return Uma lista de {@link Patient} com ID maior que o cursor, em ordem crescente.
+     */
+    List<Patient> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Busca apenas a versão ({@code @Version}) de um paciente pelo ID.
+     * <p>
+     * Usado nas requisições condicionais ({@code If-None-Match}): a ETag é comparada sem
+     * carregar a entidade nem serializar a resposta.
+     * * @param id O ID do paciente.
+     * @return Um {@link Optional} com a versão, vazio se não existir.
+     */
+    @Query("SELECT p.version FROM Patient p WHERE p.id = :id")
+    Optional<Long> findVersionById(Long id);
+
+    /**
+     * Percorre todos os pacientes em ordem de ID, lidos do banco sob demanda.
+     * <p>
+     * O resultado vem de um cursor JDBC com {@code fetchSize} limitado (no PostgreSQL, dentro de
+     * uma transação), de modo que apenas um bloco de linhas fica em memória por vez. As entidades
+     * são carregadas como somente leitura, sem cópia para a verificação de alterações.
+     * O {@link Stream} deve ser fechado e consumido dentro de uma transação.
+     * * @return Um {@link Stream} com todos os {@link Patient}.
+     */
+    @Query("SELECT p FROM Patient p ORDER BY p.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Patient> streamAll();
+}
@@ -0,0 +1,79 @@
+package edu.com.br.SistemasClinicos.repository;
+
+import edu.com.br.SistemasClinicos.dto.Prescription.PrescriptionIndexEntry;
+import edu.com.br.SistemasClinicos.dto.Prescription.PrescriptionMatch;
+import edu.com.br.SistemasClinicos.model.Prescription;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Interface de Repositório para a entidade {@link Prescription}.
+ * <p>
+ * Estende {@link JpaRepository} para fornecer operações CRUD básicas, além das consultas
+ * que alimentam o índice de medicamentos em memória.
+ */
+@Repository
+public interface PrescriptionRepository extends JpaRepository<Prescription, Long> {
+
+    /**
+     * Busca uma Receita pelo ID já com a Consulta, o Doutor e o Paciente carregados em um único SELECT.
+     * * @param id O ID da Receita.
+     * @return Um {@link Optional} com a Receita encontrada.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"appointment", "appointment.doctor", "appointment.patient"})
+    Optional<Prescription> findById(Long id);
+
+    /**
+     * Verifica se a Consulta já possui uma Receita.
+     * * @param appointmentId O ID da Consulta.
+     * @return {@code true} se já houver uma Receita para a Consulta.
+     */
+    boolean existsByAppointmentId(Long appointmentId);
+
+    /**
+     * Percorre todas as Receitas como projeções enxutas, em ordem de emissão e ID.
+     * <p>
+     * Usado para carregar o índice de medicamentos. Deve ser consumido dentro de uma
+     * transação e fechado após o uso; as linhas são lidas do cursor em blocos de 500.
+     * * @return Um {@link Stream} de {@link PrescriptionIndexEntry}.
+     */
+    @Query("""
+            SELECT new edu.com.br.SistemasClinicos.dto.Prescription.PrescriptionIndexEntry(
+                pr.id, pr.medications, pr.issueDate)
+            FROM Prescription pr
+            WHERE pr.medications IS NOT NULL
+            ORDER BY pr.issueDate, pr.id
+            """)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<PrescriptionIndexEntry> streamIndexEntries();
+
+    /**
+     * Busca as Receitas informadas com o Paciente e o Doutor, em uma única consulta projetada.
+     * * @param ids Os IDs das Receitas (encontrados no índice de medicamentos).
+     * @return As Receitas encontradas, em qualquer ordem.
+     */
+    @Query("""
+            SELECT new edu.com.br.SistemasClinicos.dto.Prescription.PrescriptionMatch(
+                pr.id, pr.issueDate, pr.medications, a.id, p.id, p.name, d.id, d.name)
+            FROM Prescription pr
+            JOIN pr.appointment a
+            JOIN a.patient p
+            JOIN a.doctor d
+            WHERE pr.id IN :ids
+            """)
+    List<PrescriptionMatch> findMatchesByIdIn(Collection<Long> ids);
+}
@@ -1,9 +1,16 @@
 package edu.com.br.SistemasClinicos.repository;
 
+import edu.com.br.SistemasClinicos.config.CacheConfig;
 import edu.com.br.SistemasClinicos.model.Specialty;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Interface de Repositório para a entidade {@link Specialty}.
  * <p>
@@ -11,9 +18,33 @@ import org.springframework.stereotype.Repository;
  * acesso a dados, como CRUD (Create, Read, Update, Delete), paginação e
  * ordenação para a entidade Specialty.
  * <p>
- * Não possui métodos de consulta específicos definidos, utilizando apenas
- * as funcionalidades padrão fornecidas pelo Spring Data JPA.
+ * Como as especialidades quase nunca mudam, as buscas por ID e a listagem completa
+ * são servidas por um cache em memória (ver {@link CacheConfig}). Toda gravação ou
+ * exclusão feita por {@link #save} ou {@link #deleteById} invalida as entradas afetadas.
+ * As instâncias devolvidas pelo cache são compartilhadas e não devem ser alteradas.
  */
 @Repository
 public interface SpecialtyRepository extends JpaRepository<Specialty, Long> {
-}
\ No newline at end of file
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.SPECIALTY_BY_ID, key = "#p0", unless = "#result == null")
+    Optional<Specialty> findById(Long id);
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.SPECIALTIES, key = "'all'")
+    List<Specialty> findAll();
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.SPECIALTY_BY_ID, key = "#result.id"),
+            @CacheEvict(cacheNames = CacheConfig.SPECIALTIES, allEntries = true)
+    })
+    <S extends Specialty> S save(S entity);
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.SPECIALTY_BY_ID, key = "#p0"),
+            @CacheEvict(cacheNames = CacheConfig.SPECIALTIES, allEntries = true)
+    })
+    void deleteById(Long id);
+}
@@ -0,0 +1,262 @@
+package edu.com.br.SistemasClinicos.service.Appointment;
+
+import edu.com.br.SistemasClinicos.config.ScheduleProperties;
+import edu.com.br.SistemasClinicos.dto.Appointment.AppointmentSlot;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+/**
+ * Índice em memória da agenda de consultas agendadas, por Doutor e por Paciente.
+ * <p>
+ * Cada Doutor e cada Paciente possui um {@link TreeMap} ordenado pelo horário de início
+ * ({@code dateTime}) das suas consultas. Como todas as consultas têm a mesma duração
+ * ({@link ScheduleProperties#getSlotDuration()}), um novo horário conflita apenas com
+ * consultas que começam a menos de uma duração de distância, o que é verificado com
+ * uma busca de intervalo O(log n) no mapa, sem consultar o banco de dados.
+ * <p>
+ * A reserva de um horário é feita em duas etapas: {@link #reserve} verifica os conflitos e
+ * ocupa o horário com uma chave provisória (negativa) de forma atômica; após o commit,
+ * {@link #confirm} troca a chave provisória pelo ID da consulta, e em caso de rollback
+ * {@link #release} libera o horário. O índice é carregado a partir do banco na
+ * inicialização (ver {@link #load}) e, até lá, recusa novas reservas.
+ */
+@Component
+public class AppointmentScheduleIndex {
+
+    private final Duration slotDuration;
+
+    private final Map<Long, TreeMap<LocalDateTime, Long>> doctorSchedules = new HashMap<>();
+    private final Map<Long, TreeMap<LocalDateTime, Long>> patientSchedules = new HashMap<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong reservationSequence = new AtomicLong();
+
+    private volatile boolean ready;
+
+    public AppointmentScheduleIndex(ScheduleProperties scheduleProperties) {
+        this.slotDuration = scheduleProperties.getSlotDuration();
+    }
+
+    /**
+     * Carrega o índice a partir das consultas agendadas, substituindo o conteúdo atual.
+     * * @param slots As consultas agendadas a serem indexadas.
+     */
+    public void load(Stream<AppointmentSlot> slots) {
+        lock.writeLock().lock();
+        try {
+            doctorSchedules.clear();
+            patientSchedules.clear();
+            slots.forEach(slot -> put(slot.getDoctorId(), slot.getPatientId(), slot.getDateTime(), slot.getId()));
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Verifica se o Doutor e o Paciente estão livres no horário e, em caso positivo,
+     * ocupa o horário com uma chave provisória.
+     * * @param doctorId O ID do Doutor.
+     * @param patientId O ID do Paciente.
+     * @param dateTime O horário de início desejado.
+     * @param ignoredAppointmentId O ID de uma consulta a ser desconsiderada na verificação
+     *                             (a própria consulta, em um reagendamento), ou {@code null}.
+     * @return A chave provisória da reserva, a ser usada em {@link #confirm} ou {@link #release}.
+     * @throws RuntimeException Se o índice ainda não foi carregado ou se houver conflito de horário.
+     */
+    public long reserve(Long doctorId, Long patientId, LocalDateTime dateTime, Long ignoredAppointmentId) {
+        return reserveAll(doctorId, patientId, List.of(dateTime), ignoredAppointmentId)[0];
+    }
+
+    /**
+     * Verifica e reserva vários horários de uma só vez (ex.: uma série de sessões semanais).
+     * <p>
+     * A operação é atômica: se qualquer um dos horários conflitar com a agenda existente ou
+     * com outro horário da própria lista, nenhum deles é reservado.
+     * * @param doctorId O ID do Doutor.
+     * @param patientId O ID do Paciente.
+     * @param dateTimes Os horários de início desejados.
+     * @param ignoredAppointmentId O ID de uma consulta a ser desconsiderada na verificação, ou {@code null}.
+     * @return As chaves provisórias das reservas, na mesma ordem dos horários.
+     * @throws RuntimeException Se o índice ainda não foi carregado ou se houver conflito de horário.
+     */
+    public long[] reserveAll(Long doctorId, Long patientId, List<LocalDateTime> dateTimes, Long ignoredAppointmentId) {
+        if (!ready) {
+            throw new RuntimeException("Schedule is still loading, try again shortly");
+        }
+        lock.writeLock().lock();
+        try {
+            TreeMap<LocalDateTime, Long> requested = new TreeMap<>();
+            for (LocalDateTime dateTime : dateTimes) {
+                String when = dateTimes.size() > 1 ? " (" + dateTime + ")" : "";
+                if (hasConflict(doctorSchedules.get(doctorId), dateTime, ignoredAppointmentId)) {
+                    throw new RuntimeException("Doctor already has an appointment at this time" + when);
+                }
+                if (hasConflict(patientSchedules.get(patientId), dateTime, ignoredAppointmentId)) {
+                    throw new RuntimeException("Patient already has an appointment at this time" + when);
+                }
+                if (hasConflict(requested, dateTime, null)) {
+                    throw new RuntimeException("Requested appointment times overlap" + when);
+                }
+                requested.put(dateTime, 0L);
+            }
+
+            long[] reservations = new long[dateTimes.size()];
+            for (int i = 0; i < reservations.length; i++) {
+                reservations[i] = -reservationSequence.incrementAndGet();
+                put(doctorId, patientId, dateTimes.get(i), reservations[i]);
+            }
+            return reservations;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Substitui a chave provisória de uma reserva pelo ID definitivo da consulta.
+     * * @param doctorId O ID do Doutor.
+     * @param patientId O ID do Paciente.
+     * @param dateTime O horário reservado.
+     * @param reservation A chave provisória retornada por {@link #reserve}.
+     * @param appointmentId O ID da consulta persistida.
+     */
+    public void confirm(Long doctorId, Long patientId, LocalDateTime dateTime, long reservation, Long appointmentId) {
+        lock.writeLock().lock();
+        try {
+            replace(doctorSchedules.get(doctorId), dateTime, reservation, appointmentId);
+            replace(patientSchedules.get(patientId), dateTime, reservation, appointmentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Libera um horário ocupado, desde que ainda pertença à chave informada.
+     * <p>
+     * Usado tanto para desfazer reservas provisórias (rollback) quanto para remover
+     * consultas canceladas ou reagendadas (informando o ID da consulta).
+     * * @param doctorId O ID do Doutor.
+     * @param patientId O ID do Paciente.
+     * @param dateTime O horário ocupado.
+     * @param key A chave provisória ou o ID da consulta.
+     */
+    public void release(Long doctorId, Long patientId, LocalDateTime dateTime, long key) {
+        lock.writeLock().lock();
+        try {
+            remove(doctorSchedules, doctorId, dateTime, key);
+            remove(patientSchedules, patientId, dateTime, key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Percorre, em ordem, as consultas de um Doutor em um intervalo de horários.
+     * * @param doctorId O ID do Doutor.
+     * @param from O início do intervalo (inclusivo).
+     * @param to O fim do intervalo (exclusivo).
+     * @param consumer Recebe o horário de início e a chave de cada consulta.
+     */
+    public void forEachDoctorAppointment(Long doctorId, LocalDateTime from, LocalDateTime to,
+                                         BiConsumer<LocalDateTime, Long> consumer) {
+        lock.readLock().lock();
+        try {
+            TreeMap<LocalDateTime, Long> schedule = doctorSchedules.get(doctorId);
+            if (schedule != null) {
+                schedule.subMap(from, true, to, false).forEach(consumer);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Indica se o índice já foi carregado a partir do banco de dados.
+     * * @return {@code true} se o índice estiver pronto para uso.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Remove do índice as consultas que já terminaram, mantendo a memória proporcional
+     * apenas às consultas futuras.
+     */
+    @Scheduled(cron = "${clinic.schedule.prune-cron:0 0 * * * *}")
+    public void pruneFinished() {
+        pruneBefore(LocalDateTime.now().minus(slotDuration));
+    }
+
+    /**
+     * Remove do índice as consultas que começam antes do instante informado.
+     * * @param cutoff O limite (exclusivo) de início das consultas a manter.
+     */
+    public void pruneBefore(LocalDateTime cutoff) {
+        lock.writeLock().lock();
+        try {
+            prune(doctorSchedules, cutoff);
+            prune(patientSchedules, cutoff);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean hasConflict(TreeMap<LocalDateTime, Long> schedule, LocalDateTime dateTime, Long ignoredAppointmentId) {
+        if (schedule == null) {
+            return false;
+        }
+        NavigableMap<LocalDateTime, Long> overlapping = schedule.subMap(
+                dateTime.minus(slotDuration), false, dateTime.plus(slotDuration), false);
+        for (Long key : overlapping.values()) {
+            if (!key.equals(ignoredAppointmentId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void put(Long doctorId, Long patientId, LocalDateTime dateTime, Long key) {
+        doctorSchedules.computeIfAbsent(doctorId, id -> new TreeMap<>()).put(dateTime, key);
+        patientSchedules.computeIfAbsent(patientId, id -> new TreeMap<>()).put(dateTime, key);
+    }
+
+    private static void replace(TreeMap<LocalDateTime, Long> schedule, LocalDateTime dateTime, long oldKey, Long newKey) {
+        if (schedule != null) {
+            schedule.replace(dateTime, oldKey, newKey);
+        }
+    }
+
+    private static void remove(Map<Long, TreeMap<LocalDateTime, Long>> schedules, Long ownerId,
+                               LocalDateTime dateTime, long key) {
+        TreeMap<LocalDateTime, Long> schedule = schedules.get(ownerId);
+        if (schedule == null) {
+            return;
+        }
+        if (Objects.equals(schedule.get(dateTime), key)) {
+            schedule.remove(dateTime);
+        }
+        if (schedule.isEmpty()) {
+            schedules.remove(ownerId);
+        }
+    }
+
+    private static void prune(Map<Long, TreeMap<LocalDateTime, Long>> schedules, LocalDateTime cutoff) {
+        schedules.values().removeIf(schedule -> {
+            schedule.headMap(cutoff, false).clear();
+            return schedule.isEmpty();
+        });
+    }
+}
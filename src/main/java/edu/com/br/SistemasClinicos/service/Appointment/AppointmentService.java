@@ -0,0 +1,89 @@
+package edu.com.br.SistemasClinicos.service.Appointment;
+
+import edu.com.br.SistemasClinicos.dto.Appointment.AgendaEntry;
+import edu.com.br.SistemasClinicos.dto.Appointment.AppointmentRequest;
+import edu.com.br.SistemasClinicos.dto.Appointment.AppointmentResponse;
+import edu.com.br.SistemasClinicos.dto.Appointment.AppointmentSeriesRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Interface que define o contrato de serviço para as operações de negócio
+ * relacionadas à entidade Consulta (Appointment).
+ * <p>
+ * A implementação desta interface deve garantir que um Doutor ou um Paciente
+ * nunca tenham duas consultas no mesmo horário.
+ */
+public interface AppointmentService {
+
+    /**
+     * Agenda uma nova Consulta.
+     * <p>
+     * Verifica a existência do Doutor e do Paciente e a disponibilidade de ambos
+     * no horário solicitado antes de persistir a consulta com status {@code SCHEDULED}.
+     * * @param request O DTO contendo os dados da Consulta a ser agendada.
+     * @return O DTO de resposta da Consulta criada, incluindo o ID gerado.
+     */
+    AppointmentResponse createAppointment(AppointmentRequest request);
+
+    /**
+     * Agenda uma série de Consultas recorrentes de forma atômica.
+     * <p>
+     * Todas as sessões são validadas contra a agenda do Doutor e do Paciente de uma só vez;
+     * se qualquer uma conflitar, nenhuma é agendada.
+     * * @param request O DTO contendo a primeira sessão, a quantidade e o intervalo entre sessões.
+     * @return Os DTOs de resposta das Consultas criadas, em ordem cronológica.
+     */
+    List<AppointmentResponse> createAppointmentSeries(AppointmentSeriesRequest request);
+
+    /**
+     * Reagenda uma Consulta para um novo horário.
+     * * @param id O ID da Consulta a ser reagendada.
+     * @param dateTime O novo horário de início.
+     * @param expectedVersion A versão que o cliente leu ({@code If-Match}), ou {@code null} para não verificar.
+     * @return O DTO de resposta da Consulta reagendada.
+     */
+    AppointmentResponse rescheduleAppointment(Long id, LocalDateTime dateTime, Long expectedVersion);
+
+    /**
+     * Cancela uma Consulta, liberando o horário do Doutor e do Paciente.
+     * * @param id O ID da Consulta a ser cancelada.
+     * @param expectedVersion A versão que o cliente leu ({@code If-Match}), ou {@code null} para não verificar.
+     * @return O DTO de resposta da Consulta cancelada.
+     */
+    AppointmentResponse cancelAppointment(Long id, Long expectedVersion);
+
+    /**
+     * Marca uma Consulta agendada como realizada, liberando o horário do Doutor e do Paciente.
+     * * @param id O ID da Consulta realizada.
+     * @param expectedVersion A versão que o cliente leu ({@code If-Match}), ou {@code null} para não verificar.
+     * @return O DTO de resposta da Consulta realizada.
+     */
+    AppointmentResponse completeAppointment(Long id, Long expectedVersion);
+
+    /**
+     * Busca uma Consulta específica pelo seu ID.
+     * * @param id O ID da Consulta a ser encontrada.
+     * @return O DTO de resposta da Consulta encontrada.
+     */
+    AppointmentResponse findAppointmentById(Long id);
+
+    /**
+     * Busca apenas a versão atual de uma Consulta, sem carregar a entidade.
+     * * @param id O ID da Consulta.
+     * @return A versão da Consulta.
+     * @throws RuntimeException Se a Consulta não for encontrada.
+     */
+    Long findAppointmentVersion(Long id);
+
+    /**
+     * Busca a agenda de um Doutor em um dia, em ordem de horário.
+     * * @param doctorId O ID do Doutor.
+     * @param date O dia da agenda.
+     * @return As consultas do dia, de todos os status.
+     * @throws RuntimeException Se o Doutor não for encontrado.
+     */
+    List<AgendaEntry> findDoctorAgenda(Long doctorId, LocalDate date);
+}
@@ -0,0 +1,381 @@
+package edu.com.br.SistemasClinicos.service.Appointment;
+
+import edu.com.br.SistemasClinicos.config.CacheConfig;
+import edu.com.br.SistemasClinicos.dto.Appointment.AgendaEntry;
+import edu.com.br.SistemasClinicos.dto.Appointment.AppointmentRequest;
+import edu.com.br.SistemasClinicos.dto.Appointment.AppointmentResponse;
+import edu.com.br.SistemasClinicos.dto.Appointment.AppointmentSeriesRequest;
+import edu.com.br.SistemasClinicos.dto.Appointment.AppointmentSlot;
+import edu.com.br.SistemasClinicos.mapper.AppointmentMapper;
+import edu.com.br.SistemasClinicos.model.Appointment;
+import edu.com.br.SistemasClinicos.model.AppointmentStatus;
+import edu.com.br.SistemasClinicos.model.Doctor;
+import edu.com.br.SistemasClinicos.model.Patient;
+import edu.com.br.SistemasClinicos.repository.AppointmentRepository;
+import edu.com.br.SistemasClinicos.repository.DoctorRepository;
+import edu.com.br.SistemasClinicos.repository.PatientRepository;
+import edu.com.br.SistemasClinicos.service.Outbox.OutboxService;
+import edu.com.br.SistemasClinicos.service.Reminder.ReminderScheduler;
+import edu.com.br.SistemasClinicos.service.Statistics.StatisticsCounters;
+import edu.com.br.SistemasClinicos.util.TransactionCallbacks;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Implementação da interface {@code AppointmentService}.
+ * <p>
+ * A detecção de conflitos de horário é feita pelo {@link AppointmentScheduleIndex} em memória,
+ * sem consultas de intervalo ao banco a cada agendamento. O índice é carregado quando a
+ * aplicação fica pronta e é mantido sincronizado a cada escrita: o horário é reservado antes
+ * do INSERT/UPDATE, confirmado após o commit e liberado em caso de rollback.
+ * <p>
+ * Os IDs das consultas vêm de uma sequence com alocação em blocos, o que permite ao Hibernate
+ * agrupar os INSERTs de uma série em um único batch JDBC.
+ * <p>
+ * Toda escrita grava, na mesma transação, um evento no outbox ({@link OutboxService}) para os
+ * sistemas externos.
+ * <p>
+ * A agenda diária de cada Doutor é mantida em cache ({@link CacheConfig#DOCTOR_AGENDA}); toda
+ * escrita invalida os dias afetados, e a invalidação só é aplicada após o commit.
+ * <p>
+ * Toda mudança de status (ou de dia) é contada, após o commit, nos contadores dos painéis
+ * ({@link StatisticsCounters}), e os lembretes da consulta são atualizados na roda de
+ * lembretes ({@link ReminderScheduler}).
+ */
+@Service
+@Timed("clinic.service")
+@RequiredArgsConstructor
+public class AppointmentServiceImp implements AppointmentService {
+
+    private final AppointmentRepository appointmentRepository;
+    private final DoctorRepository doctorRepository;
+    private final PatientRepository patientRepository;
+    private final AppointmentMapper appointmentMapper;
+    private final AppointmentScheduleIndex scheduleIndex;
+    private final OutboxService outboxService;
+    private final CacheManager cacheManager;
+    private final StatisticsCounters statisticsCounters;
+    private final ReminderScheduler reminderScheduler;
+
+    /**
+     * Carrega o índice de agenda com as consultas agendadas que ainda não começaram.
+     * <p>
+     * Executada na base principal, e não na réplica: uma consulta gravada dentro do atraso de
+     * replicação ficaria fora do índice, e um conflito de horário com ela seria aceito.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void loadScheduleIndex() {
+        try (Stream<AppointmentSlot> slots = appointmentRepository.streamSlots(
+                AppointmentStatus.SCHEDULED, LocalDateTime.now())) {
+            scheduleIndex.load(slots);
+        }
+    }
+
+    /**
+     * Agenda uma nova Consulta.
+     * <p>
+     * 1. Busca o Doutor e o Paciente.
+     * 2. Reserva o horário no índice de agenda (falha se houver conflito).
+     * 3. Persiste a Consulta com status {@code SCHEDULED}.
+     * 4. Após o commit, confirma a reserva com o ID gerado.
+     * * @param request DTO contendo os dados da Consulta.
+     * @return DTO de resposta da Consulta criada.
+     * @throws RuntimeException Se o Doutor ou o Paciente não forem encontrados, ou se houver conflito de horário.
+     */
+    @Override
+    @Transactional
+    public AppointmentResponse createAppointment(AppointmentRequest request) {
+        Doctor doctor = doctorRepository.findById(request.getDoctorId())
+                .orElseThrow(() -> new RuntimeException("Doctor not found"));
+        Patient patient = patientRepository.findById(request.getPatientId())
+                .orElseThrow(() -> new RuntimeException("Patient not found"));
+
+        LocalDateTime dateTime = request.getDateTime();
+        long reservation = scheduleIndex.reserve(doctor.getId(), patient.getId(), dateTime, null);
+        TransactionCallbacks.afterRollback(() ->
+                scheduleIndex.release(doctor.getId(), patient.getId(), dateTime, reservation));
+
+        Appointment appointment = appointmentMapper.toEntity(request);
+        appointment.setDoctor(doctor);
+        appointment.setPatient(patient);
+        appointment.setStatus(AppointmentStatus.SCHEDULED);
+
+        Appointment savedAppointment = appointmentRepository.save(appointment);
+        evictAgenda(doctor.getId(), dateTime);
+        count(doctor, dateTime, AppointmentStatus.SCHEDULED, 1);
+        TransactionCallbacks.afterCommit(() -> {
+            scheduleIndex.confirm(doctor.getId(), patient.getId(), dateTime, reservation, savedAppointment.getId());
+            reminderScheduler.schedule(savedAppointment.getId(), dateTime);
+        });
+
+        AppointmentResponse response = appointmentMapper.toResponse(savedAppointment);
+        outboxService.record("Appointment", response.getId(), "AppointmentCreated", response);
+        return response;
+    }
+
+    /**
+     * Agenda uma série de Consultas recorrentes.
+     * <p>
+     * 1. Busca o Doutor e o Paciente.
+     * 2. Calcula os horários de todas as sessões e os reserva de uma só vez no índice de agenda
+     *    (falha sem reservar nenhum se qualquer sessão conflitar).
+     * 3. Persiste todas as sessões com {@code saveAll}, agrupadas em um batch JDBC.
+     * 4. Após o commit, confirma as reservas; em caso de rollback, libera todas.
+     * * @param request DTO contendo os dados da série.
+     * @return DTOs de resposta das Consultas criadas.
+     * @throws RuntimeException Se o Doutor ou o Paciente não forem encontrados, ou se alguma sessão conflitar.
+     */
+    @Override
+    @Transactional
+    public List<AppointmentResponse> createAppointmentSeries(AppointmentSeriesRequest request) {
+        Doctor doctor = doctorRepository.findById(request.getDoctorId())
+                .orElseThrow(() -> new RuntimeException("Doctor not found"));
+        Patient patient = patientRepository.findById(request.getPatientId())
+                .orElseThrow(() -> new RuntimeException("Patient not found"));
+
+        int intervalDays = request.getIntervalDays() != null ? request.getIntervalDays() : 7;
+        List<LocalDateTime> dateTimes = new ArrayList<>(request.getOccurrences());
+        for (int i = 0; i < request.getOccurrences(); i++) {
+            dateTimes.add(request.getFirstDateTime().plusDays((long) i * intervalDays));
+        }
+
+        long[] reservations = scheduleIndex.reserveAll(doctor.getId(), patient.getId(), dateTimes, null);
+        TransactionCallbacks.afterRollback(() -> {
+            for (int i = 0; i < reservations.length; i++) {
+                scheduleIndex.release(doctor.getId(), patient.getId(), dateTimes.get(i), reservations[i]);
+            }
+        });
+
+        List<Appointment> appointments = new ArrayList<>(dateTimes.size());
+        for (LocalDateTime dateTime : dateTimes) {
+            Appointment appointment = new Appointment();
+            appointment.setDateTime(dateTime);
+            appointment.setNotes(request.getNotes());
+            appointment.setDoctor(doctor);
+            appointment.setPatient(patient);
+            appointment.setStatus(AppointmentStatus.SCHEDULED);
+            appointments.add(appointment);
+        }
+
+        List<Appointment> savedAppointments = appointmentRepository.saveAll(appointments);
+        dateTimes.forEach(dateTime -> {
+            evictAgenda(doctor.getId(), dateTime);
+            count(doctor, dateTime, AppointmentStatus.SCHEDULED, 1);
+        });
+        TransactionCallbacks.afterCommit(() -> {
+            for (int i = 0; i < reservations.length; i++) {
+                scheduleIndex.confirm(doctor.getId(), patient.getId(), dateTimes.get(i),
+                        reservations[i], savedAppointments.get(i).getId());
+                reminderScheduler.schedule(savedAppointments.get(i).getId(), dateTimes.get(i));
+            }
+        });
+
+        List<AppointmentResponse> responses = savedAppointments.stream()
+                .map(appointmentMapper::toResponse)
+                .toList();
+        for (AppointmentResponse response : responses) {
+            outboxService.record("Appointment", response.getId(), "AppointmentCreated", response);
+        }
+        return responses;
+    }
+
+    /**
+     * Reagenda uma Consulta.
+     * <p>
+     * O novo horário é reservado desconsiderando a própria consulta; após o commit,
+     * o horário antigo é liberado.
+     * * @param id O ID da Consulta.
+     * @param dateTime O novo horário de início.
+     * @param expectedVersion A versão que o cliente leu ({@code If-Match}), ou {@code null} para não verificar.
+     * @return DTO de resposta da Consulta reagendada.
+     * @throws RuntimeException Se a Consulta não for encontrada, não estiver agendada ou houver conflito de horário.
+     * @throws OptimisticLockingFailureException Se a Consulta já estiver em outra versão.
+     */
+    @Override
+    @Transactional
+    public AppointmentResponse rescheduleAppointment(Long id, LocalDateTime dateTime, Long expectedVersion) {
+        Appointment appointment = findScheduled(id, expectedVersion);
+        if (appointment.getDateTime().equals(dateTime)) {
+            return appointmentMapper.toResponse(appointment);
+        }
+
+        Long doctorId = appointment.getDoctor().getId();
+        Long patientId = appointment.getPatient().getId();
+        LocalDateTime previousDateTime = appointment.getDateTime();
+
+        long reservation = scheduleIndex.reserve(doctorId, patientId, dateTime, id);
+        TransactionCallbacks.afterRollback(() -> scheduleIndex.release(doctorId, patientId, dateTime, reservation));
+        TransactionCallbacks.afterCommit(() -> {
+            scheduleIndex.confirm(doctorId, patientId, dateTime, reservation, id);
+            scheduleIndex.release(doctorId, patientId, previousDateTime, id);
+            reminderScheduler.schedule(id, dateTime);
+        });
+
+        appointment.setDateTime(dateTime);
+        evictAgenda(doctorId, previousDateTime);
+        evictAgenda(doctorId, dateTime);
+        count(appointment.getDoctor(), previousDateTime, AppointmentStatus.SCHEDULED, -1);
+        count(appointment.getDoctor(), dateTime, AppointmentStatus.SCHEDULED, 1);
+        // flush para que a resposta e o evento já tragam a nova versão
+        AppointmentResponse response = appointmentMapper.toResponse(appointmentRepository.saveAndFlush(appointment));
+        outboxService.record("Appointment", id, "AppointmentRescheduled", response);
+        return response;
+    }
+
+    /**
+     * Cancela uma Consulta agendada e, após o commit, libera o horário no índice de agenda.
+     * * @param id O ID da Consulta.
+     * @param expectedVersion A versão que o cliente leu ({@code If-Match}), ou {@code null} para não verificar.
+     * @return DTO de resposta da Consulta cancelada.
+     * @throws RuntimeException Se a Consulta não for encontrada ou não estiver agendada.
+     * @throws OptimisticLockingFailureException Se a Consulta já estiver em outra versão.
+     */
+    @Override
+    @Transactional
+    public AppointmentResponse cancelAppointment(Long id, Long expectedVersion) {
+        Appointment appointment = findScheduled(id, expectedVersion);
+
+        Long doctorId = appointment.getDoctor().getId();
+        Long patientId = appointment.getPatient().getId();
+        LocalDateTime dateTime = appointment.getDateTime();
+        TransactionCallbacks.afterCommit(() -> {
+            scheduleIndex.release(doctorId, patientId, dateTime, id);
+            reminderScheduler.cancel(id);
+        });
+
+        appointment.setStatus(AppointmentStatus.CANCELLED);
+        evictAgenda(doctorId, dateTime);
+        count(appointment.getDoctor(), dateTime, AppointmentStatus.SCHEDULED, -1);
+        count(appointment.getDoctor(), dateTime, AppointmentStatus.CANCELLED, 1);
+        AppointmentResponse response = appointmentMapper.toResponse(appointmentRepository.saveAndFlush(appointment));
+        outboxService.record("Appointment", id, "AppointmentCancelled", response);
+        return response;
+    }
+
+    /**
+     * Marca uma Consulta agendada como realizada e, após o commit, libera o horário no índice
+     * de agenda, que acompanha apenas as consultas agendadas.
+     * * @param id O ID da Consulta.
+     * @param expectedVersion A versão que o cliente leu ({@code If-Match}), ou {@code null} para não verificar.
+     * @return DTO de resposta da Consulta realizada.
+     * @throws RuntimeException Se a Consulta não for encontrada ou não estiver agendada.
+     * @throws OptimisticLockingFailureException Se a Consulta já estiver em outra versão.
+     */
+    @Override
+    @Transactional
+    public AppointmentResponse completeAppointment(Long id, Long expectedVersion) {
+        Appointment appointment = findScheduled(id, expectedVersion);
+
+        Long doctorId = appointment.getDoctor().getId();
+        Long patientId = appointment.getPatient().getId();
+        LocalDateTime dateTime = appointment.getDateTime();
+        TransactionCallbacks.afterCommit(() -> {
+            scheduleIndex.release(doctorId, patientId, dateTime, id);
+            reminderScheduler.cancel(id);
+        });
+
+        appointment.setStatus(AppointmentStatus.COMPLETED);
+        evictAgenda(doctorId, dateTime);
+        count(appointment.getDoctor(), dateTime, AppointmentStatus.SCHEDULED, -1);
+        count(appointment.getDoctor(), dateTime, AppointmentStatus.COMPLETED, 1);
+        AppointmentResponse response = appointmentMapper.toResponse(appointmentRepository.saveAndFlush(appointment));
+        outboxService.record("Appointment", id, "AppointmentCompleted", response);
+        return response;
+    }
+
+    /**
+     * Busca uma Consulta pelo seu ID.
+     * <p>
+     * Executada na base principal, e não na réplica, para que a ETag devolvida corresponda à
+     * versão vista pelas atualizações com {@code If-Match}.
+     * * @param id O ID da Consulta.
+     * @return DTO de resposta da Consulta encontrada.
+     * @throws RuntimeException Se a Consulta não for encontrada.
+     */
+    @Override
+    @Transactional
+    public AppointmentResponse findAppointmentById(Long id) {
+        Appointment appointment = appointmentRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Appointment not found"));
+        return appointmentMapper.toResponse(appointment);
+    }
+
+    /**
+     * Busca apenas a versão atual de uma Consulta, com uma consulta de uma única coluna.
+     * <p>
+     * Executada na base principal, e não na réplica, como {@link #findAppointmentById}.
+     * * @param id O ID da Consulta.
+     * @return A versão da Consulta.
+     * @throws RuntimeException Se a Consulta não for encontrada.
+     */
+    @Override
+    @Transactional
+    public Long findAppointmentVersion(Long id) {
+        return appointmentRepository.findVersionById(id)
+                .orElseThrow(() -> new RuntimeException("Appointment not found"));
+    }
+
+    /**
+     * Busca a agenda de um Doutor em um dia com uma única consulta projetada
+     * ({@link AppointmentRepository#findAgenda}), mantendo o resultado em cache.
+     * <p>
+     * Executada na base principal, e não na réplica, para que o cache não seja preenchido com
+     * uma agenda atrasada logo após uma escrita.
+     * * @param doctorId O ID do Doutor.
+     * @param date O dia da agenda.
+     * @return As consultas do dia, de todos os status, em ordem de horário.
+     * @throws RuntimeException Se o Doutor não for encontrado.
+     */
+    @Override
+    @Transactional
+    @Cacheable(cacheNames = CacheConfig.DOCTOR_AGENDA)
+    public List<AgendaEntry> findDoctorAgenda(Long doctorId, LocalDate date) {
+        List<AgendaEntry> agenda = appointmentRepository.findAgenda(
+                doctorId, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+        // Só uma agenda vazia precisa confirmar que o Doutor existe
+        if (agenda.isEmpty() && !doctorRepository.existsById(doctorId)) {
+            throw new RuntimeException("Doctor not found");
+        }
+        return List.copyOf(agenda);
+    }
+
+    private void evictAgenda(Long doctorId, LocalDateTime dateTime) {
+        Cache cache = cacheManager.getCache(CacheConfig.DOCTOR_AGENDA);
+        if (cache != null) {
+            cache.evict(CacheConfig.doctorAgendaKey(doctorId, dateTime.toLocalDate()));
+        }
+    }
+
+    private void count(Doctor doctor, LocalDateTime dateTime, AppointmentStatus status, long delta) {
+        StatisticsCounters.Key key = new StatisticsCounters.Key(doctor.getId(), dateTime.toLocalDate(), status);
+        Long specialtyId = doctor.getSpecialty() != null ? doctor.getSpecialty().getId() : null;
+        TransactionCallbacks.afterCommit(() -> statisticsCounters.add(key, specialtyId, delta));
+    }
+
+    private Appointment findScheduled(Long id, Long expectedVersion) {
+        Appointment appointment = appointmentRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Appointment not found"));
+        if (expectedVersion != null && !expectedVersion.equals(appointment.getVersion())) {
+            throw new OptimisticLockingFailureException("Appointment was modified by another request");
+        }
+        if (appointment.getStatus() != AppointmentStatus.SCHEDULED) {
+            throw new RuntimeException("Only scheduled appointments can be changed");
+        }
+        return appointment;
+    }
+}
@@ -0,0 +1,133 @@
+package edu.com.br.SistemasClinicos.service.Appointment;
+
+import edu.com.br.SistemasClinicos.config.ScheduleProperties;
+import edu.com.br.SistemasClinicos.dto.Appointment.AvailableSlotResponse;
+import edu.com.br.SistemasClinicos.dto.Doctor.DoctorSummary;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+
+/**
+ * Grade de slots de uma janela de dias usada na busca de horários livres.
+ * <p>
+ * Cada dia da janela ocupa {@code slotsPerDay} bits consecutivos de um {@link BitSet}: o bit
+ * {@code dia * slotsPerDay + slot} indica se o slot está indisponível. Dias sem expediente e
+ * slots que já passaram são marcados uma única vez na máscara base, que é copiada para cada
+ * doutor antes de marcar as suas consultas. Como a ordem dos bits é a ordem cronológica, os
+ * horários livres são obtidos com {@link BitSet#nextClearBit(int)}.
+ */
+class AvailabilityGrid {
+
+    private final LocalDate firstDay;
+    private final LocalTime dayStart;
+    private final Duration slotDuration;
+    private final long slotMinutes;
+    private final int slotsPerDay;
+    private final int totalSlots;
+    private final BitSet baseMask;
+
+    AvailabilityGrid(ScheduleProperties properties, LocalDate firstDay, int days, LocalDateTime now) {
+        this.firstDay = firstDay;
+        this.dayStart = properties.getDayStart();
+        this.slotDuration = properties.getSlotDuration();
+        this.slotMinutes = slotDuration.toMinutes();
+        this.slotsPerDay = properties.slotsPerDay();
+        this.totalSlots = slotsPerDay * days;
+        this.baseMask = new BitSet(totalSlots);
+
+        for (int day = 0; day < days; day++) {
+            if (!properties.getWorkDays().contains(firstDay.plusDays(day).getDayOfWeek())) {
+                baseMask.set(day * slotsPerDay, (day + 1) * slotsPerDay);
+            }
+        }
+        int firstFutureSlot = 0;
+        while (firstFutureSlot < totalSlots && slotStart(firstFutureSlot).isBefore(now)) {
+            firstFutureSlot++;
+        }
+        baseMask.set(0, firstFutureSlot);
+    }
+
+    /**
+     * Monta o cursor de horários livres de um doutor a partir das suas consultas no índice.
+     * * @param doctor O doutor.
+     * @param scheduleIndex O índice de agenda em memória.
+     * @return O cursor posicionado no primeiro horário livre do doutor.
+     */
+    FreeSlotCursor cursorFor(DoctorSummary doctor, AppointmentScheduleIndex scheduleIndex) {
+        BitSet occupied = (BitSet) baseMask.clone();
+        LocalDateTime windowStart = firstDay.atTime(dayStart).minus(slotDuration);
+        LocalDateTime windowEnd = slotStart(totalSlots - 1).plus(slotDuration);
+
+        scheduleIndex.forEachDoctorAppointment(doctor.getId(), windowStart, windowEnd,
+                (dateTime, key) -> occupy(occupied, dateTime));
+        return new FreeSlotCursor(doctor, occupied, totalSlots);
+    }
+
+    /**
+     * Converte a posição atual de um cursor no DTO de resposta.
+     * * @param cursor O cursor posicionado em um horário livre.
+     * @return O DTO com o doutor e o horário livre.
+     */
+    AvailableSlotResponse toResponse(FreeSlotCursor cursor) {
+        DoctorSummary doctor = cursor.getDoctor();
+        return new AvailableSlotResponse(doctor.getId(), doctor.getName(), slotStart(cursor.getCurrent()));
+    }
+
+    private void occupy(BitSet occupied, LocalDateTime dateTime) {
+        long dayIndex = ChronoUnit.DAYS.between(firstDay, dateTime.toLocalDate());
+        if (dayIndex < 0 || dayIndex * slotsPerDay >= totalSlots) {
+            return;
+        }
+        long offset = ChronoUnit.MINUTES.between(dayStart, dateTime.toLocalTime());
+        int first = (int) Math.max(0, Math.floorDiv(offset, slotMinutes));
+        int endExclusive = (int) Math.min(slotsPerDay, Math.ceilDiv(offset + slotMinutes, slotMinutes));
+        if (first < endExclusive) {
+            int dayOffset = (int) dayIndex * slotsPerDay;
+            occupied.set(dayOffset + first, dayOffset + endExclusive);
+        }
+    }
+
+    private LocalDateTime slotStart(int slot) {
+        return firstDay.plusDays(slot / slotsPerDay)
+                .atTime(dayStart)
+                .plus(slotDuration.multipliedBy(slot % slotsPerDay));
+    }
+
+    /**
+     * Percorre, em ordem cronológica, os horários livres de um doutor.
+     */
+    static class FreeSlotCursor {
+
+        private final DoctorSummary doctor;
+        private final BitSet occupied;
+        private final int totalSlots;
+        private int current;
+
+        FreeSlotCursor(DoctorSummary doctor, BitSet occupied, int totalSlots) {
+            this.doctor = doctor;
+            this.occupied = occupied;
+            this.totalSlots = totalSlots;
+            this.current = occupied.nextClearBit(0);
+        }
+
+        DoctorSummary getDoctor() {
+            return doctor;
+        }
+
+        int getCurrent() {
+            return current;
+        }
+
+        boolean hasCurrent() {
+            return current < totalSlots;
+        }
+
+        void advance() {
+            current = occupied.nextClearBit(current + 1);
+        }
+    }
+}
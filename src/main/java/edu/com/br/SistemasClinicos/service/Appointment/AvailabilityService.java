@@ -0,0 +1,23 @@
+package edu.com.br.SistemasClinicos.service.Appointment;
+
+import edu.com.br.SistemasClinicos.dto.Appointment.AvailableSlotResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Interface que define o contrato de serviço para a busca de horários livres
+ * na agenda dos doutores.
+ */
+public interface AvailabilityService {
+
+    /**
+     * Busca os próximos horários livres entre todos os doutores de uma Especialidade.
+     * * @param specialtyName O nome da Especialidade.
+     * @param from O primeiro dia da busca ({@code null} para hoje).
+     * @param days A quantidade de dias da janela de busca ({@code null} para o padrão).
+     * @param limit A quantidade máxima de horários retornados ({@code null} para o padrão).
+     * @return Os horários livres em ordem cronológica (empates ordenados pelo ID do doutor).
+     */
+    List<AvailableSlotResponse> findNextFreeSlots(String specialtyName, LocalDate from, Integer days, Integer limit);
+}
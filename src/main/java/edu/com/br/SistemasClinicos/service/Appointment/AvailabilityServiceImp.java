@@ -0,0 +1,98 @@
+package edu.com.br.SistemasClinicos.service.Appointment;
+
+import edu.com.br.SistemasClinicos.config.ScheduleProperties;
+import edu.com.br.SistemasClinicos.dto.Appointment.AvailableSlotResponse;
+import edu.com.br.SistemasClinicos.dto.Doctor.DoctorSummary;
+import edu.com.br.SistemasClinicos.repository.DoctorRepository;
+import edu.com.br.SistemasClinicos.service.Appointment.AvailabilityGrid.FreeSlotCursor;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Implementação da interface {@code AvailabilityService}.
+ * <p>
+ * A agenda de cada doutor é montada como um bitmap de slots ({@link AvailabilityGrid}) a partir
+ * do {@link AppointmentScheduleIndex} em memória, sem consultar a tabela de consultas. Os
+ * doutores da Especialidade são processados em paralelo e os horários livres de cada um são
+ * combinados com um heap (merge de k listas ordenadas), parando assim que o limite é atingido.
+ */
+@Service
+@Timed("clinic.service")
+@RequiredArgsConstructor
+public class AvailabilityServiceImp implements AvailabilityService {
+
+    static final int DEFAULT_DAYS = 7;
+    static final int MAX_DAYS = 31;
+    static final int DEFAULT_LIMIT = 10;
+    static final int MAX_LIMIT = 100;
+
+    private static final Comparator<FreeSlotCursor> CHRONOLOGICAL = Comparator
+            .comparingInt(FreeSlotCursor::getCurrent)
+            .thenComparing(cursor -> cursor.getDoctor().getId());
+
+    private final DoctorRepository doctorRepository;
+    private final AppointmentScheduleIndex scheduleIndex;
+    private final ScheduleProperties scheduleProperties;
+
+    /**
+     * Busca os próximos horários livres da Especialidade.
+     * <p>
+     * 1. Busca o ID e o nome dos doutores da Especialidade (uma única consulta).
+     * 2. Monta, em paralelo, o bitmap de slots ocupados de cada doutor.
+     * 3. Faz o merge dos horários livres de todos os doutores com um heap.
+     * * @param specialtyName O nome da Especialidade.
+     * @param from O primeiro dia da busca.
+     * @param days A quantidade de dias da janela.
+     * @param limit A quantidade máxima de horários.
+     * @return Os horários livres em ordem cronológica.
+     * @throws RuntimeException Se a agenda ainda estiver carregando ou não houver doutores na Especialidade.
+     */
+    @Override
+    public List<AvailableSlotResponse> findNextFreeSlots(String specialtyName, LocalDate from, Integer days, Integer limit) {
+        if (!scheduleIndex.isReady()) {
+            throw new RuntimeException("Schedule is still loading, try again shortly");
+        }
+        List<DoctorSummary> doctors = doctorRepository.findSummariesBySpecialtyName(specialtyName);
+        if (doctors.isEmpty()) {
+            throw new RuntimeException("No doctors found for this specialty name");
+        }
+
+        LocalDate firstDay = from != null ? from : LocalDate.now();
+        int maxResults = clamp(limit, DEFAULT_LIMIT, MAX_LIMIT);
+        AvailabilityGrid grid = new AvailabilityGrid(scheduleProperties, firstDay,
+                clamp(days, DEFAULT_DAYS, MAX_DAYS), LocalDateTime.now());
+
+        PriorityQueue<FreeSlotCursor> heap = new PriorityQueue<>(doctors.size(), CHRONOLOGICAL);
+        doctors.parallelStream()
+                .map(doctor -> grid.cursorFor(doctor, scheduleIndex))
+                .filter(FreeSlotCursor::hasCurrent)
+                .toList()
+                .forEach(heap::add);
+
+        List<AvailableSlotResponse> slots = new ArrayList<>(maxResults);
+        while (slots.size() < maxResults && !heap.isEmpty()) {
+            FreeSlotCursor cursor = heap.poll();
+            slots.add(grid.toResponse(cursor));
+            cursor.advance();
+            if (cursor.hasCurrent()) {
+                heap.add(cursor);
+            }
+        }
+        return slots;
+    }
+
+    private static int clamp(Integer requested, int defaultValue, int max) {
+        if (requested == null || requested <= 0) {
+            return defaultValue;
+        }
+        return Math.min(requested, max);
+    }
+}
@@ -0,0 +1,14 @@
+package edu.com.br.SistemasClinicos.service.Doctor;
+
+import edu.com.br.SistemasClinicos.util.CpfIndex;
+import org.springframework.stereotype.Component;
+
+/**
+ * Índice em memória dos CPFs dos Doutores.
+ * <p>
+ * Carregado na inicialização e atualizado após o commit de cada cadastro, alteração e exclusão
+ * de Doutores; ver {@link CpfIndex}.
+ */
+@Component
+public class DoctorCpfIndex extends CpfIndex {
+}
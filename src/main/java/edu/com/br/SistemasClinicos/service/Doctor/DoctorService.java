@@ -1,7 +1,10 @@
 package edu.com.br.SistemasClinicos.service.Doctor;
 
+import edu.com.br.SistemasClinicos.dto.Doctor.DoctorPatchRequest;
 import edu.com.br.SistemasClinicos.dto.Doctor.DoctorRequest;
 import edu.com.br.SistemasClinicos.dto.Doctor.DoctorResponse;
+import edu.com.br.SistemasClinicos.dto.Doctor.DoctorVersion;
+import edu.com.br.SistemasClinicos.dto.Page.CursorPageResponse;
 
 import java.util.List;
 
@@ -31,9 +34,24 @@ public interface DoctorService {
      * e persiste a entidade atualizada.
      * * @param id O ID do Doutor a ser atualizado.
      * @param request O DTO contendo os novos dados do Doutor.
+     * @param expectedVersion A versão que o cliente leu ({@code If-Match}), ou {@code null} para não verificar.
      * @return O DTO de resposta do Doutor atualizado.
+     * @throws org.springframework.dao.OptimisticLockingFailureException Se o Doutor já estiver em outra versão.
      */
-    DoctorResponse updateDoctor(Long id,DoctorRequest request);
+    DoctorResponse updateDoctor(Long id,DoctorRequest request, Long expectedVersion);
+
+    /**
+     * Atualiza parcialmente um Doutor existente.
+     * <p>
+     * Apenas os campos presentes no {@code DoctorPatchRequest} são alterados, e somente as
+     * colunas efetivamente modificadas são gravadas.
+     * * @param id O ID do Doutor a ser atualizado.
+     * @param request O DTO contendo os campos a serem alterados.
+     * @param expectedVersion A versão que o cliente leu ({@code If-Match}), ou {@code null} para não verificar.
+     * @return O DTO de resposta do Doutor atualizado.
+     * @throws org.springframework.dao.OptimisticLockingFailureException Se o Doutor já estiver em outra versão.
+     */
+    DoctorResponse patchDoctor(Long id, DoctorPatchRequest request, Long expectedVersion);
 
     /**
      * Remove um Doutor do sistema pelo seu ID.
@@ -50,12 +68,31 @@ public interface DoctorService {
      */
     DoctorResponse findDoctorById(Long id);
 
+    /**
+     * Busca apenas a versão atual de um Doutor e a da sua Especialidade, sem carregar a entidade.
+     * * @param id O ID do Doutor.
+     * @return As versões do Doutor e da Especialidade.
+     * @throws RuntimeException Se o Doutor não for encontrado.
+     */
+    DoctorVersion findDoctorVersion(Long id);
+
     /**
      * Retorna uma lista de todos os Doutores cadastrados no sistema.
      * * @return Uma lista de DTOs {@code DoctorResponse}.
      */
     List<DoctorResponse> findall();
 
+    /**
+     * Retorna uma página de Doutores usando paginação por cursor.
+     * <p>
+     * Carrega apenas {@code limit} registros por chamada, mantendo memória e latência
+     * constantes independentemente do tamanho da tabela.
+     * * @param after O cursor opaco recebido na página anterior ({@code null} para a primeira página).
+     * @param limit O tamanho de página desejado ({@code null} para o padrão).
+     * @return A página de DTOs {@code DoctorResponse} e o cursor da próxima página.
+     */
+    CursorPageResponse<DoctorResponse> findDoctorsPage(String after, Integer limit);
+
     /**
      * Busca Doutores cujo nome contenha a string fornecida.
      * <p>
@@ -1,16 +1,35 @@
 package edu.com.br.SistemasClinicos.service.Doctor;
 
+import edu.com.br.SistemasClinicos.dto.Cpf.CpfIndexEntry;
+import edu.com.br.SistemasClinicos.dto.Doctor.DoctorPatchRequest;
 import edu.com.br.SistemasClinicos.dto.Doctor.DoctorRequest;
 import edu.com.br.SistemasClinicos.dto.Doctor.DoctorResponse;
+import edu.com.br.SistemasClinicos.dto.Doctor.DoctorVersion;
+import edu.com.br.SistemasClinicos.dto.Page.CursorPageResponse;
 import edu.com.br.SistemasClinicos.mapper.DoctorMapper;
 import edu.com.br.SistemasClinicos.model.Doctor;
 import edu.com.br.SistemasClinicos.model.Specialty;
 import edu.com.br.SistemasClinicos.repository.DoctorRepository;
 import edu.com.br.SistemasClinicos.repository.SpecialtyRepository;
+import edu.com.br.SistemasClinicos.service.Outbox.OutboxService;
+import edu.com.br.SistemasClinicos.util.CpfIndex;
+import edu.com.br.SistemasClinicos.util.CursorPagination;
+import edu.com.br.SistemasClinicos.util.TransactionCallbacks;
+import edu.com.br.SistemasClinicos.util.UniqueConstraints;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Implementação da interface {@code DoctorService}.
@@ -18,31 +37,58 @@ import java.util.List;
  * Contém a lógica de negócio para o gerenciamento de Doutores,
  * orquestrando o acesso a dados via repositórios e a conversão de objetos
  * via mappers. Utiliza {@code @RequiredArgsConstructor} para injeção de dependência.
+ * <p>
+ * Toda escrita grava, na mesma transação, um evento no outbox ({@link OutboxService}) para os
+ * sistemas externos.
+ * <p>
+ * A unicidade do CPF é verificada no índice em memória ({@link DoctorCpfIndex}), como em
+ * {@code PatientServiceImp}; a restrição UNIQUE da coluna continua sendo a palavra final.
  */
+@Slf4j
 @Service
+@Timed("clinic.service")
 @RequiredArgsConstructor
 public class DoctorServiceImp implements DoctorService{
 
     private final DoctorRepository doctorRepository;
     private final DoctorMapper doctorMapper;
     private final SpecialtyRepository specialtyRepository;
+    private final OutboxService outboxService;
+    private final DoctorCpfIndex cpfIndex;
+
+    /**
+     * Carrega o índice de CPFs com todos os Doutores.
+     * <p>
+     * Executada na base principal, e não na réplica: um CPF gravado dentro do atraso de
+     * replicação ficaria fora do índice, e a criação de um cadastro com ele não consultaria o banco.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void loadCpfIndex() {
+        long start = System.nanoTime();
+        int indexed = cpfIndex.load(doctorRepository::streamCpfEntries);
+        log.info("Indexed CPFs of {} doctors in {} ms", indexed, (System.nanoTime() - start) / 1_000_000);
+    }
 
     /**
      * Cria um novo Doutor no sistema.
      * <p>
-     * 1. Verifica a unicidade do CPF.
+     * 1. Verifica a unicidade do CPF no índice em memória (e, se encontrado, no banco).
      * 2. Mapeia o DTO de requisição para a Entidade Doutor (ignorando a especialidade e ID).
      * 3. Busca a Entidade Specialty pelo ID.
      * 4. Associa a Specialty ao Doutor.
-     * 5. Persiste o Doutor no repositório.
-     * 6. Mapeia a Entidade salva para um DTO de resposta.
+     * 5. Persiste o Doutor no repositório; um CPF gravado nesse meio tempo é recusado pela
+     *    restrição UNIQUE do banco.
+     * 6. Mapeia a Entidade salva para um DTO de resposta e grava o evento {@code DoctorCreated}.
+     * 7. Após o commit, indexa o CPF.
      * * @param request DTO contendo os dados do Doutor a ser criado.
      * @return DTO de resposta do Doutor criado.
      * @throws RuntimeException Se o CPF já existir ou a Especialidade não for encontrada.
      */
     @Override
+    @Transactional
     public DoctorResponse createDoctor(DoctorRequest request) {
-        if (doctorRepository.existsByCpf(request.getCpf())) {
+        if (cpfExists(request.getCpf())) {
             throw new RuntimeException("CPF exists"); // Lançar exceção de negócio mais específica (ex: CpfAlreadyExistsException)
         }
 
@@ -52,8 +98,11 @@ public class DoctorServiceImp implements DoctorService{
                 .orElseThrow(() -> new RuntimeException("Specialty not found"));
 
         doctor.setSpecialty(specialty);
-        Doctor savedDoctor = doctorRepository.save(doctor);
-        return doctorMapper.toResponse(savedDoctor);
+        Doctor savedDoctor = saveAndFlush(doctor);
+        index(null, savedDoctor);
+        DoctorResponse response = doctorMapper.toResponse(savedDoctor);
+        outboxService.record("Doctor", response.getId(), "DoctorCreated", response);
+        return response;
 
     }
 
@@ -62,62 +111,178 @@ public class DoctorServiceImp implements DoctorService{
      * <p>
      * 1. Busca o Doutor existente pelo ID.
      * 2. Mapeia os dados da requisição para uma nova Entidade Doutor.
-     * 3. Mantém o ID original na nova Entidade mapeada.
+     * 3. Mantém o ID e a versão originais na nova Entidade mapeada.
      * 4. Busca e associa a Especialidade.
-     * 5. Persiste a Entidade atualizada.
+     * 5. Persiste a Entidade atualizada; o Hibernate recusa a gravação se a versão tiver mudado nesse meio tempo.
+     * 6. Grava o evento {@code DoctorUpdated}, se algo mudou.
      * * @param id O ID do Doutor a ser atualizado.
      * @param request DTO contendo os novos dados do Doutor.
+     * @param expectedVersion A versão que o cliente leu ({@code If-Match}), ou {@code null} para não verificar.
      * @return DTO de resposta do Doutor atualizado.
      * @throws RuntimeException Se o Doutor ou a Especialidade não forem encontrados.
+     * @throws OptimisticLockingFailureException Se o Doutor já estiver em outra versão.
      */
     @Override
-    public DoctorResponse updateDoctor(Long id, DoctorRequest request) {
+    @Transactional
+    public DoctorResponse updateDoctor(Long id, DoctorRequest request, Long expectedVersion) {
         Doctor doctor = doctorRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Doctor not found"));
+        if (expectedVersion != null && !expectedVersion.equals(doctor.getVersion())) {
+            throw new OptimisticLockingFailureException("Doctor was modified by another request");
+        }
+        Long previousVersion = doctor.getVersion();
+        String previousCpf = doctor.getCpf();
 
         Doctor updatedDoctor = doctorMapper.toEntity(request);
         updatedDoctor.setId(doctor.getId()); // Garante que o ID da entidade original seja mantido para a atualização
+        updatedDoctor.setVersion(previousVersion);
 
         Specialty specialty = specialtyRepository.findById(request.getSpecialtyId())
                 .orElseThrow(() -> new RuntimeException("Specialty not found"));
         updatedDoctor.setSpecialty(specialty);
 
-        updatedDoctor = doctorRepository.save(updatedDoctor);
-        return doctorMapper.toResponse(updatedDoctor);
+        // flush para que a resposta e o evento já tragam a nova versão
+        updatedDoctor = saveAndFlush(updatedDoctor);
+        index(previousCpf, updatedDoctor);
+
+        DoctorResponse response = doctorMapper.toResponse(updatedDoctor);
+        if (!Objects.equals(previousVersion, response.getVersion())) {
+            outboxService.record("Doctor", id, "DoctorUpdated", response);
+        }
+        return response;
     }
 
     /**
-     * Exclui um Doutor do sistema pelo seu ID.
+     * Atualiza parcialmente um Doutor existente.
+     * <p>
+     * 1. Busca o Doutor pelo ID já com a Especialidade (único SELECT), mantendo-o gerenciado na transação.
+     * 2. Aplica sobre ele apenas os campos presentes na requisição; a nova Especialidade, se houver,
+     *    vem do cache de especialidades.
+     * 3. No flush, o Hibernate grava só as colunas alteradas ({@code @DynamicUpdate}) e a nova versão;
+     *    se nada mudou, nenhum UPDATE é emitido.
+     * 4. Grava o evento {@code DoctorUpdated}, se algo mudou.
+     * * @param id O ID do Doutor a ser atualizado.
+     * @param request DTO contendo os campos a serem alterados.
+     * @param expectedVersion A versão que o cliente leu ({@code If-Match}), ou {@code null} para não verificar.
+     * @return DTO de resposta do Doutor atualizado.
+     * @throws RuntimeException Se o Doutor ou a Especialidade não forem encontrados, ou o novo CPF já existir.
+     * @throws OptimisticLockingFailureException Se o Doutor já estiver em outra versão.
+     */
+    @Override
+    @Transactional
+    public DoctorResponse patchDoctor(Long id, DoctorPatchRequest request, Long expectedVersion) {
+        Doctor doctor = doctorRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Doctor not found"));
+        if (expectedVersion != null && !expectedVersion.equals(doctor.getVersion())) {
+            throw new OptimisticLockingFailureException("Doctor was modified by another request");
+        }
+        Long previousVersion = doctor.getVersion();
+        String previousCpf = doctor.getCpf();
+        if (request.getCpf() != null && !request.getCpf().equals(previousCpf) && cpfExists(request.getCpf())) {
+            throw new RuntimeException("CPF exists");
+        }
+
+        doctorMapper.patch(request, doctor);
+        if (request.getSpecialtyId() != null
+                && (doctor.getSpecialty() == null || !request.getSpecialtyId().equals(doctor.getSpecialty().getId()))) {
+            Specialty specialty = specialtyRepository.findById(request.getSpecialtyId())
+                    .orElseThrow(() -> new RuntimeException("Specialty not found"));
+            doctor.setSpecialty(specialty);
+        }
+
+        // flush para que a resposta e o evento já tragam a nova versão
+        Doctor savedDoctor = saveAndFlush(doctor);
+        index(previousCpf, savedDoctor);
+        DoctorResponse response = doctorMapper.toResponse(savedDoctor);
+        if (!Objects.equals(previousVersion, response.getVersion())) {
+            outboxService.record("Doctor", id, "DoctorUpdated", response);
+        }
+        return response;
+    }
+
+    /**
+     * Exclui um Doutor do sistema pelo seu ID, grava o evento {@code DoctorDeleted} e, após o
+     * commit, remove o CPF do índice.
+     * <p>
+     * Um ID inexistente é ignorado, sem evento, para que os consumidores não recebam exclusões de
+     * cadastros que não existiam.
      * * @param id O ID do Doutor a ser excluído.
-     * @throws org.springframework.dao.EmptyResultDataAccessException Se o ID não for encontrado (exceção padrão do Spring Data Jpa).
      */
     @Override
+    @Transactional
     public void deleteDoctor(Long id) {
-        doctorRepository.deleteById(id);
+        doctorRepository.findById(id).ifPresent(doctor -> {
+            String cpf = doctor.getCpf();
+            doctorRepository.deleteById(id);
+            outboxService.record("Doctor", id, "DoctorDeleted", Map.of("id", id));
+            TransactionCallbacks.afterCommit(() -> cpfIndex.remove(cpf, id));
+        });
     }
 
     /**
      * Busca um Doutor pelo seu ID.
+     * <p>
+     * Executada na base principal, e não na réplica, para que a ETag devolvida corresponda à
+     * versão vista pelas atualizações com {@code If-Match}, e para que uma leitura logo após uma
+     * escrita já a veja.
      * * @param id O ID do Doutor a ser buscado.
      * @return DTO de resposta do Doutor encontrado.
      * @throws RuntimeException Se o Doutor não for encontrado.
      */
     @Override
+    @Transactional
     public DoctorResponse findDoctorById(Long id) {
         Doctor doctor = doctorRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Doctor not found"));
         return doctorMapper.toResponse(doctor);
     }
 
+    /**
+     * Busca apenas a versão atual de um Doutor e a da sua Especialidade, com uma única consulta
+     * de duas colunas.
+     * <p>
+     * Executada na base principal, e não na réplica, como {@link #findDoctorById}.
+     * * @param id O ID do Doutor.
+     * @return As versões do Doutor e da Especialidade.
+     * @throws RuntimeException Se o Doutor não for encontrado.
+     */
+    @Override
+    @Transactional
+    public DoctorVersion findDoctorVersion(Long id) {
+        return doctorRepository.findVersionById(id)
+                .orElseThrow(() -> new RuntimeException("Doctor not found"));
+    }
+
     /**
      * Retorna todos os Doutores cadastrados.
      * * @return Uma lista de DTOs {@code DoctorResponse}.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<DoctorResponse> findall() {
         return doctorMapper.toResponseList(doctorRepository.findAll());
     }
 
+    /**
+     * Retorna uma página de Doutores a partir do cursor informado.
+     * <p>
+     * Busca {@code limit + 1} registros para saber se existe uma próxima página sem
+     * precisar de um {@code COUNT(*)} adicional.
+     * * @param after O cursor opaco da página anterior ({@code null} para a primeira página).
+     * @param limit O tamanho de página desejado.
+     * @return A página de DTOs {@code DoctorResponse}.
+     * @throws RuntimeException Se o cursor for inválido.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<DoctorResponse> findDoctorsPage(String after, Integer limit) {
+        int pageSize = CursorPagination.pageSize(limit);
+        List<Doctor> doctors = doctorRepository.findByIdGreaterThanOrderByIdAsc(
+                CursorPagination.decode(after), Limit.of(pageSize + 1));
+
+        return CursorPagination.toPage(doctors, pageSize, Doctor::getId, doctorMapper::toResponseList);
+    }
+
     /**
      * Busca Doutores pelo nome.
      * * @param name O nome ou parte do nome a ser buscado.
@@ -125,6 +290,7 @@ public class DoctorServiceImp implements DoctorService{
      * @throws RuntimeException Se nenhum Doutor for encontrado com o nome fornecido.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<DoctorResponse> findDoctorByName(String name) {
         // Assume-se que doctorRepository.findByName(String name) faz uma busca aproximada (ex: Like %name%)
         List<Doctor> doctors = doctorRepository.findByName(name);
@@ -145,6 +311,7 @@ public class DoctorServiceImp implements DoctorService{
      * @throws RuntimeException Se nenhum Doutor for encontrado para a Especialidade.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<DoctorResponse> findDoctorBySpecialtyName(String specialtyName) {
         // Assume-se que doctorRepository.findBySpecialty_Name(String specialtyName) utiliza Jpa Query Methods
         List<Doctor> doctors = doctorRepository.findBySpecialty_Name(specialtyName);
@@ -157,4 +324,47 @@ public class DoctorServiceImp implements DoctorService{
                 .map(doctorMapper::toResponse)
                 .toList();
     }
-}
\ No newline at end of file
+
+    /**
+     * Verifica se um CPF já está cadastrado: um CPF ausente do índice dispensa a consulta ao
+     * banco; um CPF encontrado, ou que o índice não sabe responder, é confirmado no banco.
+     */
+    private boolean cpfExists(String cpf) {
+        long id = cpfIndex.find(cpf);
+        if (id == CpfIndex.ABSENT) {
+            return false;
+        }
+        boolean exists = doctorRepository.existsByCpf(cpf);
+        if (!exists && id > 0) {
+            // Excluído ou alterado por outra instância
+            cpfIndex.remove(cpf, id);
+        }
+        return exists;
+    }
+
+    /**
+     * Grava o Doutor imediatamente, para que um CPF duplicado seja recusado aqui pela
+     * restrição UNIQUE, e não no commit. As demais violações (ex.: tamanho de coluna) são
+     * relançadas.
+     */
+    private Doctor saveAndFlush(Doctor doctor) {
+        try {
+            Doctor saved = doctorRepository.save(doctor);
+            doctorRepository.flush();
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            if (UniqueConstraints.isViolated(e, "cpf")) {
+                throw new RuntimeException("CPF exists");
+            }
+            throw e;
+        }
+    }
+
+    private void index(String previousCpf, Doctor doctor) {
+        String cpf = doctor.getCpf();
+        Long id = doctor.getId();
+        if (id != null) {
+            TransactionCallbacks.afterCommit(() -> cpfIndex.put(previousCpf, cpf, id));
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package edu.com.br.SistemasClinicos.service.Export;
+
+/**
+ * Formatos disponíveis na exportação de cadastros.
+ */
+public enum ExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String mediaType;
+    private final String extension;
+
+    ExportFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    /**
+     * Retorna o tipo de conteúdo do formato.
+     * * @return O media type (ex.: {@code text/csv}).
+     */
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Retorna a extensão de arquivo do formato.
+     * * @return A extensão, sem o ponto.
+     */
+    public String getExtension() {
+        return extension;
+    }
+}
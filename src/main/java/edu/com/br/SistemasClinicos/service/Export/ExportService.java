@@ -0,0 +1,32 @@
+package edu.com.br.SistemasClinicos.service.Export;
+
+import java.io.OutputStream;
+
+/**
+ * Interface que define o contrato de serviço para a exportação completa dos cadastros de
+ * Pacientes e Doutores (extrações solicitadas por órgãos reguladores).
+ */
+public interface ExportService {
+
+    /**
+     * Escreve todos os Pacientes no destino informado, em ordem de ID.
+     * <p>
+     * As linhas são lidas do banco e escritas uma a uma, sem montar a lista completa em memória.
+     * * @param output O destino da exportação (não é fechado).
+     * @param format O formato das linhas.
+     * @return A quantidade de Pacientes exportados.
+     * @throws java.io.UncheckedIOException Se a escrita no destino falhar.
+     */
+    long exportPatients(OutputStream output, ExportFormat format);
+
+    /**
+     * Escreve todos os Doutores no destino informado, em ordem de ID.
+     * <p>
+     * As linhas são lidas do banco e escritas uma a uma, sem montar a lista completa em memória.
+     * * @param output O destino da exportação (não é fechado).
+     * @param format O formato das linhas.
+     * @return A quantidade de Doutores exportados.
+     * @throws java.io.UncheckedIOException Se a escrita no destino falhar.
+     */
+    long exportDoctors(OutputStream output, ExportFormat format);
+}
@@ -0,0 +1,128 @@
+package edu.com.br.SistemasClinicos.service.Export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.com.br.SistemasClinicos.dto.Doctor.DoctorResponse;
+import edu.com.br.SistemasClinicos.dto.Patient.PatientResponse;
+import edu.com.br.SistemasClinicos.mapper.DoctorMapper;
+import edu.com.br.SistemasClinicos.mapper.PatientMapper;
+import edu.com.br.SistemasClinicos.repository.DoctorRepository;
+import edu.com.br.SistemasClinicos.repository.PatientRepository;
+import edu.com.br.SistemasClinicos.service.Export.ExportWriter.Column;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Implementação da interface {@code ExportService}.
+ * <p>
+ * Cada exportação roda em uma única transação somente leitura (atendida pela réplica, quando
+ * configurada), percorrendo um cursor JDBC com {@code fetchSize} limitado. Cada entidade é
+ * convertida em DTO, escrita no destino e desanexada do contexto de persistência, de modo que
+ * o consumo de memória não cresce com o tamanho da tabela.
+ */
+@Slf4j
+@Service
+@Timed("clinic.service")
+@RequiredArgsConstructor
+public class ExportServiceImp implements ExportService {
+
+    private static final List<Column<PatientResponse>> PATIENT_COLUMNS = List.of(
+            new Column<>("id", PatientResponse::getId),
+            new Column<>("name", PatientResponse::getName),
+            new Column<>("cpf", PatientResponse::getCpf),
+            new Column<>("dateBirth", PatientResponse::getDateBirth),
+            new Column<>("phone", PatientResponse::getPhone),
+            new Column<>("email", PatientResponse::getEmail),
+            new Column<>("address", PatientResponse::getAddress),
+            new Column<>("city", PatientResponse::getCity),
+            new Column<>("state", PatientResponse::getState),
+            new Column<>("version", PatientResponse::getVersion));
+
+    private static final List<Column<DoctorResponse>> DOCTOR_COLUMNS = List.of(
+            new Column<>("id", DoctorResponse::getId),
+            new Column<>("name", DoctorResponse::getName),
+            new Column<>("cpf", DoctorResponse::getCpf),
+            new Column<>("email", DoctorResponse::getEmail),
+            new Column<>("phone", DoctorResponse::getPhone),
+            new Column<>("crm", DoctorResponse::getCrm),
+            new Column<>("specialtyId", DoctorResponse::getSpecialtyId),
+            new Column<>("specialtyName", DoctorResponse::getSpecialtyName),
+            new Column<>("version", DoctorResponse::getVersion));
+
+    private final PatientRepository patientRepository;
+    private final DoctorRepository doctorRepository;
+    private final PatientMapper patientMapper;
+    private final DoctorMapper doctorMapper;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Escreve todos os Pacientes no destino informado, em ordem de ID.
+     * * @param output O destino da exportação (não é fechado).
+     * @param format O formato das linhas.
+     * @return A quantidade de Pacientes exportados.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportPatients(OutputStream output, ExportFormat format) {
+        return export("patients", patientRepository.streamAll(), patientMapper::toResponse,
+                writer(output, format, PatientResponse.class, PATIENT_COLUMNS));
+    }
+
+    /**
+     * Escreve todos os Doutores no destino informado, em ordem de ID.
+     * * @param output O destino da exportação (não é fechado).
+     * @param format O formato das linhas.
+     * @return A quantidade de Doutores exportados.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportDoctors(OutputStream output, ExportFormat format) {
+        return export("doctors", doctorRepository.streamAll(), doctorMapper::toResponse,
+                writer(output, format, DoctorResponse.class, DOCTOR_COLUMNS));
+    }
+
+    private <T> ExportWriter<T> writer(OutputStream output, ExportFormat format, Class<T> type,
+                                       List<Column<T>> columns) {
+        try {
+            return format == ExportFormat.CSV
+                    ? ExportWriter.csv(output, columns)
+                    : ExportWriter.ndjson(output, objectMapper.writerFor(type));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Percorre as entidades, escrevendo e desanexando uma de cada vez.
+     */
+    private <E, T> long export(String name, Stream<E> entities, Function<E, T> toResponse, ExportWriter<T> writer) {
+        long start = System.nanoTime();
+        long rows = 0;
+        try (entities) {
+            Iterator<E> iterator = entities.iterator();
+            while (iterator.hasNext()) {
+                E entity = iterator.next();
+                writer.write(toResponse.apply(entity));
+                entityManager.detach(entity);
+                rows++;
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("Exported {} {} in {} ms", rows, name, (System.nanoTime() - start) / 1_000_000);
+        return rows;
+    }
+}
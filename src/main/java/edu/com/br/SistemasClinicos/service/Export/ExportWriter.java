@@ -0,0 +1,139 @@
+package edu.com.br.SistemasClinicos.service.Export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Escritor incremental das linhas de uma exportação.
+ * <p>
+ * Cada linha é escrita assim que recebida, sem acumular o conteúdo em memória. Suporta CSV
+ * (com cabeçalho, nos mesmos nomes de campos aceitos pela importação) e NDJSON (um objeto JSON
+ * por linha). O destino nunca é fechado; {@link #flush()} deve ser chamado ao final.
+ */
+abstract class ExportWriter<T> {
+
+    /**
+     * Cria um escritor de CSV. O cabeçalho é escrito imediatamente.
+     * * @param output O destino das linhas.
+     * @param columns As colunas, na ordem em que serão escritas.
+     * @return O escritor de linhas.
+     * @throws IOException Se a escrita do cabeçalho falhar.
+     */
+    static <T> ExportWriter<T> csv(OutputStream output, List<Column<T>> columns) throws IOException {
+        return new CsvWriter<>(output, columns);
+    }
+
+    /**
+     * Cria um escritor de NDJSON.
+     * * @param output O destino das linhas.
+     * @param objectWriter O escritor Jackson configurado para o tipo das linhas.
+     * @return O escritor de linhas.
+     * @throws IOException Se o gerador JSON não puder ser criado.
+     */
+    static <T> ExportWriter<T> ndjson(OutputStream output, ObjectWriter objectWriter) throws IOException {
+        return new NdjsonWriter<>(output, objectWriter);
+    }
+
+    /**
+     * Escreve uma linha.
+     * * @param row O objeto a ser escrito.
+     * @throws IOException Se a escrita falhar.
+     */
+    abstract void write(T row) throws IOException;
+
+    /**
+     * Descarrega no destino o conteúdo ainda em buffer.
+     * * @throws IOException Se a escrita falhar.
+     */
+    abstract void flush() throws IOException;
+
+    /**
+     * Uma coluna do CSV: o nome no cabeçalho e o valor extraído de cada linha.
+     */
+    record Column<T>(String name, Function<T, Object> value) {
+    }
+
+    private static final class NdjsonWriter<T> extends ExportWriter<T> {
+
+        private final JsonGenerator generator;
+        private final ObjectWriter objectWriter;
+        private boolean empty = true;
+
+        private NdjsonWriter(OutputStream output, ObjectWriter objectWriter) throws IOException {
+            this.generator = objectWriter.createGenerator(output)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(new SerializedString("\n"));
+            this.objectWriter = objectWriter;
+        }
+
+        @Override
+        void write(T row) throws IOException {
+            objectWriter.writeValue(generator, row);
+            empty = false;
+        }
+
+        @Override
+        void flush() throws IOException {
+            if (!empty) {
+                generator.writeRaw('\n');
+            }
+            generator.flush();
+        }
+    }
+
+    private static final class CsvWriter<T> extends ExportWriter<T> {
+
+        private final Writer writer;
+        private final List<Column<T>> columns;
+
+        private CsvWriter(OutputStream output, List<Column<T>> columns) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            this.columns = columns;
+            for (int i = 0; i < columns.size(); i++) {
+                writeField(i, columns.get(i).name());
+            }
+            writer.write('\n');
+        }
+
+        @Override
+        void write(T row) throws IOException {
+            for (int i = 0; i < columns.size(); i++) {
+                Object value = columns.get(i).value().apply(row);
+                writeField(i, value == null ? "" : value.toString());
+            }
+            writer.write('\n');
+        }
+
+        @Override
+        void flush() throws IOException {
+            writer.flush();
+        }
+
+        /**
+         * Escreve um campo, entre aspas duplas quando contém vírgula, aspas ou quebra de linha.
+         */
+        private void writeField(int index, String value) throws IOException {
+            if (index > 0) {
+                writer.write(',');
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                    && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+}
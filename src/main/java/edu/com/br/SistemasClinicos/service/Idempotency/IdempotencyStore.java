@@ -0,0 +1,149 @@
+package edu.com.br.SistemasClinicos.service.Idempotency;
+
+import edu.com.br.SistemasClinicos.config.IdempotencyProperties;
+import edu.com.br.SistemasClinicos.dto.Idempotency.IdempotentResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Registro das chaves de idempotência no banco (tabela {@code idempotency_record}), compartilhado
+ * entre as instâncias da aplicação.
+ * <p>
+ * A requisição original reserva a chave com um INSERT, que falha para as demais; ao terminar,
+ * grava a resposta na mesma linha ({@link #complete}) ou libera a chave ({@link #release}) para
+ * que uma repetição tente de novo. Os comandos rodam fora de transação, direto no primário.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStore {
+
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private static final String INSERT_SQL = "INSERT INTO idempotency_record "
+            + "(idempotency_key, request_hash, created_at, expires_at) VALUES (?, ?, ?, ?)";
+
+    private static final String SELECT_SQL = "SELECT request_hash, status, content_type, body, created_at, expires_at "
+            + "FROM idempotency_record WHERE idempotency_key = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdempotencyProperties properties;
+
+    /**
+     * Resultado de {@link #claim}: a chave foi reservada para esta requisição, já tem uma
+     * resposta guardada ({@code response}) ou continua em andamento em outra instância.
+     * * @param acquired {@code true} se esta requisição deve ser executada.
+     * @param response A resposta guardada, se houver.
+     */
+    public record Claim(boolean acquired, IdempotentResponse response) {
+    }
+
+    /**
+     * Reserva uma chave para a requisição atual.
+     * <p>
+     * Se outra requisição com a mesma chave estiver em andamento, aguarda a sua resposta por até
+     * {@code clinic.idempotency.lock-timeout}. Uma reserva mais antiga que esse tempo, sem
+     * resposta, é considerada abandonada e é assumida por esta requisição.
+     * * @param key A chave, já qualificada pelo caminho.
+     * @param requestHash O hash do corpo da requisição.
+     * @return A reserva, a resposta guardada ou, se a espera esgotar, uma reserva não obtida e sem resposta.
+     */
+    public Claim claim(String key, String requestHash) {
+        long deadline = System.nanoTime() + properties.getLockTimeout().toNanos();
+        while (true) {
+            Instant now = Instant.now();
+            try {
+                jdbcTemplate.update(INSERT_SQL, key, requestHash, Timestamp.from(now),
+                        Timestamp.from(now.plus(properties.getTtl())));
+                return new Claim(true, null);
+            } catch (DuplicateKeyException e) {
+                // A chave já existe: verifica abaixo se tem resposta, expirou ou foi abandonada
+            }
+            List<Row> rows = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> {
+                int status = rs.getInt(2);
+                boolean completed = !rs.wasNull();
+                return new Row(new IdempotentResponse(rs.getString(1), status, rs.getString(3), rs.getString(4)),
+                        completed, rs.getTimestamp(5), rs.getTimestamp(6).toInstant());
+            }, key);
+            if (rows.isEmpty()) {
+                continue;
+            }
+            Row row = rows.get(0);
+            if (row.expiresAt().isBefore(now)) {
+                jdbcTemplate.update("DELETE FROM idempotency_record WHERE idempotency_key = ? AND expires_at < ?",
+                        key, Timestamp.from(now));
+                continue;
+            }
+            if (row.completed()) {
+                return new Claim(false, row.response());
+            }
+            if (row.createdAt().toInstant().isBefore(now.minus(properties.getLockTimeout()))
+                    && takeOver(key, requestHash, row.createdAt(), now)) {
+                log.warn("Idempotency key {} was abandoned by its original request, taking it over", key);
+                return new Claim(true, null);
+            }
+            if (System.nanoTime() >= deadline) {
+                return new Claim(false, null);
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new Claim(false, null);
+            }
+        }
+    }
+
+    /**
+     * Grava a resposta de uma requisição que reservou a chave.
+     * * @param key A chave, já qualificada pelo caminho.
+     * @param response A resposta a ser devolvida às repetições.
+     */
+    public void complete(String key, IdempotentResponse response) {
+        jdbcTemplate.update("UPDATE idempotency_record SET status = ?, content_type = ?, body = ? "
+                        + "WHERE idempotency_key = ? AND request_hash = ? AND status IS NULL",
+                response.getStatus(), response.getContentType(), response.getBody(), key, response.getRequestHash());
+    }
+
+    /**
+     * Libera a chave de uma requisição que falhou, para que uma repetição seja executada.
+     * * @param key A chave, já qualificada pelo caminho.
+     */
+    public void release(String key) {
+        jdbcTemplate.update("DELETE FROM idempotency_record WHERE idempotency_key = ? AND status IS NULL", key);
+    }
+
+    /**
+     * Remove as chaves expiradas, a cada {@code clinic.idempotency.purge-interval}.
+     * * @return A quantidade de chaves removidas.
+     */
+    @Scheduled(fixedDelayString = "${clinic.idempotency.purge-interval:1h}")
+    public int purgeExpired() {
+        int purged = jdbcTemplate.update("DELETE FROM idempotency_record WHERE expires_at < ?",
+                Timestamp.from(Instant.now()));
+        if (purged > 0) {
+            log.debug("Purged {} expired idempotency keys", purged);
+        }
+        return purged;
+    }
+
+    private boolean takeOver(String key, String requestHash, Timestamp createdAt, Instant now) {
+        return jdbcTemplate.update("UPDATE idempotency_record SET request_hash = ?, created_at = ? "
+                        + "WHERE idempotency_key = ? AND status IS NULL AND created_at = ?",
+                requestHash, Timestamp.from(now), key, createdAt) == 1;
+    }
+
+    /**
+     * Uma linha de {@code idempotency_record}.
+     */
+    private record Row(IdempotentResponse response, boolean completed, Timestamp createdAt, Instant expiresAt) {
+    }
+}
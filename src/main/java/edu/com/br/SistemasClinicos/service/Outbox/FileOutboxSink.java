@@ -0,0 +1,67 @@
+package edu.com.br.SistemasClinicos.service.Outbox;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.com.br.SistemasClinicos.model.OutboxEvent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Destino que acrescenta os eventos a um arquivo local, um JSON por linha
+ * ({@code clinic.outbox.sink=file}).
+ * <p>
+ * Cada lote é gravado com uma única escrita e sincronizado em disco ({@code force}) antes de
+ * retornar, para que os eventos só saiam do outbox depois de persistidos no arquivo.
+ */
+public class FileOutboxSink implements OutboxSink {
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    public FileOutboxSink(Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxEvent> events) {
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(toNdjson(events));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] toNdjson(List<OutboxEvent> events) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(events.size() * 256);
+        for (OutboxEvent event : events) {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+                generator.writeStartObject();
+                generator.writeNumberField("id", event.getId());
+                generator.writeStringField("aggregateType", event.getAggregateType());
+                generator.writeNumberField("aggregateId", event.getAggregateId());
+                generator.writeStringField("eventType", event.getEventType());
+                generator.writeStringField("createdAt", event.getCreatedAt().toString());
+                // o payload já é JSON e é copiado sem ser interpretado de novo
+                generator.writeFieldName("payload");
+                generator.writeRawValue(event.getPayload());
+                generator.writeEndObject();
+            }
+            out.write('\n');
+        }
+        return out.toByteArray();
+    }
+}
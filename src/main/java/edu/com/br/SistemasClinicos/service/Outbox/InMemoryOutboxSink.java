@@ -0,0 +1,36 @@
+package edu.com.br.SistemasClinicos.service.Outbox;
+
+import edu.com.br.SistemasClinicos.model.OutboxEvent;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Destino que mantém os eventos publicados em memória ({@code clinic.outbox.sink=memory}).
+ * <p>
+ * Usado em testes e em desenvolvimento para inspecionar os eventos entregues.
+ */
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final List<OutboxEvent> events = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(List<OutboxEvent> batch) {
+        events.addAll(batch);
+    }
+
+    /**
+     * Retorna uma cópia dos eventos publicados até o momento, em ordem de entrega.
+     * * @return Os eventos publicados.
+     */
+    public List<OutboxEvent> getEvents() {
+        return List.copyOf(events);
+    }
+
+    /**
+     * Descarta os eventos publicados.
+     */
+    public void clear() {
+        events.clear();
+    }
+}
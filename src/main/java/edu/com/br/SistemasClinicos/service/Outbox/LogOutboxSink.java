@@ -0,0 +1,21 @@
+package edu.com.br.SistemasClinicos.service.Outbox;
+
+import edu.com.br.SistemasClinicos.model.OutboxEvent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+/**
+ * Destino que apenas registra os eventos no log da aplicação ({@code clinic.outbox.sink=log}).
+ */
+@Slf4j
+public class LogOutboxSink implements OutboxSink {
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        for (OutboxEvent event : events) {
+            log.info("Outbox event {} {} {}#{}: {}", event.getId(), event.getEventType(),
+                    event.getAggregateType(), event.getAggregateId(), event.getPayload());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package edu.com.br.SistemasClinicos.service.Outbox;
+
+import edu.com.br.SistemasClinicos.config.OutboxProperties;
+import edu.com.br.SistemasClinicos.model.OutboxEvent;
+import edu.com.br.SistemasClinicos.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Publicador em segundo plano do outbox transacional.
+ * <p>
+ * A cada rodada, consome a tabela {@code outbox_event} em lotes: cada lote é bloqueado com
+ * {@code FOR UPDATE SKIP LOCKED}, entregue ao {@link OutboxSink} e removido, tudo em uma
+ * única transação. Se a entrega falhar, a transação é desfeita e o lote continua no outbox
+ * para a próxima rodada (entrega "pelo menos uma vez"). Como linhas bloqueadas são puladas,
+ * várias instâncias da aplicação podem publicar ao mesmo tempo sem entregar o mesmo lote.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink outboxSink;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties properties;
+
+    /**
+     * Rodada agendada de publicação, executada {@code clinic.outbox.poll-interval} após o fim
+     * da anterior.
+     */
+    @Scheduled(fixedDelayString = "${clinic.outbox.poll-interval:1s}")
+    public void publishPending() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            log.warn("Outbox publication failed, pending events will be retried: {}", e.toString());
+        }
+    }
+
+    /**
+     * Publica lotes até esvaziar o outbox.
+     * * @return A quantidade de eventos publicados.
+     * @throws RuntimeException Se a entrega de um lote falhar; os lotes anteriores já foram confirmados.
+     */
+    public int drain() {
+        int total = 0;
+        int published;
+        do {
+            published = publishBatch();
+            total += published;
+        } while (published == properties.getBatchSize());
+        return total;
+    }
+
+    private int publishBatch() {
+        Integer published = transactionTemplate.execute(status -> {
+            List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(properties.getBatchSize());
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            outboxSink.publish(batch);
+            outboxEventRepository.deleteAllByIdInBatch(batch.stream().map(OutboxEvent::getId).toList());
+            return batch.size();
+        });
+        return published != null ? published : 0;
+    }
+}
@@ -0,0 +1,23 @@
+package edu.com.br.SistemasClinicos.service.Outbox;
+
+/**
+ * Interface de Serviço que define o contrato de gravação de eventos no outbox transacional.
+ * <p>
+ * Os eventos descrevem alterações de Pacientes, Doutores e Consultas para sistemas externos
+ * (faturamento, relatórios) e são publicados em segundo plano pelo {@link OutboxPublisher}.
+ */
+public interface OutboxService {
+
+    /**
+     * Grava um evento no outbox, na transação corrente.
+     * <p>
+     * Deve ser chamado dentro da mesma transação que altera a entidade, para que o evento seja
+     * confirmado (ou descartado) junto com ela.
+     * * @param aggregateType O tipo da entidade alterada (ex.: {@code Patient}).
+     * @param aggregateId O ID da entidade alterada.
+     * @param eventType O tipo do evento (ex.: {@code PatientCreated}).
+     * @param payload O conteúdo do evento, serializado como JSON.
+     * @throws org.springframework.transaction.IllegalTransactionStateException Se não houver transação ativa.
+     */
+    void record(String aggregateType, Long aggregateId, String eventType, Object payload);
+}
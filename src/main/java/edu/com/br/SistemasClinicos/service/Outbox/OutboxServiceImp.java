@@ -0,0 +1,51 @@
+package edu.com.br.SistemasClinicos.service.Outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.com.br.SistemasClinicos.model.OutboxEvent;
+import edu.com.br.SistemasClinicos.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.UncheckedIOException;
+import java.time.Instant;
+
+/**
+ * Implementação da interface {@code OutboxService}.
+ * <p>
+ * Cada evento custa um único INSERT no caminho de escrita: o ID vem de uma sequence com
+ * alocação em blocos e o INSERT é agrupado no batch JDBC do flush da transação.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxServiceImp implements OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Grava um evento no outbox, na transação corrente.
+     * * @param aggregateType O tipo da entidade alterada.
+     * @param aggregateId O ID da entidade alterada.
+     * @param eventType O tipo do evento.
+     * @param payload O conteúdo do evento, serializado como JSON.
+     * @throws org.springframework.transaction.IllegalTransactionStateException Se não houver transação ativa.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(String aggregateType, Long aggregateId, String eventType, Object payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.setAggregateType(aggregateType);
+        event.setAggregateId(aggregateId);
+        event.setEventType(eventType);
+        event.setCreatedAt(Instant.now());
+        try {
+            event.setPayload(objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        outboxEventRepository.save(event);
+    }
+}
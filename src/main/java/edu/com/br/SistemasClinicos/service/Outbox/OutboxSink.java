@@ -0,0 +1,23 @@
+package edu.com.br.SistemasClinicos.service.Outbox;
+
+import edu.com.br.SistemasClinicos.model.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Destino dos eventos publicados pelo {@link OutboxPublisher}.
+ * <p>
+ * A entrega é "pelo menos uma vez": um lote só é removido do outbox depois que
+ * {@link #publish(List)} retorna sem exceção. Se o publicador falhar depois disso, mas antes
+ * do commit, o lote é entregue de novo; os consumidores devem usar o ID do evento para
+ * descartar duplicatas.
+ */
+public interface OutboxSink {
+
+    /**
+     * Entrega um lote de eventos, em ordem crescente de ID.
+     * * @param events Os eventos do lote.
+     * @throws RuntimeException Se a entrega falhar; o lote permanece no outbox e é tentado de novo.
+     */
+    void publish(List<OutboxEvent> events);
+}
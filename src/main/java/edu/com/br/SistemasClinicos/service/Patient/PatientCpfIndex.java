@@ -0,0 +1,14 @@
+package edu.com.br.SistemasClinicos.service.Patient;
+
+import edu.com.br.SistemasClinicos.util.CpfIndex;
+import org.springframework.stereotype.Component;
+
+/**
+ * Índice em memória dos CPFs dos Pacientes.
+ * <p>
+ * Carregado na inicialização e atualizado após o commit de cada cadastro, alteração, exclusão
+ * e importação de Pacientes; ver {@link CpfIndex}.
+ */
+@Component
+public class PatientCpfIndex extends CpfIndex {
+}
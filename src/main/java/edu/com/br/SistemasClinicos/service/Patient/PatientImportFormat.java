@@ -0,0 +1,9 @@
+package edu.com.br.SistemasClinicos.service.Patient;
+
+/**
+ * Formatos aceitos na importação em massa de pacientes.
+ */
+public enum PatientImportFormat {
+    CSV,
+    NDJSON,
+}
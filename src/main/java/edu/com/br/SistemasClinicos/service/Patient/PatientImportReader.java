@@ -0,0 +1,182 @@
+package edu.com.br.SistemasClinicos.service.Patient;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import edu.com.br.SistemasClinicos.dto.Patient.PatientRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Leitor incremental das linhas de uma importação de pacientes.
+ * <p>
+ * Lê o corpo da requisição linha a linha, sem carregá-lo inteiro em memória. Suporta
+ * CSV (com cabeçalho contendo os nomes dos campos de {@link PatientRequest}, em qualquer
+ * ordem) e NDJSON (um objeto JSON por linha). Linhas que não puderem ser convertidas são
+ * devolvidas com a mensagem de erro, para que a importação continue.
+ */
+abstract class PatientImportReader {
+
+    private final BufferedReader reader;
+    private long line;
+
+    private PatientImportReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Cria um leitor de CSV. A primeira linha deve ser o cabeçalho.
+     * * @param reader O conteúdo a ser lido.
+     * @return O leitor de linhas.
+     */
+    static PatientImportReader csv(BufferedReader reader) {
+        return new CsvReader(reader);
+    }
+
+    /**
+     * Cria um leitor de NDJSON.
+     * * @param reader O conteúdo a ser lido.
+     * @param objectReader O leitor Jackson configurado para {@link PatientRequest}.
+     * @return O leitor de linhas.
+     */
+    static PatientImportReader ndjson(BufferedReader reader, ObjectReader objectReader) {
+        return new NdjsonReader(reader, objectReader);
+    }
+
+    /**
+     * Lê a próxima linha não vazia.
+     * * @return A linha lida, ou {@code null} ao fim do conteúdo.
+     */
+    Row next() {
+        String text;
+        do {
+            text = readLine();
+            if (text == null) {
+                return null;
+            }
+        } while (text.isBlank());
+
+        try {
+            return new Row(line, parse(text), null);
+        } catch (RuntimeException | IOException e) {
+            return new Row(line, null, "Malformed row: " + e.getMessage());
+        }
+    }
+
+    protected String readLine() {
+        try {
+            String text = reader.readLine();
+            if (text != null) {
+                line++;
+            }
+            return text;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    protected abstract PatientRequest parse(String text) throws IOException;
+
+    /**
+     * Uma linha lida da importação: o DTO convertido ou a mensagem de erro.
+     */
+    record Row(long line, PatientRequest request, String error) {
+    }
+
+    private static final class NdjsonReader extends PatientImportReader {
+
+        private final ObjectReader objectReader;
+
+        private NdjsonReader(BufferedReader reader, ObjectReader objectReader) {
+            super(reader);
+            this.objectReader = objectReader;
+        }
+
+        @Override
+        protected PatientRequest parse(String text) throws IOException {
+            return objectReader.readValue(text);
+        }
+    }
+
+    private static final class CsvReader extends PatientImportReader {
+
+        private Map<String, Integer> columns;
+
+        private CsvReader(BufferedReader reader) {
+            super(reader);
+        }
+
+        @Override
+        Row next() {
+            if (columns == null) {
+                String header = readLine();
+                if (header == null) {
+                    return null;
+                }
+                columns = new HashMap<>();
+                List<String> names = split(header);
+                for (int i = 0; i < names.size(); i++) {
+                    columns.put(names.get(i).trim(), i);
+                }
+            }
+            return super.next();
+        }
+
+        @Override
+        protected PatientRequest parse(String text) {
+            List<String> values = split(text);
+            PatientRequest request = new PatientRequest();
+            request.setName(value(values, "name"));
+            request.setCpf(value(values, "cpf"));
+            String dateBirth = value(values, "dateBirth");
+            request.setDateBirth(dateBirth == null || dateBirth.isBlank() ? null : Date.valueOf(dateBirth.trim()));
+            request.setPhone(value(values, "phone"));
+            request.setEmail(value(values, "email"));
+            request.setAddress(value(values, "address"));
+            request.setCity(value(values, "city"));
+            request.setState(value(values, "state"));
+            return request;
+        }
+
+        private String value(List<String> values, String column) {
+            Integer index = columns.get(column);
+            return index == null || index >= values.size() ? null : values.get(index);
+        }
+
+        /**
+         * Separa os campos de uma linha CSV, respeitando aspas duplas ({@code ""} escapa uma aspa).
+         */
+        private static List<String> split(String text) {
+            List<String> values = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        current.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(current.toString());
+                    current.setLength(0);
+                } else {
+                    current.append(c);
+                }
+            }
+            values.add(current.toString());
+            return values;
+        }
+    }
+}
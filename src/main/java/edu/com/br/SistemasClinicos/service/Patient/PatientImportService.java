@@ -0,0 +1,23 @@
+package edu.com.br.SistemasClinicos.service.Patient;
+
+import edu.com.br.SistemasClinicos.dto.Patient.PatientImportResponse;
+
+import java.io.InputStream;
+
+/**
+ * Interface que define o contrato de serviço para a importação em massa de Pacientes,
+ * usada na implantação de novas clínicas.
+ */
+public interface PatientImportService {
+
+    /**
+     * Importa pacientes a partir de um conteúdo CSV ou NDJSON, processando-o de forma incremental.
+     * <p>
+     * Linhas inválidas ou com CPF já cadastrado são rejeitadas individualmente, sem
+     * interromper a importação.
+     * * @param input O conteúdo a ser importado (codificado em UTF-8).
+     * @param format O formato do conteúdo.
+     * @return O relatório da importação, com os totais, a vazão e os erros por linha.
+     */
+    PatientImportResponse importPatients(InputStream input, PatientImportFormat format);
+}
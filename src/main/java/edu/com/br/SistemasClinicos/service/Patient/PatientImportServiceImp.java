@@ -0,0 +1,242 @@
+package edu.com.br.SistemasClinicos.service.Patient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import edu.com.br.SistemasClinicos.config.ImportProperties;
+import edu.com.br.SistemasClinicos.dto.Cpf.CpfIndexEntry;
+import edu.com.br.SistemasClinicos.dto.Patient.PatientImportError;
+import edu.com.br.SistemasClinicos.dto.Patient.PatientImportResponse;
+import edu.com.br.SistemasClinicos.dto.Patient.PatientRequest;
+import edu.com.br.SistemasClinicos.mapper.PatientMapper;
+import edu.com.br.SistemasClinicos.model.Patient;
+import edu.com.br.SistemasClinicos.repository.PatientRepository;
+import edu.com.br.SistemasClinicos.service.Outbox.OutboxService;
+import edu.com.br.SistemasClinicos.service.Patient.PatientImportReader.Row;
+import edu.com.br.SistemasClinicos.util.CpfIndex;
+import edu.com.br.SistemasClinicos.util.TransactionCallbacks;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementação da interface {@code PatientImportService}.
+ * <p>
+ * O conteúdo é lido linha a linha e processado em lotes de {@code clinic.import.chunk-size}
+ * linhas. Para cada lote: as linhas são validadas com as mesmas regras de {@link PatientRequest},
+ * os CPFs são verificados com uma única consulta {@code IN (...)} e as linhas válidas são
+ * inseridas com um INSERT em batch JDBC, em uma transação por lote. Isso evita o custo de
+ * um {@code existsByCpf}, um {@code save} e um INSERT com ID gerado por linha.
+ * <p>
+ * A consulta {@code IN (...)} inclui apenas os CPFs que o índice em memória ({@link PatientCpfIndex})
+ * não descarta; com o índice carregado e um lote de CPFs novos, ela nem é executada. Os CPFs
+ * inseridos são lidos com os seus IDs na mesma transação e indexados após o commit.
+ * <p>
+ * Com esses IDs, cada paciente inserido gera o seu evento {@code PatientCreated} no outbox, na
+ * mesma transação do lote e com o mesmo conteúdo do cadastro individual. Os eventos são gravados
+ * pelo {@link OutboxService}: os IDs vêm da sequence com alocação em blocos e os INSERTs são
+ * agrupados em batch JDBC no flush do commit.
+ */
+@Slf4j
+@Service
+@Timed("clinic.service")
+@RequiredArgsConstructor
+public class PatientImportServiceImp implements PatientImportService {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO patient (name, cpf, date_birth, phone, email, address, city, state, version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)
+            """;
+
+    private final PatientRepository patientRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ImportProperties importProperties;
+    private final PatientCpfIndex cpfIndex;
+    private final PatientMapper patientMapper;
+    private final OutboxService outboxService;
+
+    /**
+     * Importa os pacientes do conteúdo informado.
+     * * @param input O conteúdo a ser importado.
+     * @param format O formato do conteúdo.
+     * @return O relatório da importação.
+     */
+    @Override
+    public PatientImportResponse importPatients(InputStream input, PatientImportFormat format) {
+        long start = System.nanoTime();
+        PatientImportResponse report = new PatientImportResponse();
+        report.setTargetRowsPerSecond(importProperties.getTargetRowsPerSecond());
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            PatientImportReader rows = format == PatientImportFormat.CSV
+                    ? PatientImportReader.csv(reader)
+                    : PatientImportReader.ndjson(reader, objectMapper.readerFor(PatientRequest.class));
+
+            List<Row> chunk = new ArrayList<>(importProperties.getChunkSize());
+            Row row;
+            while ((row = rows.next()) != null) {
+                report.setReceived(report.getReceived() + 1);
+                chunk.add(row);
+                if (chunk.size() == importProperties.getChunkSize()) {
+                    importChunk(chunk, report);
+                    chunk.clear();
+                }
+            }
+            importChunk(chunk, report);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        long elapsedNanos = Math.max(1, System.nanoTime() - start);
+        report.setElapsedMillis(elapsedNanos / 1_000_000);
+        report.setRowsPerSecond(report.getReceived() * 1_000_000_000L / elapsedNanos);
+        if (report.getReceived() >= importProperties.getChunkSize()
+                && report.getRowsPerSecond() < importProperties.getTargetRowsPerSecond()) {
+            log.warn("Patient import below target throughput: {} rows/s (target {} rows/s, {} rows)",
+                    report.getRowsPerSecond(), importProperties.getTargetRowsPerSecond(), report.getReceived());
+        }
+        return report;
+    }
+
+    /**
+     * Valida, verifica os CPFs e insere um lote de linhas.
+     */
+    private void importChunk(List<Row> chunk, PatientImportResponse report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<Row> candidates = new ArrayList<>(chunk.size());
+        Set<String> chunkCpfs = new HashSet<>();
+        for (Row row : chunk) {
+            String error = row.error() != null ? row.error() : validate(row.request());
+            if (error == null && !chunkCpfs.add(row.request().getCpf())) {
+                error = "Duplicated CPF in import";
+            }
+            if (error != null) {
+                reject(report, row, error);
+            } else {
+                candidates.add(row);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        Set<String> existing = new HashSet<>();
+        List<String> unknown = chunkCpfs.stream()
+                .filter(cpf -> cpfIndex.find(cpf) != CpfIndex.ABSENT)
+                .toList();
+        if (!unknown.isEmpty()) {
+            existing.addAll(patientRepository.findExistingCpfs(unknown));
+        }
+        List<PatientRequest> toInsert = new ArrayList<>(candidates.size());
+        for (Row row : candidates) {
+            if (existing.contains(row.request().getCpf())) {
+                reject(report, row, "CPF exists");
+            } else {
+                toInsert.add(row.request());
+            }
+        }
+        if (toInsert.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertBatch(toInsert));
+            report.setImported(report.getImported() + toInsert.size());
+        } catch (DuplicateKeyException e) {
+            // Um CPF foi cadastrado por outra requisição entre a verificação e o INSERT:
+            // o lote é refeito linha a linha para rejeitar apenas as linhas em conflito.
+            for (Row row : candidates) {
+                if (!existing.contains(row.request().getCpf())) {
+                    insertSingle(row, report);
+                }
+            }
+        }
+    }
+
+    private void insertBatch(List<PatientRequest> requests) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, requests, requests.size(), PatientImportServiceImp::bind);
+        List<CpfIndexEntry> inserted = patientRepository.findCpfEntries(
+                requests.stream().map(PatientRequest::getCpf).toList());
+        recordCreated(requests, inserted);
+        TransactionCallbacks.afterCommit(() -> inserted.forEach(entry -> cpfIndex.put(null, entry.getCpf(), entry.getId())));
+    }
+
+    /**
+     * Grava o evento {@code PatientCreated} de cada paciente inserido no lote.
+     */
+    private void recordCreated(List<PatientRequest> requests, List<CpfIndexEntry> inserted) {
+        Map<String, PatientRequest> byCpf = requests.stream()
+                .collect(Collectors.toMap(PatientRequest::getCpf, Function.identity()));
+        for (CpfIndexEntry entry : inserted) {
+            Patient patient = patientMapper.toEntity(byCpf.get(entry.getCpf()));
+            patient.setId(entry.getId());
+            patient.setVersion(0L);
+            outboxService.record("Patient", entry.getId(), "PatientCreated", patientMapper.toResponse(patient));
+        }
+    }
+
+    private void insertSingle(Row row, PatientImportResponse report) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertBatch(List.of(row.request())));
+            report.setImported(report.getImported() + 1);
+        } catch (DuplicateKeyException e) {
+            reject(report, row, "CPF exists");
+        }
+    }
+
+    private static void bind(PreparedStatement ps, PatientRequest request) throws SQLException {
+        ps.setString(1, request.getName());
+        ps.setString(2, request.getCpf());
+        ps.setDate(3, request.getDateBirth());
+        ps.setString(4, request.getPhone());
+        ps.setString(5, request.getEmail());
+        ps.setString(6, request.getAddress());
+        ps.setString(7, request.getCity());
+        ps.setString(8, request.getState());
+    }
+
+    private String validate(PatientRequest request) {
+        Set<ConstraintViolation<PatientRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private void reject(PatientImportResponse report, Row row, String message) {
+        report.setRejected(report.getRejected() + 1);
+        if (report.getErrors().size() < importProperties.getMaxReportedErrors()) {
+            String cpf = row.request() != null ? row.request().getCpf() : null;
+            report.getErrors().add(new PatientImportError(row.line(), cpf, message));
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package edu.com.br.SistemasClinicos.service.Patient;
 
+import edu.com.br.SistemasClinicos.dto.Page.CursorPageResponse;
+import edu.com.br.SistemasClinicos.dto.Patient.PatientPatchRequest;
 import edu.com.br.SistemasClinicos.dto.Patient.PatientRequest;
 import edu.com.br.SistemasClinicos.dto.Patient.PatientResponse;
 
@@ -32,9 +34,24 @@ public interface PatientService {
      * e persiste a entidade atualizada.
      * * @param id O ID do Paciente a ser atualizado.
      * @param request O DTO contendo os novos dados do Paciente.
+     * @param expectedVersion A versão que o cliente leu ({@code If-Match}), ou {@code null} para não verificar.
      * @return O DTO de resposta do Paciente atualizado.
+     * @throws org.springframework.dao.OptimisticLockingFailureException Se o Paciente já estiver em outra versão.
      */
-    PatientResponse updatePatient(Long id,PatientRequest request);
+    PatientResponse updatePatient(Long id,PatientRequest request, Long expectedVersion);
+
+    /**
+     * Atualiza parcialmente um Paciente existente.
+     * <p>
+     * Apenas os campos presentes no {@code PatientPatchRequest} são alterados, e somente as
+     * colunas efetivamente modificadas são gravadas.
+     * * @param id O ID do Paciente a ser atualizado.
+     * @param request O DTO contendo os campos a serem alterados.
+     * @param expectedVersion A versão que o cliente leu ({@code If-Match}), ou {@code null} para não verificar.
+     * @return O DTO de resposta do Paciente atualizado.
+     * @throws org.springframework.dao.OptimisticLockingFailureException Se o Paciente já estiver em outra versão.
+     */
+    PatientResponse patchPatient(Long id, PatientPatchRequest request, Long expectedVersion);
 
     /**
      * Remove um Paciente do sistema pelo seu ID.
@@ -52,6 +69,22 @@ public interface PatientService {
      */
     PatientResponse findPatientById(Long id);
 
+    /**
+     * Busca um Paciente pelo CPF.
+     * * @param cpf O CPF do Paciente (11 dígitos).
+     * @return O DTO de resposta do Paciente encontrado.
+     * @throws RuntimeException Se o Paciente não for encontrado.
+     */
+    PatientResponse findPatientByCpf(String cpf);
+
+    /**
+     * Busca apenas a versão atual de um Paciente, sem carregar a entidade.
+     * * @param id O ID do Paciente.
+     * @return A versão do Paciente.
+     * @throws RuntimeException Se o Paciente não for encontrado.
+     */
+    Long findPatientVersion(Long id);
+
     /**
      * Retorna uma lista de todos os Pacientes cadastrados no sistema.
      * * @return Uma lista de DTOs {@code PatientResponse}.
@@ -59,11 +92,24 @@ public interface PatientService {
     List<PatientResponse> findAllPatients();
 
     /**
-     * Busca Pacientes cujo nome contenha a string fornecida.
+     * Retorna uma página de Pacientes usando paginação por cursor.
+     * <p>
+     * Diferente de {@link #findAllPatients()}, carrega apenas {@code limit} registros por
+     * chamada, mantendo memória e latência constantes para tabelas grandes.
+     * * @param after O cursor opaco recebido na página anterior ({@code null} para a primeira página).
+     * @param limit O tamanho de página desejado ({@code null} para o padrão).
+     * @return A página de DTOs {@code PatientResponse} e o cursor da próxima página.
+     */
+    CursorPageResponse<PatientResponse> findPatientsPage(String after, Integer limit);
+
+    /**
+     * Busca Pacientes cujo nome seja parecido com a string fornecida.
      * <p>
-     * A busca geralmente é case-insensitive (ignorando maiúsculas/minúsculas) e por correspondência parcial (LIKE).
+     * A busca ignora acentos e maiúsculas/minúsculas, tolera palavras omitidas ou com pequenas
+     * diferenças e retorna os resultados ordenados por similaridade.
      * * @param name A string de busca para o nome do Paciente.
+     * @param limit A quantidade máxima de resultados (opcional).
      * @return Uma lista de DTOs {@code PatientResponse} que correspondem ao critério.
      */
-    List<PatientResponse> findPatientByName(String name);
+    List<PatientResponse> findPatientByName(String name, Integer limit);
 }
\ No newline at end of file
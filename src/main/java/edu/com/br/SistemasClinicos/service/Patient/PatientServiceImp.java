@@ -1,16 +1,35 @@
 package edu.com.br.SistemasClinicos.service.Patient;
 
 
+import edu.com.br.SistemasClinicos.dto.Cpf.CpfIndexEntry;
+import edu.com.br.SistemasClinicos.dto.Page.CursorPageResponse;
+import edu.com.br.SistemasClinicos.dto.Patient.PatientPatchRequest;
 import edu.com.br.SistemasClinicos.dto.Patient.PatientRequest;
 import edu.com.br.SistemasClinicos.dto.Patient.PatientResponse;
 import edu.com.br.SistemasClinicos.mapper.PatientMapper;
 import edu.com.br.SistemasClinicos.model.Patient;
 import edu.com.br.SistemasClinicos.repository.PatientRepository;
+import edu.com.br.SistemasClinicos.service.Outbox.OutboxService;
+import edu.com.br.SistemasClinicos.util.CpfIndex;
+import edu.com.br.SistemasClinicos.util.CursorPagination;
+import edu.com.br.SistemasClinicos.util.TransactionCallbacks;
+import edu.com.br.SistemasClinicos.util.UniqueConstraints;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Implementação da interface {@code PatientService}.
@@ -18,35 +37,69 @@ import java.util.List;
  * Contém a lógica de negócio para o gerenciamento de Pacientes,
  * orquestrando o acesso a dados via {@code PatientRepository} e a conversão de objetos
  * via {@code PatientMapper}. Utiliza {@code @RequiredArgsConstructor} para injeção de dependência.
+ * <p>
+ * Toda escrita grava, na mesma transação, um evento no outbox ({@link OutboxService}) para os
+ * sistemas externos.
+ * <p>
+ * A unicidade do CPF é verificada no índice em memória ({@link PatientCpfIndex}), atualizado após
+ * o commit de cada escrita: um CPF ausente do índice dispensa a consulta ao banco, e a restrição
+ * UNIQUE da coluna continua decidindo as gravações concorrentes ou feitas por outra instância.
  */
+@Slf4j
 @Service
+@Timed("clinic.service")
 @RequiredArgsConstructor
 public class PatientServiceImp implements PatientService {
 
+    static final int DEFAULT_SEARCH_LIMIT = 20;
+    static final int MAX_SEARCH_LIMIT = 100;
+
     private final PatientRepository patientRepository;
     private final PatientMapper patientMapper;
+    private final OutboxService outboxService;
+    private final PatientCpfIndex cpfIndex;
+
+    /**
+     * Carrega o índice de CPFs com todos os Pacientes.
+     * <p>
+     * Executada na base principal, e não na réplica: um CPF gravado dentro do atraso de
+     * replicação ficaria fora do índice, e a criação de um cadastro com ele não consultaria o banco.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void loadCpfIndex() {
+        long start = System.nanoTime();
+        int indexed = cpfIndex.load(patientRepository::streamCpfEntries);
+        log.info("Indexed CPFs of {} patients in {} ms", indexed, (System.nanoTime() - start) / 1_000_000);
+    }
 
     /**
      * Cria um novo Paciente no sistema.
      * <p>
-     * 1. Verifica a unicidade do CPF usando o repositório.
+     * 1. Verifica a unicidade do CPF no índice em memória (e, se encontrado, no banco).
      * 2. Mapeia o DTO de requisição para a Entidade Paciente.
-     * 3. Persiste o Paciente no repositório.
-     * 4. Mapeia a Entidade salva para um DTO de resposta.
+     * 3. Persiste o Paciente no repositório; um CPF gravado nesse meio tempo é recusado pela
+     *    restrição UNIQUE do banco.
+     * 4. Mapeia a Entidade salva para um DTO de resposta e grava o evento {@code PatientCreated}.
+     * 5. Após o commit, indexa o CPF.
      * * @param request DTO contendo os dados do Paciente a ser criado.
      * @return DTO de resposta do Paciente criado.
      * @throws RuntimeException Se o CPF já existir.
      */
     @Override
+    @Transactional
     public PatientResponse createPatient(PatientRequest request) {
-        if (patientRepository.existsByCpf(request.getCpf())) {
+        if (cpfExists(request.getCpf())) {
             throw new RuntimeException("CPF exists"); // Lançar exceção de negócio (ex: CpfAlreadyExistsException)
         }
         Patient patient = patientMapper.toEntity(request);
 
-        Patient savedPatient =patientRepository.save(patient);
+        Patient savedPatient = saveAndFlush(patient);
+        index(null, savedPatient);
 
-        return patientMapper.toResponse(savedPatient);
+        PatientResponse response = patientMapper.toResponse(savedPatient);
+        outboxService.record("Patient", response.getId(), "PatientCreated", response);
+        return response;
     }
 
     /**
@@ -54,68 +107,211 @@ public class PatientServiceImp implements PatientService {
      * <p>
      * 1. Busca o Paciente existente pelo ID.
      * 2. Mapeia os dados da requisição para uma nova Entidade.
-     * 3. Mantém o ID original na nova Entidade mapeada para garantir a operação de atualização.
-     * 4. Persiste a Entidade atualizada.
+     * 3. Mantém o ID e a versão originais na nova Entidade mapeada para garantir a operação de atualização.
+     * 4. Persiste a Entidade atualizada; o Hibernate recusa a gravação se a versão tiver mudado nesse meio tempo.
+     * 5. Grava o evento {@code PatientUpdated}, se algo mudou.
      * * @param id O ID do Paciente a ser atualizado.
      * @param request DTO contendo os novos dados do Paciente.
+     * @param expectedVersion A versão que o cliente leu ({@code If-Match}), ou {@code null} para não verificar.
      * @return DTO de resposta do Paciente atualizado.
      * @throws RuntimeException Se o Paciente não for encontrado.
+     * @throws OptimisticLockingFailureException Se o Paciente já estiver em outra versão.
      */
     @Override
-    public PatientResponse updatePatient(Long id, PatientRequest request) {
+    @Transactional
+    public PatientResponse updatePatient(Long id, PatientRequest request, Long expectedVersion) {
         Patient patient = patientRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Patient not found"));
+        if (expectedVersion != null && !expectedVersion.equals(patient.getVersion())) {
+            throw new OptimisticLockingFailureException("Patient was modified by another request");
+        }
+        Long previousVersion = patient.getVersion();
+        String previousCpf = patient.getCpf();
 
         Patient updatedPatient = patientMapper.toEntity(request);
         updatedPatient.setId(patient.getId()); // Essencial para o JPA/Hibernate entender que é um update
+        updatedPatient.setVersion(previousVersion);
+
+        // flush para que a resposta e o evento já tragam a nova versão
+        updatedPatient = saveAndFlush(updatedPatient);
+        index(previousCpf, updatedPatient);
+
+        PatientResponse response = patientMapper.toResponse(updatedPatient);
+        if (!Objects.equals(previousVersion, response.getVersion())) {
+            outboxService.record("Patient", id, "PatientUpdated", response);
+        }
+        return response;
+    }
+
+    /**
+     * Atualiza parcialmente um Paciente existente.
+     * <p>
+     * 1. Busca o Paciente pelo ID (único SELECT), mantendo-o gerenciado na transação.
+     * 2. Aplica sobre ele apenas os campos presentes na requisição.
+     * 3. No flush, o Hibernate grava só as colunas alteradas ({@code @DynamicUpdate}) e a nova versão;
+     *    se nada mudou, nenhum UPDATE é emitido.
+     * 4. Grava o evento {@code PatientUpdated}, se algo mudou.
+     * * @param id O ID do Paciente a ser atualizado.
+     * @param request DTO contendo os campos a serem alterados.
+     * @param expectedVersion A versão que o cliente leu ({@code If-Match}), ou {@code null} para não verificar.
+     * @return DTO de resposta do Paciente atualizado.
+     * @throws RuntimeException Se o Paciente não for encontrado ou o novo CPF já existir.
+     * @throws OptimisticLockingFailureException Se o Paciente já estiver em outra versão.
+     */
+    @Override
+    @Transactional
+    public PatientResponse patchPatient(Long id, PatientPatchRequest request, Long expectedVersion) {
+        Patient patient = patientRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Patient not found"));
+        if (expectedVersion != null && !expectedVersion.equals(patient.getVersion())) {
+            throw new OptimisticLockingFailureException("Patient was modified by another request");
+        }
+        Long previousVersion = patient.getVersion();
+        String previousCpf = patient.getCpf();
+        if (request.getCpf() != null && !request.getCpf().equals(previousCpf) && cpfExists(request.getCpf())) {
+            throw new RuntimeException("CPF exists");
+        }
 
-        updatedPatient = patientRepository.save(updatedPatient);
-        return patientMapper.toResponse(updatedPatient);
+        patientMapper.patch(request, patient);
+
+        // flush para que a resposta e o evento já tragam a nova versão
+        Patient savedPatient = saveAndFlush(patient);
+        index(previousCpf, savedPatient);
+        PatientResponse response = patientMapper.toResponse(savedPatient);
+        if (!Objects.equals(previousVersion, response.getVersion())) {
+            outboxService.record("Patient", id, "PatientUpdated", response);
+        }
+        return response;
     }
 
     /**
-     * Exclui um Paciente do sistema pelo seu ID.
+     * Exclui um Paciente do sistema pelo seu ID, grava o evento {@code PatientDeleted} e, após o
+     * commit, remove o CPF do índice.
+     * <p>
+     * Um ID inexistente é ignorado, sem evento, para que os consumidores não recebam exclusões de
+     * cadastros que não existiam. O Paciente lido para obter o CPF é o mesmo que o
+     * {@code deleteById} carrega, sem consulta adicional.
      * * @param id O ID do Paciente a ser excluído.
-     * @throws org.springframework.dao.EmptyResultDataAccessException Se o ID não for encontrado (exceção padrão do Spring Data Jpa).
      */
     @Override
+    @Transactional
     public void deletePatient(Long id) {
-        patientRepository.deleteById(id);
+        patientRepository.findById(id).ifPresent(patient -> {
+            String cpf = patient.getCpf();
+            patientRepository.deleteById(id);
+            outboxService.record("Patient", id, "PatientDeleted", Map.of("id", id));
+            TransactionCallbacks.afterCommit(() -> cpfIndex.remove(cpf, id));
+        });
     }
 
     /**
      * Busca um Paciente pelo seu ID.
+     * <p>
+     * Executada na base principal, e não na réplica, para que a ETag devolvida corresponda à
+     * versão vista pelas atualizações com {@code If-Match}, e para que uma leitura logo após uma
+     * escrita já a veja.
      * * @param id O ID do Paciente a ser buscado.
      * @return DTO de resposta do Paciente encontrado.
      * @throws RuntimeException Se o Paciente não for encontrado.
      */
     @Override
+    @Transactional
     public PatientResponse findPatientById(Long id) {
         Patient patient = patientRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Patient not found"));
         return patientMapper.toResponse(patient);
     }
 
+    /**
+     * Busca um Paciente pelo CPF.
+     * <p>
+     * O ID vem do índice de CPFs em memória e o Paciente é lido pela chave primária. Se o CPF não
+     * estiver no índice, ou o índice estiver desatualizado (alterações feitas por outra instância),
+     * a busca é feita no banco pela coluna {@code cpf}, e o índice é corrigido. Por corrigir o
+     * índice, a busca é executada na base principal, e não na réplica, cujo atraso faria um
+     * cadastro recente parecer inexistente.
+     * * @param cpf O CPF do Paciente.
+     * @return DTO de resposta do Paciente encontrado.
+     * @throws RuntimeException Se o Paciente não for encontrado.
+     */
+    @Override
+    @Transactional
+    public PatientResponse findPatientByCpf(String cpf) {
+        long id = cpfIndex.find(cpf);
+        Optional<Patient> patient = id > 0
+                ? patientRepository.findById(id).filter(found -> cpf.equals(found.getCpf()))
+                : Optional.empty();
+        if (patient.isEmpty()) {
+            patient = patientRepository.findByCpf(cpf);
+            if (id > 0) {
+                cpfIndex.remove(cpf, id);
+            }
+            patient.ifPresent(found -> cpfIndex.put(null, cpf, found.getId()));
+        }
+        return patientMapper.toResponse(patient.orElseThrow(() -> new RuntimeException("Patient not found")));
+    }
+
+    /**
+     * Busca apenas a versão atual de um Paciente, com uma consulta de uma única coluna.
+     * <p>
+     * Executada na base principal, e não na réplica, como {@link #findPatientById}.
+     * * @param id O ID do Paciente.
+     * @return A versão do Paciente.
+     * @throws RuntimeException Se o Paciente não for encontrado.
+     */
+    @Override
+    @Transactional
+    public Long findPatientVersion(Long id) {
+        return patientRepository.findVersionById(id)
+                .orElseThrow(() -> new RuntimeException("Patient not found"));
+    }
+
     /**
      * Retorna todos os Pacientes cadastrados.
      * * @return Uma lista de DTOs {@code PatientResponse}.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<PatientResponse> findAllPatients() {
         return patientMapper.toResponseList(patientRepository.findAll());
     }
 
+    /**
+     * Retorna uma página de Pacientes a partir do cursor informado.
+     * <p>
+     * Busca {@code limit + 1} registros para saber se existe uma próxima página sem
+     * precisar de um {@code COUNT(*)} adicional.
+     * * @param after O cursor opaco da página anterior ({@code null} para a primeira página).
+     * @param limit O tamanho de página desejado.
+     * @return A página de DTOs {@code PatientResponse}.
+     * @throws RuntimeException Se o cursor for inválido.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<PatientResponse> findPatientsPage(String after, Integer limit) {
+        int pageSize = CursorPagination.pageSize(limit);
+        List<Patient> patients = patientRepository.findByIdGreaterThanOrderByIdAsc(
+                CursorPagination.decode(after), Limit.of(pageSize + 1));
+
+        return CursorPagination.toPage(patients, pageSize, Patient::getId, patientMapper::toResponseList);
+    }
+
     /**
      * Busca Pacientes pelo nome.
      * <p>
-     * Assume-se que {@code patientRepository.findByName(name)} realiza uma busca por correspondência.
+     * Usa a busca por similaridade de trigramas de {@code patientRepository.searchByName},
+     * apoiada por índice, limitada a {@value #DEFAULT_SEARCH_LIMIT} resultados por padrão
+     * (no máximo {@value #MAX_SEARCH_LIMIT}).
      * * @param name O nome ou parte do nome a ser buscado.
-     * @return Uma lista de DTOs {@code PatientResponse} correspondentes.
+     * @param limit A quantidade máxima de resultados (opcional).
+     * @return Uma lista de DTOs {@code PatientResponse} correspondentes, do mais para o menos similar.
      * @throws RuntimeException Se nenhum Paciente for encontrado com o nome fornecido.
      */
     @Override
-    public List<PatientResponse> findPatientByName(String name) {
-        List<Patient> patients = patientRepository.findByName(name);
+    @Transactional(readOnly = true)
+    public List<PatientResponse> findPatientByName(String name, Integer limit) {
+        int maxResults = limit == null || limit < 1 ? DEFAULT_SEARCH_LIMIT : Math.min(limit, MAX_SEARCH_LIMIT);
+        List<Patient> patients = patientRepository.searchByName(name.trim(), maxResults);
 
         if (patients.isEmpty()) {
             throw new RuntimeException("Patient not found");
@@ -125,4 +321,49 @@ public class PatientServiceImp implements PatientService {
                 .map(patientMapper::toResponse)
                 .toList();
     }
-}
\ No newline at end of file
+
+    /**
+     * Verifica se um CPF já está cadastrado.
+     * <p>
+     * Um CPF ausente do índice dispensa a consulta ao banco (a restrição UNIQUE decide as
+     * corridas); um CPF encontrado, ou que o índice não sabe responder, é confirmado no banco.
+     */
+    private boolean cpfExists(String cpf) {
+        long id = cpfIndex.find(cpf);
+        if (id == CpfIndex.ABSENT) {
+            return false;
+        }
+        boolean exists = patientRepository.existsByCpf(cpf);
+        if (!exists && id > 0) {
+            // Excluído ou alterado por outra instância
+            cpfIndex.remove(cpf, id);
+        }
+        return exists;
+    }
+
+    /**
+     * Grava o Paciente imediatamente, para que um CPF duplicado seja recusado aqui pela
+     * restrição UNIQUE, e não no commit. As demais violações (ex.: tamanho de coluna) são
+     * relançadas.
+     */
+    private Patient saveAndFlush(Patient patient) {
+        try {
+            Patient saved = patientRepository.save(patient);
+            patientRepository.flush();
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            if (UniqueConstraints.isViolated(e, "cpf")) {
+                throw new RuntimeException("CPF exists");
+            }
+            throw e;
+        }
+    }
+
+    private void index(String previousCpf, Patient patient) {
+        String cpf = patient.getCpf();
+        Long id = patient.getId();
+        if (id != null) {
+            TransactionCallbacks.afterCommit(() -> cpfIndex.put(previousCpf, cpf, id));
+        }
+    }
+}
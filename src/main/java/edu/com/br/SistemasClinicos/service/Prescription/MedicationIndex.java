@@ -0,0 +1,326 @@
+package edu.com.br.SistemasClinicos.service.Prescription;
+
+import edu.com.br.SistemasClinicos.dto.Prescription.PrescriptionIndexEntry;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Índice invertido em memória dos medicamentos das Receitas.
+ * <p>
+ * O texto livre de {@code Prescription.medications} é quebrado em termos normalizados
+ * (minúsculas, sem acentos, apenas letras e dígitos), e cada termo aponta para uma lista de
+ * ocorrências ordenada, guardada como um {@code long[]}. Cada ocorrência empacota a data de
+ * emissão e o ID da Receita em um único {@code long} ({@code epochDay << 40 | id}), de modo que
+ * a ordem numérica é a ordem cronológica: um intervalo de datas vira duas buscas binárias, e a
+ * mesma Receita tem o mesmo valor em todas as listas, o que permite intersectá-las diretamente.
+ * <p>
+ * O índice é carregado do banco na inicialização (ver {@link #load}) e atualizado após o
+ * commit de cada Receita criada ou alterada ({@link #index}). Uma recarga monta o novo índice
+ * fora do bloqueio, sem interromper as buscas, e reaplica ao final as alterações recebidas
+ * durante a leitura.
+ */
+@Component
+public class MedicationIndex {
+
+    private static final int ID_BITS = 40;
+    private static final long ID_MASK = (1L << ID_BITS) - 1;
+    private static final Pattern SEPARATOR = Pattern.compile("[^a-z0-9]+");
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private Map<String, PostingList> postings = new HashMap<>();
+    private Map<Long, Indexed> prescriptions = new HashMap<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private List<PrescriptionIndexEntry> pendingDuringLoad;
+
+    private volatile boolean ready;
+
+    /**
+     * Recarrega o índice a partir das Receitas já lidas, substituindo o conteúdo atual.
+     * <p>
+     * Apenas as alterações recebidas a partir desta chamada são reaplicadas; para ler do banco,
+     * use {@link #load(Supplier)}, que abre a consulta depois de começar a registrá-las.
+     * * @param entries As Receitas a serem indexadas, em ordem de emissão e ID.
+     * @return A quantidade de Receitas indexadas.
+     */
+    public int load(Stream<PrescriptionIndexEntry> entries) {
+        return load(() -> entries);
+    }
+
+    /**
+     * Recarrega o índice a partir das Receitas do banco, substituindo o conteúdo atual.
+     * <p>
+     * As buscas continuam respondendo com o índice anterior enquanto o novo é montado. As
+     * alterações recebidas passam a ser registradas antes de a consulta ser aberta, para que uma
+     * Receita confirmada entre a execução da consulta e o fim da leitura não se perca. As
+     * Receitas devem vir em ordem de emissão e ID, para que cada uma entre no fim das listas.
+     * * @param source Abre a leitura das Receitas, em ordem de emissão e ID; a leitura é fechada ao final.
+     * @return A quantidade de Receitas indexadas.
+     */
+    public int load(Supplier<Stream<PrescriptionIndexEntry>> source) {
+        lock.writeLock().lock();
+        try {
+            if (pendingDuringLoad != null) {
+                throw new RuntimeException("Medication index is already being rebuilt");
+            }
+            pendingDuringLoad = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<String, PostingList> newPostings = new HashMap<>();
+        Map<Long, Indexed> newPrescriptions = new HashMap<>();
+        try (Stream<PrescriptionIndexEntry> entries = source.get()) {
+            entries.forEach(entry -> put(newPostings, newPrescriptions, entry));
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringLoad = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            // Alterações confirmadas durante a leitura podem não estar no snapshot lido
+            for (PrescriptionIndexEntry entry : pendingDuringLoad) {
+                remove(newPostings, newPrescriptions, entry.getId());
+                put(newPostings, newPrescriptions, entry);
+            }
+            pendingDuringLoad = null;
+            postings = newPostings;
+            prescriptions = newPrescriptions;
+            ready = true;
+            return newPrescriptions.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Indexa uma Receita nova ou substitui a indexação de uma Receita alterada.
+     * * @param entry O ID, os medicamentos e a data de emissão da Receita.
+     */
+    public void index(PrescriptionIndexEntry entry) {
+        lock.writeLock().lock();
+        try {
+            remove(postings, prescriptions, entry.getId());
+            put(postings, prescriptions, entry);
+            if (pendingDuringLoad != null) {
+                pendingDuringLoad.add(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Busca as Receitas que contêm todos os termos do medicamento informado, emitidas em um
+     * intervalo de datas, das mais recentes para as mais antigas.
+     * * @param medication O nome do medicamento (um ou mais termos, todos obrigatórios).
+     * @param from A data de emissão mínima (inclusiva), ou {@code null} para não limitar.
+     * @param to A data de emissão máxima (inclusiva), ou {@code null} para não limitar.
+     * @param limit A quantidade máxima de IDs retornados.
+     * @return Os IDs das Receitas encontradas, da emissão mais recente para a mais antiga.
+     * @throws RuntimeException Se o índice ainda não foi carregado ou o medicamento não tiver termos.
+     */
+    public long[] search(String medication, LocalDate from, LocalDate to, int limit) {
+        if (!ready) {
+            throw new RuntimeException("Medication index is still loading, try again shortly");
+        }
+        String[] terms = tokenize(medication);
+        if (terms.length == 0) {
+            throw new RuntimeException("Medication must contain letters or digits");
+        }
+        long low = from != null ? from.toEpochDay() << ID_BITS : Long.MIN_VALUE;
+        long high = to != null ? (to.toEpochDay() + 1) << ID_BITS : Long.MAX_VALUE;
+
+        lock.readLock().lock();
+        try {
+            PostingList[] lists = new PostingList[terms.length];
+            for (int i = 0; i < terms.length; i++) {
+                lists[i] = postings.get(terms[i]);
+                if (lists[i] == null) {
+                    return new long[0];
+                }
+            }
+            // Percorre a lista mais curta, da mais recente para a mais antiga, e confirma cada
+            // ocorrência nas demais por busca binária; como a varredura é decrescente, cada busca
+            // fica restrita ao trecho à esquerda da anterior (em bounds)
+            Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+            PostingList shortest = lists[0];
+            int start = shortest.lowerBound(low);
+            int end = shortest.lowerBound(high);
+            int[] bounds = new int[lists.length];
+            for (int i = 1; i < lists.length; i++) {
+                bounds[i] = lists[i].lowerBound(high);
+            }
+            long[] result = new long[Math.max(0, Math.min(limit, end - start))];
+            int found = 0;
+            for (int i = end - 1; i >= start && found < result.length; i--) {
+                long posting = shortest.values[i];
+                if (containsInAll(lists, bounds, posting)) {
+                    result[found++] = posting & ID_MASK;
+                }
+            }
+            return found == result.length ? result : Arrays.copyOf(result, found);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Indica se o índice já foi carregado a partir do banco de dados.
+     * * @return {@code true} se o índice estiver pronto para uso.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Retorna a quantidade de Receitas indexadas.
+     * * @return O número de Receitas no índice.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return prescriptions.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Quebra um texto em termos normalizados e distintos: minúsculas, sem acentos e
+     * separados por qualquer caractere que não seja letra ou dígito.
+     * * @param text O texto livre (ex.: "Amoxicilina 500mg, Dipirona").
+     * @return Os termos, na ordem em que aparecem.
+     */
+    static String[] tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return new String[0];
+        }
+        String normalized = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        Set<String> terms = new LinkedHashSet<>();
+        for (String term : SEPARATOR.split(normalized)) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms.toArray(String[]::new);
+    }
+
+    private static boolean containsInAll(PostingList[] lists, int[] bounds, long posting) {
+        for (int i = 1; i < lists.length; i++) {
+            int index = Arrays.binarySearch(lists[i].values, 0, bounds[i], posting);
+            // As próximas ocorrências procuradas são menores: nada à direita deste ponto interessa
+            bounds[i] = index >= 0 ? index : -index - 1;
+            if (index < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void put(Map<String, PostingList> postings, Map<Long, Indexed> prescriptions,
+                            PrescriptionIndexEntry entry) {
+        String[] terms = tokenize(entry.getMedications());
+        if (terms.length == 0) {
+            return;
+        }
+        long posting = (entry.getIssueDate().toEpochDay() << ID_BITS) | entry.getId();
+        for (String term : terms) {
+            postings.computeIfAbsent(term, t -> new PostingList()).add(posting);
+        }
+        prescriptions.put(entry.getId(), new Indexed(posting, terms));
+    }
+
+    private static void remove(Map<String, PostingList> postings, Map<Long, Indexed> prescriptions, Long id) {
+        Indexed indexed = prescriptions.remove(id);
+        if (indexed == null) {
+            return;
+        }
+        for (String term : indexed.terms()) {
+            PostingList list = postings.get(term);
+            if (list != null && list.remove(indexed.posting()) && list.size == 0) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    /**
+     * A ocorrência empacotada de uma Receita indexada e os seus termos, para a remoção.
+     */
+    private record Indexed(long posting, String[] terms) {
+    }
+
+    /**
+     * Lista de ocorrências de um termo, ordenada e sem repetições, em um {@code long[]} que
+     * cresce sob demanda. Receitas novas, emitidas hoje e com IDs crescentes, entram no fim
+     * da lista, sem deslocamentos.
+     */
+    private static final class PostingList {
+
+        private long[] values = new long[4];
+        private int size;
+
+        void add(long posting) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            if (size == 0 || values[size - 1] < posting) {
+                values[size++] = posting;
+                return;
+            }
+            int index = Arrays.binarySearch(values, 0, size, posting);
+            if (index >= 0) {
+                return;
+            }
+            index = -index - 1;
+            System.arraycopy(values, index, values, index + 1, size - index);
+            values[index] = posting;
+            size++;
+        }
+
+        boolean remove(long posting) {
+            int index = Arrays.binarySearch(values, 0, size, posting);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(values, index + 1, values, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        int lowerBound(long posting) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] < posting) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package edu.com.br.SistemasClinicos.service.Prescription;
+
+import edu.com.br.SistemasClinicos.dto.Prescription.PrescriptionMatch;
+import edu.com.br.SistemasClinicos.dto.Prescription.PrescriptionRequest;
+import edu.com.br.SistemasClinicos.dto.Prescription.PrescriptionResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Interface que define o contrato de serviço para as operações de negócio
+ * relacionadas à entidade Receita (Prescription).
+ * <p>
+ * A implementação desta interface deve manter o índice de medicamentos sincronizado com
+ * as Receitas emitidas e alteradas.
+ */
+public interface PrescriptionService {
+
+    /**
+     * Emite uma Receita para uma Consulta.
+     * * @param request O DTO contendo os dados da Receita.
+     * @return O DTO de resposta da Receita criada, incluindo o ID gerado.
+     */
+    PrescriptionResponse createPrescription(PrescriptionRequest request);
+
+    /**
+     * Altera as orientações, os medicamentos ou a data de emissão de uma Receita.
+     * * @param id O ID da Receita a ser alterada.
+     * @param request O DTO contendo os novos dados da Receita.
+     * @return O DTO de resposta da Receita alterada.
+     */
+    PrescriptionResponse updatePrescription(Long id, PrescriptionRequest request);
+
+    /**
+     * Busca uma Receita específica pelo seu ID.
+     * * @param id O ID da Receita a ser encontrada.
+     * @return O DTO de resposta da Receita encontrada.
+     */
+    PrescriptionResponse findPrescriptionById(Long id);
+
+    /**
+     * Busca as Receitas que contêm um medicamento, emitidas em um intervalo de datas.
+     * * @param medication O nome do medicamento.
+     * @param from A data de emissão mínima (opcional, inclusiva).
+     * @param to A data de emissão máxima (opcional, inclusiva).
+     * @param limit A quantidade máxima de resultados (opcional).
+     * @return As Receitas encontradas, da emissão mais recente para a mais antiga.
+     */
+    List<PrescriptionMatch> findByMedication(String medication, LocalDate from, LocalDate to, Integer limit);
+
+    /**
+     * Reconstrói o índice de medicamentos a partir do banco de dados.
+     * * @return A quantidade de Receitas indexadas.
+     */
+    int rebuildMedicationIndex();
+}
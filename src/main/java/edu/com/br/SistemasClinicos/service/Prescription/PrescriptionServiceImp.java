@@ -0,0 +1,199 @@
+package edu.com.br.SistemasClinicos.service.Prescription;
+
+import edu.com.br.SistemasClinicos.config.CacheConfig;
+import edu.com.br.SistemasClinicos.dto.Prescription.PrescriptionIndexEntry;
+import edu.com.br.SistemasClinicos.dto.Prescription.PrescriptionMatch;
+import edu.com.br.SistemasClinicos.dto.Prescription.PrescriptionRequest;
+import edu.com.br.SistemasClinicos.dto.Prescription.PrescriptionResponse;
+import edu.com.br.SistemasClinicos.mapper.PrescriptionMapper;
+import edu.com.br.SistemasClinicos.model.Appointment;
+import edu.com.br.SistemasClinicos.model.AppointmentStatus;
+import edu.com.br.SistemasClinicos.model.Prescription;
+import edu.com.br.SistemasClinicos.repository.AppointmentRepository;
+import edu.com.br.SistemasClinicos.repository.PrescriptionRepository;
+import edu.com.br.SistemasClinicos.service.Outbox.OutboxService;
+import edu.com.br.SistemasClinicos.util.TransactionCallbacks;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementação da interface {@code PrescriptionService}.
+ * <p>
+ * A busca por medicamento é respondida pelo {@link MedicationIndex} em memória, sem
+ * {@code LIKE '%...%'} sobre a tabela inteira: o índice devolve os IDs das Receitas do
+ * intervalo de datas e apenas essas linhas são lidas do banco, em uma única consulta.
+ * O índice é carregado quando a aplicação fica pronta e atualizado após o commit de cada
+ * Receita criada ou alterada.
+ * <p>
+ * Toda escrita grava, na mesma transação, um evento no outbox ({@link OutboxService}).
+ */
+@Slf4j
+@Service
+@Timed("clinic.service")
+@RequiredArgsConstructor
+public class PrescriptionServiceImp implements PrescriptionService {
+
+    static final int DEFAULT_SEARCH_LIMIT = 100;
+    static final int MAX_SEARCH_LIMIT = 1000;
+
+    private final PrescriptionRepository prescriptionRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final PrescriptionMapper prescriptionMapper;
+    private final MedicationIndex medicationIndex;
+    private final OutboxService outboxService;
+    private final CacheManager cacheManager;
+
+    /**
+     * Carrega o índice de medicamentos com todas as Receitas.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void loadMedicationIndex() {
+        rebuildMedicationIndex();
+    }
+
+    /**
+     * Emite uma Receita.
+     * <p>
+     * 1. Busca a Consulta, que não pode estar cancelada nem já ter uma Receita.
+     * 2. Persiste a Receita.
+     * 3. Após o commit, indexa os medicamentos e invalida a agenda do dia da Consulta,
+     *    que indica quais consultas já têm Receita.
+     * * @param request DTO contendo os dados da Receita.
+     * @return DTO de resposta da Receita criada.
+     * @throws RuntimeException Se a Consulta não for encontrada, estiver cancelada ou já tiver uma Receita.
+     */
+    @Override
+    @Transactional
+    public PrescriptionResponse createPrescription(PrescriptionRequest request) {
+        Appointment appointment = appointmentRepository.findById(request.getAppointmentId())
+                .orElseThrow(() -> new RuntimeException("Appointment not found"));
+        if (appointment.getStatus() == AppointmentStatus.CANCELLED) {
+            throw new RuntimeException("Cancelled appointments cannot have prescriptions");
+        }
+        if (prescriptionRepository.existsByAppointmentId(appointment.getId())) {
+            throw new RuntimeException("Appointment already has a prescription");
+        }
+
+        Prescription prescription = prescriptionMapper.toEntity(request);
+        prescription.setAppointment(appointment);
+        Prescription savedPrescription = prescriptionRepository.save(prescription);
+
+        PrescriptionIndexEntry entry = prescriptionMapper.toIndexEntry(savedPrescription);
+        TransactionCallbacks.afterCommit(() -> medicationIndex.index(entry));
+        Cache agenda = cacheManager.getCache(CacheConfig.DOCTOR_AGENDA);
+        if (agenda != null) {
+            agenda.evict(CacheConfig.doctorAgendaKey(
+                    appointment.getDoctor().getId(), appointment.getDateTime().toLocalDate()));
+        }
+
+        PrescriptionResponse response = prescriptionMapper.toResponse(savedPrescription);
+        outboxService.record("Prescription", response.getId(), "PrescriptionIssued", response);
+        return response;
+    }
+
+    /**
+     * Altera uma Receita e, após o commit, reindexa os seus medicamentos.
+     * * @param id O ID da Receita.
+     * @param request DTO contendo os novos dados da Receita.
+     * @return DTO de resposta da Receita alterada.
+     * @throws RuntimeException Se a Receita não for encontrada ou a requisição indicar outra Consulta.
+     */
+    @Override
+    @Transactional
+    public PrescriptionResponse updatePrescription(Long id, PrescriptionRequest request) {
+        Prescription prescription = prescriptionRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Prescription not found"));
+        if (!prescription.getAppointment().getId().equals(request.getAppointmentId())) {
+            throw new RuntimeException("Prescription cannot be moved to another appointment");
+        }
+
+        prescriptionMapper.updateEntity(request, prescription);
+        Prescription savedPrescription = prescriptionRepository.save(prescription);
+
+        PrescriptionIndexEntry entry = prescriptionMapper.toIndexEntry(savedPrescription);
+        TransactionCallbacks.afterCommit(() -> medicationIndex.index(entry));
+
+        PrescriptionResponse response = prescriptionMapper.toResponse(savedPrescription);
+        outboxService.record("Prescription", id, "PrescriptionUpdated", response);
+        return response;
+    }
+
+    /**
+     * Busca uma Receita pelo seu ID.
+     * <p>
+     * Executada na base principal, e não na réplica, como as demais buscas por ID.
+     * * @param id O ID da Receita.
+     * @return DTO de resposta da Receita encontrada.
+     * @throws RuntimeException Se a Receita não for encontrada.
+     */
+    @Override
+    @Transactional
+    public PrescriptionResponse findPrescriptionById(Long id) {
+        Prescription prescription = prescriptionRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Prescription not found"));
+        return prescriptionMapper.toResponse(prescription);
+    }
+
+    /**
+     * Busca as Receitas que contêm um medicamento.
+     * <p>
+     * Os IDs vêm do {@link MedicationIndex}, já filtrados pelo intervalo de datas e limitados a
+     * {@value #DEFAULT_SEARCH_LIMIT} resultados por padrão (no máximo {@value #MAX_SEARCH_LIMIT});
+     * os dados do Paciente e do Doutor são lidos em uma única consulta pelos IDs.
+     * * @param medication O nome do medicamento (todos os termos devem constar na Receita).
+     * @param from A data de emissão mínima (opcional, inclusiva).
+     * @param to A data de emissão máxima (opcional, inclusiva).
+     * @param limit A quantidade máxima de resultados (opcional).
+     * @return As Receitas encontradas, da emissão mais recente para a mais antiga.
+     * @throws RuntimeException Se o índice ainda estiver sendo carregado ou o medicamento for inválido.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<PrescriptionMatch> findByMedication(String medication, LocalDate from, LocalDate to, Integer limit) {
+        int maxResults = limit == null || limit < 1 ? DEFAULT_SEARCH_LIMIT : Math.min(limit, MAX_SEARCH_LIMIT);
+        long[] ids = medicationIndex.search(medication, from, to, maxResults);
+        if (ids.length == 0) {
+            return List.of();
+        }
+
+        // Devolve na ordem do índice (emissão mais recente primeiro)
+        Map<Long, Integer> positions = new HashMap<>(ids.length * 2);
+        for (int i = 0; i < ids.length; i++) {
+            positions.put(ids[i], i);
+        }
+        return prescriptionRepository.findMatchesByIdIn(Arrays.stream(ids).boxed().toList()).stream()
+                .sorted(Comparator.comparing(match -> positions.get(match.getPrescriptionId())))
+                .toList();
+    }
+
+    /**
+     * Reconstrói o índice de medicamentos lendo todas as Receitas de um cursor no banco.
+     * <p>
+     * As buscas continuam sendo respondidas pelo índice anterior durante a leitura. Executada na
+     * base principal, e não na réplica, para que o índice não perca Receitas recém-emitidas.
+     * * @return A quantidade de Receitas indexadas.
+     */
+    @Override
+    @Transactional
+    public int rebuildMedicationIndex() {
+        long start = System.nanoTime();
+        int indexed = medicationIndex.load(prescriptionRepository::streamIndexEntries);
+        log.info("Indexed medications of {} prescriptions in {} ms", indexed, (System.nanoTime() - start) / 1_000_000);
+        return indexed;
+    }
+}
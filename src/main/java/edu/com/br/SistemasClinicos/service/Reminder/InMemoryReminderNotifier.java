@@ -0,0 +1,36 @@
+package edu.com.br.SistemasClinicos.service.Reminder;
+
+import edu.com.br.SistemasClinicos.dto.Reminder.AppointmentReminder;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Destino que mantém os lembretes enviados em memória ({@code clinic.reminders.notifier=memory}).
+ * <p>
+ * Usado em testes e em desenvolvimento para inspecionar os lembretes entregues.
+ */
+public class InMemoryReminderNotifier implements ReminderNotifier {
+
+    private final List<AppointmentReminder> reminders = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void send(AppointmentReminder reminder) {
+        reminders.add(reminder);
+    }
+
+    /**
+     * Retorna uma cópia dos lembretes enviados até o momento, em ordem de envio.
+     * * @return Os lembretes enviados.
+     */
+    public List<AppointmentReminder> getReminders() {
+        return List.copyOf(reminders);
+    }
+
+    /**
+     * Descarta os lembretes enviados.
+     */
+    public void clear() {
+        reminders.clear();
+    }
+}
@@ -0,0 +1,18 @@
+package edu.com.br.SistemasClinicos.service.Reminder;
+
+import edu.com.br.SistemasClinicos.dto.Reminder.AppointmentReminder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Destino que apenas registra os lembretes no log da aplicação ({@code clinic.reminders.notifier=log}).
+ */
+@Slf4j
+public class LogReminderNotifier implements ReminderNotifier {
+
+    @Override
+    public void send(AppointmentReminder reminder) {
+        log.info("Reminder for appointment {} at {} ({} before) to patient {} <{}>",
+                reminder.getAppointmentId(), reminder.getDateTime(), reminder.getLeadTime(),
+                reminder.getPatientId(), reminder.getPatientEmail());
+    }
+}
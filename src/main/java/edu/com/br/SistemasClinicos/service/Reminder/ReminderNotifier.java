@@ -0,0 +1,21 @@
+package edu.com.br.SistemasClinicos.service.Reminder;
+
+import edu.com.br.SistemasClinicos.dto.Reminder.AppointmentReminder;
+
+/**
+ * Destino dos lembretes de consulta vencidos (e-mail, SMS, WhatsApp etc.).
+ * <p>
+ * Cada lembrete é registrado em {@code reminder_dispatch} na mesma transação em que
+ * {@link #send} é chamado: se o envio falhar, o registro é desfeito e o lembrete é tentado de
+ * novo no minuto seguinte; se o commit falhar depois do envio, o lembrete pode ser entregue
+ * duas vezes.
+ */
+public interface ReminderNotifier {
+
+    /**
+     * Envia um lembrete ao Paciente.
+     * * @param reminder O lembrete, com a consulta e os contatos do Paciente.
+     * @throws RuntimeException Se o envio falhar; o lembrete é tentado de novo.
+     */
+    void send(AppointmentReminder reminder);
+}
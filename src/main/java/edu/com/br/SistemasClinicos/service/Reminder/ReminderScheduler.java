@@ -0,0 +1,434 @@
+package edu.com.br.SistemasClinicos.service.Reminder;
+
+import edu.com.br.SistemasClinicos.config.ReminderProperties;
+import edu.com.br.SistemasClinicos.dto.Reminder.AppointmentReminder;
+import edu.com.br.SistemasClinicos.dto.Reminder.ReminderCandidate;
+import edu.com.br.SistemasClinicos.dto.Reminder.ReminderTarget;
+import edu.com.br.SistemasClinicos.model.AppointmentStatus;
+import edu.com.br.SistemasClinicos.repository.AppointmentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Agendador dos lembretes de consulta (por padrão, 24h e 2h antes do início).
+ * <p>
+ * Em vez de consultar a tabela de consultas a cada minuto, as consultas agendadas que começam
+ * dentro do horizonte ({@code clinic.reminders.horizon}) ficam em uma {@link TimingWheel} com
+ * ticks de um minuto, cada uma com o seu próximo lembrete. A roda é carregada na inicialização,
+ * recebe as consultas que entram no horizonte a cada {@code refill-interval} e é atualizada
+ * após o commit de cada agendamento, reagendamento, cancelamento ou conclusão.
+ * <p>
+ * A cada tick, os lembretes vencidos são conferidos no banco em lote (a consulta ainda deve
+ * estar agendada, no mesmo horário) e enviados ao {@link ReminderNotifier}. Cada envio é
+ * registrado em {@code reminder_dispatch}, cuja chave impede envios duplicados entre instâncias.
+ * Na inicialização, esse registro indica os lembretes já enviados: dos que venceram com a
+ * aplicação parada, apenas o mais recente é enviado, desde que a consulta ainda não tenha começado.
+ */
+@Slf4j
+@Component
+public class ReminderScheduler {
+
+    private static final int STAGE_BITS = 8;
+    private static final long STAGE_MASK = (1L << STAGE_BITS) - 1;
+    private static final int TARGET_BATCH_SIZE = 500;
+    private static final String CLAIM_SQL = """
+            INSERT INTO reminder_dispatch (appointment_id, appointment_time, offset_minutes, sent_at)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private final AppointmentRepository appointmentRepository;
+    private final ReminderNotifier notifier;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ReminderProperties properties;
+
+    /** Antecedências em minutos, da maior para a menor; o índice é o estágio do lembrete. */
+    private final int[] offsetMinutes;
+    private final long horizonMinutes;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private TimingWheel wheel;
+    private long loadedUntil;
+
+    public ReminderScheduler(AppointmentRepository appointmentRepository, ReminderNotifier notifier,
+                             JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                             ReminderProperties properties) {
+        this.appointmentRepository = appointmentRepository;
+        this.notifier = notifier;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.offsetMinutes = properties.getOffsets().stream()
+                .mapToInt(offset -> (int) offset.toMinutes())
+                .filter(minutes -> minutes > 0)
+                .map(minutes -> -minutes).sorted().map(minutes -> -minutes)
+                .distinct()
+                .toArray();
+        this.horizonMinutes = properties.getHorizon().toMinutes();
+        if (horizonMinutes >= TimingWheel.SPAN) {
+            throw new IllegalArgumentException("clinic.reminders.horizon must be shorter than "
+                    + Duration.ofMinutes(TimingWheel.SPAN));
+        }
+        long now = minute(LocalDateTime.now());
+        this.wheel = new TimingWheel(now, properties.getMaxPending());
+        this.loadedUntil = now + horizonMinutes;
+    }
+
+    /**
+     * Carrega a roda com as consultas do horizonte quando a aplicação fica pronta.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload(LocalDateTime.now());
+    }
+
+    /**
+     * Descarta a roda atual e a recarrega a partir do banco, retomando os lembretes que
+     * venceram sem ser enviados (ver {@code reminder_dispatch}).
+     * * @param now O instante atual.
+     * @return A quantidade de consultas carregadas.
+     */
+    public int reload(LocalDateTime now) {
+        if (!properties.isEnabled()) {
+            return 0;
+        }
+        long nowMinute = minute(now);
+        lock.lock();
+        try {
+            wheel = new TimingWheel(nowMinute, properties.getMaxPending());
+            loadedUntil = nowMinute + horizonMinutes;
+        } finally {
+            lock.unlock();
+        }
+        int loaded = loadRange(nowMinute, nowMinute + horizonMinutes, nowMinute);
+        log.info("Loaded {} appointments into the reminder wheel", loaded);
+        return loaded;
+    }
+
+    /**
+     * Rodada agendada de carga das consultas que entraram no horizonte.
+     */
+    @Scheduled(fixedDelayString = "${clinic.reminders.refill-interval:1h}")
+    public void refill() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            extendHorizon(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.warn("Reminder refill failed, it will be retried: {}", e.toString());
+        }
+    }
+
+    /**
+     * Avança o horizonte até {@code now + horizon}, carregando as consultas do trecho novo, e
+     * remove do registro de envios as consultas mais antigas que {@code retention}.
+     * * @param now O instante atual.
+     * @return A quantidade de consultas carregadas.
+     */
+    public int extendHorizon(LocalDateTime now) {
+        long nowMinute = minute(now);
+        long from;
+        long to = nowMinute + horizonMinutes;
+        lock.lock();
+        try {
+            from = loadedUntil;
+            if (to <= from) {
+                return 0;
+            }
+            // Agendamentos confirmados a partir daqui já entram na roda (ver schedule)
+            loadedUntil = to;
+        } finally {
+            lock.unlock();
+        }
+        int loaded;
+        try {
+            loaded = loadRange(from, to, nowMinute);
+        } catch (RuntimeException e) {
+            lock.lock();
+            try {
+                loadedUntil = Math.min(loadedUntil, from);
+            } finally {
+                lock.unlock();
+            }
+            throw e;
+        }
+        jdbcTemplate.update("DELETE FROM reminder_dispatch WHERE appointment_time < ?",
+                Timestamp.valueOf(now.minus(properties.getRetention())));
+        return loaded;
+    }
+
+    /**
+     * Tick agendado da roda, executado {@code clinic.reminders.tick-interval} após o anterior.
+     */
+    @Scheduled(fixedDelayString = "${clinic.reminders.tick-interval:30s}")
+    public void tick() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            advance(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.warn("Reminder tick failed: {}", e.toString());
+        }
+    }
+
+    /**
+     * Avança a roda até o minuto atual e envia os lembretes vencidos.
+     * <p>
+     * Se vários lembretes da mesma consulta venceram (ex.: após uma pausa longa), apenas o
+     * mais recente é enviado. Lembretes cujo envio falha voltam à roda para o minuto seguinte.
+     * * @param now O instante atual.
+     * @return A quantidade de lembretes enviados.
+     */
+    public int advance(LocalDateTime now) {
+        long nowMinute = minute(now);
+        List<Due> due = new ArrayList<>();
+        lock.lock();
+        try {
+            wheel.advance(nowMinute, (id, data) -> due.add(new Due(id, data >>> STAGE_BITS, (int) (data & STAGE_MASK))));
+            for (int i = 0; i < due.size(); i++) {
+                Due expired = due.get(i);
+                int stage = latestDueStage(expired.stage(), expired.appointmentMinute(), nowMinute);
+                due.set(i, new Due(expired.id(), expired.appointmentMinute(), stage));
+                if (stage + 1 < offsetMinutes.length && expired.appointmentMinute() > nowMinute) {
+                    scheduleStage(expired.id(), expired.appointmentMinute(), stage + 1);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        int sent = 0;
+        for (int from = 0; from < due.size(); from += TARGET_BATCH_SIZE) {
+            sent += dispatch(due.subList(from, Math.min(from + TARGET_BATCH_SIZE, due.size())), now);
+        }
+        return sent;
+    }
+
+    /**
+     * Coloca (ou recoloca) uma consulta na roda após o commit de um agendamento ou reagendamento.
+     * <p>
+     * Lembretes cuja antecedência já passou não são enviados (ex.: uma consulta marcada para
+     * daqui a 3 horas recebe apenas o lembrete de 2h). Consultas além do horizonte são carregadas
+     * quando o horizonte as alcançar.
+     * * @param appointmentId O ID da consulta.
+     * @param dateTime O horário (novo) da consulta.
+     */
+    public void schedule(Long appointmentId, LocalDateTime dateTime) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long nowMinute = minute(LocalDateTime.now());
+        long appointmentMinute = minute(dateTime);
+        lock.lock();
+        try {
+            if (appointmentMinute > loadedUntil) {
+                wheel.cancel(appointmentId);
+            } else {
+                place(appointmentId, appointmentMinute, null, nowMinute, false);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove os lembretes pendentes de uma consulta cancelada ou realizada.
+     * * @param appointmentId O ID da consulta.
+     */
+    public void cancel(Long appointmentId) {
+        lock.lock();
+        try {
+            wheel.cancel(appointmentId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retorna a quantidade de consultas com lembrete pendente na roda.
+     * * @return O número de consultas na roda.
+     */
+    public int pending() {
+        lock.lock();
+        try {
+            return wheel.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int loadRange(long fromMinute, long toMinute, long nowMinute) {
+        // Lido no primário, e não na réplica: o trecho já foi marcado como carregado (loadedUntil),
+        // e um agendamento recente ainda ausente da réplica ficaria fora da roda
+        Integer loaded = transactionTemplate.execute(status -> {
+            int count = 0;
+            try (Stream<ReminderCandidate> candidates = appointmentRepository.streamReminderCandidates(
+                    AppointmentStatus.SCHEDULED, time(fromMinute), time(toMinute))) {
+                for (ReminderCandidate candidate : (Iterable<ReminderCandidate>) candidates::iterator) {
+                    lock.lock();
+                    try {
+                        place(candidate.getAppointmentId(), minute(candidate.getDateTime()),
+                                candidate.getSentOffsetMinutes(), nowMinute, true);
+                    } finally {
+                        lock.unlock();
+                    }
+                    count++;
+                }
+            }
+            return count;
+        });
+        return loaded != null ? loaded : 0;
+    }
+
+    /**
+     * Escolhe o próximo lembrete de uma consulta e a coloca na roda. Deve ser chamado com o
+     * bloqueio obtido.
+     * * @param sentOffsetMinutes A menor antecedência já enviada, ou {@code null}.
+     * @param catchUp Se {@code true}, o mais recente dos lembretes já vencidos é enviado no
+     *                próximo tick; caso contrário, lembretes vencidos são descartados.
+     */
+    private void place(long appointmentId, long appointmentMinute, Integer sentOffsetMinutes,
+                       long nowMinute, boolean catchUp) {
+        int stage = 0;
+        if (sentOffsetMinutes != null) {
+            while (stage < offsetMinutes.length && offsetMinutes[stage] >= sentOffsetMinutes) {
+                stage++;
+            }
+        }
+        if (catchUp) {
+            stage = latestDueStage(stage, appointmentMinute, nowMinute);
+        } else {
+            while (stage < offsetMinutes.length && appointmentMinute - offsetMinutes[stage] <= nowMinute) {
+                stage++;
+            }
+        }
+        if (appointmentMinute <= nowMinute || stage >= offsetMinutes.length) {
+            wheel.cancel(appointmentId);
+            return;
+        }
+        scheduleStage(appointmentId, appointmentMinute, stage);
+    }
+
+    private int latestDueStage(int stage, long appointmentMinute, long nowMinute) {
+        while (stage + 1 < offsetMinutes.length && appointmentMinute - offsetMinutes[stage + 1] <= nowMinute) {
+            stage++;
+        }
+        return stage;
+    }
+
+    private void scheduleStage(long appointmentId, long appointmentMinute, int stage) {
+        long deadline = appointmentMinute - offsetMinutes[stage];
+        if (!wheel.schedule(appointmentId, pack(appointmentMinute, stage), deadline)) {
+            // Roda cheia: a consulta volta a ser carregada na próxima ampliação do horizonte
+            loadedUntil = Math.min(loadedUntil, appointmentMinute - 1);
+            log.warn("Reminder wheel is full ({} appointments), appointment {} will be retried",
+                    wheel.size(), appointmentId);
+        }
+    }
+
+    private int dispatch(List<Due> batch, LocalDateTime now) {
+        Map<Long, ReminderTarget> targets = new HashMap<>();
+        try {
+            // Lido no primário (transação de escrita), e não na réplica: um cancelamento
+            // recente não pode ser ignorado
+            transactionTemplate.execute(status ->
+                    appointmentRepository.findReminderTargets(batch.stream().map(Due::id).toList()))
+                    .forEach(target -> targets.put(target.getAppointmentId(), target));
+        } catch (RuntimeException e) {
+            log.warn("Could not load {} due reminders, retrying in a minute: {}", batch.size(), e.toString());
+            batch.forEach(due -> retry(due, minute(now)));
+            return 0;
+        }
+
+        int sent = 0;
+        for (Due due : batch) {
+            ReminderTarget target = targets.get(due.id());
+            if (target == null || target.getStatus() != AppointmentStatus.SCHEDULED
+                    || minute(target.getDateTime()) != due.appointmentMinute() || !target.getDateTime().isAfter(now)) {
+                continue;
+            }
+            if (send(target, due, now)) {
+                sent++;
+            }
+        }
+        return sent;
+    }
+
+    private boolean send(ReminderTarget target, Due due, LocalDateTime now) {
+        int offset = offsetMinutes[due.stage()];
+        AppointmentReminder reminder = new AppointmentReminder(target.getAppointmentId(), target.getDateTime(),
+                Duration.ofMinutes(offset), target.getPatientId(), target.getPatientName(),
+                target.getPatientEmail(), target.getPatientPhone(), target.getDoctorName());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update(CLAIM_SQL, target.getAppointmentId(), Timestamp.valueOf(target.getDateTime()),
+                        offset, Timestamp.from(Instant.now()));
+                notifier.send(reminder);
+            });
+            return true;
+        } catch (DuplicateKeyException e) {
+            log.debug("Reminder {} min before appointment {} was already sent", offset, target.getAppointmentId());
+            return false;
+        } catch (RuntimeException e) {
+            log.warn("Reminder for appointment {} failed, retrying in a minute: {}",
+                    target.getAppointmentId(), e.toString());
+            retry(due, minute(now));
+            return false;
+        }
+    }
+
+    /**
+     * Devolve um lembrete à roda para o minuto seguinte, desde que a consulta não tenha sido
+     * alterada desde o vencimento (a roda ainda aponta para o lembrete seguinte, ou para nenhum).
+     */
+    private void retry(Due due, long nowMinute) {
+        long expected = due.stage() + 1 < offsetMinutes.length ? pack(due.appointmentMinute(), due.stage() + 1) : -1;
+        lock.lock();
+        try {
+            if (wheel.get(due.id(), -1) == expected) {
+                wheel.schedule(due.id(), pack(due.appointmentMinute(), due.stage()), nowMinute + 1);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static long pack(long appointmentMinute, int stage) {
+        return appointmentMinute << STAGE_BITS | stage;
+    }
+
+    private static long minute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    private static LocalDateTime time(long minute) {
+        return LocalDateTime.ofEpochSecond(minute * 60, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Um lembrete vencido: a consulta, o seu horário (em minutos) e o estágio do lembrete.
+     */
+    private record Due(long id, long appointmentMinute, int stage) {
+    }
+}
@@ -0,0 +1,266 @@
+package edu.com.br.SistemasClinicos.service.Reminder;
+
+import edu.com.br.SistemasClinicos.util.LongLongHashMap;
+
+import java.util.Arrays;
+
+/**
+ * Roda de temporização hierárquica (timing wheel) para milhões de temporizadores, em que
+ * agendar, substituir e cancelar custam O(1) e cada avanço de tick custa O(1) mais os
+ * temporizadores que vencem.
+ * <p>
+ * São três níveis de 64 posições: o nível 0 tem uma posição por tick, o nível 1 uma posição a
+ * cada 64 ticks e o nível 2 a cada 4.096 ticks, cobrindo 262.144 ticks (182 dias com ticks de
+ * um minuto). Um temporizador entra no nível mais baixo que alcança o seu vencimento e, quando
+ * o nível de baixo dá a volta, os temporizadores da posição corrente do nível de cima são
+ * redistribuídos ("cascata"), até chegarem ao nível 0 e vencerem no tick exato.
+ * <p>
+ * Cada temporizador é identificado por um {@code long} (o ID da consulta) e carrega um
+ * {@code long} de dados. Não há objetos por temporizador: eles ficam em arrays paralelos, nas
+ * listas duplamente encadeadas de cada posição (cujas cabeças são as primeiras entradas dos
+ * arrays), com um {@link LongLongHashMap} do ID para a entrada. São cerca de 64 bytes por
+ * temporizador, e a capacidade é limitada por {@code maxTimers}. Não é thread-safe.
+ */
+public class TimingWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 3;
+    private static final int HEADS = SLOTS * LEVELS;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * Distância máxima (exclusiva), em ticks, entre o tick atual e o vencimento de um temporizador.
+     */
+    public static final long SPAN = 1L << (SLOT_BITS * LEVELS);
+
+    /**
+     * Recebe os temporizadores vencidos durante um avanço da roda.
+     */
+    @FunctionalInterface
+    public interface Expiration {
+
+        /**
+         * Chamado uma vez para cada temporizador vencido, já removido da roda.
+         * * @param id O ID do temporizador.
+         * @param data Os dados do temporizador.
+         */
+        void expired(long id, long data);
+    }
+
+    private final int maxTimers;
+    private final LongLongHashMap index;
+
+    private long[] ids;
+    private long[] data;
+    private long[] deadlines;
+    private int[] next;
+    private int[] prev;
+    private int used = HEADS;
+    private int free = -1;
+    private int size;
+
+    private long currentTick;
+
+    /**
+     * Cria uma roda vazia.
+     * * @param currentTick O tick atual; os vencimentos informados depois são relativos a ele.
+     * @param maxTimers A quantidade máxima de temporizadores pendentes.
+     */
+    public TimingWheel(long currentTick, int maxTimers) {
+        this.currentTick = currentTick;
+        this.maxTimers = maxTimers;
+        this.index = new LongLongHashMap(Math.min(maxTimers, INITIAL_CAPACITY));
+        int capacity = HEADS + Math.min(maxTimers, INITIAL_CAPACITY);
+        ids = new long[capacity];
+        data = new long[capacity];
+        deadlines = new long[capacity];
+        next = new int[capacity];
+        prev = new int[capacity];
+        for (int head = 0; head < HEADS; head++) {
+            next[head] = head;
+            prev[head] = head;
+        }
+    }
+
+    /**
+     * Agenda um temporizador, substituindo o anterior de mesmo ID, se houver.
+     * <p>
+     * Vencimentos no passado (ou no tick atual) vencem no próximo tick.
+     * * @param id O ID do temporizador (diferente de zero).
+     * @param timerData Os dados devolvidos no vencimento.
+     * @param deadline O tick de vencimento.
+     * @return {@code false} se o vencimento estiver além de {@link #SPAN} ticks ou se a roda
+     *         estiver cheia; nesses casos, o temporizador anterior de mesmo ID é cancelado.
+     */
+    public boolean schedule(long id, long timerData, long deadline) {
+        long effective = Math.max(deadline, currentTick + 1);
+        int entry = (int) index.get(id, -1);
+        if (effective - currentTick >= SPAN) {
+            if (entry >= 0) {
+                release(entry);
+            }
+            return false;
+        }
+        if (entry >= 0) {
+            unlink(entry);
+        } else {
+            entry = allocate();
+            if (entry < 0) {
+                return false;
+            }
+            ids[entry] = id;
+            index.put(id, entry);
+            size++;
+        }
+        data[entry] = timerData;
+        deadlines[entry] = effective;
+        link(entry, head(effective));
+        return true;
+    }
+
+    /**
+     * Cancela um temporizador.
+     * * @param id O ID do temporizador.
+     * @return {@code true} se o temporizador estava pendente.
+     */
+    public boolean cancel(long id) {
+        int entry = (int) index.get(id, -1);
+        if (entry < 0) {
+            return false;
+        }
+        release(entry);
+        return true;
+    }
+
+    /**
+     * Busca os dados de um temporizador pendente.
+     * * @param id O ID do temporizador.
+     * @param missing O valor retornado se o temporizador não estiver pendente.
+     * @return Os dados do temporizador, ou {@code missing}.
+     */
+    public long get(long id, long missing) {
+        int entry = (int) index.get(id, -1);
+        return entry >= 0 ? data[entry] : missing;
+    }
+
+    /**
+     * Avança a roda, tick a tick, até o tick informado, entregando os temporizadores vencidos
+     * em ordem de vencimento. O callback não deve alterar a roda; reagendamentos são feitos
+     * depois do avanço.
+     * * @param tick O novo tick atual (ticks anteriores ao atual são ignorados).
+     * @param expiration Recebe os temporizadores vencidos.
+     */
+    public void advance(long tick, Expiration expiration) {
+        while (currentTick < tick) {
+            currentTick++;
+            cascade();
+            int head = (int) (currentTick & SLOT_MASK);
+            int entry = next[head];
+            // Desacopla a lista da posição antes de percorrê-la, reciclando as entradas
+            next[head] = head;
+            prev[head] = head;
+            while (entry != head) {
+                int following = next[entry];
+                long id = ids[entry];
+                long timerData = data[entry];
+                index.remove(id);
+                recycle(entry);
+                expiration.expired(id, timerData);
+                entry = following;
+            }
+        }
+    }
+
+    /**
+     * Retorna o tick atual.
+     * * @return O último tick processado.
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Retorna a quantidade de temporizadores pendentes.
+     * * @return O número de temporizadores na roda.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Quando o tick atual fecha uma volta de um nível, redistribui os temporizadores da posição
+     * corrente do nível de cima, que agora vencem a menos de uma volta de distância.
+     */
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            if (((currentTick >>> (SLOT_BITS * (level - 1))) & SLOT_MASK) != 0) {
+                return;
+            }
+            int head = level * SLOTS + (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+            int entry = next[head];
+            next[head] = head;
+            prev[head] = head;
+            while (entry != head) {
+                int following = next[entry];
+                link(entry, head(deadlines[entry]));
+                entry = following;
+            }
+        }
+    }
+
+    private int head(long deadline) {
+        long delta = deadline - currentTick;
+        int level = 0;
+        while (delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        return level * SLOTS + (int) ((deadline >>> (SLOT_BITS * level)) & SLOT_MASK);
+    }
+
+    private void link(int entry, int head) {
+        int last = prev[head];
+        next[last] = entry;
+        prev[entry] = last;
+        next[entry] = head;
+        prev[head] = entry;
+    }
+
+    private void unlink(int entry) {
+        next[prev[entry]] = next[entry];
+        prev[next[entry]] = prev[entry];
+    }
+
+    private void release(int entry) {
+        unlink(entry);
+        index.remove(ids[entry]);
+        recycle(entry);
+    }
+
+    private void recycle(int entry) {
+        next[entry] = free;
+        free = entry;
+        size--;
+    }
+
+    private int allocate() {
+        if (free >= 0) {
+            int entry = free;
+            free = next[entry];
+            return entry;
+        }
+        if (used == ids.length) {
+            if (used - HEADS >= maxTimers) {
+                return -1;
+            }
+            int capacity = HEADS + (int) Math.min((long) maxTimers, 2L * (used - HEADS));
+            ids = Arrays.copyOf(ids, capacity);
+            data = Arrays.copyOf(data, capacity);
+            deadlines = Arrays.copyOf(deadlines, capacity);
+            next = Arrays.copyOf(next, capacity);
+            prev = Arrays.copyOf(prev, capacity);
+        }
+        return used++;
+    }
+}
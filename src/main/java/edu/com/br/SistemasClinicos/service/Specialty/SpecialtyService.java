@@ -31,9 +31,11 @@ public interface SpecialtyService {
      * Localiza a Especialidade pelo ID e aplica as alterações do {@code SpecialtyRequest}.
      * * @param id O ID da Especialidade a ser atualizada.
      * @param request O DTO contendo os novos dados da Especialidade.
+     * @param expectedVersion A versão que o cliente leu ({@code If-Match}), ou {@code null} para não verificar.
      * @return O DTO de resposta da Especialidade atualizada.
+     * @throws org.springframework.dao.OptimisticLockingFailureException Se a Especialidade já estiver em outra versão.
      */
-    SpecialtyResponse updateSpecialty(Long id,SpecialtyRequest request);
+    SpecialtyResponse updateSpecialty(Long id,SpecialtyRequest request, Long expectedVersion);
 
     /**
      * Remove uma Especialidade do sistema pelo seu ID.
@@ -56,4 +58,19 @@ public interface SpecialtyService {
      * @throws RuntimeException (ou exceção de recurso não encontrado) Se a Especialidade não for encontrada.
      */
     SpecialtyResponse findById(Long id);
+
+    /**
+     * Busca apenas a versão atual de uma Especialidade.
+     * * @param id O ID da Especialidade.
+     * @return A versão da Especialidade.
+     * @throws RuntimeException Se a Especialidade não for encontrada.
+     */
+    Long findSpecialtyVersion(Long id);
+
+    /**
+     * Calcula um identificador do estado atual da listagem de Especialidades, que muda sempre
+     * que uma Especialidade é criada, alterada ou excluída. Usado como ETag da listagem.
+     * * @return O identificador do estado da listagem.
+     */
+    String findAllVersionTag();
 }
\ No newline at end of file
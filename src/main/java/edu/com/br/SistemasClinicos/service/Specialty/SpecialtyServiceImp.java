@@ -6,8 +6,11 @@ import edu.com.br.SistemasClinicos.dto.Specialty.SpecialtyResponse;
 import edu.com.br.SistemasClinicos.mapper.SpecialtyMapper;
 import edu.com.br.SistemasClinicos.model.Specialty;
 import edu.com.br.SistemasClinicos.repository.SpecialtyRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -19,6 +22,7 @@ import java.util.List;
  * via {@code SpecialtyMapper}. Utiliza {@code @RequiredArgsConstructor} para injeção de dependência.
  */
 @Service
+@Timed("clinic.service")
 @RequiredArgsConstructor
 public class SpecialtyServiceImp implements SpecialtyService{
 
@@ -48,20 +52,26 @@ public class SpecialtyServiceImp implements SpecialtyService{
      * <p>
      * 1. Busca a Especialidade existente pelo ID.
      * 2. Mapeia os dados da requisição para uma nova Entidade.
-     * 3. Mantém o ID original na nova Entidade mapeada.
-     * 4. Persiste a Entidade atualizada.
+     * 3. Mantém o ID e a versão originais na nova Entidade mapeada.
+     * 4. Persiste a Entidade atualizada; o Hibernate recusa a gravação se a versão tiver mudado nesse meio tempo.
      * * @param id O ID da Especialidade a ser atualizada.
      * @param request DTO contendo os novos dados da Especialidade.
+     * @param expectedVersion A versão que o cliente leu ({@code If-Match}), ou {@code null} para não verificar.
      * @return DTO de resposta da Especialidade atualizada.
      * @throws RuntimeException Se a Especialidade não for encontrada.
+     * @throws OptimisticLockingFailureException Se a Especialidade já estiver em outra versão.
      */
     @Override
-    public SpecialtyResponse updateSpecialty(Long id, SpecialtyRequest request) {
+    public SpecialtyResponse updateSpecialty(Long id, SpecialtyRequest request, Long expectedVersion) {
         Specialty specialty = specialtyRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Specialty not found"));
+        if (expectedVersion != null && !expectedVersion.equals(specialty.getVersion())) {
+            throw new OptimisticLockingFailureException("Specialty was modified by another request");
+        }
 
         Specialty updatedSpecialty = specialtyMapper.toEntity(request);
         updatedSpecialty.setId(specialty.getId()); // Essencial para o JPA/Hibernate entender que é um update
+        updatedSpecialty.setVersion(specialty.getVersion());
 
         updatedSpecialty =  specialtyRepository.save(updatedSpecialty);
         return specialtyMapper.toResponse(updatedSpecialty);
@@ -79,23 +89,67 @@ public class SpecialtyServiceImp implements SpecialtyService{
 
     /**
      * Retorna uma lista de todas as Especialidades cadastradas.
+     * <p>
+     * Executada na base principal, e não na réplica, para que uma falta no cache logo após uma
+     * alteração não o preencha com a versão anterior.
      * * @return Uma lista de DTOs {@code SpecialtyResponse}.
      */
     @Override
+    @Transactional
     public List<SpecialtyResponse> findAll() {
         return specialtyMapper.toResponseList(specialtyRepository.findAll());
     }
 
     /**
      * Busca uma Especialidade pelo seu ID.
+     * <p>
+     * Executada na base principal, e não na réplica, para que uma falta no cache logo após uma
+     * alteração não o preencha com a versão anterior.
      * * @param id O ID da Especialidade a ser buscada.
      * @return DTO de resposta da Especialidade encontrada.
      * @throws RuntimeException Se a Especialidade não for encontrada.
      */
     @Override
+    @Transactional
     public SpecialtyResponse findById(Long id) {
         Specialty specialty = specialtyRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Specialty not found"));
         return specialtyMapper.toResponse(specialty);
     }
+
+    /**
+     * Busca apenas a versão atual de uma Especialidade.
+     * <p>
+     * Lida do cache de especialidades, sem acesso ao banco após o aquecimento; a carga do cache é
+     * feita na base principal, como em {@link #findById}.
+     * * @param id O ID da Especialidade.
+     * @return A versão da Especialidade.
+     * @throws RuntimeException Se a Especialidade não for encontrada.
+     */
+    @Override
+    @Transactional
+    public Long findSpecialtyVersion(Long id) {
+        return specialtyRepository.findById(id)
+                .map(Specialty::getVersion)
+                .orElseThrow(() -> new RuntimeException("Specialty not found"));
+    }
+
+    /**
+     * Calcula o identificador do estado da listagem a partir dos IDs e versões das Especialidades.
+     * <p>
+     * Lido do cache de especialidades: nenhuma entidade é carregada do banco nem convertida em DTO.
+     * A carga do cache é feita na base principal, como em {@link #findAll}.
+     * * @return O hash dos pares (ID, versão) e a quantidade de Especialidades.
+     */
+    @Override
+    @Transactional
+    public String findAllVersionTag() {
+        List<Specialty> specialties = specialtyRepository.findAll();
+        long hash = 1;
+        for (Specialty specialty : specialties) {
+            hash = 31 * hash + specialty.getId();
+            hash = 31 * hash + specialty.getVersion();
+        }
+        return Long.toHexString(hash) + "-" + specialties.size();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,106 @@
+package edu.com.br.SistemasClinicos.service.Statistics;
+
+import edu.com.br.SistemasClinicos.model.AppointmentStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Variações pendentes dos contadores de consultas, acumuladas em memória entre as gravações.
+ * <p>
+ * Cada mudança de status de uma consulta soma {@code -1} ao contador do status anterior e
+ * {@code +1} ao do novo, por (Doutor, dia, status). As variações de todas as requisições se
+ * acumulam aqui e são gravadas periodicamente, em lote, por {@link StatisticsServiceImp#flush},
+ * de modo que um contador movimentado gera uma atualização por rodada, e não uma por requisição.
+ * <p>
+ * {@link #drain} troca o mapa de variações por um vazio sob o bloqueio de escrita; os registros
+ * usam o bloqueio de leitura, então nenhuma variação é somada a um mapa já drenado.
+ */
+@Component
+public class StatisticsCounters {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private ConcurrentHashMap<Key, Pending> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Soma uma variação a um contador.
+     * * @param key O contador afetado.
+     * @param specialtyId A Especialidade atual do Doutor, gravada junto com o contador.
+     * @param delta A variação, positiva ou negativa.
+     */
+    public void add(Key key, Long specialtyId, long delta) {
+        lock.readLock().lock();
+        try {
+            Pending current = pending.computeIfAbsent(key, k -> new Pending());
+            current.specialtyId = specialtyId;
+            current.delta.addAndGet(delta);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retira todas as variações pendentes, deixando o acumulador vazio.
+     * * @return As variações por contador, sem as nulas.
+     */
+    public List<Change> drain() {
+        ConcurrentHashMap<Key, Pending> drained;
+        lock.writeLock().lock();
+        try {
+            drained = pending;
+            pending = new ConcurrentHashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        List<Change> changes = new ArrayList<>(drained.size());
+        drained.forEach((key, value) -> {
+            long delta = value.delta.get();
+            if (delta != 0) {
+                changes.add(new Change(key, value.specialtyId, delta));
+            }
+        });
+        return changes;
+    }
+
+    /**
+     * Devolve ao acumulador variações drenadas que não puderam ser gravadas.
+     * * @param changes As variações retiradas por {@link #drain}.
+     */
+    public void restore(List<Change> changes) {
+        changes.forEach(change -> add(change.key(), change.specialtyId(), change.delta()));
+    }
+
+    /**
+     * Descarta as variações pendentes (usado antes de recalcular os contadores do zero).
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            pending = new ConcurrentHashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Identifica um contador: Doutor, dia da consulta e status.
+     */
+    public record Key(Long doctorId, LocalDate date, AppointmentStatus status) {
+    }
+
+    /**
+     * A variação acumulada de um contador e a Especialidade a gravar.
+     */
+    public record Change(Key key, Long specialtyId, long delta) {
+    }
+
+    private static final class Pending {
+        private final AtomicLong delta = new AtomicLong();
+        private volatile Long specialtyId;
+    }
+}
@@ -0,0 +1,53 @@
+package edu.com.br.SistemasClinicos.service.Statistics;
+
+import edu.com.br.SistemasClinicos.dto.Statistics.DailyCompletedStatistics;
+import edu.com.br.SistemasClinicos.dto.Statistics.DoctorCancellationStatistics;
+import edu.com.br.SistemasClinicos.dto.Statistics.SpecialtyMonthlyStatistics;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Interface que define o contrato de serviço dos painéis gerenciais de consultas.
+ * <p>
+ * A implementação desta interface responde a partir de contadores mantidos incrementalmente,
+ * sem agregar a tabela de consultas a cada leitura.
+ */
+public interface StatisticsService {
+
+    /**
+     * Busca as consultas por Especialidade e mês.
+     * * @param from O primeiro dia do período (inclusivo).
+     * @param to O último dia do período (inclusivo).
+     * @return As consultas por Especialidade e mês, em ordem de mês e Especialidade.
+     */
+    List<SpecialtyMonthlyStatistics> findMonthlyBySpecialty(LocalDate from, LocalDate to);
+
+    /**
+     * Busca a taxa de cancelamento de cada Doutor.
+     * * @param from O primeiro dia do período (inclusivo).
+     * @param to O último dia do período (inclusivo).
+     * @return As taxas de cancelamento, da maior para a menor.
+     */
+    List<DoctorCancellationStatistics> findCancellationRateByDoctor(LocalDate from, LocalDate to);
+
+    /**
+     * Busca as consultas realizadas por dia.
+     * * @param from O primeiro dia do período (inclusivo).
+     * @param to O último dia do período (inclusivo).
+     * @return As consultas realizadas por dia, em ordem cronológica.
+     */
+    List<DailyCompletedStatistics> findCompletedByDay(LocalDate from, LocalDate to);
+
+    /**
+     * Grava as variações dos contadores acumuladas em memória.
+     * * @return A quantidade de contadores gravados.
+     */
+    int flush();
+
+    /**
+     * Recalcula todos os contadores a partir da tabela de consultas.
+     * * @return A quantidade de contadores gerados.
+     */
+    int rebuild();
+}
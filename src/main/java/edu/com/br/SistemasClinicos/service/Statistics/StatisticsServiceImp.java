@@ -0,0 +1,216 @@
+package edu.com.br.SistemasClinicos.service.Statistics;
+
+import edu.com.br.SistemasClinicos.dto.Statistics.DailyCompletedStatistics;
+import edu.com.br.SistemasClinicos.dto.Statistics.DoctorCancellationStatistics;
+import edu.com.br.SistemasClinicos.dto.Statistics.DoctorStatusCount;
+import edu.com.br.SistemasClinicos.dto.Statistics.SpecialtyMonthCount;
+import edu.com.br.SistemasClinicos.dto.Statistics.SpecialtyMonthlyStatistics;
+import edu.com.br.SistemasClinicos.model.AppointmentStatus;
+import edu.com.br.SistemasClinicos.repository.AppointmentStatisticRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Implementação da interface {@code StatisticsService}.
+ * <p>
+ * As mudanças de status das consultas chegam como variações em {@link StatisticsCounters} e
+ * são gravadas a cada {@code clinic.statistics.flush-interval}, em uma transação: um UPDATE em
+ * lote soma as variações aos contadores existentes e um INSERT em lote cria os que faltam. Se a
+ * gravação falhar (ex.: outra instância criou o mesmo contador), a transação é desfeita e as
+ * variações voltam ao acumulador para a próxima rodada. Como as variações são somas, várias
+ * instâncias podem gravar nos mesmos contadores.
+ * <p>
+ * Os painéis leem apenas os contadores gravados, com atraso de até um intervalo de gravação.
+ */
+@Slf4j
+@Service
+@Timed("clinic.service")
+@RequiredArgsConstructor
+public class StatisticsServiceImp implements StatisticsService {
+
+    private static final String UPDATE_SQL = """
+            UPDATE appointment_statistic SET appointments = appointments + ?, specialty_id = ?
+            WHERE doctor_id = ? AND stat_date = ? AND status = ?
+            """;
+    private static final String INSERT_SQL = """
+            INSERT INTO appointment_statistic (appointments, specialty_id, doctor_id, stat_date, status)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+    private static final String REBUILD_SQL = """
+            INSERT INTO appointment_statistic (doctor_id, stat_date, status, specialty_id, appointments)
+            SELECT a.doctor_id, CAST(a.date_time AS DATE), a.status, d.specialty_id, COUNT(*)
+            FROM appointment a
+            JOIN doctor d ON d.id = a.doctor_id
+            GROUP BY a.doctor_id, CAST(a.date_time AS DATE), a.status, d.specialty_id
+            """;
+    private static final Comparator<StatisticsCounters.Change> KEY_ORDER = Comparator
+            .comparing((StatisticsCounters.Change change) -> change.key().doctorId())
+            .thenComparing(change -> change.key().date())
+            .thenComparing(change -> change.key().status());
+
+    private final AppointmentStatisticRepository statisticRepository;
+    private final StatisticsCounters counters;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SpecialtyMonthlyStatistics> findMonthlyBySpecialty(LocalDate from, LocalDate to) {
+        Map<SpecialtyMonth, SpecialtyMonthlyStatistics> rows = new LinkedHashMap<>();
+        for (SpecialtyMonthCount count : statisticRepository.sumBySpecialtyAndMonth(from, to)) {
+            YearMonth month = YearMonth.of(count.getYear(), count.getMonth());
+            SpecialtyMonthlyStatistics row = rows.computeIfAbsent(
+                    new SpecialtyMonth(count.getSpecialtyId(), month), key -> {
+                        SpecialtyMonthlyStatistics statistics = new SpecialtyMonthlyStatistics();
+                        statistics.setSpecialtyId(count.getSpecialtyId());
+                        statistics.setSpecialtyName(count.getSpecialtyName());
+                        statistics.setMonth(month);
+                        return statistics;
+                    });
+            long appointments = count.getAppointments();
+            switch (count.getStatus()) {
+                case SCHEDULED -> row.setScheduled(row.getScheduled() + appointments);
+                case COMPLETED -> row.setCompleted(row.getCompleted() + appointments);
+                case CANCELLED -> row.setCancelled(row.getCancelled() + appointments);
+            }
+            row.setTotal(row.getTotal() + appointments);
+        }
+        return rows.values().stream()
+                .sorted(Comparator.comparing(SpecialtyMonthlyStatistics::getMonth)
+                        .thenComparing(SpecialtyMonthlyStatistics::getSpecialtyName,
+                                Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DoctorCancellationStatistics> findCancellationRateByDoctor(LocalDate from, LocalDate to) {
+        Map<Long, DoctorCancellationStatistics> rows = new LinkedHashMap<>();
+        for (DoctorStatusCount count : statisticRepository.sumByDoctor(from, to)) {
+            DoctorCancellationStatistics row = rows.computeIfAbsent(count.getDoctorId(), id -> {
+                DoctorCancellationStatistics statistics = new DoctorCancellationStatistics();
+                statistics.setDoctorId(id);
+                statistics.setDoctorName(count.getDoctorName());
+                return statistics;
+            });
+            row.setTotal(row.getTotal() + count.getAppointments());
+            if (count.getStatus() == AppointmentStatus.CANCELLED) {
+                row.setCancelled(row.getCancelled() + count.getAppointments());
+            }
+        }
+        rows.values().forEach(row ->
+                row.setCancellationRate(row.getTotal() > 0 ? (double) row.getCancelled() / row.getTotal() : 0));
+        return rows.values().stream()
+                .filter(row -> row.getTotal() > 0)
+                .sorted(Comparator.comparingDouble(DoctorCancellationStatistics::getCancellationRate).reversed()
+                        .thenComparing(DoctorCancellationStatistics::getDoctorId))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DailyCompletedStatistics> findCompletedByDay(LocalDate from, LocalDate to) {
+        return statisticRepository.sumCompletedByDay(from, to);
+    }
+
+    /**
+     * Rodada agendada de gravação, executada {@code clinic.statistics.flush-interval} após o
+     * fim da anterior.
+     */
+    @Scheduled(fixedDelayString = "${clinic.statistics.flush-interval:10s}")
+    public void flushPending() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Statistics flush failed, pending changes will be retried: {}", e.toString());
+        }
+    }
+
+    /**
+     * Grava as variações pendentes antes do encerramento da aplicação.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushPending();
+    }
+
+    /**
+     * Grava as variações acumuladas: UPDATE em lote dos contadores existentes e INSERT em lote
+     * dos novos, na mesma transação. Os contadores são gravados sempre na mesma ordem, para
+     * que duas instâncias gravando ao mesmo tempo não entrem em deadlock.
+     * * @return A quantidade de contadores gravados.
+     * @throws RuntimeException Se a gravação falhar; as variações voltam ao acumulador.
+     */
+    @Override
+    public int flush() {
+        List<StatisticsCounters.Change> changes = new ArrayList<>(counters.drain());
+        if (changes.isEmpty()) {
+            return 0;
+        }
+        changes.sort(KEY_ORDER);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                int[] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, changes.stream().map(this::row).toList());
+                List<Object[]> missing = new ArrayList<>();
+                for (int i = 0; i < updated.length; i++) {
+                    if (updated[i] == 0) {
+                        missing.add(row(changes.get(i)));
+                    }
+                }
+                if (!missing.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_SQL, missing);
+                }
+            });
+        } catch (RuntimeException e) {
+            counters.restore(changes);
+            throw e;
+        }
+        log.debug("Flushed {} appointment statistics", changes.size());
+        return changes.size();
+    }
+
+    /**
+     * Recalcula os contadores com um único {@code INSERT ... SELECT ... GROUP BY} sobre as consultas.
+     * <p>
+     * As variações pendentes são descartadas, pois as consultas já confirmadas estão na tabela.
+     * Alterações confirmadas durante o recálculo podem ficar de fora ou ser contadas duas vezes;
+     * por isso ele é indicado apenas para reparos, fora dos horários de pico.
+     * * @return A quantidade de contadores gerados.
+     */
+    @Override
+    public int rebuild() {
+        long start = System.nanoTime();
+        Integer rows = transactionTemplate.execute(status -> {
+            counters.clear();
+            jdbcTemplate.update("DELETE FROM appointment_statistic");
+            return jdbcTemplate.update(REBUILD_SQL);
+        });
+        log.info("Rebuilt {} appointment statistics in {} ms", rows, (System.nanoTime() - start) / 1_000_000);
+        return Objects.requireNonNullElse(rows, 0);
+    }
+
+    private Object[] row(StatisticsCounters.Change change) {
+        return new Object[]{change.delta(), change.specialtyId(), change.key().doctorId(),
+                Date.valueOf(change.key().date()), change.key().status().name()};
+    }
+
+    private record SpecialtyMonth(Long specialtyId, YearMonth month) {
+    }
+}
@@ -0,0 +1,239 @@
+package edu.com.br.SistemasClinicos.util;
+
+import edu.com.br.SistemasClinicos.dto.Cpf.CpfIndexEntry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Índice em memória de CPF para ID, para verificar a unicidade e buscar cadastros pelo CPF
+ * sem ida ao banco.
+ * <p>
+ * O CPF (11 dígitos) cabe em um {@code long}, e o índice é um {@link LongLongHashMap}: dois
+ * arrays primitivos, sem {@code Long} ou {@code String} por entrada (cerca de 32 bytes por
+ * cadastro). As leituras são otimistas ({@link StampedLock#tryOptimisticRead()}), sem bloqueio
+ * nem escrita em memória compartilhada, e só adquirem o bloqueio de leitura se uma escrita
+ * ocorrer ao mesmo tempo.
+ * <p>
+ * O índice não é a fonte da verdade: com várias instâncias, cada uma vê apenas as próprias
+ * escritas após a carga. Por isso, quem o usa confirma no banco os CPFs encontrados e deixa a
+ * restrição UNIQUE do banco decidir os casos em que o CPF não foi encontrado. CPFs que não são
+ * compostos por 11 dígitos não são indexados ({@link #UNKNOWN}).
+ */
+public class CpfIndex {
+
+    /**
+     * Resultado de {@link #find} para um CPF ausente do índice.
+     */
+    public static final long ABSENT = 0L;
+
+    /**
+     * Resultado de {@link #find} quando o índice não sabe responder: ainda não foi carregado ou o
+     * CPF não é composto por 11 dígitos.
+     */
+    public static final long UNKNOWN = -1L;
+
+    private static final int CPF_LENGTH = 11;
+    // Marca somada ao CPF para que "00000000000" não coincida com a chave reservada 0 do mapa
+    private static final long PRESENT = 1L << 40;
+    private static final int INITIAL_SIZE = 1024;
+
+    private final StampedLock lock = new StampedLock();
+    private LongLongHashMap ids = new LongLongHashMap(INITIAL_SIZE);
+    private List<Change> pendingDuringLoad;
+
+    private volatile boolean ready;
+
+    /**
+     * Recarrega o índice a partir de cadastros já lidos, substituindo o conteúdo atual.
+     * <p>
+     * Apenas as alterações recebidas a partir desta chamada são reaplicadas; para ler do banco,
+     * use {@link #load(Supplier)}, que abre a consulta depois de começar a registrá-las.
+     * * @param entries Os IDs e CPFs de todos os cadastros.
+     * @return A quantidade de CPFs indexados.
+     */
+    public int load(Stream<CpfIndexEntry> entries) {
+        return load(() -> entries);
+    }
+
+    /**
+     * Recarrega o índice a partir do banco, substituindo o conteúdo atual.
+     * <p>
+     * As buscas continuam respondendo com o índice anterior enquanto o novo é montado. As
+     * alterações recebidas passam a ser registradas antes de a consulta ser aberta e são
+     * reaplicadas ao final, para que um cadastro confirmado durante a leitura não se perca.
+     * * @param source Abre a leitura dos IDs e CPFs de todos os cadastros; a leitura é fechada ao final.
+     * @return A quantidade de CPFs indexados.
+     */
+    public int load(Supplier<Stream<CpfIndexEntry>> source) {
+        int previousSize;
+        long stamp = lock.writeLock();
+        try {
+            if (pendingDuringLoad != null) {
+                throw new RuntimeException("CPF index is already being rebuilt");
+            }
+            pendingDuringLoad = new ArrayList<>();
+            previousSize = ids.size();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+
+        LongLongHashMap loaded = new LongLongHashMap(Math.max(previousSize, INITIAL_SIZE));
+        try (Stream<CpfIndexEntry> entries = source.get()) {
+            entries.forEach(entry -> {
+                long key = key(entry.getCpf());
+                if (key != ABSENT) {
+                    loaded.put(key, entry.getId());
+                }
+            });
+        } catch (RuntimeException e) {
+            stamp = lock.writeLock();
+            pendingDuringLoad = null;
+            lock.unlockWrite(stamp);
+            throw e;
+        }
+
+        stamp = lock.writeLock();
+        try {
+            // Alterações confirmadas durante a leitura podem não estar no snapshot lido
+            for (Change change : pendingDuringLoad) {
+                change.apply(loaded);
+            }
+            pendingDuringLoad = null;
+            ids = loaded;
+            ready = true;
+            return loaded.size();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Busca o ID do cadastro com o CPF informado.
+     * * @param cpf O CPF.
+     * @return O ID, {@link #ABSENT} se o CPF não estiver no índice ou {@link #UNKNOWN} se o
+     *         índice não souber responder.
+     */
+    public long find(String cpf) {
+        long key = key(cpf);
+        if (key == ABSENT || !ready) {
+            return UNKNOWN;
+        }
+        long stamp = lock.tryOptimisticRead();
+        long id;
+        try {
+            id = ids.get(key, ABSENT);
+        } catch (RuntimeException e) {
+            // Leitura concorrente a um redimensionamento: repetida abaixo sob o bloqueio
+            id = ABSENT;
+            stamp = 0L;
+        }
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                id = ids.get(key, ABSENT);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return id;
+    }
+
+    /**
+     * Indexa o CPF de um cadastro, removendo o CPF anterior, se ele mudou.
+     * * @param previousCpf O CPF anterior do cadastro, ou {@code null} se ele é novo.
+     * @param cpf O CPF atual.
+     * @param id O ID do cadastro.
+     */
+    public void put(String previousCpf, String cpf, long id) {
+        if (previousCpf != null && !previousCpf.equals(cpf)) {
+            remove(previousCpf, id);
+        }
+        long key = key(cpf);
+        if (key != ABSENT) {
+            apply(new Change(key, id, true));
+        }
+    }
+
+    /**
+     * Remove o CPF de um cadastro, se ele ainda apontar para o mesmo ID.
+     * * @param cpf O CPF.
+     * @param id O ID do cadastro.
+     */
+    public void remove(String cpf, long id) {
+        long key = key(cpf);
+        if (key != ABSENT) {
+            apply(new Change(key, id, false));
+        }
+    }
+
+    /**
+     * Indica se o índice já foi carregado a partir do banco de dados.
+     * * @return {@code true} se o índice estiver pronto para uso.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Retorna a quantidade de CPFs indexados.
+     * * @return O número de CPFs no índice.
+     */
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return ids.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private void apply(Change change) {
+        long stamp = lock.writeLock();
+        try {
+            change.apply(ids);
+            if (pendingDuringLoad != null) {
+                pendingDuringLoad.add(change);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Converte um CPF na chave do mapa.
+     * * @param cpf O CPF.
+     * @return A chave, ou {@link #ABSENT} se o CPF não for composto por 11 dígitos.
+     */
+    static long key(String cpf) {
+        if (cpf == null || cpf.length() != CPF_LENGTH) {
+            return ABSENT;
+        }
+        long value = 0;
+        for (int i = 0; i < CPF_LENGTH; i++) {
+            char c = cpf.charAt(i);
+            if (c < '0' || c > '9') {
+                return ABSENT;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value | PRESENT;
+    }
+
+    /**
+     * Uma inclusão ou remoção de CPF, guardada para ser reaplicada ao fim de uma carga.
+     */
+    private record Change(long key, long id, boolean put) {
+
+        void apply(LongLongHashMap ids) {
+            if (put) {
+                ids.put(key, id);
+            } else if (ids.get(key, ABSENT) == id) {
+                ids.remove(key);
+            }
+        }
+    }
+}
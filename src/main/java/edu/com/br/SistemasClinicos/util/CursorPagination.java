@@ -0,0 +1,88 @@
+package edu.com.br.SistemasClinicos.util;
+
+import edu.com.br.SistemasClinicos.dto.Page.CursorPageResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Utilitário para paginação por cursor (keyset pagination) sobre a chave primária.
+ * <p>
+ * O cursor é o último ID retornado codificado em Base64 (URL-safe), de forma que o
+ * cliente o trate como um valor opaco. As consultas correspondentes usam
+ * {@code WHERE id > ? ORDER BY id LIMIT ?}, cujo custo não depende da posição da página.
+ */
+public final class CursorPagination {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    private CursorPagination() {
+    }
+
+    /**
+     * Normaliza o tamanho de página solicitado, aplicando o padrão e o limite máximo.
+     * * @param limit O tamanho solicitado pelo cliente (pode ser {@code null}).
+     * @return O tamanho de página efetivo.
+     */
+    public static int pageSize(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    /**
+     * Decodifica o cursor recebido do cliente.
+     * * @param cursor O cursor opaco (pode ser {@code null} para a primeira página).
+     * @return O último ID já entregue, ou {@code 0} para a primeira página.
+     * @throws RuntimeException Se o cursor for inválido.
+     */
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return Long.parseLong(raw);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Codifica o último ID de uma página como cursor opaco.
+     * * @param lastId O ID do último item entregue.
+     * @return O cursor a ser enviado ao cliente.
+     */
+    public static String encode(long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString(lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Monta a resposta paginada a partir das linhas lidas do banco.
+     * <p>
+     * As consultas devem buscar {@code pageSize + 1} linhas: a linha excedente apenas
+     * indica que existe uma próxima página e não é devolvida ao cliente.
+     * * @param rows As entidades lidas (até {@code pageSize + 1}), ordenadas por ID.
+     * @param pageSize O tamanho de página efetivo.
+     * @param idOf Função que extrai o ID de uma entidade.
+     * @param mapper Função que converte as entidades para DTOs de resposta.
+     * @return A página de resposta com o próximo cursor, se houver.
+     */
+    public static <E, R> CursorPageResponse<R> toPage(List<E> rows, int pageSize,
+                                                      Function<E, Long> idOf,
+                                                      Function<List<E>, List<R>> mapper) {
+        boolean hasNext = rows.size() > pageSize;
+        List<E> pageRows = hasNext ? rows.subList(0, pageSize) : rows;
+
+        CursorPageResponse<R> page = new CursorPageResponse<>();
+        page.setItems(mapper.apply(pageRows));
+        page.setSize(pageRows.size());
+        page.setNextCursor(hasNext ? encode(idOf.apply(pageRows.get(pageRows.size() - 1))) : null);
+        return page;
+    }
+}
@@ -0,0 +1,70 @@
+package edu.com.br.SistemasClinicos.util;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Utilitário para ETags fortes derivadas da versão ({@code @Version}) das entidades.
+ * <p>
+ * A ETag de um recurso é a sua versão entre aspas (ex.: {@code "3"}). Ela é usada tanto nas
+ * requisições condicionais de leitura ({@code If-None-Match}, respondidas com 304) quanto no
+ * controle de concorrência otimista das atualizações ({@code If-Match}, respondidas com 412).
+ * <p>
+ * Um recurso que embute dados de outra entidade (ex.: o nome da Especialidade na resposta de um
+ * Doutor) usa as duas versões (ex.: {@code "3-2"}), para que a ETag mude quando qualquer uma delas
+ * mudar. No {@code If-Match}, só a primeira conta: a atualização grava apenas o próprio recurso.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * Gera a ETag forte de uma versão.
+     * * @param version A versão da entidade (ou outro identificador de estado).
+     * @return A ETag entre aspas.
+     */
+    public static String of(Object version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Gera a ETag forte de um recurso que embute dados de outra entidade.
+     * * @param version A versão do recurso.
+     * @param embeddedVersion A versão da entidade embutida, ou {@code null} se não houver.
+     * @return A ETag com as duas versões entre aspas (ex.: {@code "3-2"}).
+     */
+    public static String of(Long version, Long embeddedVersion) {
+        return embeddedVersion == null ? of(version) : of(version + "-" + embeddedVersion);
+    }
+
+    /**
+     * Converte o cabeçalho {@code If-Match} na versão esperada pelo cliente.
+     * <p>
+     * ETags fracas ({@code W/"..."}) nunca satisfazem {@code If-Match}, que exige comparação forte.
+     * Em uma ETag com duas versões, a da entidade embutida é descartada.
+     * * @param ifMatch O valor do cabeçalho, ou {@code null}.
+     * @return A versão esperada, ou {@code null} se o cabeçalho estiver ausente ou for {@code *}.
+     * @throws ResponseStatusException 412 (Precondition Failed) se o valor não for uma ETag desta API.
+     */
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.length() > 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            String tag = value.substring(1, value.length() - 1);
+            int separator = tag.indexOf('-');
+            try {
+                if (separator > 0) {
+                    Long.parseLong(tag.substring(separator + 1));
+                    tag = tag.substring(0, separator);
+                }
+                return Long.parseLong(tag);
+            } catch (NumberFormatException e) {
+                // tratado abaixo
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "If-Match does not match the current version");
+    }
+}
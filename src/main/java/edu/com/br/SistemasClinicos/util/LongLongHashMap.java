@@ -0,0 +1,164 @@
+package edu.com.br.SistemasClinicos.util;
+
+import java.util.Arrays;
+
+/**
+ * Mapa de {@code long} para {@code long} com endereçamento aberto (sondagem linear), sem
+ * objetos por entrada: chaves e valores ficam em dois arrays paralelos.
+ * <p>
+ * Ocupa 16 bytes por posição (no máximo o dobro do número de entradas), contra cerca de
+ * 64 bytes por entrada de um {@code HashMap<Long, Long>}, e não gera lixo nas leituras. A
+ * chave {@code 0} é reservada para marcar posições vazias. Não é thread-safe.
+ */
+public class LongLongHashMap {
+
+    private static final long EMPTY = 0L;
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int shift;
+    private int size;
+    private int resizeAt;
+
+    /**
+     * Cria um mapa dimensionado para a quantidade de entradas informada sem redimensionamentos.
+     * * @param expectedSize A quantidade de entradas esperada.
+     */
+    public LongLongHashMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Busca o valor associado a uma chave.
+     * * @param key A chave (diferente de zero).
+     * @param missing O valor retornado se a chave não existir.
+     * @return O valor associado, ou {@code missing}.
+     */
+    public long get(long key, long missing) {
+        for (int i = slot(key); ; i = (i + 1) & mask) {
+            long current = keys[i];
+            if (current == EMPTY) {
+                return missing;
+            }
+            if (current == key) {
+                return values[i];
+            }
+        }
+    }
+
+    /**
+     * Associa um valor a uma chave, substituindo o valor anterior.
+     * * @param key A chave (diferente de zero).
+     * @param value O valor.
+     * @throws IllegalArgumentException Se a chave for zero.
+     */
+    public void put(long key, long value) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("Key 0 is reserved");
+        }
+        int i = slot(key);
+        while (keys[i] != EMPTY) {
+            if (keys[i] == key) {
+                values[i] = value;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size > resizeAt) {
+            rehash(keys.length * 2);
+        }
+    }
+
+    /**
+     * Remove uma chave.
+     * <p>
+     * As entradas seguintes da mesma sequência de sondagem são deslocadas para trás, sem
+     * marcadores de remoção, de modo que as buscas não se degradam com o tempo.
+     * * @param key A chave.
+     * @return {@code true} se a chave existia.
+     */
+    public boolean remove(long key) {
+        if (key == EMPTY) {
+            return false;
+        }
+        int i = slot(key);
+        while (keys[i] != key) {
+            if (keys[i] == EMPTY) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        int gap = i;
+        for (int j = (gap + 1) & mask; keys[j] != EMPTY; j = (j + 1) & mask) {
+            // Move a entrada j para o buraco se a sua posição ideal não estiver entre o buraco e j
+            int ideal = slot(keys[j]);
+            if (((j - ideal) & mask) >= ((j - gap) & mask)) {
+                keys[gap] = keys[j];
+                values[gap] = values[j];
+                gap = j;
+            }
+        }
+        keys[gap] = EMPTY;
+        values[gap] = 0;
+        size--;
+        return true;
+    }
+
+    /**
+     * Retorna a quantidade de entradas.
+     * * @return O número de chaves no mapa.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Remove todas as entradas, mantendo a capacidade atual.
+     */
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        Arrays.fill(values, 0);
+        size = 0;
+    }
+
+    private int slot(long key) {
+        // Hash de Fibonacci (bits mais altos do produto): espalha chaves sequenciais por todo o array
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> shift);
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int j = slot(oldKeys[i]);
+                while (keys[j] != EMPTY) {
+                    j = (j + 1) & mask;
+                }
+                keys[j] = oldKeys[i];
+                values[j] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        shift = 64 - Integer.numberOfTrailingZeros(capacity);
+        resizeAt = capacity / 4 * 3;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long needed = Math.max(MIN_CAPACITY, (long) Math.ceil(expectedSize / 0.75));
+        if (needed > 1 << 30) {
+            throw new IllegalArgumentException("Map too large: " + expectedSize);
+        }
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+}
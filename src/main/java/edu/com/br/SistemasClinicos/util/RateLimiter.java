@@ -0,0 +1,120 @@
+package edu.com.br.SistemasClinicos.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Limitador de taxa por cliente, sem bloqueios.
+ * <p>
+ * Cada cliente tem um balde de fichas ({@code requestsPerSecond} fichas por segundo, até
+ * {@code burst} acumuladas), implementado pelo algoritmo GCRA: o estado do balde é um único
+ * {@code long}, o instante teórico de chegada (TAT) da próxima requisição, atualizado com
+ * compare-and-set. Uma requisição dentro do limite custa uma leitura no
+ * {@link ConcurrentHashMap} e um CAS, sem alocação.
+ * <p>
+ * Um balde cujo TAT já passou está cheio, o mesmo estado de um cliente nunca visto, e pode ser
+ * descartado sem efeito ({@link #evictIdle()}). Se o número de clientes acompanhados chegar a
+ * {@code maxClients} mesmo após o descarte, os clientes novos passam a dividir um balde comum.
+ */
+public class RateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long toleranceNanos;
+    private final int maxClients;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong overflow = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicLong nextFullEviction = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * * @param requestsPerSecond A taxa sustentada permitida por cliente.
+     * @param burst A quantidade de requisições que um cliente ocioso pode fazer de uma só vez.
+     * @param maxClients A quantidade máxima de clientes acompanhados individualmente.
+     */
+    public RateLimiter(double requestsPerSecond, int burst, int maxClients) {
+        this(requestsPerSecond, burst, maxClients, System::nanoTime);
+    }
+
+    /**
+     * * @param requestsPerSecond A taxa sustentada permitida por cliente.
+     * @param burst A quantidade de requisições que um cliente ocioso pode fazer de uma só vez.
+     * @param maxClients A quantidade máxima de clientes acompanhados individualmente.
+     * @param clock A fonte de tempo, em nanossegundos.
+     */
+    public RateLimiter(double requestsPerSecond, int burst, int maxClients, LongSupplier clock) {
+        if (requestsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate limit requires requestsPerSecond > 0 and burst >= 1");
+        }
+        this.emissionIntervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond));
+        this.toleranceNanos = emissionIntervalNanos * burst;
+        this.maxClients = maxClients;
+        this.clock = clock;
+    }
+
+    /**
+     * Tenta consumir uma ficha do balde do cliente.
+     * * @param client O identificador do cliente (chave de API ou endereço IP).
+     * @return {@code 0} se a requisição foi aceita, ou o tempo, em nanossegundos, até que
+     * uma ficha esteja disponível.
+     */
+    public long tryAcquire(String client) {
+        AtomicLong bucket = bucket(client);
+        while (true) {
+            long now = clock.getAsLong();
+            long current = bucket.get();
+            long tat = Math.max(current, now);
+            long next = tat + emissionIntervalNanos;
+            long wait = next - now - toleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Descarta os baldes cheios (clientes sem requisições recentes).
+     * * @return A quantidade de clientes descartados.
+     */
+    public int evictIdle() {
+        long now = clock.getAsLong();
+        int evicted = 0;
+        for (var entry : buckets.entrySet()) {
+            if (entry.getValue().get() <= now && buckets.remove(entry.getKey(), entry.getValue())) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Retorna a quantidade de clientes acompanhados individualmente.
+     * * @return O número de baldes em memória.
+     */
+    public int size() {
+        return buckets.size();
+    }
+
+    private AtomicLong bucket(String client) {
+        AtomicLong bucket = buckets.get(client);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxClients) {
+            // No máximo um descarte por segundo, para que clientes novos não varram o mapa a cada requisição
+            long now = clock.getAsLong();
+            long next = nextFullEviction.get();
+            if (now >= next && nextFullEviction.compareAndSet(next, now + TimeUnit.SECONDS.toNanos(1))) {
+                evictIdle();
+            }
+            if (buckets.size() >= maxClients) {
+                return overflow;
+            }
+        }
+        return buckets.computeIfAbsent(client, key -> new AtomicLong(Long.MIN_VALUE));
+    }
+}
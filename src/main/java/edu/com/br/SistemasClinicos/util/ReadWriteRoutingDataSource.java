@@ -0,0 +1,56 @@
+package edu.com.br.SistemasClinicos.util;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * {@link DataSource} que envia as transações somente leitura para a réplica.
+ * <p>
+ * A conexão física só é obtida no primeiro comando da transação, quando a flag
+ * {@code readOnly} de {@code @Transactional(readOnly = true)} já foi aplicada: transações
+ * somente leitura usam a réplica ({@link ReplicaDataSource}) e todas as demais, o primário.
+ * <p>
+ * Por isso, leituras que não toleram o atraso da réplica (cargas dos índices em memória, buscas
+ * por ID usadas nas ETags e no {@code If-Match}, preenchimento de caches) usam
+ * {@code @Transactional} sem {@code readOnly}, e são executadas no primário.
+ */
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+    private final ReplicaDataSource replica;
+
+    /**
+     * * @param primary O pool do primário, que recebe as escritas.
+     * @param replica A réplica de leitura.
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, ReplicaDataSource replica) {
+        super(primary);
+        this.replica = replica;
+        setReadOnlyDataSource(replica);
+    }
+
+    /**
+     * Retorna a réplica de leitura.
+     * * @return A réplica usada nas transações somente leitura.
+     */
+    public ReplicaDataSource getReplica() {
+        return replica;
+    }
+
+    /**
+     * Encerra a réplica e o pool do primário.
+     */
+    @Override
+    public void close() throws Exception {
+        replica.close();
+        DataSource primary = obtainTargetDataSource();
+        try {
+            if (primary.isWrapperFor(AutoCloseable.class)) {
+                primary.unwrap(AutoCloseable.class).close();
+            }
+        } catch (SQLException e) {
+            // pool do primário sem suporte a unwrap; nada a encerrar
+        }
+    }
+}
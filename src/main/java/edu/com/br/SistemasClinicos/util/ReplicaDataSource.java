@@ -0,0 +1,144 @@
+package edu.com.br.SistemasClinicos.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DataSource} da réplica de leitura, com retorno ao primário quando ela está atrasada.
+ * <p>
+ * Uma tarefa periódica mede o atraso de replicação com {@code lagQuery} (que deve devolver o
+ * atraso em segundos). Enquanto o atraso passar de {@code maxLag}, a consulta falhar ou a réplica
+ * recusar conexões, as leituras são atendidas pelo primário. A réplica só é usada após a primeira
+ * verificação bem-sucedida.
+ */
+@Slf4j
+public class ReplicaDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private final DataSource primary;
+    private final String lagQuery;
+    private final Duration maxLag;
+
+    private volatile boolean usable;
+    private volatile Duration lastLag;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * * @param replica O pool de conexões da réplica.
+     * @param primary O pool do primário, usado enquanto a réplica não estiver utilizável.
+     * @param lagQuery A consulta que devolve o atraso de replicação em segundos.
+     * @param maxLag O atraso máximo tolerado nas leituras.
+     */
+    public ReplicaDataSource(DataSource replica, DataSource primary, String lagQuery, Duration maxLag) {
+        super(replica);
+        this.primary = primary;
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+    }
+
+    /**
+     * Inicia a verificação periódica do atraso, executando a primeira imediatamente.
+     * * @param interval O intervalo entre as verificações.
+     */
+    public synchronized void start(Duration interval) {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::checkLag, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Mede o atraso da réplica e atualiza se ela pode atender leituras.
+     */
+    public void checkLag() {
+        try (Connection connection = obtainTargetDataSource().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            double seconds = resultSet.next() ? resultSet.getDouble(1) : 0;
+            lastLag = Duration.ofMillis((long) (seconds * 1000));
+            if (lastLag.compareTo(maxLag) > 0) {
+                markUnusable("replication lag " + lastLag + " exceeds " + maxLag);
+            } else if (!usable) {
+                usable = true;
+                log.info("Read replica available (replication lag {}), routing read-only transactions to it", lastLag);
+            }
+        } catch (SQLException | RuntimeException e) {
+            markUnusable("lag check failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Indica se as leituras estão sendo atendidas pela réplica.
+     * * @return {@code true} se a réplica estiver utilizável.
+     */
+    public boolean isUsable() {
+        return usable;
+    }
+
+    /**
+     * Retorna o atraso medido na última verificação bem-sucedida.
+     * * @return O atraso de replicação, ou {@code null} se ainda não foi medido.
+     */
+    public Duration getLastLag() {
+        return lastLag;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (usable) {
+            try {
+                return obtainTargetDataSource().getConnection();
+            } catch (SQLException e) {
+                markUnusable("connection failed: " + e.getMessage());
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (usable) {
+            try {
+                return obtainTargetDataSource().getConnection(username, password);
+            } catch (SQLException e) {
+                markUnusable("connection failed: " + e.getMessage());
+            }
+        }
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * Encerra a verificação periódica e o pool da réplica.
+     */
+    @Override
+    public synchronized void close() throws Exception {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void markUnusable(String reason) {
+        if (usable) {
+            log.warn("Read replica unavailable ({}), routing reads to the primary", reason);
+        }
+        usable = false;
+    }
+}
@@ -0,0 +1,56 @@
+package edu.com.br.SistemasClinicos.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Utilitário para executar ações no fim da transação corrente.
+ * <p>
+ * Usado para manter estruturas em memória (índices, caches) sincronizadas com o banco:
+ * as alterações só são aplicadas depois do commit e as reservas provisórias são
+ * desfeitas em caso de rollback.
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    /**
+     * Executa a ação após o commit da transação corrente.
+     * <p>
+     * Se não houver transação ativa, a ação é executada imediatamente.
+     * * @param action A ação a ser executada.
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Executa a ação caso a transação corrente sofra rollback.
+     * <p>
+     * Se não houver transação ativa, a ação nunca é executada.
+     * * @param action A ação a ser executada.
+     */
+    public static void afterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    action.run();
+                }
+            }
+        });
+    }
+}
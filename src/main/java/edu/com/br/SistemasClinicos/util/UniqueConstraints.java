@@ -0,0 +1,38 @@
+package edu.com.br.SistemasClinicos.util;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.util.Locale;
+
+/**
+ * Utilitário para identificar a restrição UNIQUE violada em uma {@link DataIntegrityViolationException}.
+ * <p>
+ * A violação é reconhecida pelo SQLState padrão {@code 23505}, e a coluna pela mensagem do banco,
+ * que a cita tanto no PostgreSQL ({@code Key (cpf)=(...) already exists}) quanto no H2
+ * ({@code ON PUBLIC.PATIENT(CPF ...)}). Assim, o nome da restrição não importa: ele muda entre os
+ * bancos criados pelas migrações e os criados pelo Hibernate.
+ */
+public final class UniqueConstraints {
+
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    private UniqueConstraints() {
+    }
+
+    /**
+     * Verifica se a exceção é a violação da restrição UNIQUE de uma coluna.
+     * * @param e A exceção lançada na gravação.
+     * @param column O nome da coluna (ex.: {@code cpf}).
+     * @return {@code true} se um valor repetido da coluna foi recusado.
+     */
+    public static boolean isViolated(DataIntegrityViolationException e, String column) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sql) {
+                return UNIQUE_VIOLATION.equals(sql.getSQLState()) && sql.getMessage() != null
+                        && sql.getMessage().toLowerCase(Locale.ROOT).contains(column.toLowerCase(Locale.ROOT));
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,30 @@
+-- Busca aproximada de pacientes por nome (GET /api/patients/search/{name}).
+--
+-- O nome e normalizado (sem acentos e em minusculas) e indexado por trigramas em um
+-- indice GIN, que atende ao operador de similaridade por palavras (<%) sem varrer a tabela.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- Em bancos novos o Flyway roda antes do Hibernate, entao a tabela e criada aqui,
+-- com a mesma definicao gerada a partir da entidade Patient.
+CREATE TABLE IF NOT EXISTS patient (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name       VARCHAR(100) NOT NULL,
+    cpf        VARCHAR(11)  NOT NULL UNIQUE,
+    date_birth DATE,
+    phone      VARCHAR(18)  NOT NULL,
+    email      VARCHAR(50)  NOT NULL,
+    address    VARCHAR(255) NOT NULL,
+    city       VARCHAR(50)  NOT NULL,
+    state      VARCHAR(50)  NOT NULL
+);
+
+-- unaccent() e STABLE (depende do search_path); indices de expressao exigem IMMUTABLE.
+-- Fixar o dicionario e o schema torna o resultado deterministico.
+CREATE OR REPLACE FUNCTION f_unaccent(text) RETURNS text
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+AS $$ SELECT public.unaccent('public.unaccent'::regdictionary, $1) $$;
+
+CREATE INDEX IF NOT EXISTS idx_patient_name_trgm
+    ON patient USING gin (lower(f_unaccent(name)) gin_trgm_ops);
@@ -0,0 +1,66 @@
+-- Esquema base de todas as entidades e indices para as consultas dos repositorios.
+--
+-- A partir desta versao o esquema e mantido apenas pelo Flyway (ddl-auto=validate).
+-- Os comandos sao idempotentes: em bancos ja criados pelo Hibernate (ddl-auto=update,
+-- baseline na versao 0) as tabelas existentes sao mantidas e apenas os indices e a
+-- sequence que faltam sao criados.
+
+CREATE TABLE IF NOT EXISTS specialty (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255) NOT NULL UNIQUE,
+    description VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS doctor (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name         VARCHAR(100) NOT NULL,
+    cpf          VARCHAR(11)  NOT NULL UNIQUE,
+    email        VARCHAR(50)  NOT NULL,
+    phone        VARCHAR(18)  NOT NULL,
+    crm          VARCHAR(50)  NOT NULL,
+    specialty_id BIGINT REFERENCES specialty (id)
+);
+
+CREATE TABLE IF NOT EXISTS appointment (
+    id         BIGINT PRIMARY KEY,
+    date_time  TIMESTAMP(6) NOT NULL,
+    patient_id BIGINT       NOT NULL REFERENCES patient (id),
+    doctor_id  BIGINT       NOT NULL REFERENCES doctor (id),
+    status     VARCHAR(255) NOT NULL CHECK (status IN ('SCHEDULED', 'COMPLETED', 'CANCELLED')),
+    notes      VARCHAR(255)
+);
+
+-- IDs das consultas (Appointment usa allocationSize = 50 para INSERTs em batch).
+-- O otimizador pooled do Hibernate trata o valor do nextval como o topo de um bloco e usa
+-- nextval-49 .. nextval, entao o proximo nextval precisa ficar um bloco inteiro acima do
+-- maior id existente (e nao apenas em MAX(id)+1), para nao repetir ids de consultas antigas.
+CREATE SEQUENCE IF NOT EXISTS appointment_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('appointment_seq', COALESCE((SELECT MAX(id) FROM appointment), 0) + 50, false);
+
+-- appointment_id e UNIQUE (relacao um-para-um): o indice unico da constraint atende
+-- as buscas de receita por consulta, sem indice adicional.
+CREATE TABLE IF NOT EXISTS prescription (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    description    VARCHAR(255) NOT NULL,
+    medications    VARCHAR(255),
+    issue_date     DATE         NOT NULL,
+    appointment_id BIGINT UNIQUE REFERENCES appointment (id)
+);
+
+-- PatientRepository.findByName (igualdade); a busca aproximada usa idx_patient_name_trgm (V1)
+CREATE INDEX IF NOT EXISTS idx_patient_name ON patient (name);
+
+-- DoctorRepository.findByName
+CREATE INDEX IF NOT EXISTS idx_doctor_name ON doctor (name);
+
+-- DoctorRepository.findBySpecialty_Name / findSummariesBySpecialtyName (join por specialty_id)
+CREATE INDEX IF NOT EXISTS idx_doctor_specialty_id ON doctor (specialty_id);
+
+-- Agenda do doutor e do paciente em ordem de horario (conflitos, disponibilidade, agenda)
+CREATE INDEX IF NOT EXISTS idx_appointment_doctor_date_time ON appointment (doctor_id, date_time);
+CREATE INDEX IF NOT EXISTS idx_appointment_patient_date_time ON appointment (patient_id, date_time);
+
+-- AppointmentRepository.streamSlots (carga do indice de agenda na inicializacao):
+-- apenas consultas agendadas, a partir de agora
+CREATE INDEX IF NOT EXISTS idx_appointment_scheduled_date_time
+    ON appointment (date_time) WHERE status = 'SCHEDULED';
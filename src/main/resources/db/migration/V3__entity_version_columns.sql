@@ -0,0 +1,7 @@
+-- Coluna de versao (@Version) usada no controle de concorrencia otimista e nas ETags da API.
+-- Registros existentes comecam na versao 0.
+
+ALTER TABLE patient ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE doctor ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE specialty ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE appointment ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
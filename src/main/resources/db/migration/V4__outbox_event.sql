@@ -0,0 +1,14 @@
+-- Outbox transacional: eventos de alteracao de pacientes, doutores e consultas gravados na
+-- mesma transacao da entidade e publicados em lotes por um processo em segundo plano.
+-- Os eventos sao removidos apos a publicacao; a ordem de publicacao segue o id.
+
+CREATE SEQUENCE IF NOT EXISTS outbox_event_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS outbox_event (
+    id             BIGINT       PRIMARY KEY,
+    aggregate_type VARCHAR(50)  NOT NULL,
+    aggregate_id   BIGINT       NOT NULL,
+    event_type     VARCHAR(50)  NOT NULL,
+    payload        TEXT         NOT NULL,
+    created_at     TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
@@ -0,0 +1,23 @@
+-- Contadores de consultas por doutor, dia e status, mantidos incrementalmente pela aplicacao
+-- (StatisticsCounters) para os paineis gerenciais sem GROUP BY sobre appointment.
+-- specialty_id e a especialidade do doutor na ultima alteracao do contador.
+
+CREATE TABLE IF NOT EXISTS appointment_statistic (
+    doctor_id    BIGINT      NOT NULL REFERENCES doctor (id) ON DELETE CASCADE,
+    stat_date    DATE        NOT NULL,
+    status       VARCHAR(20) NOT NULL CHECK (status IN ('SCHEDULED', 'COMPLETED', 'CANCELLED')),
+    specialty_id BIGINT,
+    appointments BIGINT      NOT NULL,
+    PRIMARY KEY (doctor_id, stat_date, status)
+);
+
+-- Paineis filtram por intervalo de datas
+CREATE INDEX IF NOT EXISTS idx_appointment_statistic_stat_date ON appointment_statistic (stat_date);
+
+-- Carga inicial a partir das consultas existentes
+INSERT INTO appointment_statistic (doctor_id, stat_date, status, specialty_id, appointments)
+SELECT a.doctor_id, CAST(a.date_time AS DATE), a.status, d.specialty_id, COUNT(*)
+FROM appointment a
+JOIN doctor d ON d.id = a.doctor_id
+GROUP BY a.doctor_id, CAST(a.date_time AS DATE), a.status, d.specialty_id
+ON CONFLICT DO NOTHING;
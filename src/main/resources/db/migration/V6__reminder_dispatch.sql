@@ -0,0 +1,14 @@
+-- Registro dos lembretes de consulta enviados (24h e 2h antes, por padrao).
+-- A chave impede envios duplicados entre instancias e, apos uma reinicializacao, indica
+-- quais lembretes das consultas futuras ja foram enviados.
+
+CREATE TABLE IF NOT EXISTS reminder_dispatch (
+    appointment_id   BIGINT       NOT NULL REFERENCES appointment (id) ON DELETE CASCADE,
+    appointment_time TIMESTAMP(6) NOT NULL,
+    offset_minutes   INTEGER      NOT NULL,
+    sent_at          TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (appointment_id, appointment_time, offset_minutes)
+);
+
+-- Limpeza dos registros de consultas antigas
+CREATE INDEX IF NOT EXISTS idx_reminder_dispatch_appointment_time ON reminder_dispatch (appointment_time);
@@ -0,0 +1,16 @@
+-- Respostas das requisicoes com Idempotency-Key (POST /api/patients, /api/doctors).
+-- A linha sem status reserva a chave enquanto a requisicao original esta em andamento;
+-- as repeticoes recebem a resposta guardada ate expires_at.
+
+CREATE TABLE IF NOT EXISTS idempotency_record (
+    idempotency_key VARCHAR(300) PRIMARY KEY,
+    request_hash    VARCHAR(64)  NOT NULL,
+    status          INTEGER,
+    content_type    VARCHAR(255),
+    body            TEXT,
+    created_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    expires_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+-- Remocao periodica das chaves expiradas
+CREATE INDEX IF NOT EXISTS idx_idempotency_record_expires_at ON idempotency_record (expires_at);
@@ -0,0 +1,104 @@
+package edu.com.br.SistemasClinicos.AppointmentTest;
+
+import edu.com.br.SistemasClinicos.config.ScheduleProperties;
+import edu.com.br.SistemasClinicos.dto.Appointment.AppointmentSlot;
+import edu.com.br.SistemasClinicos.service.Appointment.AppointmentScheduleIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de teste unitário para o índice de agenda em memória {@code AppointmentScheduleIndex}.
+ * <p>
+ * Valida a detecção de conflitos por Doutor e por Paciente, considerando a duração
+ * padrão de 30 minutos por consulta.
+ */
+class AppointmentScheduleIndexTest {
+
+    private static final LocalDateTime NINE = LocalDateTime.of(2030, 1, 7, 9, 0);
+
+    private AppointmentScheduleIndex index;
+
+    /**
+     * Inicializa o índice com uma consulta do Doutor 1 com o Paciente 10 às 09:00.
+     */
+    @BeforeEach
+    void setup() {
+        index = new AppointmentScheduleIndex(new ScheduleProperties());
+        index.load(Stream.of(new AppointmentSlot(100L, 1L, 10L, NINE)));
+    }
+
+    @Test
+    void shouldRejectOverlappingAppointmentForSameDoctor() {
+        RuntimeException ex = assertThrows(RuntimeException.class,
+                () -> index.reserve(1L, 20L, NINE.plusMinutes(15), null));
+
+        assertEquals("Doctor already has an appointment at this time", ex.getMessage());
+    }
+
+    @Test
+    void shouldRejectOverlappingAppointmentForSamePatient() {
+        RuntimeException ex = assertThrows(RuntimeException.class,
+                () -> index.reserve(2L, 10L, NINE.minusMinutes(20), null));
+
+        assertEquals("Patient already has an appointment at this time", ex.getMessage());
+    }
+
+    @Test
+    void shouldAcceptAdjacentSlots() {
+        assertDoesNotThrow(() -> index.reserve(1L, 20L, NINE.plusMinutes(30), null));
+        assertDoesNotThrow(() -> index.reserve(1L, 30L, NINE.minusMinutes(30), null));
+    }
+
+    @Test
+    void shouldIgnoreOwnAppointmentWhenRescheduling() {
+        assertDoesNotThrow(() -> index.reserve(1L, 10L, NINE.plusMinutes(10), 100L));
+    }
+
+    @Test
+    void shouldFreeSlotAfterReleasingReservation() {
+        LocalDateTime ten = NINE.plusHours(1);
+        long reservation = index.reserve(1L, 20L, ten, null);
+
+        assertThrows(RuntimeException.class, () -> index.reserve(1L, 30L, ten, null));
+
+        index.release(1L, 20L, ten, reservation);
+
+        assertDoesNotThrow(() -> index.reserve(1L, 30L, ten, null));
+    }
+
+    @Test
+    void shouldKeepSlotWhenReleasingWithStaleKey() {
+        LocalDateTime ten = NINE.plusHours(1);
+        long reservation = index.reserve(1L, 20L, ten, null);
+        index.confirm(1L, 20L, ten, reservation, 200L);
+
+        index.release(1L, 20L, ten, reservation);
+
+        assertThrows(RuntimeException.class, () -> index.reserve(1L, 30L, ten, null));
+    }
+
+    @Test
+    void shouldRejectReservationsBeforeLoading() {
+        AppointmentScheduleIndex notLoaded = new AppointmentScheduleIndex(new ScheduleProperties());
+
+        assertThrows(RuntimeException.class, () -> notLoaded.reserve(1L, 10L, NINE, null));
+    }
+
+    @Test
+    void shouldReserveNothingWhenAnySessionOfSeriesConflicts() {
+        List<LocalDateTime> series = List.of(NINE.minusWeeks(1), NINE, NINE.plusWeeks(1));
+
+        RuntimeException ex = assertThrows(RuntimeException.class,
+                () -> index.reserveAll(1L, 20L, series, null));
+
+        assertEquals("Doctor already has an appointment at this time (" + NINE + ")", ex.getMessage());
+        assertDoesNotThrow(() -> index.reserve(1L, 30L, NINE.minusWeeks(1), null));
+        assertDoesNotThrow(() -> index.reserve(1L, 30L, NINE.plusWeeks(1), null));
+    }
+}
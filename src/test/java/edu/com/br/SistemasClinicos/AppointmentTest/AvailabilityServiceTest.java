@@ -0,0 +1,94 @@
+package edu.com.br.SistemasClinicos.AppointmentTest;
+
+import edu.com.br.SistemasClinicos.config.ScheduleProperties;
+import edu.com.br.SistemasClinicos.dto.Appointment.AppointmentSlot;
+import edu.com.br.SistemasClinicos.dto.Appointment.AvailableSlotResponse;
+import edu.com.br.SistemasClinicos.dto.Doctor.DoctorSummary;
+import edu.com.br.SistemasClinicos.repository.DoctorRepository;
+import edu.com.br.SistemasClinicos.service.Appointment.AppointmentScheduleIndex;
+import edu.com.br.SistemasClinicos.service.Appointment.AvailabilityServiceImp;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Classe de teste unitário para a busca de horários livres {@code AvailabilityServiceImp}.
+ * <p>
+ * Usa o índice de agenda real e mocka apenas o {@code DoctorRepository}.
+ */
+class AvailabilityServiceTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2030, 1, 7);
+
+    private DoctorRepository doctorRepository;
+    private AppointmentScheduleIndex index;
+    private AvailabilityServiceImp service;
+
+    /**
+     * Cadastra dois cardiologistas: o Doutor 1 está ocupado às 08:00 e 08:30 e o
+     * Doutor 2 às 08:00 de segunda-feira.
+     */
+    @BeforeEach
+    void setup() {
+        ScheduleProperties properties = new ScheduleProperties();
+        doctorRepository = mock(DoctorRepository.class);
+        index = new AppointmentScheduleIndex(properties);
+        index.load(Stream.of(
+                new AppointmentSlot(1L, 1L, 10L, MONDAY.atTime(8, 0)),
+                new AppointmentSlot(2L, 1L, 11L, MONDAY.atTime(8, 30)),
+                new AppointmentSlot(3L, 2L, 12L, MONDAY.atTime(8, 0))));
+        service = new AvailabilityServiceImp(doctorRepository, index, properties);
+
+        when(doctorRepository.findSummariesBySpecialtyName("Cardiology"))
+                .thenReturn(List.of(new DoctorSummary(1L, "Ana"), new DoctorSummary(2L, "Bruno")));
+    }
+
+    @Test
+    void shouldMergeFreeSlotsOfAllDoctorsInChronologicalOrder() {
+        List<AvailableSlotResponse> slots = service.findNextFreeSlots("Cardiology", MONDAY, 1, 3);
+
+        assertEquals(3, slots.size());
+        assertSlot(slots.get(0), 2L, MONDAY.atTime(8, 30));
+        assertSlot(slots.get(1), 1L, MONDAY.atTime(9, 0));
+        assertSlot(slots.get(2), 2L, MONDAY.atTime(9, 0));
+    }
+
+    @Test
+    void shouldSkipNonWorkingDays() {
+        LocalDate saturday = MONDAY.minusDays(2);
+
+        List<AvailableSlotResponse> slots = service.findNextFreeSlots("Cardiology", saturday, 3, 1);
+
+        assertSlot(slots.get(0), 2L, MONDAY.atTime(8, 30));
+    }
+
+    @Test
+    void shouldBlockBothSlotsTouchedByUnalignedAppointment() {
+        index.load(Stream.of(new AppointmentSlot(4L, 1L, 10L, MONDAY.atTime(8, 10))));
+        when(doctorRepository.findSummariesBySpecialtyName("Cardiology"))
+                .thenReturn(List.of(new DoctorSummary(1L, "Ana")));
+
+        List<AvailableSlotResponse> slots = service.findNextFreeSlots("Cardiology", MONDAY, 1, 1);
+
+        assertSlot(slots.get(0), 1L, MONDAY.atTime(9, 0));
+    }
+
+    @Test
+    void shouldThrowWhenSpecialtyHasNoDoctors() {
+        when(doctorRepository.findSummariesBySpecialtyName("Unknown")).thenReturn(List.of());
+
+        assertThrows(RuntimeException.class, () -> service.findNextFreeSlots("Unknown", MONDAY, 1, 1));
+    }
+
+    private static void assertSlot(AvailableSlotResponse slot, Long doctorId, LocalDateTime dateTime) {
+        assertEquals(doctorId, slot.getDoctorId());
+        assertEquals(dateTime, slot.getDateTime());
+    }
+}
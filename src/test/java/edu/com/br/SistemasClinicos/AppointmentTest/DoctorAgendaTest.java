@@ -0,0 +1,178 @@
+package edu.com.br.SistemasClinicos.AppointmentTest;
+
+import edu.com.br.SistemasClinicos.config.AgendaCacheProperties;
+import edu.com.br.SistemasClinicos.config.CacheConfig;
+import edu.com.br.SistemasClinicos.config.ReminderConfig;
+import edu.com.br.SistemasClinicos.config.ReminderProperties;
+import edu.com.br.SistemasClinicos.config.ScheduleProperties;
+import edu.com.br.SistemasClinicos.config.SpecialtyCacheProperties;
+import edu.com.br.SistemasClinicos.dto.Appointment.AgendaEntry;
+import edu.com.br.SistemasClinicos.mapper.AppointmentMapperImpl;
+import edu.com.br.SistemasClinicos.model.*;
+import edu.com.br.SistemasClinicos.service.Appointment.AppointmentScheduleIndex;
+import edu.com.br.SistemasClinicos.service.Appointment.AppointmentServiceImp;
+import edu.com.br.SistemasClinicos.service.Outbox.OutboxServiceImp;
+import edu.com.br.SistemasClinicos.service.Reminder.ReminderScheduler;
+import edu.com.br.SistemasClinicos.service.Statistics.StatisticsCounters;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Teste de integração da agenda diária dos Doutores ({@code AppointmentServiceImp#findDoctorAgenda}).
+ * <p>
+ * Executado sem transação envolvendo o teste, para que o cache transacional seja populado e
+ * invalidado a cada commit. O número de comandos SQL é verificado pelas estatísticas do Hibernate.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(DoctorAgendaTest.AgendaTestConfig.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class DoctorAgendaTest {
+
+    private static final LocalDate DAY = LocalDate.now().plusYears(1);
+
+    @TestConfiguration
+    @Import({CacheConfig.class, AppointmentServiceImp.class, AppointmentMapperImpl.class,
+            AppointmentScheduleIndex.class, OutboxServiceImp.class, StatisticsCounters.class,
+            ReminderScheduler.class, ReminderConfig.class})
+    @EnableConfigurationProperties({SpecialtyCacheProperties.class, AgendaCacheProperties.class,
+            ScheduleProperties.class, ReminderProperties.class})
+    static class AgendaTestConfig {
+    }
+
+    @Autowired
+    private AppointmentServiceImp service;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+    private Long doctorId;
+    private Long afternoonId;
+
+    /**
+     * Cadastra um Doutor com três consultas no dia (uma delas com Receita, fora de ordem de
+     * inserção) e uma no dia seguinte.
+     */
+    @BeforeEach
+    void setup() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Specialty specialty = new Specialty();
+            specialty.setName("Cardiologia");
+            entityManager.persist(specialty);
+            Doctor doctor = new Doctor();
+            doctor.setName("Marcos");
+            doctor.setCpf("98765432100");
+            doctor.setEmail("marcos@email.com");
+            doctor.setPhone("11977777777");
+            doctor.setCrm("CRM-1234");
+            doctor.setSpecialty(specialty);
+            entityManager.persist(doctor);
+            Patient patient = new Patient();
+            patient.setName("Lucas");
+            patient.setCpf("12345678901");
+            patient.setPhone("11999999999");
+            patient.setEmail("lucas@email.com");
+            patient.setAddress("Rua A, 1");
+            patient.setCity("São Paulo");
+            patient.setState("SP");
+            entityManager.persist(patient);
+
+            Appointment afternoon = appointment(doctor, patient, DAY.atTime(14, 0));
+            appointment(doctor, patient, DAY.atTime(8, 30));
+            Appointment morning = appointment(doctor, patient, DAY.atTime(10, 0));
+            appointment(doctor, patient, DAY.plusDays(1).atTime(8, 0));
+            Prescription prescription = new Prescription();
+            prescription.setDescription("Repouso");
+            prescription.setIssueDate(LocalDate.now());
+            prescription.setAppointment(morning);
+            entityManager.persist(prescription);
+
+            doctorId = doctor.getId();
+            afternoonId = afternoon.getId();
+        });
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void cleanup() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (String entity : List.of("Prescription", "Appointment", "OutboxEvent", "Patient", "Doctor", "Specialty")) {
+                entityManager.createQuery("DELETE FROM " + entity).executeUpdate();
+            }
+        });
+    }
+
+    @Test
+    void shouldLoadAgendaInOneOrderedQuery() {
+        List<AgendaEntry> agenda = service.findDoctorAgenda(doctorId, DAY);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(List.of(DAY.atTime(8, 30), DAY.atTime(10, 0), DAY.atTime(14, 0)),
+                agenda.stream().map(AgendaEntry::getDateTime).toList());
+        assertEquals(List.of(false, true, false), agenda.stream().map(AgendaEntry::isPrescribed).toList());
+        assertEquals("Lucas", agenda.get(0).getPatientName());
+    }
+
+    @Test
+    void repeatedLookupsShouldBeServedFromCache() {
+        service.findDoctorAgenda(doctorId, DAY);
+        service.findDoctorAgenda(doctorId, DAY);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void cancellationShouldInvalidateCachedAgenda() {
+        service.findDoctorAgenda(doctorId, DAY);
+
+        service.cancelAppointment(afternoonId, null);
+
+        AgendaEntry afternoon = service.findDoctorAgenda(doctorId, DAY).get(2);
+        assertEquals(AppointmentStatus.CANCELLED, afternoon.getStatus());
+    }
+
+    @Test
+    void shouldRejectUnknownDoctor() {
+        assertThrows(RuntimeException.class, () -> service.findDoctorAgenda(doctorId + 100, DAY));
+    }
+
+    private Appointment appointment(Doctor doctor, Patient patient, LocalDateTime dateTime) {
+        Appointment appointment = new Appointment();
+        appointment.setDoctor(doctor);
+        appointment.setPatient(patient);
+        appointment.setDateTime(dateTime);
+        appointment.setStatus(AppointmentStatus.SCHEDULED);
+        entityManager.persist(appointment);
+        return appointment;
+    }
+}
@@ -0,0 +1,97 @@
+package edu.com.br.SistemasClinicos.DoctorTest;
+
+import edu.com.br.SistemasClinicos.controller.DoctorController;
+import edu.com.br.SistemasClinicos.dto.Doctor.DoctorPatchRequest;
+import edu.com.br.SistemasClinicos.dto.Doctor.DoctorResponse;
+import edu.com.br.SistemasClinicos.dto.Doctor.DoctorVersion;
+import edu.com.br.SistemasClinicos.service.Appointment.AppointmentService;
+import edu.com.br.SistemasClinicos.service.Doctor.DoctorService;
+import edu.com.br.SistemasClinicos.service.Export.ExportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Teste da camada web de {@code DoctorController}: a ETag de um Doutor combina a sua versão com
+ * a da Especialidade, cujo nome faz parte da resposta.
+ * <p>
+ * Os serviços são mockados; apenas o controller e os conversores HTTP são carregados.
+ */
+@WebMvcTest(DoctorController.class)
+class DoctorControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private DoctorService doctorService;
+
+    @MockitoBean
+    private ExportService exportService;
+
+    @MockitoBean
+    private AppointmentService appointmentService;
+
+    @Test
+    void getShouldReturnDoctorAndSpecialtyVersionsAsETag() throws Exception {
+        when(doctorService.findDoctorById(1L)).thenReturn(doctor(3L, 2L));
+
+        mockMvc.perform(get("/api/doctors/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3-2\""))
+                .andExpect(jsonPath("$.version").value(3))
+                .andExpect(jsonPath("$.specialtyVersion").doesNotExist());
+    }
+
+    @Test
+    void getWithCurrentETagShouldReturnNotModifiedWithoutLoadingDoctor() throws Exception {
+        when(doctorService.findDoctorVersion(1L)).thenReturn(new DoctorVersion(3L, 2L));
+
+        mockMvc.perform(get("/api/doctors/1").header(HttpHeaders.IF_NONE_MATCH, "\"3-2\""))
+                .andExpect(status().isNotModified());
+
+        verify(doctorService, never()).findDoctorById(any());
+    }
+
+    @Test
+    void getAfterSpecialtyChangeShouldReturnDoctor() throws Exception {
+        when(doctorService.findDoctorVersion(1L)).thenReturn(new DoctorVersion(3L, 3L));
+        when(doctorService.findDoctorById(1L)).thenReturn(doctor(3L, 3L));
+
+        mockMvc.perform(get("/api/doctors/1").header(HttpHeaders.IF_NONE_MATCH, "\"3-2\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3-3\""));
+    }
+
+    @Test
+    void patchWithIfMatchShouldPassOnlyDoctorVersion() throws Exception {
+        when(doctorService.patchDoctor(eq(1L), any(DoctorPatchRequest.class), eq(3L))).thenReturn(doctor(4L, 2L));
+
+        mockMvc.perform(patch("/api/doctors/1").header(HttpHeaders.IF_MATCH, "\"3-2\"")
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"phone\":\"11988888888\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4-2\""));
+    }
+
+    private static DoctorResponse doctor(Long version, Long specialtyVersion) {
+        DoctorResponse response = new DoctorResponse();
+        response.setId(1L);
+        response.setName("Ana");
+        response.setSpecialtyId(1L);
+        response.setSpecialtyName("Cardiologia");
+        response.setVersion(version);
+        response.setSpecialtyVersion(specialtyVersion);
+        return response;
+    }
+}
@@ -0,0 +1,125 @@
+package edu.com.br.SistemasClinicos.DoctorTest;
+
+import edu.com.br.SistemasClinicos.dto.Doctor.DoctorResponse;
+import edu.com.br.SistemasClinicos.dto.Doctor.DoctorVersion;
+import edu.com.br.SistemasClinicos.mapper.DoctorMapper;
+import edu.com.br.SistemasClinicos.mapper.DoctorMapperImpl;
+import edu.com.br.SistemasClinicos.model.Doctor;
+import edu.com.br.SistemasClinicos.model.Specialty;
+import edu.com.br.SistemasClinicos.repository.DoctorRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Teste de regressão para o problema N+1 na listagem e busca de Doutores.
+ * <p>
+ * Cada consulta do {@code DoctorRepository} usada pelos endpoints de listagem é seguida
+ * do mapeamento para {@code DoctorResponse} (que lê {@code specialty.id} e {@code specialty.name}),
+ * e o número de comandos SQL executados é verificado pelas estatísticas do Hibernate.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(DoctorMapperImpl.class)
+class DoctorRepositoryTest {
+
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    @Autowired
+    private DoctorMapper doctorMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    /**
+     * Cadastra três doutores em especialidades distintas e limpa o contexto de persistência,
+     * para que as especialidades precisem realmente ser lidas do banco.
+     */
+    @BeforeEach
+    void setup() {
+        for (int i = 1; i <= 3; i++) {
+            Specialty specialty = new Specialty();
+            specialty.setName("Specialty " + i);
+            entityManager.persist(specialty);
+
+            Doctor doctor = new Doctor();
+            doctor.setName("Doctor");
+            doctor.setCpf("0000000000" + i);
+            doctor.setEmail("doctor" + i + "@clinic.com");
+            doctor.setPhone("11999999999");
+            doctor.setCrm("CRM-" + i);
+            doctor.setSpecialty(specialty);
+            entityManager.persist(doctor);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findAllShouldLoadSpecialtiesInSingleStatement() {
+        List<DoctorResponse> responses = doctorMapper.toResponseList(doctorRepository.findAll());
+
+        assertEquals(3, responses.size());
+        assertTrue(responses.stream().allMatch(r -> r.getSpecialtyName() != null));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findByNameShouldLoadSpecialtiesInSingleStatement() {
+        List<DoctorResponse> responses = doctorMapper.toResponseList(doctorRepository.findByName("Doctor"));
+
+        assertEquals(3, responses.size());
+        assertTrue(responses.stream().allMatch(r -> r.getSpecialtyName() != null));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findBySpecialtyNameShouldLoadSpecialtiesInSingleStatement() {
+        List<DoctorResponse> responses = doctorMapper.toResponseList(doctorRepository.findBySpecialty_Name("Specialty 2"));
+
+        assertEquals(1, responses.size());
+        assertEquals("Specialty 2", responses.get(0).getSpecialtyName());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void cursorPageShouldLoadSpecialtiesInSingleStatement() {
+        List<DoctorResponse> responses = doctorMapper.toResponseList(
+                doctorRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(10)));
+
+        assertEquals(3, responses.size());
+        assertTrue(responses.stream().allMatch(r -> r.getSpecialtyName() != null));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findVersionByIdShouldReadDoctorAndSpecialtyVersionsInSingleStatement() {
+        Doctor doctor = doctorRepository.findByName("Doctor").get(0);
+        statistics.clear();
+
+        DoctorVersion version = doctorRepository.findVersionById(doctor.getId()).orElseThrow();
+
+        assertEquals(doctor.getVersion(), version.getVersion());
+        assertEquals(doctor.getSpecialty().getVersion(), version.getSpecialtyVersion());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
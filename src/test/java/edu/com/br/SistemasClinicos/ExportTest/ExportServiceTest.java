@@ -0,0 +1,120 @@
+package edu.com.br.SistemasClinicos.ExportTest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.com.br.SistemasClinicos.mapper.DoctorMapperImpl;
+import edu.com.br.SistemasClinicos.mapper.PatientMapperImpl;
+import edu.com.br.SistemasClinicos.model.Doctor;
+import edu.com.br.SistemasClinicos.model.Patient;
+import edu.com.br.SistemasClinicos.model.Specialty;
+import edu.com.br.SistemasClinicos.service.Export.ExportFormat;
+import edu.com.br.SistemasClinicos.service.Export.ExportServiceImp;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Teste de integração da exportação de cadastros ({@code ExportServiceImp}).
+ * <p>
+ * Verifica o conteúdo gerado em CSV e NDJSON e que as entidades lidas do cursor são
+ * desanexadas do contexto de persistência à medida que são escritas.
+ */
+@DataJpaTest
+@Import({ExportServiceImp.class, PatientMapperImpl.class, DoctorMapperImpl.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class ExportServiceTest {
+
+    @Autowired
+    private ExportServiceImp service;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Patient first;
+
+    @BeforeEach
+    void setup() {
+        first = patient("Lucas", "12345678901", "Rua A, 1");
+        entityManager.persist(first);
+        entityManager.persist(patient("Ana \"Aninha\"", "12345678902", "Rua B"));
+
+        Specialty specialty = new Specialty();
+        specialty.setName("Cardiologia");
+        entityManager.persist(specialty);
+        Doctor doctor = new Doctor();
+        doctor.setName("Marcos");
+        doctor.setCpf("98765432100");
+        doctor.setEmail("marcos@email.com");
+        doctor.setPhone("11977777777");
+        doctor.setCrm("CRM-1234");
+        doctor.setSpecialty(specialty);
+        entityManager.persist(doctor);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void shouldExportPatientsAsCsvWithImportHeader() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long rows = service.exportPatients(output, ExportFormat.CSV);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, rows);
+        assertEquals(3, lines.length);
+        assertEquals("id,name,cpf,dateBirth,phone,email,address,city,state,version", lines[0]);
+        assertEquals(first.getId() + ",Lucas,12345678901,1990-05-10,11999999999,lucas@email.com,"
+                + "\"Rua A, 1\",São Paulo,SP,0", lines[1]);
+        assertTrue(lines[2].contains(",\"Ana \"\"Aninha\"\"\","), lines[2]);
+    }
+
+    @Test
+    void shouldExportDoctorsAsNdjson() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long rows = service.exportDoctors(output, ExportFormat.NDJSON);
+
+        String content = output.toString(StandardCharsets.UTF_8);
+        assertEquals(1, rows);
+        assertTrue(content.endsWith("}\n"), content);
+        JsonNode doctor = objectMapper.readTree(content.trim());
+        assertEquals("Marcos", doctor.get("name").asText());
+        assertEquals("Cardiologia", doctor.get("specialtyName").asText());
+    }
+
+    @Test
+    void shouldDetachExportedEntities() {
+        service.exportPatients(new ByteArrayOutputStream(), ExportFormat.NDJSON);
+
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    private static Patient patient(String name, String cpf, String address) {
+        Patient patient = new Patient();
+        patient.setName(name);
+        patient.setCpf(cpf);
+        patient.setDateBirth(Date.valueOf("1990-05-10"));
+        patient.setPhone("11999999999");
+        patient.setEmail(name.split(" ")[0].toLowerCase() + "@email.com");
+        patient.setAddress(address);
+        patient.setCity("São Paulo");
+        patient.setState("SP");
+        return patient;
+    }
+}
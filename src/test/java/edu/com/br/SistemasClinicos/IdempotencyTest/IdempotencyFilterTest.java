@@ -0,0 +1,246 @@
+package edu.com.br.SistemasClinicos.IdempotencyTest;
+
+import edu.com.br.SistemasClinicos.config.IdempotencyProperties;
+import edu.com.br.SistemasClinicos.controller.IdempotencyFilter;
+import edu.com.br.SistemasClinicos.dto.Idempotency.IdempotentResponse;
+import edu.com.br.SistemasClinicos.service.Idempotency.IdempotencyStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Teste de integração do filtro {@code IdempotencyFilter} com o registro das chaves no banco.
+ * <p>
+ * Cada instância do filtro tem a sua própria memória, de modo que dois filtros sobre o mesmo
+ * banco simulam duas instâncias da aplicação.
+ */
+@DataJpaTest(properties = "clinic.idempotency.lock-timeout=5s")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(IdempotencyFilterTest.IdempotencyTestConfig.class)
+class IdempotencyFilterTest {
+
+    private static final String API_KEY_HEADER = "X-API-Key";
+
+    @TestConfiguration
+    @Import(IdempotencyStore.class)
+    @EnableConfigurationProperties(IdempotencyProperties.class)
+    static class IdempotencyTestConfig {
+    }
+
+    @Autowired
+    private IdempotencyStore store;
+
+    @Autowired
+    private IdempotencyProperties properties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @AfterEach
+    void cleanup() {
+        transactionTemplate.executeWithoutResult(status ->
+                entityManager.createQuery("DELETE FROM IdempotencyRecord").executeUpdate());
+    }
+
+    @Test
+    void retryShouldReplayResponseWithoutExecutingAgain() throws Exception {
+        IdempotencyFilter filter = filter();
+
+        MockHttpServletResponse first = call(filter, "key-1", "{\"cpf\":\"1\"}", created());
+        MockHttpServletResponse retry = call(filter, "key-1", "{\"cpf\":\"1\"}", created());
+
+        assertEquals(1, executions.get());
+        assertEquals(201, retry.getStatus());
+        assertEquals(first.getContentAsString(), retry.getContentAsString());
+        assertEquals("true", retry.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertNull(first.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    void otherInstanceShouldReplayResponseFromDatabase() throws Exception {
+        call(filter(), "key-1", "{\"cpf\":\"1\"}", created());
+
+        MockHttpServletResponse retry = call(filter(), "key-1", "{\"cpf\":\"1\"}", created());
+
+        assertEquals(1, executions.get());
+        assertEquals(201, retry.getStatus());
+        assertEquals("{\"id\":1}", retry.getContentAsString());
+    }
+
+    @Test
+    void sameKeyWithDifferentBodyShouldBeRejected() throws Exception {
+        IdempotencyFilter filter = filter();
+        call(filter, "key-1", "{\"cpf\":\"1\"}", created());
+
+        assertEquals(422, call(filter, "key-1", "{\"cpf\":\"2\"}", created()).getStatus());
+        assertEquals(422, call(filter(), "key-1", "{\"cpf\":\"2\"}", created()).getStatus());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void failedRequestShouldReleaseKeyForRetry() throws Exception {
+        IdempotencyFilter filter = filter();
+        FilterChain failing = (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(500);
+        };
+
+        assertEquals(500, call(filter, "key-1", "{}", failing).getStatus());
+        assertEquals(201, call(filter, "key-1", "{}", created()).getStatus());
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    void responseShouldBeSentAndKeyKeptWhenStoringItFails() throws Exception {
+        IdempotencyStore failing = new IdempotencyStore(jdbcTemplate, properties) {
+            @Override
+            public void complete(String key, IdempotentResponse response) {
+                throw new DataAccessResourceFailureException("Database unavailable");
+            }
+        };
+        IdempotencyFilter filter = new IdempotencyFilter(properties, API_KEY_HEADER, failing, new SimpleMeterRegistry());
+
+        MockHttpServletResponse first = call(filter, "key-1", "{\"cpf\":\"1\"}", created());
+        MockHttpServletResponse retry = call(filter, "key-1", "{\"cpf\":\"1\"}", created());
+
+        assertEquals(201, first.getStatus());
+        assertEquals("{\"id\":1}", first.getContentAsString());
+        assertEquals("true", retry.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertEquals(1, executions.get());
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM idempotency_record", Integer.class));
+    }
+
+    @Test
+    void concurrentDuplicateShouldWaitForInFlightResponse() throws Exception {
+        IdempotencyFilter filter = filter();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain slow = (request, response) -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            created().doFilter(request, response);
+        };
+
+        CompletableFuture<MockHttpServletResponse> original =
+                CompletableFuture.supplyAsync(() -> callUnchecked(filter, slow));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<MockHttpServletResponse> duplicate =
+                CompletableFuture.supplyAsync(() -> callUnchecked(filter, created()));
+        Thread.sleep(100);
+        assertFalse(duplicate.isDone());
+        release.countDown();
+
+        assertEquals(201, original.get(5, TimeUnit.SECONDS).getStatus());
+        assertEquals(201, duplicate.get(5, TimeUnit.SECONDS).getStatus());
+        assertEquals("true", duplicate.get().getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void sameKeyFromAnotherClientShouldExecuteAgain() throws Exception {
+        IdempotencyFilter filter = filter();
+
+        call(filter, "key-1", "{\"cpf\":\"1\"}", created(), "client-a", "10.0.0.1");
+        MockHttpServletResponse sameClient = call(filter, "key-1", "{\"cpf\":\"1\"}", created(), "client-a", "10.0.0.2");
+        MockHttpServletResponse otherClient = call(filter, "key-1", "{\"cpf\":\"2\"}", created(), "client-b", "10.0.0.1");
+        MockHttpServletResponse otherAddress = call(filter(), "key-1", "{\"cpf\":\"3\"}", created(), null, "10.0.0.3");
+
+        assertEquals("true", sameClient.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertEquals(201, otherClient.getStatus());
+        assertNull(otherClient.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertEquals(201, otherAddress.getStatus());
+        assertNull(otherAddress.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertEquals(3, executions.get());
+    }
+
+    @Test
+    void requestsWithoutKeyShouldPassThrough() throws Exception {
+        IdempotencyFilter filter = filter();
+
+        call(filter, null, "{}", created());
+        call(filter, null, "{}", created());
+
+        assertEquals(2, executions.get());
+    }
+
+    private IdempotencyFilter filter() {
+        return new IdempotencyFilter(properties, API_KEY_HEADER, store, new SimpleMeterRegistry());
+    }
+
+    private FilterChain created() {
+        return (request, response) -> {
+            executions.incrementAndGet();
+            // O controller lê o corpo já consumido pelo filtro
+            assertTrue(request.getInputStream().readAllBytes().length > 0);
+            HttpServletResponse http = (HttpServletResponse) response;
+            http.setStatus(201);
+            http.setContentType("application/json");
+            http.getOutputStream().write(("{\"id\":" + executions.get() + "}").getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private MockHttpServletResponse callUnchecked(IdempotencyFilter filter, FilterChain chain) {
+        try {
+            return call(filter, "key-1", "{\"cpf\":\"1\"}", chain);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private MockHttpServletResponse call(IdempotencyFilter filter, String key, String body, FilterChain chain)
+            throws Exception {
+        return call(filter, key, body, chain, null, "127.0.0.1");
+    }
+
+    private MockHttpServletResponse call(IdempotencyFilter filter, String key, String body, FilterChain chain,
+                                         String apiKey, String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/patients");
+        request.setRemoteAddr(remoteAddr);
+        if (apiKey != null) {
+            request.addHeader(API_KEY_HEADER, apiKey);
+        }
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        if (key != null) {
+            request.addHeader("Idempotency-Key", key);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,169 @@
+package edu.com.br.SistemasClinicos.OutboxTest;
+
+import edu.com.br.SistemasClinicos.config.OutboxProperties;
+import edu.com.br.SistemasClinicos.model.OutboxEvent;
+import edu.com.br.SistemasClinicos.repository.OutboxEventRepository;
+import edu.com.br.SistemasClinicos.service.Outbox.InMemoryOutboxSink;
+import edu.com.br.SistemasClinicos.service.Outbox.OutboxPublisher;
+import edu.com.br.SistemasClinicos.service.Outbox.OutboxService;
+import edu.com.br.SistemasClinicos.service.Outbox.OutboxServiceImp;
+import edu.com.br.SistemasClinicos.service.Outbox.OutboxSink;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Teste de integração do outbox transacional: gravação dos eventos e publicação em lotes
+ * com {@code FOR UPDATE SKIP LOCKED}.
+ * <p>
+ * Executado sem transação envolvendo o teste, para que cada gravação e cada lote publicado
+ * façam commit de fato.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(OutboxPublisherTest.OutboxTestConfig.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class OutboxPublisherTest {
+
+    @TestConfiguration
+    @Import({OutboxServiceImp.class, OutboxPublisher.class})
+    static class OutboxTestConfig {
+
+        @Bean
+        OutboxProperties outboxProperties() {
+            OutboxProperties properties = new OutboxProperties();
+            properties.setBatchSize(2);
+            return properties;
+        }
+
+        @Bean
+        InMemoryOutboxSink inMemoryOutboxSink() {
+            return new InMemoryOutboxSink();
+        }
+
+        /**
+         * Destino que pode ser forçado a falhar, para simular a indisponibilidade do consumidor.
+         */
+        @Bean
+        FailingSink outboxSink(InMemoryOutboxSink delegate) {
+            return new FailingSink(delegate);
+        }
+    }
+
+    static class FailingSink implements OutboxSink {
+
+        final AtomicBoolean failing = new AtomicBoolean();
+        private final InMemoryOutboxSink delegate;
+
+        FailingSink(InMemoryOutboxSink delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void publish(List<OutboxEvent> events) {
+            if (failing.get()) {
+                throw new IllegalStateException("sink unavailable");
+            }
+            delegate.publish(events);
+        }
+    }
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private OutboxPublisher publisher;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private InMemoryOutboxSink sink;
+
+    @Autowired
+    private FailingSink failingSink;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setup() {
+        sink.clear();
+        failingSink.failing.set(false);
+    }
+
+    @AfterEach
+    void cleanup() {
+        outboxEventRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void shouldPublishAllPendingEventsInOrderAndRemoveThem() {
+        record(5);
+
+        assertEquals(5, publisher.drain());
+
+        List<OutboxEvent> published = sink.getEvents();
+        assertEquals(5, published.size());
+        for (int i = 1; i < published.size(); i++) {
+            assertTrue(published.get(i - 1).getId() < published.get(i).getId());
+        }
+        assertEquals("{\"id\":1}", published.get(0).getPayload());
+        assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    void shouldKeepEventsWhenSinkFails() {
+        record(3);
+        failingSink.failing.set(true);
+
+        assertThrows(IllegalStateException.class, publisher::drain);
+        assertEquals(3, outboxEventRepository.count());
+
+        failingSink.failing.set(false);
+        assertEquals(3, publisher.drain());
+        assertEquals(3, sink.getEvents().size());
+        assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    void shouldDiscardEventsWhenWriteTransactionRollsBack() {
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxService.record("Patient", 1L, "PatientCreated", Map.of("id", 1));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    void shouldRequireTransactionToRecordEvent() {
+        assertThrows(IllegalTransactionStateException.class,
+                () -> outboxService.record("Patient", 1L, "PatientCreated", Map.of("id", 1)));
+    }
+
+    private void record(int count) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (long id = 1; id <= count; id++) {
+                outboxService.record("Patient", id, "PatientCreated", Map.of("id", id));
+            }
+        });
+    }
+}
@@ -0,0 +1,121 @@
+package edu.com.br.SistemasClinicos.PatientTest;
+
+import edu.com.br.SistemasClinicos.controller.PatientController;
+import edu.com.br.SistemasClinicos.dto.Patient.PatientPatchRequest;
+import edu.com.br.SistemasClinicos.dto.Patient.PatientResponse;
+import edu.com.br.SistemasClinicos.service.Export.ExportService;
+import edu.com.br.SistemasClinicos.service.Patient.PatientImportService;
+import edu.com.br.SistemasClinicos.service.Patient.PatientService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Teste da camada web de {@code PatientController}: ETags, requisições condicionais e o
+ * tratamento dos conflitos de versão por {@code ConcurrencyExceptionHandler}.
+ * <p>
+ * Os serviços são mockados; apenas o controller e os conversores HTTP são carregados.
+ */
+@WebMvcTest(PatientController.class)
+class PatientControllerTest {
+
+    private static final String PATCH_BODY = "{\"phone\":\"11988888888\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private PatientService patientService;
+
+    @MockitoBean
+    private PatientImportService patientImportService;
+
+    @MockitoBean
+    private ExportService exportService;
+
+    @Test
+    void getShouldReturnVersionAsETag() throws Exception {
+        when(patientService.findPatientById(1L)).thenReturn(patient(3L));
+
+        mockMvc.perform(get("/api/patients/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(jsonPath("$.version").value(3));
+    }
+
+    @Test
+    void getWithCurrentETagShouldReturnNotModifiedWithoutLoadingPatient() throws Exception {
+        when(patientService.findPatientVersion(1L)).thenReturn(3L);
+
+        mockMvc.perform(get("/api/patients/1").header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(content().string(""));
+
+        verify(patientService, never()).findPatientById(any());
+    }
+
+    @Test
+    void getWithOutdatedETagShouldReturnPatient() throws Exception {
+        when(patientService.findPatientVersion(1L)).thenReturn(4L);
+        when(patientService.findPatientById(1L)).thenReturn(patient(4L));
+
+        mockMvc.perform(get("/api/patients/1").header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+    }
+
+    @Test
+    void patchWithIfMatchShouldPassVersionAndReturnNewETag() throws Exception {
+        when(patientService.patchPatient(eq(1L), any(PatientPatchRequest.class), eq(3L))).thenReturn(patient(4L));
+
+        mockMvc.perform(patch("/api/patients/1").header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON).content(PATCH_BODY))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+    }
+
+    @Test
+    void versionConflictShouldBePreconditionFailedWithIfMatchAndConflictWithout() throws Exception {
+        when(patientService.patchPatient(eq(1L), any(PatientPatchRequest.class), any()))
+                .thenThrow(new OptimisticLockingFailureException("stale"));
+
+        mockMvc.perform(patch("/api/patients/1").header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON).content(PATCH_BODY))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.detail").value("The resource was modified by another request"));
+
+        mockMvc.perform(patch("/api/patients/1")
+                        .contentType(MediaType.APPLICATION_JSON).content(PATCH_BODY))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void malformedIfMatchShouldBePreconditionFailed() throws Exception {
+        mockMvc.perform(patch("/api/patients/1").header(HttpHeaders.IF_MATCH, "W/\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON).content(PATCH_BODY))
+                .andExpect(status().isPreconditionFailed());
+
+        verifyNoInteractions(patientService);
+    }
+
+    private static PatientResponse patient(Long version) {
+        PatientResponse response = new PatientResponse();
+        response.setId(1L);
+        response.setName("Lucas");
+        response.setVersion(version);
+        return response;
+    }
+}
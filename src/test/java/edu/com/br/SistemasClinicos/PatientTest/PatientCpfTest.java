@@ -0,0 +1,86 @@
+package edu.com.br.SistemasClinicos.PatientTest;
+
+import edu.com.br.SistemasClinicos.dto.Patient.PatientRequest;
+import edu.com.br.SistemasClinicos.mapper.PatientMapperImpl;
+import edu.com.br.SistemasClinicos.model.Patient;
+import edu.com.br.SistemasClinicos.service.Outbox.OutboxServiceImp;
+import edu.com.br.SistemasClinicos.service.Patient.PatientCpfIndex;
+import edu.com.br.SistemasClinicos.service.Patient.PatientServiceImp;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.Date;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Teste de integração da unicidade de CPF de Pacientes quando o índice em memória não conhece o
+ * CPF (ex.: gravado por outra instância): a restrição UNIQUE do banco decide.
+ */
+@DataJpaTest
+@Import({PatientServiceImp.class, PatientMapperImpl.class, OutboxServiceImp.class, PatientCpfIndex.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class PatientCpfTest {
+
+    @Autowired
+    private PatientServiceImp service;
+
+    @Autowired
+    private PatientCpfIndex cpfIndex;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    /**
+     * Grava um Paciente direto no banco, sem passar pelo índice, e carrega o índice vazio.
+     */
+    @BeforeEach
+    void setup() {
+        Patient patient = new Patient();
+        patient.setName("Lucas");
+        patient.setCpf("12345678901");
+        patient.setPhone("11999999999");
+        patient.setEmail("lucas@email.com");
+        patient.setAddress("Rua A, 1");
+        patient.setCity("São Paulo");
+        patient.setState("SP");
+        entityManager.persist(patient);
+        entityManager.flush();
+        cpfIndex.load(Stream.empty());
+    }
+
+    @Test
+    void duplicateCpfMissingFromIndexShouldBeRejectedByUniqueConstraint() {
+        RuntimeException ex = assertThrows(RuntimeException.class,
+                () -> service.createPatient(request("Ana", "12345678901")));
+
+        assertEquals("CPF exists", ex.getMessage());
+    }
+
+    @Test
+    void otherConstraintViolationsShouldNotBeReportedAsDuplicateCpf() {
+        assertThrows(DataIntegrityViolationException.class,
+                () -> service.createPatient(request("A".repeat(101), "10987654321")));
+    }
+
+    private static PatientRequest request(String name, String cpf) {
+        PatientRequest request = new PatientRequest();
+        request.setName(name);
+        request.setCpf(cpf);
+        request.setDateBirth(Date.valueOf("2000-01-01"));
+        request.setPhone("11988888888");
+        request.setEmail("ana@email.com");
+        request.setAddress("Rua B, 2");
+        request.setCity("Natal");
+        request.setState("RN");
+        return request;
+    }
+}
@@ -0,0 +1,157 @@
+package edu.com.br.SistemasClinicos.PatientTest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.com.br.SistemasClinicos.config.ImportProperties;
+import edu.com.br.SistemasClinicos.dto.Patient.PatientImportResponse;
+import edu.com.br.SistemasClinicos.mapper.PatientMapperImpl;
+import edu.com.br.SistemasClinicos.model.OutboxEvent;
+import edu.com.br.SistemasClinicos.repository.OutboxEventRepository;
+import edu.com.br.SistemasClinicos.repository.PatientRepository;
+import edu.com.br.SistemasClinicos.service.Outbox.OutboxServiceImp;
+import edu.com.br.SistemasClinicos.service.Patient.PatientCpfIndex;
+import edu.com.br.SistemasClinicos.service.Patient.PatientImportFormat;
+import edu.com.br.SistemasClinicos.service.Patient.PatientImportServiceImp;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de teste de integração (banco H2) para a importação em massa de pacientes
+ * {@code PatientImportServiceImp}.
+ * <p>
+ * Os testes rodam sem a transação padrão do {@code @DataJpaTest}, pois o serviço abre
+ * uma transação por lote.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PatientImportServiceTest {
+
+    private static final String HEADER = "name,cpf,dateBirth,phone,email,address,city,state\n";
+
+    @Autowired
+    private PatientRepository repository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private PatientImportServiceImp service;
+
+    /**
+     * Cria o serviço com lotes de 2 linhas, para exercitar várias transações em poucos dados, e com
+     * o índice de CPF carregado a partir do banco vazio.
+     */
+    @BeforeEach
+    void setup() {
+        ImportProperties properties = new ImportProperties();
+        properties.setChunkSize(2);
+        PatientCpfIndex cpfIndex = new PatientCpfIndex();
+        cpfIndex.load(Stream.empty());
+        service = new PatientImportServiceImp(repository, jdbcTemplate, new TransactionTemplate(transactionManager),
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(), properties, cpfIndex,
+                new PatientMapperImpl(), new OutboxServiceImp(outboxEventRepository, new ObjectMapper()));
+    }
+
+    @AfterEach
+    void cleanup() {
+        repository.deleteAll();
+        outboxEventRepository.deleteAll();
+    }
+
+    @Test
+    void shouldImportCsvAndReportInvalidAndDuplicatedRows() {
+        String csv = HEADER
+                + "Maria da Silva,11111111111,1990-05-10,11999999999,maria@mail.com,\"Rua A, 10\",Recife,PE\n"
+                + "Joao,22222222222,1985-01-20,11988888888,joao@mail.com,Rua B,Olinda,PE\n"
+                + "Sem Email,33333333333,1970-03-03,11977777777,,Rua C,Recife,PE\n"
+                + "Maria Repetida,11111111111,1990-05-10,11999999999,maria2@mail.com,Rua D,Recife,PE\n";
+
+        PatientImportResponse report = service.importPatients(stream(csv), PatientImportFormat.CSV);
+
+        assertEquals(4, report.getReceived());
+        assertEquals(2, report.getImported());
+        assertEquals(2, report.getRejected());
+        assertEquals(4, report.getErrors().get(0).getLine());
+        assertEquals("Email is required", report.getErrors().get(0).getMessage());
+        assertEquals("CPF exists", report.getErrors().get(1).getMessage());
+        assertEquals(2, repository.count());
+        assertEquals("Rua A, 10", repository.findByName("Maria da Silva").get(0).getAddress());
+    }
+
+    @Test
+    void shouldImportNdjsonAndReportMalformedLines() {
+        String ndjson = """
+                {"name":"Ana","cpf":"44444444444","dateBirth":"2000-01-01","phone":"1","email":"ana@mail.com","address":"Rua","city":"Natal","state":"RN"}
+                {"name":"Quebrada",
+                {"name":"Beto","cpf":"55555555555","dateBirth":"2001-02-02","phone":"2","email":"beto@mail.com","address":"Rua","city":"Natal","state":"RN"}
+                """;
+
+        PatientImportResponse report = service.importPatients(stream(ndjson), PatientImportFormat.NDJSON);
+
+        assertEquals(3, report.getReceived());
+        assertEquals(2, report.getImported());
+        assertEquals(1, report.getRejected());
+        assertEquals(2, report.getErrors().get(0).getLine());
+        assertTrue(report.getErrors().get(0).getMessage().startsWith("Malformed row"));
+    }
+
+    @Test
+    void shouldRejectRowsWhoseCpfAlreadyExists() {
+        service.importPatients(stream(HEADER
+                + "Ana,44444444444,2000-01-01,1,ana@mail.com,Rua,Natal,RN\n"), PatientImportFormat.CSV);
+
+        PatientImportResponse report = service.importPatients(stream(HEADER
+                + "Ana,44444444444,2000-01-01,1,ana@mail.com,Rua,Natal,RN\n"
+                + "Beto,55555555555,2001-02-02,2,beto@mail.com,Rua,Natal,RN\n"), PatientImportFormat.CSV);
+
+        assertEquals(1, report.getImported());
+        assertEquals("CPF exists", report.getErrors().get(0).getMessage());
+        assertEquals(2, repository.count());
+    }
+
+    @Test
+    void shouldRecordPatientCreatedEventForEachImportedRow() throws Exception {
+        service.importPatients(stream(HEADER
+                + "Ana,44444444444,2000-01-01,1,ana@mail.com,Rua,Natal,RN\n"
+                + "Beto,55555555555,2001-02-02,2,beto@mail.com,Rua,Natal,RN\n"
+                + "Caio,66666666666,2002-03-03,3,,Rua,Natal,RN\n"
+                + "Duda,77777777777,2003-04-04,4,duda@mail.com,Rua,Natal,RN\n"), PatientImportFormat.CSV);
+
+        List<OutboxEvent> events = outboxEventRepository.findAll();
+        assertEquals(3, events.size());
+        for (OutboxEvent event : events) {
+            assertEquals("Patient", event.getAggregateType());
+            assertEquals("PatientCreated", event.getEventType());
+            JsonNode payload = new ObjectMapper().readTree(event.getPayload());
+            assertEquals(event.getAggregateId(), payload.get("id").asLong());
+            assertEquals(event.getAggregateId(),
+                    repository.findByCpf(payload.get("cpf").asText()).orElseThrow().getId());
+            assertEquals(0, payload.get("version").asLong());
+        }
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
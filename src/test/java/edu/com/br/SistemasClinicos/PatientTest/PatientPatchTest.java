@@ -0,0 +1,119 @@
+package edu.com.br.SistemasClinicos.PatientTest;
+
+import edu.com.br.SistemasClinicos.dto.Patient.PatientPatchRequest;
+import edu.com.br.SistemasClinicos.dto.Patient.PatientResponse;
+import edu.com.br.SistemasClinicos.mapper.PatientMapperImpl;
+import edu.com.br.SistemasClinicos.model.Patient;
+import edu.com.br.SistemasClinicos.service.Outbox.OutboxServiceImp;
+import edu.com.br.SistemasClinicos.service.Patient.PatientCpfIndex;
+import edu.com.br.SistemasClinicos.service.Patient.PatientServiceImp;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Teste de integração da atualização parcial ({@code PATCH}) de Pacientes.
+ * <p>
+ * Os comandos SQL emitidos pelo Hibernate são capturados por um {@link StatementInspector},
+ * verificando que a alteração de um único campo custa um SELECT, um UPDATE apenas da coluna
+ * alterada (mais a versão) e o INSERT do evento no outbox. As chamadas à sequence do outbox,
+ * amortizadas pela alocação em blocos, não são contadas.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "edu.com.br.SistemasClinicos.PatientTest.PatientPatchTest$RecordingInspector")
+@Import({PatientServiceImp.class, PatientMapperImpl.class, OutboxServiceImp.class, PatientCpfIndex.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class PatientPatchTest {
+
+    /**
+     * Registra todo SQL preparado pelo Hibernate.
+     */
+    public static class RecordingInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            String statement = sql.toLowerCase();
+            if (!statement.contains("outbox_event_seq")) {
+                STATEMENTS.add(statement);
+            }
+            return sql;
+        }
+    }
+
+    @Autowired
+    private PatientServiceImp service;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long patientId;
+
+    @BeforeEach
+    void setup() {
+        Patient patient = new Patient();
+        patient.setName("Lucas");
+        patient.setCpf("12345678901");
+        patient.setPhone("11999999999");
+        patient.setEmail("lucas@email.com");
+        patient.setAddress("Rua A, 1");
+        patient.setCity("São Paulo");
+        patient.setState("SP");
+        entityManager.persist(patient);
+        entityManager.flush();
+        entityManager.clear();
+        patientId = patient.getId();
+
+        RecordingInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void shouldUpdateOnlyChangedColumnWithOneSelectAndOneUpdate() {
+        PatientPatchRequest request = new PatientPatchRequest();
+        request.setPhone("11888888888");
+
+        PatientResponse response = service.patchPatient(patientId, request, 0L);
+        entityManager.flush();
+
+        assertEquals("11888888888", response.getPhone());
+        assertEquals("Lucas", response.getName());
+        assertEquals(1L, response.getVersion());
+
+        List<String> statements = RecordingInspector.STATEMENTS;
+        assertEquals(3, statements.size(), statements.toString());
+        assertTrue(statements.get(0).startsWith("select"));
+
+        String update = statements.get(1);
+        assertTrue(update.startsWith("update patient set"), update);
+        assertTrue(update.contains("phone=?"), update);
+        assertTrue(update.contains("version=?"), update);
+        assertFalse(update.contains("name=?"), update);
+        assertFalse(update.contains("address=?"), update);
+
+        assertTrue(statements.get(2).startsWith("insert into outbox_event"), statements.get(2));
+    }
+
+    @Test
+    void shouldNotUpdateWhenNothingChanged() {
+        PatientPatchRequest request = new PatientPatchRequest();
+        request.setCity("São Paulo");
+
+        PatientResponse response = service.patchPatient(patientId, request, null);
+        entityManager.flush();
+
+        assertEquals(0L, response.getVersion());
+        assertEquals(1, RecordingInspector.STATEMENTS.size(), RecordingInspector.STATEMENTS.toString());
+    }
+}
@@ -1,16 +1,26 @@
 package edu.com.br.SistemasClinicos.PatientTest;
 
+import edu.com.br.SistemasClinicos.dto.Cpf.CpfIndexEntry;
+import edu.com.br.SistemasClinicos.dto.Page.CursorPageResponse;
 import edu.com.br.SistemasClinicos.dto.Patient.PatientRequest;
 import edu.com.br.SistemasClinicos.dto.Patient.PatientResponse;
 import edu.com.br.SistemasClinicos.mapper.PatientMapper;
 import edu.com.br.SistemasClinicos.model.Patient;
 import edu.com.br.SistemasClinicos.repository.PatientRepository;
+import edu.com.br.SistemasClinicos.service.Outbox.OutboxService;
+import edu.com.br.SistemasClinicos.service.Patient.PatientCpfIndex;
 import edu.com.br.SistemasClinicos.service.Patient.PatientServiceImp;
+import edu.com.br.SistemasClinicos.util.CursorPagination;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -26,6 +36,8 @@ class PatientServiceTest {
 
     private PatientRepository repository;
     private PatientMapper mapper;
+    private OutboxService outboxService;
+    private PatientCpfIndex cpfIndex;
 
     private PatientServiceImp service;
 
@@ -38,7 +50,9 @@ class PatientServiceTest {
     void setup() {
         repository = mock(PatientRepository.class);
         mapper = mock(PatientMapper.class);
-        service = new PatientServiceImp(repository, mapper);
+        outboxService = mock(OutboxService.class);
+        cpfIndex = new PatientCpfIndex();
+        service = new PatientServiceImp(repository, mapper, outboxService, cpfIndex);
     }
 
     /**
@@ -76,6 +90,7 @@ class PatientServiceTest {
         verify(mapper).toEntity(request);
         verify(repository).save(entity);
         verify(mapper).toResponse(saved);
+        verify(outboxService).record("Patient", 1L, "PatientCreated", response);
     }
 
     /**
@@ -111,7 +126,7 @@ class PatientServiceTest {
         when(repository.save(updatedEntity)).thenReturn(savedEntity);
         when(mapper.toResponse(savedEntity)).thenReturn(response);
 
-        PatientResponse result = service.updatePatient(id, request);
+        PatientResponse result = service.updatePatient(id, request, null);
 
         assertEquals(1L, result.getId());
         assertEquals("Novo Nome", result.getName());
@@ -134,7 +149,7 @@ class PatientServiceTest {
         when(repository.findById(id)).thenReturn(Optional.empty());
 
         RuntimeException ex = assertThrows(RuntimeException.class,
-                () -> service.updatePatient(id, request));
+                () -> service.updatePatient(id, request, null));
 
         assertEquals("Patient not found", ex.getMessage());
 
@@ -142,6 +157,40 @@ class PatientServiceTest {
         verify(repository, never()).save(any());
     }
 
+    /**
+     * Testa se a atualização é recusada quando a versão informada pelo cliente ({@code If-Match})
+     * não corresponde mais à versão atual do paciente.
+     */
+    @Test
+    void shouldRejectUpdateWhenVersionDoesNotMatch() {
+        Long id = 1L;
+        PatientRequest request = new PatientRequest();
+
+        Patient existing = new Patient();
+        existing.setId(id);
+        existing.setVersion(3L);
+
+        when(repository.findById(id)).thenReturn(Optional.of(existing));
+
+        assertThrows(OptimisticLockingFailureException.class,
+                () -> service.updatePatient(id, request, 2L));
+
+        verify(repository, never()).save(any());
+    }
+
+    /**
+     * Testa se a versão do paciente é obtida pela consulta de uma única coluna,
+     * sem carregar a entidade.
+     */
+    @Test
+    void shouldReturnPatientVersionWithoutLoadingEntity() {
+        when(repository.findVersionById(1L)).thenReturn(Optional.of(4L));
+
+        assertEquals(4L, service.findPatientVersion(1L));
+
+        verify(repository, never()).findById(any());
+    }
+
     /**
      * Testa o cenário de exclusão de um paciente pelo ID.
      * <p>
@@ -150,11 +199,162 @@ class PatientServiceTest {
     @Test
     void shouldDeletePatientById() {
         Long id = 1L;
+        Patient patient = new Patient();
+        patient.setId(id);
 
+        when(repository.findById(id)).thenReturn(Optional.of(patient));
         doNothing().when(repository).deleteById(id);
 
         service.deletePatient(id);
 
         verify(repository).deleteById(id);
+        verify(outboxService).record("Patient", id, "PatientDeleted", Map.of("id", id));
+    }
+
+    /**
+     * Testa a exclusão de um ID inexistente: nada é excluído e nenhum evento é gravado.
+     */
+    @Test
+    void shouldNotRecordDeleteEventForMissingPatient() {
+        when(repository.findById(99L)).thenReturn(Optional.empty());
+
+        service.deletePatient(99L);
+
+        verify(repository, never()).deleteById(any());
+        verifyNoInteractions(outboxService);
+    }
+
+    /**
+     * Testa a paginação por cursor: o serviço deve buscar uma linha a mais que o tamanho
+     * da página, descartá-la na resposta e devolver o cursor do último item entregue.
+     */
+    @Test
+    void shouldReturnNextCursorWhenThereAreMorePatients() {
+        Patient first = new Patient();
+        first.setId(11L);
+        Patient second = new Patient();
+        second.setId(12L);
+        Patient extra = new Patient();
+        extra.setId(13L);
+
+        PatientResponse firstResponse = new PatientResponse();
+        firstResponse.setId(11L);
+        PatientResponse secondResponse = new PatientResponse();
+        secondResponse.setId(12L);
+
+        String after = CursorPagination.encode(10L);
+
+        when(repository.findByIdGreaterThanOrderByIdAsc(10L, Limit.of(3)))
+                .thenReturn(List.of(first, second, extra));
+        when(mapper.toResponseList(List.of(first, second)))
+                .thenReturn(List.of(firstResponse, secondResponse));
+
+        CursorPageResponse<PatientResponse> page = service.findPatientsPage(after, 2);
+
+        assertEquals(2, page.getSize());
+        assertEquals(12L, CursorPagination.decode(page.getNextCursor()));
+        verify(repository).findByIdGreaterThanOrderByIdAsc(10L, Limit.of(3));
+    }
+
+    /**
+     * Testa a última página da paginação por cursor: sem linha excedente,
+     * o próximo cursor deve ser {@code null}.
+     */
+    @Test
+    void shouldReturnNullCursorOnLastPage() {
+        Patient only = new Patient();
+        only.setId(1L);
+
+        when(repository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(CursorPagination.DEFAULT_LIMIT + 1)))
+                .thenReturn(List.of(only));
+        when(mapper.toResponseList(List.of(only))).thenReturn(List.of(new PatientResponse()));
+
+        CursorPageResponse<PatientResponse> page = service.findPatientsPage(null, null);
+
+        assertEquals(1, page.getSize());
+        assertNull(page.getNextCursor());
+    }
+
+    /**
+     * Testa a busca por nome: o termo é repassado sem espaços nas extremidades e o limite
+     * solicitado é restringido ao máximo permitido.
+     */
+    @Test
+    void shouldSearchByNameWithCappedLimit() {
+        Patient patient = new Patient();
+        patient.setName("Maria da Silva");
+        PatientResponse response = new PatientResponse();
+        response.setName("Maria da Silva");
+
+        when(repository.searchByName("maria silva", 100)).thenReturn(List.of(patient));
+        when(mapper.toResponse(patient)).thenReturn(response);
+
+        List<PatientResponse> result = service.findPatientByName("  maria silva ", 1000);
+
+        assertEquals(1, result.size());
+        assertEquals("Maria da Silva", result.get(0).getName());
+        verify(repository).searchByName("maria silva", 100);
+    }
+
+    /**
+     * Testa a busca por nome sem resultados: deve lançar exceção.
+     */
+    @Test
+    void shouldThrowWhenSearchByNameFindsNothing() {
+        when(repository.searchByName("ninguem", 20)).thenReturn(List.of());
+
+        RuntimeException ex = assertThrows(RuntimeException.class,
+                () -> service.findPatientByName("ninguem", null));
+
+        assertEquals("Patient not found", ex.getMessage());
+    }
+
+    /**
+     * Testa a criação com o índice de CPF carregado: um CPF ausente do índice não consulta o
+     * banco, e o novo CPF é indexado.
+     */
+    @Test
+    void shouldSkipCpfQueryWhenIndexMisses() {
+        cpfIndex.load(Stream.empty());
+        PatientRequest request = new PatientRequest();
+        request.setCpf("12345678901");
+        Patient entity = new Patient();
+        Patient saved = new Patient();
+        saved.setId(1L);
+        saved.setCpf("12345678901");
+
+        when(mapper.toEntity(request)).thenReturn(entity);
+        when(repository.save(entity)).thenReturn(saved);
+        when(mapper.toResponse(saved)).thenReturn(new PatientResponse());
+
+        service.createPatient(request);
+
+        verify(repository, never()).existsByCpf(any());
+        assertEquals(1L, cpfIndex.find("12345678901"));
+    }
+
+    /**
+     * Testa a busca por CPF: o índice fornece o ID, e um ID desatualizado é corrigido com a
+     * consulta pelo CPF.
+     */
+    @Test
+    void shouldFindPatientByCpfThroughIndexAndRepairStaleEntry() {
+        cpfIndex.load(Stream.of(new CpfIndexEntry(1L, "12345678901")));
+        Patient patient = new Patient();
+        patient.setId(2L);
+        patient.setCpf("12345678901");
+        PatientResponse response = new PatientResponse();
+        response.setId(2L);
+
+        when(repository.findById(1L)).thenReturn(Optional.empty());
+        when(repository.findByCpf("12345678901")).thenReturn(Optional.of(patient));
+        when(repository.findById(2L)).thenReturn(Optional.of(patient));
+        when(mapper.toResponse(patient)).thenReturn(response);
+
+        assertEquals(2L, service.findPatientByCpf("12345678901").getId());
+        assertEquals(2L, service.findPatientByCpf("12345678901").getId());
+
+        verify(repository, times(1)).findByCpf("12345678901");
+        verify(repository).findById(2L);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,90 @@
+package edu.com.br.SistemasClinicos.PrescriptionTest;
+
+import edu.com.br.SistemasClinicos.dto.Prescription.PrescriptionIndexEntry;
+import edu.com.br.SistemasClinicos.service.Prescription.MedicationIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de teste unitário para o índice invertido de medicamentos {@code MedicationIndex}.
+ */
+class MedicationIndexTest {
+
+    private static final LocalDate JANUARY = LocalDate.of(2025, 1, 10);
+    private static final LocalDate MARCH = LocalDate.of(2025, 3, 10);
+    private static final LocalDate MAY = LocalDate.of(2025, 5, 10);
+
+    private MedicationIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new MedicationIndex();
+        index.load(Stream.of(
+                new PrescriptionIndexEntry(1L, "Amoxicilina 500mg, Dipirona", JANUARY),
+                new PrescriptionIndexEntry(2L, "Dipirona 1g", MARCH),
+                new PrescriptionIndexEntry(3L, "AMOXICILINA 875mg", MARCH),
+                new PrescriptionIndexEntry(4L, "Ácido acetilsalicílico", MAY)));
+    }
+
+    @Test
+    void shouldMatchNormalizedTermsFromMostRecent() {
+        assertArrayEquals(new long[]{3, 1}, index.search("amoxicilina", null, null, 10));
+        assertArrayEquals(new long[]{4}, index.search("acido", null, null, 10));
+        assertArrayEquals(new long[0], index.search("amoxi", null, null, 10));
+    }
+
+    @Test
+    void shouldFilterByIssueDateRangeAndLimit() {
+        assertArrayEquals(new long[]{3}, index.search("amoxicilina", MARCH, MARCH, 10));
+        assertArrayEquals(new long[]{1}, index.search("amoxicilina", null, MARCH.minusDays(1), 10));
+        assertArrayEquals(new long[]{3}, index.search("amoxicilina", null, null, 1));
+    }
+
+    @Test
+    void shouldIntersectAllTerms() {
+        assertArrayEquals(new long[]{1}, index.search("Dipirona amoxicilina", null, null, 10));
+        assertArrayEquals(new long[0], index.search("dipirona 875mg", null, null, 10));
+    }
+
+    @Test
+    void shouldReplaceTermsAndDateOfChangedPrescription() {
+        index.index(new PrescriptionIndexEntry(1L, "Ibuprofeno", MAY));
+        index.index(new PrescriptionIndexEntry(5L, "Amoxicilina", JANUARY));
+
+        assertArrayEquals(new long[]{3, 5}, index.search("amoxicilina", null, null, 10));
+        assertArrayEquals(new long[]{1}, index.search("ibuprofeno", MAY, MAY, 10));
+        assertArrayEquals(new long[]{2}, index.search("dipirona", null, null, 10));
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    void shouldKeepChangesReceivedWhileReloading() {
+        index.load(Stream.of(new PrescriptionIndexEntry(2L, "Dipirona 1g", MARCH))
+                .peek(entry -> index.index(new PrescriptionIndexEntry(6L, "Dipirona", MAY))));
+
+        assertArrayEquals(new long[]{6, 2}, index.search("dipirona", null, null, 10));
+        assertArrayEquals(new long[0], index.search("amoxicilina", null, null, 10));
+    }
+
+    @Test
+    void shouldKeepChangesCommittedAfterQueryWasOpened() {
+        // A consulta já foi executada quando a Receita 6 é confirmada, então ela não está no resultado
+        index.load(() -> {
+            Stream<PrescriptionIndexEntry> snapshot = Stream.of(new PrescriptionIndexEntry(2L, "Dipirona 1g", MARCH));
+            index.index(new PrescriptionIndexEntry(6L, "Dipirona", MAY));
+            return snapshot;
+        });
+
+        assertArrayEquals(new long[]{6, 2}, index.search("dipirona", null, null, 10));
+    }
+
+    @Test
+    void shouldRejectSearchBeforeLoad() {
+        assertThrows(RuntimeException.class, () -> new MedicationIndex().search("dipirona", null, null, 10));
+    }
+}
@@ -0,0 +1,173 @@
+package edu.com.br.SistemasClinicos.PrescriptionTest;
+
+import edu.com.br.SistemasClinicos.config.AgendaCacheProperties;
+import edu.com.br.SistemasClinicos.config.CacheConfig;
+import edu.com.br.SistemasClinicos.config.SpecialtyCacheProperties;
+import edu.com.br.SistemasClinicos.dto.Prescription.PrescriptionMatch;
+import edu.com.br.SistemasClinicos.dto.Prescription.PrescriptionRequest;
+import edu.com.br.SistemasClinicos.mapper.PrescriptionMapperImpl;
+import edu.com.br.SistemasClinicos.model.*;
+import edu.com.br.SistemasClinicos.service.Outbox.OutboxServiceImp;
+import edu.com.br.SistemasClinicos.service.Prescription.MedicationIndex;
+import edu.com.br.SistemasClinicos.service.Prescription.PrescriptionServiceImp;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Teste de integração da emissão de Receitas e da busca por medicamento ({@code PrescriptionServiceImp}).
+ * <p>
+ * Executado sem transação envolvendo o teste, para que o índice de medicamentos e o cache de
+ * agendas sejam atualizados no commit de cada operação.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(PrescriptionServiceTest.PrescriptionTestConfig.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class PrescriptionServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @TestConfiguration
+    @Import({CacheConfig.class, PrescriptionServiceImp.class, PrescriptionMapperImpl.class,
+            MedicationIndex.class, OutboxServiceImp.class})
+    @EnableConfigurationProperties({SpecialtyCacheProperties.class, AgendaCacheProperties.class})
+    static class PrescriptionTestConfig {
+    }
+
+    @Autowired
+    private PrescriptionServiceImp service;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Appointment first;
+    private Appointment second;
+
+    @BeforeEach
+    void setup() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Specialty specialty = new Specialty();
+            specialty.setName("Clínica Geral");
+            entityManager.persist(specialty);
+            Doctor doctor = new Doctor();
+            doctor.setName("Marcos");
+            doctor.setCpf("98765432100");
+            doctor.setEmail("marcos@email.com");
+            doctor.setPhone("11977777777");
+            doctor.setCrm("CRM-1234");
+            doctor.setSpecialty(specialty);
+            entityManager.persist(doctor);
+            first = appointment(doctor, patient("Lucas", "12345678901"));
+            second = appointment(doctor, patient("Ana", "12345678902"));
+        });
+        service.rebuildMedicationIndex();
+    }
+
+    @AfterEach
+    void cleanup() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (String entity : List.of("Prescription", "Appointment", "OutboxEvent", "Patient", "Doctor", "Specialty")) {
+                entityManager.createQuery("DELETE FROM " + entity).executeUpdate();
+            }
+        });
+    }
+
+    @Test
+    void shouldFindPatientsByIssuedMedication() {
+        service.createPrescription(request(first, "Amoxicilina 500mg", TODAY.minusMonths(8)));
+        service.createPrescription(request(second, "Amoxicilina 875mg, Dipirona", TODAY));
+
+        List<PrescriptionMatch> all = service.findByMedication("amoxicilina", null, null, null);
+        List<PrescriptionMatch> recent = service.findByMedication("Amoxicilina", TODAY.minusMonths(6), null, null);
+
+        assertEquals(List.of("Ana", "Lucas"), all.stream().map(PrescriptionMatch::getPatientName).toList());
+        assertEquals(1, recent.size());
+        assertEquals(second.getId(), recent.get(0).getAppointmentId());
+        assertEquals("Marcos", recent.get(0).getDoctorName());
+    }
+
+    @Test
+    void updateShouldReindexMedications() {
+        Long id = service.createPrescription(request(first, "Dipirona", TODAY)).getId();
+
+        service.updatePrescription(id, request(first, "Ibuprofeno 600mg", TODAY));
+
+        assertTrue(service.findByMedication("dipirona", null, null, null).isEmpty());
+        assertEquals(id, service.findByMedication("ibuprofeno", null, null, null).get(0).getPrescriptionId());
+        assertEquals(1, service.rebuildMedicationIndex());
+    }
+
+    @Test
+    void shouldRejectSecondPrescriptionForAppointment() {
+        service.createPrescription(request(first, "Dipirona", TODAY));
+
+        assertThrows(RuntimeException.class, () -> service.createPrescription(request(first, "Ibuprofeno", TODAY)));
+        assertEquals(1, service.findByMedication("dipirona", null, null, null).size());
+    }
+
+    @Test
+    void creationShouldInvalidateAgendaOfAppointmentDay() {
+        Object key = CacheConfig.doctorAgendaKey(first.getDoctor().getId(), first.getDateTime().toLocalDate());
+        cacheManager.getCache(CacheConfig.DOCTOR_AGENDA).put(key, List.of());
+
+        service.createPrescription(request(first, "Dipirona", TODAY));
+
+        assertNull(cacheManager.getCache(CacheConfig.DOCTOR_AGENDA).get(key));
+    }
+
+    private Patient patient(String name, String cpf) {
+        Patient patient = new Patient();
+        patient.setName(name);
+        patient.setCpf(cpf);
+        patient.setPhone("11999999999");
+        patient.setEmail(name.toLowerCase() + "@email.com");
+        patient.setAddress("Rua A, 1");
+        patient.setCity("São Paulo");
+        patient.setState("SP");
+        entityManager.persist(patient);
+        return patient;
+    }
+
+    private Appointment appointment(Doctor doctor, Patient patient) {
+        Appointment appointment = new Appointment();
+        appointment.setDoctor(doctor);
+        appointment.setPatient(patient);
+        appointment.setDateTime(TODAY.plusDays(1).atTime(9, 0));
+        appointment.setStatus(AppointmentStatus.SCHEDULED);
+        entityManager.persist(appointment);
+        return appointment;
+    }
+
+    private static PrescriptionRequest request(Appointment appointment, String medications, LocalDate issueDate) {
+        PrescriptionRequest request = new PrescriptionRequest();
+        request.setAppointmentId(appointment.getId());
+        request.setDescription("Tomar após as refeições");
+        request.setMedications(medications);
+        request.setIssueDate(issueDate);
+        return request;
+    }
+}
@@ -0,0 +1,87 @@
+package edu.com.br.SistemasClinicos.RateLimitTest;
+
+import edu.com.br.SistemasClinicos.config.RateLimitProperties;
+import edu.com.br.SistemasClinicos.controller.RateLimitFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de teste unitário para o filtro {@code RateLimitFilter}: seleção da regra pela rota,
+ * identificação do cliente e a resposta 429.
+ */
+class RateLimitFilterTest {
+
+    private SimpleMeterRegistry registry;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setup() {
+        RateLimitProperties.Route search = new RateLimitProperties.Route();
+        search.setPattern("/api/patients/search/**");
+        search.setMethod("GET");
+        search.setRequestsPerSecond(0.5);
+        search.setBurst(1);
+        RateLimitProperties.Route export = new RateLimitProperties.Route();
+        export.setPattern("/api/*/export");
+        export.setRequestsPerSecond(0.5);
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getRoutes().add(search);
+        properties.getRoutes().add(export);
+
+        registry = new SimpleMeterRegistry();
+        filter = new RateLimitFilter(properties, registry);
+    }
+
+    @Test
+    void shouldRejectWithRetryAfterWhenLimitIsExceeded() throws Exception {
+        assertEquals(200, call("GET", "/api/patients/search/ana", null).getStatus());
+
+        MockHttpServletResponse rejected = call("GET", "/api/patients/search/ana", null);
+
+        assertEquals(429, rejected.getStatus());
+        assertEquals("2", rejected.getHeader("Retry-After"));
+        assertEquals("application/problem+json", rejected.getContentType());
+        assertEquals(1, registry.get("clinic.ratelimit.rejected").counter().count());
+    }
+
+    @Test
+    void shouldLimitEachClientSeparately() throws Exception {
+        call("GET", "/api/patients/search/ana", "key-1");
+
+        assertEquals(429, call("GET", "/api/patients/search/ana", "key-1").getStatus());
+        assertEquals(200, call("GET", "/api/patients/search/ana", "key-2").getStatus());
+        assertEquals(200, call("GET", "/api/patients/search/ana", null).getStatus());
+    }
+
+    @Test
+    void shouldNotLimitOtherRoutesOrMethods() throws Exception {
+        call("GET", "/api/patients/search/ana", null);
+
+        assertEquals(200, call("GET", "/api/patients/1", null).getStatus());
+        assertEquals(200, call("POST", "/api/patients/search/ana", null).getStatus());
+    }
+
+    @Test
+    void shouldMatchWildcardPatterns() throws Exception {
+        call("GET", "/api/doctors/export", null);
+
+        assertEquals(429, call("GET", "/api/doctors/export", null).getStatus());
+        assertEquals(200, call("GET", "/api/doctors/export/extra", null).getStatus());
+    }
+
+    private MockHttpServletResponse call(String method, String uri, String apiKey) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        if (apiKey != null) {
+            request.addHeader("X-API-Key", apiKey);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,84 @@
+package edu.com.br.SistemasClinicos.RateLimitTest;
+
+import edu.com.br.SistemasClinicos.util.RateLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de teste unitário para o limitador de taxa {@code RateLimiter}.
+ * <p>
+ * O tempo é controlado pelo teste: 10 requisições por segundo (uma ficha a cada 100 ms)
+ * com rajada de 3.
+ */
+class RateLimiterTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicLong now = new AtomicLong(1_000_000 * MILLIS);
+    private RateLimiter limiter;
+
+    @BeforeEach
+    void setup() {
+        limiter = new RateLimiter(10, 3, 100, now::get);
+    }
+
+    @Test
+    void shouldAllowBurstThenReportWaitUntilNextToken() {
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertEquals(0, limiter.tryAcquire("a"));
+
+        assertEquals(100 * MILLIS, limiter.tryAcquire("a"));
+        assertEquals(0, limiter.tryAcquire("b"));
+
+        now.addAndGet(100 * MILLIS);
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertEquals(100 * MILLIS, limiter.tryAcquire("a"));
+    }
+
+    @Test
+    void shouldEvictOnlyIdleClients() {
+        limiter.tryAcquire("a");
+        now.addAndGet(50 * MILLIS);
+        limiter.tryAcquire("b");
+        now.addAndGet(60 * MILLIS);
+
+        assertEquals(1, limiter.evictIdle());
+        assertEquals(1, limiter.size());
+    }
+
+    @Test
+    void shouldShareOverflowBucketWhenTrackingMaximumClients() {
+        RateLimiter small = new RateLimiter(10, 1, 2, now::get);
+        small.tryAcquire("a");
+        small.tryAcquire("b");
+
+        assertEquals(0, small.tryAcquire("c"));
+        assertTrue(small.tryAcquire("d") > 0);
+        assertEquals(2, small.size());
+    }
+
+    @Test
+    void shouldNotAdmitMoreThanBurstUnderContention() throws InterruptedException {
+        RateLimiter shared = new RateLimiter(1, 50, 100, now::get);
+        AtomicInteger accepted = new AtomicInteger();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 1000; i++) {
+                executor.execute(() -> {
+                    if (shared.tryAcquire("a") == 0) {
+                        accepted.incrementAndGet();
+                    }
+                });
+            }
+        }
+        assertEquals(50, accepted.get());
+    }
+}
@@ -0,0 +1,205 @@
+package edu.com.br.SistemasClinicos.ReminderTest;
+
+import edu.com.br.SistemasClinicos.config.AgendaCacheProperties;
+import edu.com.br.SistemasClinicos.config.CacheConfig;
+import edu.com.br.SistemasClinicos.config.ReminderConfig;
+import edu.com.br.SistemasClinicos.config.ReminderProperties;
+import edu.com.br.SistemasClinicos.config.ScheduleProperties;
+import edu.com.br.SistemasClinicos.config.SpecialtyCacheProperties;
+import edu.com.br.SistemasClinicos.dto.Appointment.AppointmentRequest;
+import edu.com.br.SistemasClinicos.dto.Reminder.AppointmentReminder;
+import edu.com.br.SistemasClinicos.mapper.AppointmentMapperImpl;
+import edu.com.br.SistemasClinicos.model.*;
+import edu.com.br.SistemasClinicos.service.Appointment.AppointmentScheduleIndex;
+import edu.com.br.SistemasClinicos.service.Appointment.AppointmentServiceImp;
+import edu.com.br.SistemasClinicos.service.Outbox.OutboxServiceImp;
+import edu.com.br.SistemasClinicos.service.Reminder.InMemoryReminderNotifier;
+import edu.com.br.SistemasClinicos.service.Reminder.ReminderNotifier;
+import edu.com.br.SistemasClinicos.service.Reminder.ReminderScheduler;
+import edu.com.br.SistemasClinicos.service.Statistics.StatisticsCounters;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Teste de integração dos lembretes de consulta ({@code ReminderScheduler}).
+ * <p>
+ * Executado sem transação envolvendo o teste, para que a roda seja atualizada no commit de cada
+ * operação. O relógio é simulado passando o instante atual para {@code advance} e {@code reload}.
+ */
+@DataJpaTest(properties = "clinic.reminders.notifier=memory")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(ReminderSchedulerTest.ReminderTestConfig.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class ReminderSchedulerTest {
+
+    private static final Duration DAY_BEFORE = Duration.ofHours(24);
+    private static final Duration TWO_HOURS_BEFORE = Duration.ofHours(2);
+
+    @TestConfiguration
+    @Import({CacheConfig.class, AppointmentServiceImp.class, AppointmentMapperImpl.class,
+            AppointmentScheduleIndex.class, OutboxServiceImp.class, StatisticsCounters.class,
+            ReminderScheduler.class, ReminderConfig.class})
+    @EnableConfigurationProperties({SpecialtyCacheProperties.class, AgendaCacheProperties.class,
+            ScheduleProperties.class, ReminderProperties.class})
+    static class ReminderTestConfig {
+    }
+
+    @Autowired
+    private AppointmentServiceImp appointmentService;
+
+    @Autowired
+    private ReminderScheduler scheduler;
+
+    @Autowired
+    private ReminderNotifier notifier;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private LocalDateTime now;
+    private Doctor doctor;
+    private Patient patient;
+
+    @BeforeEach
+    void setup() {
+        now = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        transactionTemplate.executeWithoutResult(status -> {
+            doctor = new Doctor();
+            doctor.setName("Marcos");
+            doctor.setCpf("98765432100");
+            doctor.setEmail("marcos@email.com");
+            doctor.setPhone("11977777777");
+            doctor.setCrm("CRM-1234");
+            entityManager.persist(doctor);
+            patient = new Patient();
+            patient.setName("Lucas");
+            patient.setCpf("12345678901");
+            patient.setPhone("11999999999");
+            patient.setEmail("lucas@email.com");
+            patient.setAddress("Rua A, 1");
+            patient.setCity("São Paulo");
+            patient.setState("SP");
+            entityManager.persist(patient);
+        });
+        scheduler.reload(now);
+        sent().clear();
+    }
+
+    @AfterEach
+    void cleanup() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (String entity : List.of("ReminderDispatch", "Appointment", "OutboxEvent", "Patient", "Doctor")) {
+                entityManager.createQuery("DELETE FROM " + entity).executeUpdate();
+            }
+        });
+    }
+
+    @Test
+    void shouldSendEachReminderAtItsLeadTime() {
+        LocalDateTime dateTime = now.plusHours(30);
+        appointmentService.createAppointment(request(dateTime));
+
+        assertEquals(0, scheduler.advance(dateTime.minus(DAY_BEFORE).minusMinutes(1)));
+        assertEquals(1, scheduler.advance(dateTime.minus(DAY_BEFORE)));
+        assertEquals(1, scheduler.advance(dateTime.minus(TWO_HOURS_BEFORE)));
+
+        assertEquals(List.of(DAY_BEFORE, TWO_HOURS_BEFORE),
+                sent().getReminders().stream().map(AppointmentReminder::getLeadTime).toList());
+        assertEquals("lucas@email.com", sent().getReminders().get(0).getPatientEmail());
+        assertEquals(0, scheduler.pending());
+    }
+
+    @Test
+    void cancelAndRescheduleShouldUpdatePendingReminders() {
+        Long cancelled = appointmentService.createAppointment(request(now.plusHours(30))).getId();
+        Long moved = appointmentService.createAppointment(request(now.plusHours(31))).getId();
+
+        appointmentService.cancelAppointment(cancelled, null);
+        appointmentService.rescheduleAppointment(moved, now.plusHours(33), null);
+        scheduler.advance(now.plusHours(9));
+
+        List<AppointmentReminder> reminders = sent().getReminders();
+        assertEquals(1, reminders.size());
+        assertEquals(moved, reminders.get(0).getAppointmentId());
+        assertEquals(now.plusHours(33), reminders.get(0).getDateTime());
+    }
+
+    @Test
+    void restartShouldSendMissedReminderOnceAndResumeSchedule() {
+        // Consulta gravada com a aplicação parada, quando o lembrete de 24h já havia vencido
+        LocalDateTime dateTime = now.plusHours(20);
+        persistAppointment(dateTime);
+        scheduler.reload(now);
+
+        assertEquals(1, scheduler.advance(now.plusMinutes(1)));
+        scheduler.reload(now.plusMinutes(1));
+        assertEquals(0, scheduler.advance(now.plusMinutes(2)));
+        assertEquals(1, scheduler.advance(dateTime.minus(TWO_HOURS_BEFORE)));
+
+        assertEquals(List.of(DAY_BEFORE, TWO_HOURS_BEFORE),
+                sent().getReminders().stream().map(AppointmentReminder::getLeadTime).toList());
+    }
+
+    @Test
+    void reminderClaimedByAnotherInstanceShouldNotBeSentAgain() {
+        LocalDateTime dateTime = now.plusHours(30);
+        Long id = appointmentService.createAppointment(request(dateTime)).getId();
+        jdbcTemplate.update("INSERT INTO reminder_dispatch (appointment_id, appointment_time, offset_minutes, sent_at) "
+                + "VALUES (?, ?, ?, ?)", id, Timestamp.valueOf(dateTime), 24 * 60, Timestamp.from(Instant.now()));
+
+        assertEquals(0, scheduler.advance(dateTime.minus(DAY_BEFORE)));
+        assertTrue(sent().getReminders().isEmpty());
+        assertEquals(1, scheduler.pending());
+    }
+
+    private InMemoryReminderNotifier sent() {
+        return (InMemoryReminderNotifier) notifier;
+    }
+
+    private void persistAppointment(LocalDateTime dateTime) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Appointment appointment = new Appointment();
+            appointment.setDoctor(entityManager.merge(doctor));
+            appointment.setPatient(entityManager.merge(patient));
+            appointment.setDateTime(dateTime);
+            appointment.setStatus(AppointmentStatus.SCHEDULED);
+            entityManager.persist(appointment);
+        });
+    }
+
+    private AppointmentRequest request(LocalDateTime dateTime) {
+        AppointmentRequest request = new AppointmentRequest();
+        request.setDoctorId(doctor.getId());
+        request.setPatientId(patient.getId());
+        request.setDateTime(dateTime);
+        return request;
+    }
+}
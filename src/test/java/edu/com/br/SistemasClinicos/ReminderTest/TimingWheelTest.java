@@ -0,0 +1,97 @@
+package edu.com.br.SistemasClinicos.ReminderTest;
+
+import edu.com.br.SistemasClinicos.service.Reminder.TimingWheel;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de teste unitário para a roda de temporização hierárquica {@code TimingWheel}.
+ */
+class TimingWheelTest {
+
+    private static final long START = 1_000;
+
+    @Test
+    void shouldExpireTimersAtExactDeadlineOnEveryLevel() {
+        TimingWheel wheel = new TimingWheel(START, 100);
+        long[] deltas = {1, 63, 64, 65, 4_095, 4_096, 4_097, 100_000, TimingWheel.SPAN - 1};
+        for (int i = 0; i < deltas.length; i++) {
+            assertTrue(wheel.schedule(i + 1, i, START + deltas[i]));
+        }
+
+        List<long[]> expired = new ArrayList<>();
+        wheel.advance(START + TimingWheel.SPAN, (id, data) -> expired.add(new long[]{data, wheel.getCurrentTick()}));
+
+        assertEquals(deltas.length, expired.size());
+        for (int i = 0; i < deltas.length; i++) {
+            assertEquals(i, expired.get(i)[0]);
+            assertEquals(START + deltas[i], expired.get(i)[1]);
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void randomDeadlinesShouldExpireOnTime() {
+        TimingWheel wheel = new TimingWheel(START, 20_000);
+        Random random = new Random(42);
+        Map<Long, Long> deadlines = new HashMap<>();
+        for (long id = 1; id <= 10_000; id++) {
+            long deadline = START + 1 + random.nextInt(20_000);
+            deadlines.put(id, deadline);
+            wheel.schedule(id, deadline, deadline);
+        }
+
+        Map<Long, Long> expiredAt = new HashMap<>();
+        wheel.advance(START + 10_000, (id, data) -> expiredAt.put(id, wheel.getCurrentTick()));
+        wheel.advance(START + 25_000, (id, data) -> expiredAt.put(id, wheel.getCurrentTick()));
+
+        assertEquals(deadlines, expiredAt);
+    }
+
+    @Test
+    void replacingOrCancellingShouldDropPreviousTimer() {
+        TimingWheel wheel = new TimingWheel(START, 100);
+        wheel.schedule(1, 10, START + 10);
+        wheel.schedule(1, 20, START + 20);
+        wheel.schedule(2, 5, START + 5);
+        assertTrue(wheel.cancel(2));
+        assertFalse(wheel.cancel(2));
+
+        List<Long> expired = new ArrayList<>();
+        wheel.advance(START + 100, (id, data) -> expired.add(data));
+
+        assertEquals(List.of(20L), expired);
+    }
+
+    @Test
+    void pastDeadlineShouldExpireOnNextTick() {
+        TimingWheel wheel = new TimingWheel(START, 100);
+        wheel.schedule(1, 0, START - 50);
+
+        List<Long> expiredAt = new ArrayList<>();
+        wheel.advance(START + 1, (id, data) -> expiredAt.add(wheel.getCurrentTick()));
+
+        assertEquals(List.of(START + 1), expiredAt);
+    }
+
+    @Test
+    void shouldRejectTimersBeyondSpanOrCapacity() {
+        TimingWheel wheel = new TimingWheel(START, 2);
+
+        assertFalse(wheel.schedule(1, 0, START + TimingWheel.SPAN));
+        assertTrue(wheel.schedule(1, 0, START + 1));
+        assertTrue(wheel.schedule(2, 0, START + 2));
+        assertFalse(wheel.schedule(3, 0, START + 3));
+        assertEquals(2, wheel.size());
+
+        wheel.advance(START + 1, (id, data) -> { });
+        assertTrue(wheel.schedule(3, 0, START + 3));
+    }
+}
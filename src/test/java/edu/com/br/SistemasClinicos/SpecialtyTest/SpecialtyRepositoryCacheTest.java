@@ -0,0 +1,101 @@
+package edu.com.br.SistemasClinicos.SpecialtyTest;
+
+import edu.com.br.SistemasClinicos.config.AgendaCacheProperties;
+import edu.com.br.SistemasClinicos.config.CacheConfig;
+import edu.com.br.SistemasClinicos.config.SpecialtyCacheProperties;
+import edu.com.br.SistemasClinicos.model.Specialty;
+import edu.com.br.SistemasClinicos.repository.SpecialtyRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Teste de integração do cache de especialidades na frente do {@code SpecialtyRepository}.
+ * <p>
+ * Executado sem transação envolvendo o teste, para que cada chamada ao repositório faça
+ * commit e o cache transacional seja efetivamente populado e invalidado. O número de
+ * comandos SQL executados é verificado pelas estatísticas do Hibernate.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(SpecialtyRepositoryCacheTest.CacheTestConfig.class)
+class SpecialtyRepositoryCacheTest {
+
+    @TestConfiguration
+    @Import(CacheConfig.class)
+    @EnableConfigurationProperties({SpecialtyCacheProperties.class, AgendaCacheProperties.class})
+    static class CacheTestConfig {
+    }
+
+    @Autowired
+    private SpecialtyRepository specialtyRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long cardiologyId;
+
+    @BeforeEach
+    void setup() {
+        Specialty specialty = new Specialty();
+        specialty.setName("Cardiology");
+        cardiologyId = specialtyRepository.save(specialty).getId();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void cleanup() {
+        specialtyRepository.findAll().forEach(s -> specialtyRepository.deleteById(s.getId()));
+    }
+
+    @Test
+    void repeatedLookupsShouldHitDatabaseOnce() {
+        for (int i = 0; i < 3; i++) {
+            assertTrue(specialtyRepository.findById(cardiologyId).isPresent());
+            assertEquals(1, specialtyRepository.findAll().size());
+        }
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void updateShouldInvalidateCachedEntries() {
+        Specialty cached = specialtyRepository.findById(cardiologyId).orElseThrow();
+        specialtyRepository.findAll();
+
+        Specialty updated = new Specialty();
+        updated.setId(cardiologyId);
+        updated.setVersion(cached.getVersion());
+        updated.setName("Cardiology Updated");
+        specialtyRepository.save(updated);
+
+        assertEquals("Cardiology Updated", specialtyRepository.findById(cardiologyId).orElseThrow().getName());
+        assertEquals("Cardiology Updated", specialtyRepository.findAll().get(0).getName());
+    }
+
+    @Test
+    void deleteShouldInvalidateCachedEntries() {
+        specialtyRepository.findById(cardiologyId);
+        specialtyRepository.findAll();
+
+        specialtyRepository.deleteById(cardiologyId);
+
+        assertTrue(specialtyRepository.findById(cardiologyId).isEmpty());
+        assertTrue(specialtyRepository.findAll().isEmpty());
+    }
+}
@@ -0,0 +1,207 @@
+package edu.com.br.SistemasClinicos.StatisticsTest;
+
+import edu.com.br.SistemasClinicos.config.AgendaCacheProperties;
+import edu.com.br.SistemasClinicos.config.CacheConfig;
+import edu.com.br.SistemasClinicos.config.ReminderConfig;
+import edu.com.br.SistemasClinicos.config.ReminderProperties;
+import edu.com.br.SistemasClinicos.config.ScheduleProperties;
+import edu.com.br.SistemasClinicos.config.SpecialtyCacheProperties;
+import edu.com.br.SistemasClinicos.dto.Appointment.AppointmentRequest;
+import edu.com.br.SistemasClinicos.dto.Statistics.DoctorCancellationStatistics;
+import edu.com.br.SistemasClinicos.dto.Statistics.SpecialtyMonthlyStatistics;
+import edu.com.br.SistemasClinicos.mapper.AppointmentMapperImpl;
+import edu.com.br.SistemasClinicos.model.*;
+import edu.com.br.SistemasClinicos.service.Appointment.AppointmentScheduleIndex;
+import edu.com.br.SistemasClinicos.service.Appointment.AppointmentServiceImp;
+import edu.com.br.SistemasClinicos.service.Outbox.OutboxServiceImp;
+import edu.com.br.SistemasClinicos.service.Reminder.ReminderScheduler;
+import edu.com.br.SistemasClinicos.service.Statistics.StatisticsCounters;
+import edu.com.br.SistemasClinicos.service.Statistics.StatisticsServiceImp;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Teste de integração dos contadores incrementais de consultas ({@code StatisticsServiceImp}).
+ * <p>
+ * Executado sem transação envolvendo o teste, para que as variações sejam registradas no
+ * commit de cada operação sobre as consultas.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(StatisticsServiceTest.StatisticsTestConfig.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class StatisticsServiceTest {
+
+    private static final LocalDate DAY = LocalDate.now().plusYears(1);
+
+    @TestConfiguration
+    @Import({CacheConfig.class, AppointmentServiceImp.class, AppointmentMapperImpl.class,
+            AppointmentScheduleIndex.class, OutboxServiceImp.class, StatisticsCounters.class,
+            ReminderScheduler.class, ReminderConfig.class,
+            StatisticsServiceImp.class})
+    @EnableConfigurationProperties({SpecialtyCacheProperties.class, AgendaCacheProperties.class,
+            ScheduleProperties.class, ReminderProperties.class})
+    static class StatisticsTestConfig {
+    }
+
+    @Autowired
+    private AppointmentServiceImp appointmentService;
+
+    @Autowired
+    private StatisticsServiceImp statisticsService;
+
+    @Autowired
+    private StatisticsCounters counters;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Doctor doctor;
+    private Patient patient;
+
+    @BeforeEach
+    void setup() {
+        counters.clear();
+        transactionTemplate.executeWithoutResult(status -> {
+            Specialty specialty = new Specialty();
+            specialty.setName("Cardiologia");
+            entityManager.persist(specialty);
+            doctor = new Doctor();
+            doctor.setName("Marcos");
+            doctor.setCpf("98765432100");
+            doctor.setEmail("marcos@email.com");
+            doctor.setPhone("11977777777");
+            doctor.setCrm("CRM-1234");
+            doctor.setSpecialty(specialty);
+            entityManager.persist(doctor);
+            patient = new Patient();
+            patient.setName("Lucas");
+            patient.setCpf("12345678901");
+            patient.setPhone("11999999999");
+            patient.setEmail("lucas@email.com");
+            patient.setAddress("Rua A, 1");
+            patient.setCity("São Paulo");
+            patient.setState("SP");
+            entityManager.persist(patient);
+        });
+    }
+
+    @AfterEach
+    void cleanup() {
+        counters.clear();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (String entity : List.of("AppointmentStatistic", "Appointment", "OutboxEvent", "Patient", "Doctor", "Specialty")) {
+                entityManager.createQuery("DELETE FROM " + entity).executeUpdate();
+            }
+        });
+    }
+
+    @Test
+    void statusTransitionsShouldBeCountedAfterFlush() {
+        Long first = appointmentService.createAppointment(request(DAY.atTime(9, 0))).getId();
+        Long second = appointmentService.createAppointment(request(DAY.atTime(10, 0))).getId();
+        appointmentService.createAppointment(request(DAY.atTime(11, 0)));
+        appointmentService.cancelAppointment(first, null);
+        appointmentService.completeAppointment(second, null);
+
+        assertEquals(3, statisticsService.flush());
+
+        SpecialtyMonthlyStatistics month = monthly().get(0);
+        assertEquals("Cardiologia", month.getSpecialtyName());
+        assertEquals(YearMonth.from(DAY), month.getMonth());
+        assertEquals(List.of(1L, 1L, 1L, 3L),
+                List.of(month.getScheduled(), month.getCompleted(), month.getCancelled(), month.getTotal()));
+        DoctorCancellationStatistics rate = statisticsService.findCancellationRateByDoctor(DAY, DAY).get(0);
+        assertEquals(1.0 / 3, rate.getCancellationRate(), 1e-9);
+        assertEquals(1L, statisticsService.findCompletedByDay(DAY, DAY).get(0).getCompleted());
+    }
+
+    @Test
+    void successiveFlushesShouldAccumulateOnExistingCounters() {
+        appointmentService.createAppointment(request(DAY.atTime(9, 0)));
+        statisticsService.flush();
+        appointmentService.createAppointment(request(DAY.atTime(10, 0)));
+        statisticsService.flush();
+
+        assertEquals(1, statisticRows());
+        assertEquals(2L, monthly().get(0).getScheduled());
+        assertEquals(0, statisticsService.flush());
+    }
+
+    @Test
+    void rebuildShouldMatchIncrementalCounters() {
+        Long first = appointmentService.createAppointment(request(DAY.atTime(9, 0))).getId();
+        appointmentService.createAppointment(request(DAY.plusDays(1).atTime(9, 0)));
+        appointmentService.rescheduleAppointment(first, DAY.plusDays(2).atTime(9, 0), null);
+        appointmentService.cancelAppointment(first, null);
+        statisticsService.flush();
+        List<SpecialtyMonthlyStatistics> incremental = monthly();
+
+        int rebuilt = statisticsService.rebuild();
+
+        assertEquals(statisticRows(), rebuilt);
+        assertEquals(summary(incremental), summary(monthly()));
+    }
+
+    @Test
+    void failedFlushShouldKeepPendingChanges() {
+        appointmentService.createAppointment(request(DAY.atTime(9, 0)));
+        jdbcTemplate.execute("ALTER TABLE appointment_statistic RENAME TO appointment_statistic_off");
+        try {
+            assertThrows(RuntimeException.class, () -> statisticsService.flush());
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE appointment_statistic_off RENAME TO appointment_statistic");
+        }
+
+        assertEquals(1, statisticsService.flush());
+        assertEquals(1L, monthly().get(0).getScheduled());
+    }
+
+    private List<SpecialtyMonthlyStatistics> monthly() {
+        return statisticsService.findMonthlyBySpecialty(DAY.withDayOfMonth(1), DAY.plusMonths(1));
+    }
+
+    private long statisticRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM appointment_statistic WHERE appointments <> 0", Long.class);
+    }
+
+    private static List<List<Object>> summary(List<SpecialtyMonthlyStatistics> rows) {
+        return rows.stream()
+                .map(row -> List.<Object>of(row.getMonth(), row.getScheduled(), row.getCompleted(), row.getCancelled()))
+                .toList();
+    }
+
+    private AppointmentRequest request(LocalDateTime dateTime) {
+        AppointmentRequest request = new AppointmentRequest();
+        request.setDoctorId(doctor.getId());
+        request.setPatientId(patient.getId());
+        request.setDateTime(dateTime);
+        return request;
+    }
+}
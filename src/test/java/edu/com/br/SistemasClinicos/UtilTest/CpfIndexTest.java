@@ -0,0 +1,94 @@
+package edu.com.br.SistemasClinicos.UtilTest;
+
+import edu.com.br.SistemasClinicos.dto.Cpf.CpfIndexEntry;
+import edu.com.br.SistemasClinicos.util.CpfIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de teste unitário para o índice de CPF {@code CpfIndex}.
+ */
+class CpfIndexTest {
+
+    @Test
+    void shouldAnswerUnknownUntilLoadedAndForMalformedCpfs() {
+        CpfIndex index = new CpfIndex();
+        assertEquals(CpfIndex.UNKNOWN, index.find("12345678901"));
+
+        index.load(Stream.of(new CpfIndexEntry(1L, "12345678901"), new CpfIndexEntry(2L, "123.456.789-01")));
+
+        assertTrue(index.isReady());
+        assertEquals(1, index.size());
+        assertEquals(1L, index.find("12345678901"));
+        assertEquals(CpfIndex.UNKNOWN, index.find("123.456.789-01"));
+        assertEquals(CpfIndex.UNKNOWN, index.find("1234567890"));
+        assertEquals(CpfIndex.UNKNOWN, index.find(null));
+    }
+
+    @Test
+    void shouldDistinguishZeroCpfFromAbsentKey() {
+        CpfIndex index = new CpfIndex();
+        index.load(Stream.empty());
+
+        assertEquals(CpfIndex.ABSENT, index.find("00000000000"));
+        index.put(null, "00000000000", 7L);
+
+        assertEquals(7L, index.find("00000000000"));
+    }
+
+    @Test
+    void putShouldMoveChangedCpfAndRemoveShouldKeepOtherOwner() {
+        CpfIndex index = new CpfIndex();
+        index.load(Stream.of(new CpfIndexEntry(1L, "11111111111")));
+
+        index.put("11111111111", "22222222222", 1L);
+        assertEquals(CpfIndex.ABSENT, index.find("11111111111"));
+        assertEquals(1L, index.find("22222222222"));
+
+        // O CPF liberado foi reaproveitado por outro cadastro antes da remoção atrasada do primeiro
+        index.put(null, "11111111111", 2L);
+        index.remove("11111111111", 1L);
+        assertEquals(2L, index.find("11111111111"));
+
+        index.remove("11111111111", 2L);
+        assertEquals(CpfIndex.ABSENT, index.find("11111111111"));
+    }
+
+    @Test
+    void loadShouldReplayChangesMadeWhileReading() {
+        CpfIndex index = new CpfIndex();
+        index.load(Stream.of(new CpfIndexEntry(1L, "11111111111")));
+
+        // Escritas confirmadas enquanto o snapshot é lido, que não aparecem nele
+        index.load(Stream.of(new CpfIndexEntry(1L, "11111111111"), new CpfIndexEntry(2L, "22222222222"))
+                .peek(entry -> {
+                    if (entry.getId() == 1L) {
+                        index.put(null, "33333333333", 3L);
+                        index.remove("22222222222", 2L);
+                    }
+                }));
+
+        assertEquals(1L, index.find("11111111111"));
+        assertEquals(CpfIndex.ABSENT, index.find("22222222222"));
+        assertEquals(3L, index.find("33333333333"));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void loadShouldKeepChangesCommittedAfterQueryWasOpened() {
+        CpfIndex index = new CpfIndex();
+
+        // A consulta já foi executada quando o cadastro 2 é confirmado, então ele não está no resultado
+        index.load(() -> {
+            Stream<CpfIndexEntry> snapshot = Stream.of(new CpfIndexEntry(1L, "11111111111"));
+            index.put(null, "22222222222", 2L);
+            return snapshot;
+        });
+
+        assertEquals(2L, index.find("22222222222"));
+        assertEquals(2, index.size());
+    }
+}
@@ -0,0 +1,48 @@
+package edu.com.br.SistemasClinicos.UtilTest;
+
+import edu.com.br.SistemasClinicos.util.LongLongHashMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de teste unitário para o mapa primitivo {@code LongLongHashMap}.
+ * <p>
+ * Compara o mapa com um {@link HashMap} sob uma sequência aleatória de inserções e remoções,
+ * o que exercita o redimensionamento e o deslocamento das entradas na remoção.
+ */
+class LongLongHashMapTest {
+
+    @Test
+    void shouldBehaveLikeHashMapUnderRandomOperations() {
+        LongLongHashMap map = new LongLongHashMap(4);
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 200_000; i++) {
+            long key = 1 + random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key) != null, map.remove(key));
+            } else {
+                map.put(key, i);
+                expected.put(key, (long) i);
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (long key = 1; key <= 5_000; key++) {
+            assertEquals(expected.getOrDefault(key, -1L), map.get(key, -1));
+        }
+    }
+
+    @Test
+    void shouldRejectReservedKey() {
+        LongLongHashMap map = new LongLongHashMap(4);
+
+        assertThrows(IllegalArgumentException.class, () -> map.put(0, 1));
+        assertEquals(-1, map.get(0, -1));
+    }
+}
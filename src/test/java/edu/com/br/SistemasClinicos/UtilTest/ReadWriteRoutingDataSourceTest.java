@@ -0,0 +1,96 @@
+package edu.com.br.SistemasClinicos.UtilTest;
+
+import edu.com.br.SistemasClinicos.util.ReadWriteRoutingDataSource;
+import edu.com.br.SistemasClinicos.util.ReplicaDataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de teste do roteamento de leituras para a réplica ({@code ReadWriteRoutingDataSource}).
+ * <p>
+ * Usa dois bancos H2 em memória, cada um com uma tabela que identifica o banco, no papel de
+ * primário e de réplica. A consulta de atraso lê a tabela {@code lag} da réplica.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private JdbcTemplate replicaJdbc;
+    private ReplicaDataSource replica;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate transaction;
+
+    @BeforeEach
+    void setup() {
+        JdbcDataSource primaryDb = database("primary");
+        JdbcDataSource replicaDb = database("replica");
+        replicaJdbc = new JdbcTemplate(replicaDb);
+        replicaJdbc.execute("CREATE TABLE lag (seconds DOUBLE)");
+        replicaJdbc.execute("INSERT INTO lag VALUES (0)");
+
+        replica = new ReplicaDataSource(replicaDb, primaryDb, "SELECT seconds FROM lag", Duration.ofSeconds(5));
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primaryDb, replica);
+        jdbc = new JdbcTemplate(routing);
+        transaction = new TransactionTemplate(new DataSourceTransactionManager(routing));
+    }
+
+    @Test
+    void shouldReadFromReplicaInReadOnlyTransactions() {
+        replica.checkLag();
+
+        assertTrue(replica.isUsable());
+        assertEquals("replica", currentDatabase(true));
+        assertEquals("primary", currentDatabase(false));
+    }
+
+    @Test
+    void shouldFallBackToPrimaryWhenReplicaLagExceedsMaximum() {
+        replicaJdbc.update("UPDATE lag SET seconds = 12.5");
+        replica.checkLag();
+
+        assertFalse(replica.isUsable());
+        assertEquals(Duration.ofMillis(12500), replica.getLastLag());
+        assertEquals("primary", currentDatabase(true));
+
+        replicaJdbc.update("UPDATE lag SET seconds = 1");
+        replica.checkLag();
+
+        assertEquals("replica", currentDatabase(true));
+    }
+
+    @Test
+    void shouldFallBackToPrimaryWhenLagCheckFails() {
+        replica.checkLag();
+        replicaJdbc.execute("DROP TABLE lag");
+        replica.checkLag();
+
+        assertFalse(replica.isUsable());
+        assertEquals("primary", currentDatabase(true));
+    }
+
+    @Test
+    void shouldUsePrimaryBeforeFirstLagCheck() {
+        assertEquals("primary", currentDatabase(true));
+    }
+
+    private String currentDatabase(boolean readOnly) {
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> jdbc.queryForObject("SELECT name FROM marker", String.class));
+    }
+
+    private static JdbcDataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE marker (name VARCHAR(20))");
+        jdbc.update("INSERT INTO marker VALUES (?)", name);
+        return dataSource;
+    }
+}